@@ -0,0 +1,207 @@
+package org.folio.benchmark;
+
+import static org.folio.service.exchange.ExchangeRateProviderResolver.RATE_KEY;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+
+import javax.money.convert.ConversionQueryBuilder;
+import javax.money.convert.CurrencyConversion;
+
+import org.folio.models.EncumbranceRelationsHolder;
+import org.folio.rest.acq.model.finance.Encumbrance;
+import org.folio.rest.acq.model.finance.Transaction;
+import org.folio.rest.jaxrs.model.CheckInPiece;
+import org.folio.rest.jaxrs.model.CheckinCollection;
+import org.folio.rest.jaxrs.model.CompositePoLine;
+import org.folio.rest.jaxrs.model.CompositePurchaseOrder;
+import org.folio.rest.jaxrs.model.Cost;
+import org.folio.rest.jaxrs.model.Details;
+import org.folio.rest.jaxrs.model.Eresource;
+import org.folio.rest.jaxrs.model.FundDistribution;
+import org.folio.rest.jaxrs.model.Location;
+import org.folio.rest.jaxrs.model.Physical;
+import org.folio.rest.jaxrs.model.ProductId;
+import org.folio.rest.jaxrs.model.ReceivedItem;
+import org.folio.rest.jaxrs.model.ReceivingCollection;
+import org.folio.rest.jaxrs.model.Tags;
+import org.folio.rest.jaxrs.model.ToBeCheckedIn;
+import org.folio.rest.jaxrs.model.ToBeReceived;
+import org.folio.service.exchange.ManualExchangeRateProvider;
+
+/**
+ * Generates realistic order data for the benchmarks. Generation, including the ids, is seeded by the size of the data,
+ * so every fork and every run works with the same data.
+ */
+public final class BenchmarkFixtures {
+
+  private static final String ISBN_TYPE_ID = "8261054f-be78-422d-bd51-4ed9f33c3422";
+  private static final String CURRENCY = "USD";
+  private static final int LOCATIONS_PER_LINE = 3;
+  private static final int FUNDS_PER_LINE = 3;
+  private static final long ORDER_SEED = 1;
+  private static final long IDS_SEED = 2;
+  private static final long PIECES_SEED = 3;
+
+  private BenchmarkFixtures() {
+  }
+
+  public static CompositePurchaseOrder compositeOrder(int lineCount) {
+    Random random = new Random(seed(ORDER_SEED, lineCount));
+    String orderId = uuid(random);
+    List<CompositePoLine> poLines = new ArrayList<>(lineCount);
+    for (int i = 0; i < lineCount; i++) {
+      poLines.add(compositePoLine(orderId, i, random));
+    }
+    return new CompositePurchaseOrder()
+      .withId(orderId)
+      .withPoNumber("10000")
+      .withOrderType(CompositePurchaseOrder.OrderType.ONE_TIME)
+      .withWorkflowStatus(CompositePurchaseOrder.WorkflowStatus.PENDING)
+      .withVendor(uuid(random))
+      .withCompositePoLines(poLines);
+  }
+
+  public static CompositePoLine compositePoLine(String orderId, int index, Random random) {
+    CompositePoLine.OrderFormat orderFormat = CompositePoLine.OrderFormat.values()[index % CompositePoLine.OrderFormat.values().length];
+    int physicalQuantity = orderFormat == CompositePoLine.OrderFormat.ELECTRONIC_RESOURCE ? 0 : LOCATIONS_PER_LINE * (1 + random.nextInt(3));
+    int electronicQuantity = isElectronic(orderFormat) ? LOCATIONS_PER_LINE * (1 + random.nextInt(3)) : 0;
+
+    List<Location> locations = new ArrayList<>(LOCATIONS_PER_LINE);
+    for (int i = 0; i < LOCATIONS_PER_LINE; i++) {
+      int locationPhysical = physicalQuantity / LOCATIONS_PER_LINE;
+      int locationElectronic = electronicQuantity / LOCATIONS_PER_LINE;
+      locations.add(new Location()
+        .withLocationId(uuid(random))
+        .withQuantityPhysical(locationPhysical > 0 ? locationPhysical : null)
+        .withQuantityElectronic(locationElectronic > 0 ? locationElectronic : null)
+        .withQuantity(locationPhysical + locationElectronic));
+    }
+
+    List<FundDistribution> fundDistributions = new ArrayList<>(FUNDS_PER_LINE);
+    for (int i = 0; i < FUNDS_PER_LINE; i++) {
+      fundDistributions.add(new FundDistribution()
+        .withFundId(uuid(random))
+        .withCode("FUND-" + i)
+        .withDistributionType(FundDistribution.DistributionType.PERCENTAGE)
+        .withValue(i == 0 ? 100d - (FUNDS_PER_LINE - 1) * 30d : 30d));
+    }
+
+    return new CompositePoLine()
+      .withId(uuid(random))
+      .withPurchaseOrderId(orderId)
+      .withPoLineNumber("10000-" + (index + 1))
+      .withTitleOrPackage("Benchmark title " + index)
+      .withSource(CompositePoLine.Source.USER)
+      .withOrderFormat(orderFormat)
+      .withCheckinItems(false)
+      .withReceiptStatus(CompositePoLine.ReceiptStatus.AWAITING_RECEIPT)
+      .withPaymentStatus(CompositePoLine.PaymentStatus.AWAITING_PAYMENT)
+      .withCost(new Cost()
+        .withCurrency(CURRENCY)
+        .withListUnitPrice(physicalQuantity > 0 ? 10 + random.nextInt(10_000) / 100d : null)
+        .withQuantityPhysical(physicalQuantity > 0 ? physicalQuantity : null)
+        .withListUnitPriceElectronic(electronicQuantity > 0 ? 5 + random.nextInt(10_000) / 100d : null)
+        .withQuantityElectronic(electronicQuantity > 0 ? electronicQuantity : null))
+      .withPhysical(new Physical()
+        .withCreateInventory(Physical.CreateInventory.INSTANCE_HOLDING_ITEM)
+        .withMaterialType(uuid(random)))
+      .withEresource(isElectronic(orderFormat) ? new Eresource()
+        .withCreateInventory(Eresource.CreateInventory.INSTANCE_HOLDING_ITEM)
+        .withMaterialType(uuid(random)) : null)
+      .withDetails(new Details()
+        .withReceivingNote("Receiving note " + index)
+        .withProductIds(List.of(new ProductId()
+          .withProductId(String.format("978%010d", index))
+          .withProductIdType(ISBN_TYPE_ID))))
+      .withTags(new Tags().withTagList(List.of("benchmark", "tag-" + index % 10)))
+      .withLocations(locations)
+      .withFundDistribution(fundDistributions);
+  }
+
+  public static List<EncumbranceRelationsHolder> encumbranceHolders(CompositePurchaseOrder order) {
+    CurrencyConversion conversion = new ManualExchangeRateProvider()
+      .getCurrencyConversion(ConversionQueryBuilder.of()
+        .setBaseCurrency(CURRENCY)
+        .setTermCurrency(CURRENCY)
+        .set(RATE_KEY, 1d)
+        .build());
+    List<EncumbranceRelationsHolder> holders = new ArrayList<>();
+    for (CompositePoLine poLine : order.getCompositePoLines()) {
+      for (FundDistribution fundDistribution : poLine.getFundDistribution()) {
+        holders.add(new EncumbranceRelationsHolder()
+          .withPurchaseOrder(order)
+          .withPoLine(poLine)
+          .withFundDistribution(fundDistribution)
+          .withNewEncumbrance(new Transaction().withEncumbrance(new Encumbrance()))
+          .withCurrency(CURRENCY)
+          .withPoLineToFyConversion(conversion));
+      }
+    }
+    return holders;
+  }
+
+  public static List<String> ids(int count) {
+    return ids(count, new Random(seed(IDS_SEED, count)));
+  }
+
+  public static CheckinCollection checkinCollection(CompositePurchaseOrder order, int piecesPerLine) {
+    Random random = new Random(seed(PIECES_SEED, piecesPerLine));
+    List<ToBeCheckedIn> toBeCheckedIn = order.getCompositePoLines().stream()
+      .map(poLine -> new ToBeCheckedIn()
+        .withPoLineId(poLine.getId())
+        .withCheckedIn(piecesPerLine)
+        .withCheckInPieces(ids(piecesPerLine, random).stream()
+          .map(pieceId -> new CheckInPiece()
+            .withId(pieceId)
+            .withItemStatus(CheckInPiece.ItemStatus.IN_PROCESS)
+            .withLocationId(poLine.getLocations().get(0).getLocationId()))
+          .toList()))
+      .toList();
+    return new CheckinCollection()
+      .withToBeCheckedIn(toBeCheckedIn)
+      .withTotalRecords(toBeCheckedIn.size() * piecesPerLine);
+  }
+
+  public static ReceivingCollection receivingCollection(CompositePurchaseOrder order, int piecesPerLine) {
+    Random random = new Random(seed(PIECES_SEED, piecesPerLine));
+    List<ToBeReceived> toBeReceived = order.getCompositePoLines().stream()
+      .map(poLine -> new ToBeReceived()
+        .withPoLineId(poLine.getId())
+        .withReceived(piecesPerLine)
+        .withReceivedItems(ids(piecesPerLine, random).stream()
+          .map(pieceId -> new ReceivedItem()
+            .withPieceId(pieceId)
+            .withItemStatus(ReceivedItem.ItemStatus.IN_PROCESS)
+            .withLocationId(poLine.getLocations().get(0).getLocationId()))
+          .toList()))
+      .toList();
+    return new ReceivingCollection()
+      .withToBeReceived(toBeReceived)
+      .withTotalRecords(toBeReceived.size() * piecesPerLine);
+  }
+
+  private static List<String> ids(int count, Random random) {
+    List<String> ids = new ArrayList<>(count);
+    for (int i = 0; i < count; i++) {
+      ids.add(uuid(random));
+    }
+    return ids;
+  }
+
+  private static String uuid(Random random) {
+    byte[] bytes = new byte[16];
+    random.nextBytes(bytes);
+    return UUID.nameUUIDFromBytes(bytes).toString();
+  }
+
+  private static long seed(long seed, int size) {
+    return seed * 1_000_003 + size;
+  }
+
+  private static boolean isElectronic(CompositePoLine.OrderFormat orderFormat) {
+    return orderFormat == CompositePoLine.OrderFormat.ELECTRONIC_RESOURCE || orderFormat == CompositePoLine.OrderFormat.P_E_MIX;
+  }
+}
@@ -0,0 +1,41 @@
+package org.folio.benchmark;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.folio.models.EncumbranceRelationsHolder;
+import org.folio.service.FundsDistributionService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Distribution of the po line estimated price between the encumbrances of the order.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class FundsDistributionBenchmark {
+
+  @Param({"1", "100", "5000"})
+  private int lineCount;
+
+  private final FundsDistributionService fundsDistributionService = new FundsDistributionService();
+  private List<EncumbranceRelationsHolder> holders;
+
+  @Setup
+  public void setUp() {
+    // The distribution only overwrites encumbrance amounts, so the same holders are reused between invocations
+    holders = BenchmarkFixtures.encumbranceHolders(BenchmarkFixtures.compositeOrder(lineCount));
+  }
+
+  @Benchmark
+  public List<EncumbranceRelationsHolder> distributeFunds() {
+    return fundsDistributionService.distributeFunds(holders);
+  }
+}
@@ -0,0 +1,59 @@
+package org.folio.benchmark;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.folio.orders.utils.HelperUtils;
+import org.folio.orders.utils.QueryUtils;
+import org.folio.rest.jaxrs.model.CompositePoLine;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Quantity calculations done per po line on order open/update and building of CQL queries by ids.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class HelperUtilsBenchmark {
+
+  @Param({"1", "100", "5000"})
+  private int lineCount;
+
+  private List<CompositePoLine> poLines;
+  private List<String> ids;
+
+  @Setup
+  public void setUp() {
+    poLines = BenchmarkFixtures.compositeOrder(lineCount).getCompositePoLines();
+    ids = BenchmarkFixtures.ids(lineCount);
+  }
+
+  @Benchmark
+  public int calculateTotalQuantity() {
+    int total = 0;
+    for (CompositePoLine poLine : poLines) {
+      total += HelperUtils.calculateTotalQuantity(poLine);
+    }
+    return total;
+  }
+
+  @Benchmark
+  public void calculatePiecesWithItemIdQuantity(Blackhole blackhole) {
+    for (CompositePoLine poLine : poLines) {
+      blackhole.consume(HelperUtils.calculatePiecesWithItemIdQuantity(poLine, poLine.getLocations()));
+    }
+  }
+
+  @Benchmark
+  public String convertIdsToCqlQuery() {
+    return QueryUtils.convertIdsToCqlQuery(ids);
+  }
+}
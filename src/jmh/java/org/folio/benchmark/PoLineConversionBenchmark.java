@@ -0,0 +1,91 @@
+package org.folio.benchmark;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.folio.orders.utils.HelperUtils;
+import org.folio.orders.utils.PoLineCommonUtil;
+import org.folio.orders.utils.ResourcePathResolver;
+import org.folio.rest.jaxrs.model.CompositePoLine;
+import org.folio.rest.jaxrs.model.CompositePurchaseOrder;
+import org.folio.rest.jaxrs.model.PoLine;
+import org.folio.rest.jaxrs.model.PoLineCollection;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.json.JsonObject;
+
+/**
+ * Conversions between storage and composite models and JSON decoding of storage responses.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class PoLineConversionBenchmark {
+
+  @Param({"1", "100", "5000"})
+  private int lineCount;
+
+  private CompositePurchaseOrder order;
+  private List<PoLine> poLines;
+  private Buffer poLineCollectionBody;
+
+  @Setup
+  public void setUp() {
+    order = BenchmarkFixtures.compositeOrder(lineCount);
+    poLines = PoLineCommonUtil.convertToPoLines(order.getCompositePoLines());
+    poLineCollectionBody = JsonObject.mapFrom(new PoLineCollection().withPoLines(poLines).withTotalRecords(lineCount)).toBuffer();
+  }
+
+  @Benchmark
+  public List<CompositePoLine> convertToCompositePoLine() {
+    return poLines.stream()
+      .map(PoLineCommonUtil::convertToCompositePoLine)
+      .toList();
+  }
+
+  /**
+   * JSON round-trip conversion used before {@link org.folio.orders.utils.ModelCopier}, kept as the baseline.
+   */
+  @Benchmark
+  public List<CompositePoLine> convertToCompositePoLineJsonRoundTrip() {
+    return poLines.stream()
+      .map(poLine -> {
+        JsonObject json = JsonObject.mapFrom(poLine);
+        json.remove(ResourcePathResolver.ALERTS);
+        json.remove(ResourcePathResolver.REPORTING_CODES);
+        return json.mapTo(CompositePoLine.class);
+      })
+      .toList();
+  }
+
+  @Benchmark
+  public List<PoLine> convertToPoLine() {
+    return PoLineCommonUtil.convertToPoLines(order.getCompositePoLines());
+  }
+
+  @Benchmark
+  public CompositePurchaseOrder cloneCompositeOrder() {
+    return HelperUtils.clone(CompositePurchaseOrder.class, order);
+  }
+
+  @Benchmark
+  public CompositePurchaseOrder cloneCompositeOrderJsonRoundTrip() {
+    return JsonObject.mapFrom(order).mapTo(CompositePurchaseOrder.class);
+  }
+
+  /**
+   * Same decoding as {@link org.folio.rest.core.RestClient#get} does for the storage response body.
+   */
+  @Benchmark
+  public PoLineCollection decodePoLineCollection() {
+    return new JsonObject(poLineCollectionBody).mapTo(PoLineCollection.class);
+  }
+}
@@ -0,0 +1,53 @@
+package org.folio.helper;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.folio.benchmark.BenchmarkFixtures;
+import org.folio.rest.jaxrs.model.CheckInPiece;
+import org.folio.rest.jaxrs.model.CheckinCollection;
+import org.folio.rest.jaxrs.model.CompositePurchaseOrder;
+import org.folio.rest.jaxrs.model.ReceivedItem;
+import org.folio.rest.jaxrs.model.ReceivingCollection;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Grouping of the check-in and receiving requests by po line done when the receiving helpers are created.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class PiecesGroupingBenchmark {
+
+  private static final int PIECES_PER_LINE = 5;
+
+  @Param({"1", "100", "5000"})
+  private int lineCount;
+
+  private CheckinCollection checkinCollection;
+  private ReceivingCollection receivingCollection;
+
+  @Setup
+  public void setUp() {
+    CompositePurchaseOrder order = BenchmarkFixtures.compositeOrder(lineCount);
+    checkinCollection = BenchmarkFixtures.checkinCollection(order, PIECES_PER_LINE);
+    receivingCollection = BenchmarkFixtures.receivingCollection(order, PIECES_PER_LINE);
+  }
+
+  @Benchmark
+  public Map<String, Map<String, CheckInPiece>> groupCheckinPiecesByPoLineId() {
+    return CheckinHelper.groupCheckinPiecesByPoLineId(checkinCollection);
+  }
+
+  @Benchmark
+  public Map<String, Map<String, ReceivedItem>> groupReceivedItemsByPoLineId() {
+    return ReceivingHelper.groupReceivedItemsByPoLineId(receivingCollection);
+  }
+}
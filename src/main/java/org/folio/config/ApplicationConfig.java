@@ -27,12 +27,17 @@ import org.folio.service.ReasonForClosureService;
 import org.folio.service.SuffixService;
 import org.folio.service.TagService;
 import org.folio.service.UserService;
+import org.folio.service.caches.BudgetExpenseClassCache;
+import org.folio.service.caches.CacheInvalidationPublisher;
+import org.folio.service.caches.CacheWarmUpService;
 import org.folio.service.caches.ConfigurationEntriesCache;
+import org.folio.service.caches.FinanceReferenceDataCache;
 import org.folio.service.caches.InventoryCache;
 import org.folio.service.configuration.ConfigurationEntriesService;
 import org.folio.service.consortium.ConsortiumConfigurationService;
 import org.folio.service.consortium.ConsortiumUserTenantsRetriever;
 import org.folio.service.consortium.SharingInstanceService;
+import org.folio.service.exchange.CacheableExchangeRateService;
 import org.folio.service.exchange.ExchangeRateProviderResolver;
 import org.folio.service.exchange.FinanceExchangeRateService;
 import org.folio.service.finance.FiscalYearService;
@@ -168,8 +173,8 @@ public class ApplicationConfig {
   }
 
   @Bean
-  ExchangeRateProviderResolver exchangeRateProviderResolver() {
-    return new ExchangeRateProviderResolver();
+  ExchangeRateProviderResolver exchangeRateProviderResolver(CacheableExchangeRateService cacheableExchangeRateService) {
+    return new ExchangeRateProviderResolver(cacheableExchangeRateService);
   }
 
   @Bean
@@ -177,6 +182,13 @@ public class ApplicationConfig {
     return new FinanceExchangeRateService(restClient);
   }
 
+  @Bean
+  CacheableExchangeRateService cacheableExchangeRateService(FinanceExchangeRateService financeExchangeRateService,
+                                                            @Value("${orders.cache.exchange-rate.expiration.seconds:300}") long cacheExpirationTime,
+                                                            @Value("${orders.cache.exchange-rate.max.size:1000}") long maxSize) {
+    return new CacheableExchangeRateService(financeExchangeRateService, cacheExpirationTime, maxSize);
+  }
+
   @Bean PurchaseOrderStorageService purchaseOrderService(RestClient restClient, PurchaseOrderLineService purchaseOrderLineService) {
     return new PurchaseOrderStorageService(restClient, purchaseOrderLineService);
   }
@@ -199,13 +211,17 @@ public class ApplicationConfig {
   }
 
   @Bean
-  InventoryCache inventoryCache(InventoryService inventoryService) {
-    return new InventoryCache(inventoryService);
+  InventoryCache inventoryCache(InventoryService inventoryService,
+                                @Value("${orders.cache.inventory.expiration.seconds:30}") long expirationSeconds,
+                                @Value("${orders.cache.inventory.max.size:1000}") long maxSize) {
+    return new InventoryCache(inventoryService, expirationSeconds, maxSize);
   }
 
   @Bean
-  ConfigurationEntriesCache configurationEntriesCache (ConfigurationEntriesService configurationEntriesService) {
-    return new ConfigurationEntriesCache(configurationEntriesService);
+  ConfigurationEntriesCache configurationEntriesCache(ConfigurationEntriesService configurationEntriesService,
+                                                      @Value("${orders.cache.configuration.expiration.seconds:30}") long expirationSeconds,
+                                                      @Value("${orders.cache.configuration.max.size:1000}") long maxSize) {
+    return new ConfigurationEntriesCache(configurationEntriesService, expirationSeconds, maxSize);
   }
 
   @Bean
@@ -262,8 +278,15 @@ public class ApplicationConfig {
   }
 
   @Bean
-  ExpenseClassValidationService expenseClassValidationService(BudgetExpenseClassService budgetExpenseClassService, ExpenseClassService expenseClassService) {
-    return new ExpenseClassValidationService(budgetExpenseClassService, expenseClassService);
+  BudgetExpenseClassCache budgetExpenseClassCache(BudgetExpenseClassService budgetExpenseClassService,
+                                                  @Value("${orders.cache.budget-expense-classes.expiration.seconds:30}") long expirationSeconds,
+                                                  @Value("${orders.cache.budget-expense-classes.max.size:10000}") long maxSize) {
+    return new BudgetExpenseClassCache(budgetExpenseClassService, expirationSeconds, maxSize);
+  }
+
+  @Bean
+  ExpenseClassValidationService expenseClassValidationService(BudgetExpenseClassCache budgetExpenseClassCache, ExpenseClassService expenseClassService) {
+    return new ExpenseClassValidationService(budgetExpenseClassCache, expenseClassService);
   }
   @Bean
   OrganizationService organizationService(RestClient restClient) {
@@ -301,14 +324,20 @@ public class ApplicationConfig {
     return new InvoiceService(restClient, orderInvoiceRelationService);
   }
 
+  @Bean
+  FinanceReferenceDataCache financeReferenceDataCache(FundService fundService, LedgerService ledgerService,
+                                                      FiscalYearService fiscalYearService,
+                                                      @Value("${orders.cache.finance.expiration.seconds:30}") long expirationSeconds,
+                                                      @Value("${orders.cache.finance.max.size:10000}") long maxSize) {
+    return new FinanceReferenceDataCache(fundService, ledgerService, fiscalYearService, expirationSeconds, maxSize);
+  }
+
   @Bean EncumbranceRelationsHoldersBuilder encumbranceRelationsHoldersBuilder(EncumbranceService encumbranceService,
-                                                                              FundService fundService,
-                                                                              FiscalYearService fiscalYearService,
+                                                                              FinanceReferenceDataCache financeReferenceDataCache,
                                                                               ExchangeRateProviderResolver exchangeRateProviderResolver,
-                                                                              BudgetService budgetService,
-                                                                              LedgerService ledgerService) {
-    return new EncumbranceRelationsHoldersBuilder(encumbranceService, fundService, fiscalYearService, exchangeRateProviderResolver, budgetService,
-                                                  ledgerService);
+                                                                              BudgetService budgetService) {
+    return new EncumbranceRelationsHoldersBuilder(encumbranceService, financeReferenceDataCache, exchangeRateProviderResolver,
+                                                  budgetService);
   }
 
   @Bean
@@ -344,18 +373,14 @@ public class ApplicationConfig {
 
   @Bean
   ReEncumbranceHoldersBuilder reEncumbranceHoldersBuilder(BudgetService budgetService,
-                                                          LedgerService ledgerService,
-                                                          FundService fundService,
+                                                          FinanceReferenceDataCache financeReferenceDataCache,
                                                           ExchangeRateProviderResolver exchangeRateProviderResolver,
-                                                          FiscalYearService fiscalYearService,
                                                           LedgerRolloverService ledgerRolloverService,
                                                           TransactionService transactionService,
                                                           FundsDistributionService fundsDistributionService) {
     return new ReEncumbranceHoldersBuilder(budgetService,
-                                           ledgerService,
-                                           fundService,
+                                           financeReferenceDataCache,
                                            exchangeRateProviderResolver,
-                                           fiscalYearService,
                                            ledgerRolloverService,
                                            transactionService, fundsDistributionService);
   }
@@ -471,8 +496,21 @@ public class ApplicationConfig {
   }
 
   @Bean
-  AcquisitionMethodsService acquisitionMethodsService(RestClient restClient, PurchaseOrderLineService purchaseOrderLineService) {
-    return new AcquisitionMethodsService(restClient, purchaseOrderLineService);
+  CacheWarmUpService cacheWarmUpService(ConfigurationEntriesCache configurationEntriesCache, InventoryCache inventoryCache,
+                                        ConsortiumConfigurationService consortiumConfigurationService,
+                                        @Value("${orders.cache.warmup.enabled:true}") boolean enabled) {
+    return new CacheWarmUpService(configurationEntriesCache, inventoryCache, consortiumConfigurationService, enabled);
+  }
+
+  @Bean
+  CacheInvalidationPublisher cacheInvalidationPublisher() {
+    return new CacheInvalidationPublisher();
+  }
+
+  @Bean
+  AcquisitionMethodsService acquisitionMethodsService(RestClient restClient, PurchaseOrderLineService purchaseOrderLineService,
+                                                      CacheInvalidationPublisher cacheInvalidationPublisher) {
+    return new AcquisitionMethodsService(restClient, purchaseOrderLineService, cacheInvalidationPublisher);
   }
 
   @Bean
@@ -847,8 +885,9 @@ public class ApplicationConfig {
   }
 
   @Bean
-  ConsortiumConfigurationService consortiumConfigurationService(RestClient restClient) {
-    return new ConsortiumConfigurationService(restClient);
+  ConsortiumConfigurationService consortiumConfigurationService(RestClient restClient,
+                                                                @Value("${orders.cache.consortium-data.expiration.time.seconds:300}") long cacheExpirationTime) {
+    return new ConsortiumConfigurationService(restClient, cacheExpirationTime);
   }
 
   @Bean
@@ -872,8 +911,9 @@ public class ApplicationConfig {
   }
 
   @Bean
-  SettingsRetriever settingsRetriever(RestClient restClient) {
-    return new SettingsRetriever(restClient);
+  SettingsRetriever settingsRetriever(RestClient restClient,
+                                      @Value("${orders.cache.orders-settings.expiration.time.seconds:300}") long cacheExpirationTime) {
+    return new SettingsRetriever(restClient, cacheExpirationTime);
   }
 
 }
@@ -0,0 +1,14 @@
+package org.folio.dao;
+
+import java.util.List;
+
+import io.vertx.core.Future;
+
+public interface ModuleTenantsDao {
+  /**
+   * Retrieves ids of the tenants having the schema of the module, i.e. the tenants the module was enabled for.
+   *
+   * @return Future of the tenant ids
+   */
+  Future<List<String>> getModuleTenants();
+}
@@ -0,0 +1,38 @@
+package org.folio.dao;
+
+import java.util.List;
+import java.util.stream.StreamSupport;
+
+import org.folio.dao.util.PostgresClientFactory;
+import org.folio.rest.persist.PostgresClient;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Repository;
+
+import io.vertx.core.Future;
+import io.vertx.sqlclient.Tuple;
+
+@Repository
+public class ModuleTenantsDaoImpl implements ModuleTenantsDao {
+  private static final String SCHEMA_NAME_FIELD = "nspname";
+  private static final String GET_MODULE_SCHEMAS_SQL =
+    "SELECT nspname FROM pg_catalog.pg_namespace WHERE nspname LIKE $1";
+  private final PostgresClientFactory pgClientFactory;
+
+  @Autowired
+  public ModuleTenantsDaoImpl(PostgresClientFactory pgClientFactory) {
+    this.pgClientFactory = pgClientFactory;
+  }
+
+  @Override
+  public Future<List<String>> getModuleTenants() {
+    // schema of the tenant is named <tenant>_<module>, see PostgresClient.convertToPsqlStandard
+    String schemaSuffix = "_" + PostgresClient.getModuleName();
+    return pgClientFactory.createInstance()
+      .execute(GET_MODULE_SCHEMAS_SQL, Tuple.of("%" + schemaSuffix))
+      .map(rows -> StreamSupport.stream(rows.spliterator(), false)
+        .map(row -> row.getString(SCHEMA_NAME_FIELD))
+        .filter(schemaName -> schemaName.endsWith(schemaSuffix))
+        .map(schemaName -> schemaName.substring(0, schemaName.length() - schemaSuffix.length()))
+        .toList());
+  }
+}
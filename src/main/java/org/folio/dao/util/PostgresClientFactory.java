@@ -24,4 +24,13 @@ public class PostgresClientFactory {
   public PostgresClient createInstance(String tenantId) {
     return PostgresClient.getInstance(vertx, tenantId);
   }
+
+  /**
+   * Creates instance of Postgres Client not bound to a tenant
+   *
+   * @return Postgres Client
+   */
+  public PostgresClient createInstance() {
+    return PostgresClient.getInstance(vertx);
+  }
 }
@@ -160,7 +160,7 @@ public class CheckinHelper extends CheckinReceivePiecesHelper<CheckInPiece> {
    * @return map with PO line id as a key and value is map with piece id as a
    * key and {@link CheckInPiece} as a value
    */
-  private Map<String, Map<String, CheckInPiece>> groupCheckinPiecesByPoLineId(CheckinCollection checkinCollection) {
+  static Map<String, Map<String, CheckInPiece>> groupCheckinPiecesByPoLineId(CheckinCollection checkinCollection) {
     return StreamEx
       .of(checkinCollection.getToBeCheckedIn())
       .distinct()
@@ -15,6 +15,7 @@ import org.folio.models.pieces.PiecesHolder;
 import org.folio.okapi.common.GenericCompositeFuture;
 import org.folio.orders.events.handlers.MessageAddress;
 import org.folio.orders.utils.HelperUtils;
+import org.folio.orders.utils.ModelCopier;
 import org.folio.orders.utils.PoLineCommonUtil;
 import org.folio.orders.utils.ProtectedOperationType;
 import org.folio.orders.utils.RequestContextUtil;
@@ -30,7 +31,6 @@ import org.folio.rest.jaxrs.model.Parameter;
 import org.folio.rest.jaxrs.model.Physical;
 import org.folio.rest.jaxrs.model.Piece;
 import org.folio.rest.jaxrs.model.Piece.ReceivingStatus;
-import org.folio.rest.jaxrs.model.PieceCollection;
 import org.folio.rest.jaxrs.model.PoLine;
 import org.folio.rest.jaxrs.model.PoLine.ReceiptStatus;
 import org.folio.rest.jaxrs.model.ProcessingStatus;
@@ -166,8 +166,8 @@ public abstract class CheckinReceivePiecesHelper<T> extends BaseHelper {
   public Future<Void> findAndSetPurchaseOrderPoLinePair(String poLineId, PiecesHolder holder, RequestContext requestContext) {
     return purchaseOrderLineService.getOrderLineById(poLineId, requestContext)
       .map(PoLineCommonUtil::convertToCompositePoLine)
-      .compose(poLine -> purchaseOrderStorageService.getPurchaseOrderByIdAsJson(poLine.getPurchaseOrderId(), requestContext)
-        .map(HelperUtils::convertToCompositePurchaseOrder)
+      .compose(poLine -> purchaseOrderStorageService.getPurchaseOrderById(poLine.getPurchaseOrderId(), requestContext)
+        .map(purchaseOrder -> ModelCopier.copy(purchaseOrder, CompositePurchaseOrder.class))
         .map(purchaseOrder -> {
           logger.info("findAndSetPurchaseOrderPoLinePair:: Found purchase order & poLine, order id: {}, poLineId: {}",
             purchaseOrder.getId(), poLine.getId());
@@ -328,10 +328,8 @@ public abstract class CheckinReceivePiecesHelper<T> extends BaseHelper {
           continue;
         }
 
-        // Method call getPiecesByPoLine() is required to retrieve all pieces for given POL by id as
-        // piecesFromStorage only contains the processed pieces which is not enough for correct Receipt Status calculation
-        Future<PoLineLocationsPair> poLineToUpdateFuture = getPiecesByPoLine(poLine.getId(), requestContext)
-          .map(pieces -> updateRelatedPoLineDetails(poLine, piecesFromStorage.get(poLine.getId()), pieces, successfullyProcessedPieces));
+        Future<PoLineLocationsPair> poLineToUpdateFuture = updatePoLineReceiptStatus(poLine, successfullyProcessedPieces, requestContext)
+          .map(v -> updateRelatedPoLineDetails(poLine, piecesFromStorage.get(poLine.getId()), successfullyProcessedPieces));
 
         poLinesToUpdate.add(poLineToUpdateFuture);
       }
@@ -378,23 +376,21 @@ public abstract class CheckinReceivePiecesHelper<T> extends BaseHelper {
       .toList();
   }
 
-  private Future<List<Piece>> getPiecesByPoLine(String poLineId, RequestContext requestContext) {
-    String query = String.format("poLineId==%s", poLineId);
-    return pieceStorageService.getAllPieces(query, requestContext)
-      .map(PieceCollection::getPieces);
+  private Future<Void> updatePoLineReceiptStatus(PoLine poLine, List<Piece> successfullyProcessed, RequestContext requestContext) {
+    if (PoLineCommonUtil.isCancelledOrOngoingStatus(poLine)) {
+      logger.info("updatePoLineReceiptStatus:: Skipping updating POL '{}' status for CANCELLED or ONGOING po lines", poLine.getId());
+      return Future.succeededFuture();
+    }
+    return calculatePoLineReceiptStatus(successfullyProcessed, poLine, requestContext)
+      .map(receiptStatus -> {
+        purchaseOrderLineService.updatePoLineReceiptStatusWithoutSave(poLine, receiptStatus);
+        return null;
+      });
   }
 
   private PoLineLocationsPair updateRelatedPoLineDetails(PoLine poLine,
                                             List<Piece> piecesFromStorage,
-                                            List<Piece> byPoLine,
                                             List<Piece> successfullyProcessed) {
-    if (PoLineCommonUtil.isCancelledOrOngoingStatus(poLine)) {
-      logger.info("updateRelatedPoLineDetails:: Skipping updating POL '{}' status for CANCELLED or ONGOING po lines", poLine.getId());
-    } else {
-      ReceiptStatus receiptStatus = calculatePoLineReceiptStatus(byPoLine, successfullyProcessed, poLine);
-      purchaseOrderLineService.updatePoLineReceiptStatusWithoutSave(poLine, receiptStatus);
-    }
-
     // the same check as in PieceUpdateFlowManager::updatePoLine
     if (Boolean.TRUE.equals(poLine.getIsPackage()) || Boolean.TRUE.equals(poLine.getCheckinItems())) {
       logger.info("updateRelatedPoLineDetails:: Skipping updating POL {} if it package or has independent receiving flow", poLine.getId());
@@ -433,36 +429,39 @@ public abstract class CheckinReceivePiecesHelper<T> extends BaseHelper {
    * zero, otherwise checks how many received pieces. If quantity of received
    * piece records is zero, returns "Awaiting Receipt" status, otherwise -
    * "Partially Received"
+   * <p>
+   * Piece records are not loaded for the calculation: only the number of expected and,
+   * if still required, received pieces of the PO line is requested from the storage.
+   * Processed pieces are already persisted at this point, so the storage counts include them.
    *
-   * @param piecesByPoLine               all piece records obtained by PO line id
    * @param piecesSuccessfullyProcessed  pieces that were successfully processed
    * @param poLine                       PO Line record representation from storage
-   * @return completable future holding calculated PO Line's receipt status
+   * @return future holding calculated PO Line's receipt status
    */
-  private ReceiptStatus calculatePoLineReceiptStatus(List<Piece> piecesByPoLine,
-                                                     List<Piece> piecesSuccessfullyProcessed,
-                                                     PoLine poLine) {
-    logger.info("calculatePoLineReceiptStatus:: Calculating receipt status for POL, id: {}, checkInItems: {}, processed pieces: {}, pieces from storage: {}",
-      poLine.getId(), poLine.getCheckinItems(), piecesSuccessfullyProcessed.size(), piecesByPoLine.size());
+  private Future<ReceiptStatus> calculatePoLineReceiptStatus(List<Piece> piecesSuccessfullyProcessed,
+                                                             PoLine poLine,
+                                                             RequestContext requestContext) {
+    logger.info("calculatePoLineReceiptStatus:: Calculating receipt status for POL, id: {}, checkInItems: {}, processed pieces: {}",
+      poLine.getId(), poLine.getCheckinItems(), piecesSuccessfullyProcessed.size());
     piecesSuccessfullyProcessed.forEach(v -> logger.info("calculatePoLineReceiptStatus:: Processed Piece, id: {}, status: {}", v.getId(), v.getReceivingStatus()));
-    piecesByPoLine.forEach(v -> logger.info("calculatePoLineReceiptStatus:: Piece from storage, id: {}, status: {}", v.getId(), v.getReceivingStatus()));
-    long expectedPiecesQuantity = piecesByPoLine.stream()
-      .filter(piece -> EXPECTED_STATUSES.contains(piece.getReceivingStatus()))
-      .count();
-    long receivedPiecesQuantity = piecesByPoLine.stream()
-      .filter(piece -> RECEIVED_STATUSES.contains(piece.getReceivingStatus()))
-      .count();
-    logger.info("calculatePoLineReceiptStatus:: Expected pieces: {}, Received pieces: {}", expectedPiecesQuantity, receivedPiecesQuantity);
-    // Fully Received: If receiving and there is no expected piece remaining
-    if (!poLine.getCheckinItems().equals(Boolean.TRUE) && expectedPiecesQuantity == 0) {
-      return FULLY_RECEIVED;
-    }
-    // Partially Received: In case there is at least one successfully received piece
-    if (StreamEx.of(piecesSuccessfullyProcessed).anyMatch(piece -> RECEIVED_STATUSES.contains(piece.getReceivingStatus()))) {
-      return PARTIALLY_RECEIVED;
-    }
-    // If pieces were rolled-back to Expected we check if there is any Received piece in the storage
-    return receivedPiecesQuantity == 0 ? AWAITING_RECEIPT : PARTIALLY_RECEIVED;
+    return pieceStorageService.getPiecesCountByPoLineIdAndStatuses(poLine.getId(), EXPECTED_STATUSES, requestContext)
+      .compose(expectedPiecesQuantity -> {
+        logger.info("calculatePoLineReceiptStatus:: Expected pieces: {}", expectedPiecesQuantity);
+        // Fully Received: If receiving and there is no expected piece remaining
+        if (!poLine.getCheckinItems().equals(Boolean.TRUE) && expectedPiecesQuantity == 0) {
+          return Future.succeededFuture(FULLY_RECEIVED);
+        }
+        // Partially Received: In case there is at least one successfully received piece
+        if (StreamEx.of(piecesSuccessfullyProcessed).anyMatch(piece -> RECEIVED_STATUSES.contains(piece.getReceivingStatus()))) {
+          return Future.succeededFuture(PARTIALLY_RECEIVED);
+        }
+        // If pieces were rolled-back to Expected we check if there is any Received piece in the storage
+        return pieceStorageService.getPiecesCountByPoLineIdAndStatuses(poLine.getId(), RECEIVED_STATUSES, requestContext)
+          .map(receivedPiecesQuantity -> {
+            logger.info("calculatePoLineReceiptStatus:: Received pieces: {}", receivedPiecesQuantity);
+            return receivedPiecesQuantity == 0 ? AWAITING_RECEIPT : PARTIALLY_RECEIVED;
+          });
+      });
   }
 
   //-------------------------------------------------------------------------------------
@@ -40,6 +40,7 @@ import org.folio.HttpStatus;
 import org.folio.models.CompositeOrderRetrieveHolder;
 import org.folio.models.ItemStatus;
 import org.folio.orders.utils.HelperUtils;
+import org.folio.orders.utils.ModelCopier;
 import org.folio.orders.utils.PoLineCommonUtil;
 import org.folio.orders.utils.ProtectedOperationType;
 import org.folio.rest.RestConstants;
@@ -206,7 +207,9 @@ public class PurchaseOrderHelper {
           throw new HttpException(RestConstants.VALIDATION_ERROR, errors);
         }
         return null;
-      }).compose(v -> updateOrder(compPO, deleteHoldings, requestContext))
+      })
+      // the encumbrance changes of the whole update are sent to mod-finance in one batch
+      .compose(v -> encumbranceService.processInOneBatch(() -> updateOrder(compPO, deleteHoldings, requestContext), requestContext))
       .onSuccess(v -> logger.info("putCompositeOrderById :: Successfully updated order: {}",
         JsonObject.mapFrom(compPO).encodePrettily()))
       .onFailure(t -> logger.error("putCompositeOrderById :: Failed to update order: {}",
@@ -235,7 +238,7 @@ public class PurchaseOrderHelper {
           .compose(v -> {
             if (isTransitionToOpen) {
               if (CollectionUtils.isEmpty(compPO.getCompositePoLines())) {
-                CompositePurchaseOrder clonedPoFromStorage = JsonObject.mapFrom(poFromStorage).mapTo(CompositePurchaseOrder.class);
+                CompositePurchaseOrder clonedPoFromStorage = ModelCopier.copy(poFromStorage);
                 compPO.setCompositePoLines(clonedPoFromStorage.getCompositePoLines());
               }
               compPO.getCompositePoLines().forEach(poLine -> PoLineCommonUtil.updateLocationsQuantity(poLine.getLocations()));
@@ -528,11 +531,11 @@ public class PurchaseOrderHelper {
 
   private Future<Void> closeOrder(CompositePurchaseOrder compPO, CompositePurchaseOrder poFromStorage, RequestContext requestContext) {
     EncumbranceWorkflowStrategy strategy = encumbranceWorkflowStrategyFactory.getStrategy(OrderWorkflowType.OPEN_TO_CLOSED);
-    CompositePurchaseOrder clonedCompPO = JsonObject.mapFrom(compPO).mapTo(CompositePurchaseOrder.class);
+    CompositePurchaseOrder clonedCompPO = ModelCopier.copy(compPO);
     if (CollectionUtils.isEmpty(clonedCompPO.getCompositePoLines())) {
       List<CompositePoLine> clonedLines = poFromStorage.getCompositePoLines()
         .stream()
-        .map(line -> JsonObject.mapFrom(line).mapTo(CompositePoLine.class))
+        .map(ModelCopier::copy)
         .collect(toList());
       clonedCompPO.setCompositePoLines(clonedLines);
     }
@@ -546,7 +549,7 @@ public class PurchaseOrderHelper {
     if (CollectionUtils.isEmpty(compPO.getCompositePoLines())) {
       List<CompositePoLine> clonedLines = poFromStorage.getCompositePoLines()
         .stream()
-        .map(line -> JsonObject.mapFrom(line).mapTo(CompositePoLine.class))
+        .map(ModelCopier::copy)
         .collect(toList());
       compPO.setCompositePoLines(clonedLines);
     }
@@ -6,6 +6,7 @@ import static org.apache.commons.collections4.CollectionUtils.isEmpty;
 import static org.folio.helper.BaseHelper.EVENT_PAYLOAD;
 import static org.folio.helper.BaseHelper.ORDER_ID;
 import static org.folio.orders.utils.HelperUtils.calculateEstimatedPrice;
+import static org.folio.orders.utils.HelperUtils.chainCallInChunks;
 import static org.folio.orders.utils.HelperUtils.getPoLineLimit;
 import static org.folio.orders.utils.PoLineCommonUtil.convertToCompositePoLine;
 import static org.folio.orders.utils.PoLineCommonUtil.convertToPoLine;
@@ -31,9 +32,12 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 import java.util.Objects;
+import java.util.function.Function;
+import java.util.function.Supplier;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import java.util.stream.Stream;
@@ -41,6 +45,7 @@ import java.util.stream.Stream;
 import javax.ws.rs.core.Response;
 
 import io.vertx.core.json.JsonArray;
+import one.util.streamex.StreamEx;
 import org.apache.commons.collections4.CollectionUtils;
 import org.apache.commons.collections4.SetUtils;
 import org.apache.commons.lang3.StringUtils;
@@ -90,6 +95,7 @@ import org.folio.service.orders.PurchaseOrderLineService;
 import org.folio.service.orders.PurchaseOrderStorageService;
 import org.folio.service.organization.OrganizationService;
 import org.folio.service.titles.TitlesService;
+import org.springframework.beans.factory.annotation.Value;
 
 import io.vertx.core.Future;
 import io.vertx.core.http.HttpMethod;
@@ -123,6 +129,10 @@ public class PurchaseOrderLineHelper {
   private final ConsortiumConfigurationService consortiumConfigurationService;
   private final ConsortiumUserTenantsRetriever consortiumUserTenantsRetriever;
 
+  // Max number of PO lines created, updated or deleted at the same time when the order is updated
+  @Value("${orders.po-lines.update.concurrency:5}")
+  private int poLinesUpdateConcurrency = RestConstants.SEMAPHORE_MAX_ACTIVE_THREADS;
+
   public PurchaseOrderLineHelper(InventoryItemStatusSyncService inventoryItemStatusSyncService,
                                  InventoryInstanceManager inventoryInstanceManager,
                                  EncumbranceService encumbranceService,
@@ -451,73 +461,81 @@ public class PurchaseOrderLineHelper {
     if (poFromStorage.getWorkflowStatus() == PENDING) {
       return;
     }
+    Map<String, PoLine> existingPoLinesById = StreamEx.of(existingPoLines)
+      .toMap(PoLine::getId, Function.identity(), (first, second) -> first);
     compPO.getCompositePoLines().forEach(poLine -> {
       var fields = POLineProtectedFieldsUtil.getFieldNames(poLine.getOrderFormat().value());
-      var correspondingLine = findCorrespondingCompositePoLine(poLine, existingPoLines);
-      verifyProtectedFieldsChanged(fields, correspondingLine, JsonObject.mapFrom(poLine));
+      var correspondingLine = existingPoLinesById.get(poLine.getId());
+      if (correspondingLine != null) {
+        verifyProtectedFieldsChanged(fields, correspondingLine, poLine);
+      }
     });
   }
 
-  private JsonObject findCorrespondingCompositePoLine(CompositePoLine poLine, List<PoLine> poLinesFromStorage) {
-    return poLinesFromStorage.stream()
-      .filter(line -> line.getId().equals(poLine.getId()))
-      .findFirst()
-      .map(JsonObject::mapFrom)
-      .orElse(null);
-  }
-
   private boolean isPoLinesUpdateRequired(CompositePurchaseOrder poFromStorage, CompositePurchaseOrder compPO) {
     return isNotEmpty(compPO.getCompositePoLines()) || isPoNumberChanged(poFromStorage, compPO);
   }
 
   private Future<Void> updatePoLinesNumber(CompositePurchaseOrder compOrder, List<PoLine> poLinesFromStorage, RequestContext requestContext) {
-    return GenericCompositeFuture.join(poLinesFromStorage.stream()
-        .map(lineFromStorage -> lineFromStorage.withPoLineNumber(buildNewPoLineNumber(lineFromStorage, compOrder.getPoNumber())))
-        .map(lineFromStorage -> purchaseOrderLineService.saveOrderLine(lineFromStorage, requestContext))
-        .toList())
-      .mapEmpty();
+    poLinesFromStorage.forEach(lineFromStorage -> lineFromStorage.setPoLineNumber(buildNewPoLineNumber(lineFromStorage, compOrder.getPoNumber())));
+    return purchaseOrderLineService.saveOrderLines(poLinesFromStorage, requestContext);
   }
 
   private Future<Void> handlePoLines(CompositePurchaseOrder compOrder, List<PoLine> poLinesFromStorage, RequestContext requestContext) {
     logger.debug("handlePoLines start");
-    List<Future<?>> futures = new ArrayList<>(processPoLinesCreation(compOrder, poLinesFromStorage, requestContext));
+    List<Supplier<Future<Void>>> tasks = new ArrayList<>(processPoLinesCreation(compOrder, poLinesFromStorage, requestContext));
     if (!poLinesFromStorage.isEmpty()) {
-      futures.addAll(processPoLinesUpdate(compOrder, poLinesFromStorage, requestContext));
+      tasks.addAll(processPoLinesUpdate(compOrder, poLinesFromStorage, requestContext));
       // The remaining unprocessed PoLines should be removed
-      poLinesFromStorage.forEach(poLine -> futures.add(
-        orderInvoiceRelationService.checkOrderInvoiceRelationship(compOrder.getId(), requestContext)
-          .compose(v -> encumbranceService.deletePoLineEncumbrances(poLine, requestContext))
-          .compose(v -> purchaseOrderLineService.deletePoLine(poLine, requestContext))));
+      if (!poLinesFromStorage.isEmpty()) {
+        List<PoLine> poLinesToDelete = List.copyOf(poLinesFromStorage);
+        tasks.add(() -> processPoLinesDeletion(compOrder, poLinesToDelete, requestContext));
+      }
     }
-    return GenericCompositeFuture.join(futures).mapEmpty();
+    logger.info("handlePoLines:: processing {} po line tasks of order '{}' with concurrency {}", tasks.size(), compOrder.getId(),
+      poLinesUpdateConcurrency);
+    return chainCallInChunks(tasks, poLinesUpdateConcurrency, Supplier::get).mapEmpty();
   }
 
-  private List<Future<?>> processPoLinesUpdate(CompositePurchaseOrder compOrder, List<PoLine> poLinesFromStorage, RequestContext requestContext) {
-    List<Future<?>> futures = new ArrayList<>();
+  private List<Supplier<Future<Void>>> processPoLinesUpdate(CompositePurchaseOrder compOrder, List<PoLine> poLinesFromStorage, RequestContext requestContext) {
+    Map<String, CompositePoLine> linesById = StreamEx.of(compOrder.getCompositePoLines())
+      .filter(line -> line.getId() != null)
+      .toMap(CompositePoLine::getId, Function.identity(), (first, second) -> first);
+    List<Supplier<Future<Void>>> tasks = new ArrayList<>();
     Iterator<PoLine> iterator = poLinesFromStorage.iterator();
     while (iterator.hasNext()) {
       PoLine lineFromStorage = iterator.next();
-      for (CompositePoLine line : compOrder.getCompositePoLines()) {
-        if (StringUtils.equals(lineFromStorage.getId(), line.getId())) {
-          line.setPoLineNumber(buildNewPoLineNumber(lineFromStorage, compOrder.getPoNumber()));
-          updateLocationsQuantity(line.getLocations());
-          updateEstimatedPrice(line);
-
-          futures.add(updateOrderLine(line, JsonObject.mapFrom(lineFromStorage), requestContext));
-          iterator.remove();
-          break;
-        }
+      CompositePoLine line = linesById.get(lineFromStorage.getId());
+      if (line != null) {
+        line.setPoLineNumber(buildNewPoLineNumber(lineFromStorage, compOrder.getPoNumber()));
+        updateLocationsQuantity(line.getLocations());
+        updateEstimatedPrice(line);
+
+        tasks.add(() -> updateOrderLine(line, JsonObject.mapFrom(lineFromStorage), requestContext));
+        iterator.remove();
       }
     }
-    return futures;
+    return tasks;
   }
 
-  private List<Future<CompositePoLine>> processPoLinesCreation(CompositePurchaseOrder compOrder, List<PoLine> poLinesFromStorage, RequestContext requestContext) {
+  private List<Supplier<Future<Void>>> processPoLinesCreation(CompositePurchaseOrder compOrder, List<PoLine> poLinesFromStorage, RequestContext requestContext) {
     return getNewPoLines(compOrder, poLinesFromStorage)
-      .map(compPOL -> createPoLineWithOrder(compPOL, compOrder, requestContext))
+      .<Supplier<Future<Void>>>map(compPOL -> () -> createPoLineWithOrder(compPOL, compOrder, requestContext).mapEmpty())
       .toList();
   }
 
+  /**
+   * Removes the lines missing in the updated order: the invoice relationship is checked once per order
+   * and the encumbrances of all removed lines are released and deleted in one batch.
+   */
+  private Future<Void> processPoLinesDeletion(CompositePurchaseOrder compOrder, List<PoLine> poLinesToDelete, RequestContext requestContext) {
+    return orderInvoiceRelationService.checkOrderInvoiceRelationship(compOrder.getId(), requestContext)
+      .compose(v -> encumbranceService.deletePoLinesEncumbrances(poLinesToDelete, requestContext))
+      .compose(v -> chainCallInChunks(poLinesToDelete, poLinesUpdateConcurrency,
+        poLine -> purchaseOrderLineService.deletePoLine(poLine, requestContext)))
+      .mapEmpty();
+  }
+
   private Stream<CompositePoLine> getNewPoLines(CompositePurchaseOrder compPO, List<PoLine> poLinesFromStorage) {
     var lineIdsInStorage = poLinesFromStorage.stream().map(PoLine::getId).toList();
     return compPO.getCompositePoLines().stream()
@@ -756,7 +774,7 @@ public class PurchaseOrderLineHelper {
 
   private void validatePOLineProtectedFieldsChanged(CompositePoLine compOrderLine, PoLine poLineFromStorage, CompositePurchaseOrder purchaseOrder) {
     if (purchaseOrder.getWorkflowStatus() != PENDING) {
-      verifyProtectedFieldsChanged(POLineProtectedFieldsUtil.getFieldNames(compOrderLine.getOrderFormat().value()), JsonObject.mapFrom(poLineFromStorage), JsonObject.mapFrom(compOrderLine));
+      verifyProtectedFieldsChanged(POLineProtectedFieldsUtil.getFieldNames(compOrderLine.getOrderFormat().value()), poLineFromStorage, compOrderLine);
     }
   }
 
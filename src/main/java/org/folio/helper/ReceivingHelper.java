@@ -168,7 +168,7 @@ public class ReceivingHelper extends CheckinReceivePiecesHelper<ReceivedItem> {
    * @param receivingCollection {@link ReceivingCollection} object
    * @return map with PO line id as a key and value is map with piece id as a key and {@link ReceivedItem} as a value
    */
-  private Map<String, Map<String, ReceivedItem>> groupReceivedItemsByPoLineId(ReceivingCollection receivingCollection) {
+  static Map<String, Map<String, ReceivedItem>> groupReceivedItemsByPoLineId(ReceivingCollection receivingCollection) {
     return StreamEx
       .of(receivingCollection.getToBeReceived())
       .distinct()
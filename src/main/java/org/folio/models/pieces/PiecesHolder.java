@@ -1,7 +1,7 @@
 package org.folio.models.pieces;
 
-import io.vertx.core.json.JsonObject;
 import org.apache.commons.lang3.tuple.Pair;
+import org.folio.orders.utils.ModelCopier;
 import org.folio.rest.jaxrs.model.CheckInPiece;
 import org.folio.rest.jaxrs.model.CompositePoLine;
 import org.folio.rest.jaxrs.model.CompositePurchaseOrder;
@@ -84,7 +84,7 @@ public class PiecesHolder {
       List<Piece> pieces = new ArrayList<>();
       for (Piece piece : entry.getValue()) {
         // create copies
-        pieces.add(JsonObject.mapFrom(piece).mapTo(Piece.class));
+        pieces.add(ModelCopier.copy(piece));
       }
       copy.put(entry.getKey(), pieces);
     }
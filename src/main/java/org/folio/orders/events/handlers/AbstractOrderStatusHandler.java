@@ -10,6 +10,7 @@ import java.util.Map;
 import org.folio.completablefuture.AsyncUtil;
 import org.folio.helper.BaseHelper;
 import org.folio.helper.PurchaseOrderHelper;
+import org.folio.orders.utils.ModelCopier;
 import org.folio.orders.utils.PoLineCommonUtil;
 import org.folio.rest.core.models.RequestContext;
 import org.folio.rest.jaxrs.model.CompositePurchaseOrder;
@@ -109,7 +110,7 @@ public abstract class AbstractOrderStatusHandler extends BaseHelper implements H
 
   protected CompositePurchaseOrder convert(PurchaseOrder po, List<PoLine> poLines) {
     var lines = poLines.stream().map(PoLineCommonUtil::convertToCompositePoLine).toList();
-    return JsonObject.mapFrom(po).mapTo(CompositePurchaseOrder.class).withCompositePoLines(lines);
+    return ModelCopier.copy(po, CompositePurchaseOrder.class).withCompositePoLines(lines);
   }
 
   protected abstract boolean isOrdersStatusChangeSkip(PurchaseOrder purchaseOrder, JsonObject ordersPayload);
@@ -0,0 +1,79 @@
+package org.folio.orders.events.handlers;
+
+import static org.folio.service.caches.CacheInvalidationPublisher.CACHED_DATA;
+import static org.folio.service.caches.CacheInvalidationPublisher.TENANT_ID;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.folio.service.caches.BudgetExpenseClassCache;
+import org.folio.service.caches.CacheInvalidationPublisher;
+import org.folio.service.caches.CacheInvalidationPublisher.CachedData;
+import org.folio.service.caches.ConfigurationEntriesCache;
+import org.folio.service.caches.FinanceReferenceDataCache;
+import org.folio.service.caches.MappingParametersCache;
+import org.folio.service.consortium.ConsortiumConfigurationService;
+import org.folio.service.settings.SettingsRetriever;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import io.vertx.core.Handler;
+import io.vertx.core.eventbus.Message;
+import io.vertx.core.json.JsonObject;
+
+/**
+ * Invalidates the cached data of the tenant published by {@link org.folio.service.caches.CacheInvalidationPublisher}.
+ */
+@Component("cacheInvalidationHandler")
+public class CacheInvalidationHandler implements Handler<Message<JsonObject>> {
+  private static final Logger logger = LogManager.getLogger();
+
+  private final MappingParametersCache mappingParametersCache;
+  private final SettingsRetriever settingsRetriever;
+  private final ConfigurationEntriesCache configurationEntriesCache;
+  private final FinanceReferenceDataCache financeReferenceDataCache;
+  private final BudgetExpenseClassCache budgetExpenseClassCache;
+  private final ConsortiumConfigurationService consortiumConfigurationService;
+
+  @Autowired
+  public CacheInvalidationHandler(MappingParametersCache mappingParametersCache, SettingsRetriever settingsRetriever,
+                                  ConfigurationEntriesCache configurationEntriesCache,
+                                  FinanceReferenceDataCache financeReferenceDataCache,
+                                  BudgetExpenseClassCache budgetExpenseClassCache,
+                                  ConsortiumConfigurationService consortiumConfigurationService) {
+    this.mappingParametersCache = mappingParametersCache;
+    this.settingsRetriever = settingsRetriever;
+    this.configurationEntriesCache = configurationEntriesCache;
+    this.financeReferenceDataCache = financeReferenceDataCache;
+    this.budgetExpenseClassCache = budgetExpenseClassCache;
+    this.consortiumConfigurationService = consortiumConfigurationService;
+  }
+
+  @Override
+  public void handle(Message<JsonObject> message) {
+    JsonObject body = message.body();
+    if (CacheInvalidationPublisher.isSkippedByThisInstance(body)) {
+      return;
+    }
+    try {
+      invalidate(CachedData.valueOf(body.getString(CACHED_DATA)), body.getString(TENANT_ID));
+    } catch (Exception e) {
+      logger.warn("handle:: Failed to invalidate cached data for message: {}", body, e);
+    }
+  }
+
+  /**
+   * Invalidates the cached data of the tenant in this module instance.
+   */
+  public void invalidate(CachedData cachedData, String tenantId) {
+    switch (cachedData) {
+      case ACQUISITION_METHODS -> mappingParametersCache.invalidate(tenantId);
+      case BUDGET_EXPENSE_CLASSES -> budgetExpenseClassCache.invalidate(tenantId);
+      case CONSORTIUM_CONFIGURATION -> consortiumConfigurationService.invalidate(tenantId);
+      case FINANCE_REFERENCE_DATA -> financeReferenceDataCache.invalidate(tenantId);
+      case ORDER_SETTINGS -> settingsRetriever.invalidate(tenantId);
+      case TENANT_CONFIGURATION -> configurationEntriesCache.invalidate(tenantId);
+    }
+    logger.info("invalidate:: Cached {} invalidated for tenant '{}'", cachedData, tenantId);
+  }
+
+}
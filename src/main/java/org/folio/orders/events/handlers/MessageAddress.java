@@ -3,7 +3,8 @@ package org.folio.orders.events.handlers;
 public enum MessageAddress {
   CHECKIN_ORDER_STATUS_UPDATE("org.folio.orders.checkin.order.update.status"),
   RECEIVE_ORDER_STATUS_UPDATE("org.folio.orders.receive.order.update.status"),
-  RECEIPT_STATUS("org.folio.orders.po-line.update.receipt-status");
+  RECEIPT_STATUS("org.folio.orders.po-line.update.receipt-status"),
+  CACHE_INVALIDATION("org.folio.orders.cache.invalidate");
 
   MessageAddress(String address) {
     this.address = address;
@@ -8,6 +8,7 @@ import io.vertx.core.eventbus.DeliveryOptions;
 import io.vertx.core.eventbus.Message;
 import io.vertx.core.json.JsonObject;
 import one.util.streamex.IntStreamEx;
+import one.util.streamex.StreamEx;
 import org.apache.commons.collections4.CollectionUtils;
 import org.apache.commons.collections4.map.CaseInsensitiveMap;
 import org.apache.commons.lang3.ObjectUtils;
@@ -293,6 +294,28 @@ public class HelperUtils {
     return f;
   }
 
+  /**
+   * The method applies the same action to the elements in chunks: the elements of one chunk are processed concurrently
+   * and the next chunk is started when the previous one is completed, so no more than chunkSize actions are in progress.
+   *
+   * @param  list      elements to be processed
+   * @param  chunkSize maximum number of the actions in progress
+   * @param  method    action that will be executed for every element
+   * @return           results of all actions in the order of the elements
+   */
+  public static <T, R> Future<List<R>> chainCallInChunks(List<T> list, int chunkSize, Function<T, Future<R>> method) {
+    List<R> results = new ArrayList<>(list.size());
+    Future<Void> f = Future.succeededFuture();
+    for (List<T> chunk : StreamEx.ofSubLists(list, chunkSize).toList()) {
+      f = f.compose(v -> collectResultsOnSuccess(chunk.stream().map(method).toList()))
+        .map(chunkResults -> {
+          results.addAll(chunkResults);
+          return null;
+        });
+    }
+    return f.map(v -> results);
+  }
+
   public static int getPoLineLimit(JsonObject config) {
     try {
       return Integer.parseInt(config.getString(PO_LINES_LIMIT_PROPERTY, DEFAULT_POLINE_LIMIT));
@@ -389,11 +412,10 @@ public class HelperUtils {
   }
 
   public static CompositePurchaseOrder convertToCompositePurchaseOrder(PurchaseOrder purchaseOrder, List<PoLine> poLineList) {
-    var purchaseOrderJson = JsonObject.mapFrom(purchaseOrder);
     var compositePoLines = poLineList.stream()
       .map(PoLineCommonUtil::convertToCompositePoLine)
       .toList();
-    return purchaseOrderJson.mapTo(CompositePurchaseOrder.class).withCompositePoLines(compositePoLines);
+    return ModelCopier.copy(purchaseOrder, CompositePurchaseOrder.class).withCompositePoLines(compositePoLines);
   }
 
   public static void sendEvent(MessageAddress messageAddress, JsonObject data, RequestContext requestContext) {
@@ -410,7 +432,7 @@ public class HelperUtils {
   }
 
   public static <T> T clone(Class<T> clazz, T object) {
-    return JsonObject.mapFrom(object).mapTo(clazz);
+    return ModelCopier.copy(object, clazz);
   }
 
 }
@@ -0,0 +1,260 @@
+package org.folio.orders.utils;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.apache.commons.lang3.StringUtils;
+
+import com.fasterxml.jackson.annotation.JsonAnyGetter;
+import com.fasterxml.jackson.annotation.JsonAnySetter;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
+
+/**
+ * Deep copy of the generated models (e.g. {@code PoLine} to {@code CompositePoLine}) without the JSON round-trip.
+ * <p>
+ * Properties are matched by the getter and setter names. Null values are skipped, so the defaults of the target are kept,
+ * which gives the same result as {@code JsonObject.mapFrom(source).mapTo(targetType)} for the models generated with
+ * {@code @JsonInclude(NON_NULL)}. Enums of different types are converted by the constant name, nested models, lists, maps
+ * and dates are copied, so the copy does not share mutable state with the source. The properties unknown to the target
+ * are put to its additional properties if the target has them.
+ * The properties of every pair of the source and target types are resolved once and cached.
+ */
+public final class ModelCopier {
+
+  private static final Map<CopyKey, List<PropertyCopier>> PROPERTY_COPIERS = new ConcurrentHashMap<>();
+  private static final Map<Class<?>, Constructor<?>> CONSTRUCTORS = new ConcurrentHashMap<>();
+  private static final Map<Class<?>, AnyProperties> ANY_PROPERTIES = new ConcurrentHashMap<>();
+
+  private record CopyKey(Class<?> sourceType, Class<?> targetType) {
+  }
+
+  private record PropertyCopier(String name, Method getter, Method setter, Type targetType) {
+  }
+
+  private record AnyProperties(Method getter, Method setter) {
+  }
+
+  private ModelCopier() {
+  }
+
+  /**
+   * Returns the deep copy of the model.
+   */
+  @SuppressWarnings("unchecked")
+  public static <T> T copy(T source) {
+    return source == null ? null : copy(source, (Class<T>) source.getClass());
+  }
+
+  /**
+   * Copies the model to the new instance of the target type.
+   *
+   * @param source             the model to copy
+   * @param targetType         type of the copy
+   * @param excludedProperties names of the top-level properties which are not copied
+   * @return the new instance of the target type
+   */
+  public static <T> T copy(Object source, Class<T> targetType, String... excludedProperties) {
+    if (source == null) {
+      return null;
+    }
+    Set<String> excluded = excludedProperties.length == 0 ? Set.of() : Set.of(excludedProperties);
+    return copyModel(source, targetType, excluded);
+  }
+
+  private static <T> T copyModel(Object source, Class<T> targetType, Set<String> excluded) {
+    T target = newInstance(targetType);
+    Method anySetter = getAnyProperties(targetType).setter();
+    try {
+      for (PropertyCopier copier : getPropertyCopiers(source.getClass(), targetType)) {
+        if (excluded.contains(copier.name())) {
+          continue;
+        }
+        Object value = copier.getter().invoke(source);
+        if (value == null) {
+          continue;
+        }
+        if (copier.setter() != null) {
+          copier.setter().invoke(target, copyValue(value, copier.targetType()));
+        } else {
+          // same as Jackson: the property unknown to the target goes to its additional properties
+          anySetter.invoke(target, copier.name(), copyValue(value, Object.class));
+        }
+      }
+      copyAnyProperties(source, target, anySetter);
+    } catch (IllegalAccessException | InvocationTargetException e) {
+      throw new IllegalStateException(String.format("Cannot copy %s to %s", source.getClass().getName(), targetType.getName()), e);
+    }
+    return target;
+  }
+
+  @SuppressWarnings({"unchecked", "rawtypes"})
+  private static Object copyValue(Object value, Type type) {
+    Class<?> targetClass = rawClass(type);
+    if (value instanceof String || value instanceof Number || value instanceof Boolean || value instanceof Character
+      || value instanceof UUID) {
+      return value;
+    }
+    if (value instanceof Enum<?> enumValue) {
+      if (targetClass.isInstance(value) || !targetClass.isEnum()) {
+        return value;
+      }
+      return Enum.valueOf((Class<? extends Enum>) targetClass, enumValue.name());
+    }
+    if (value instanceof Date date) {
+      return new Date(date.getTime());
+    }
+    if (value instanceof JsonObject jsonObject) {
+      return jsonObject.copy();
+    }
+    if (value instanceof JsonArray jsonArray) {
+      return jsonArray.copy();
+    }
+    if (value instanceof Collection<?> collection) {
+      Type elementType = typeArgument(type, 0);
+      Collection<Object> copy = Set.class.isAssignableFrom(targetClass) ? new LinkedHashSet<>() : new ArrayList<>(collection.size());
+      collection.forEach(element -> copy.add(element == null ? null : copyValue(element, elementType)));
+      return copy;
+    }
+    if (value instanceof Map<?, ?> map) {
+      Type valueType = typeArgument(type, 1);
+      Map<Object, Object> copy = new LinkedHashMap<>();
+      map.forEach((key, element) -> copy.put(key, element == null ? null : copyValue(element, valueType)));
+      return copy;
+    }
+    Class<?> modelType = targetClass == Object.class || targetClass.isInstance(value) ? value.getClass() : targetClass;
+    return copyModel(value, modelType, Set.of());
+  }
+
+  private static List<PropertyCopier> getPropertyCopiers(Class<?> sourceType, Class<?> targetType) {
+    return PROPERTY_COPIERS.computeIfAbsent(new CopyKey(sourceType, targetType), key -> {
+      Map<String, Method> getters = new HashMap<>();
+      for (Method method : sourceType.getMethods()) {
+        String name = getterPropertyName(method);
+        if (name != null) {
+          getters.put(name, method);
+        }
+      }
+      List<PropertyCopier> copiers = new ArrayList<>();
+      for (Method method : targetType.getMethods()) {
+        String name = setterPropertyName(method);
+        Method getter = name == null ? null : getters.remove(name);
+        if (getter != null) {
+          copiers.add(new PropertyCopier(name, getter, method, method.getGenericParameterTypes()[0]));
+        }
+      }
+      if (getAnyProperties(targetType).setter() != null) {
+        getters.forEach((name, getter) -> copiers.add(new PropertyCopier(name, getter, null, Object.class)));
+      }
+      return List.copyOf(copiers);
+    });
+  }
+
+  private static void copyAnyProperties(Object source, Object target, Method anySetter)
+    throws IllegalAccessException, InvocationTargetException {
+    Method anyGetter = getAnyProperties(source.getClass()).getter();
+    if (anyGetter == null || anySetter == null) {
+      return;
+    }
+    Map<?, ?> properties = (Map<?, ?>) anyGetter.invoke(source);
+    if (properties != null) {
+      for (Map.Entry<?, ?> property : properties.entrySet()) {
+        Object value = property.getValue() == null ? null : copyValue(property.getValue(), Object.class);
+        anySetter.invoke(target, property.getKey(), value);
+      }
+    }
+  }
+
+  private static AnyProperties getAnyProperties(Class<?> type) {
+    return ANY_PROPERTIES.computeIfAbsent(type, key -> {
+      Method getter = null;
+      Method setter = null;
+      for (Method method : type.getMethods()) {
+        if (method.isAnnotationPresent(JsonAnyGetter.class) && method.getParameterCount() == 0) {
+          getter = method;
+        } else if (method.isAnnotationPresent(JsonAnySetter.class) && method.getParameterCount() == 2) {
+          setter = method;
+        }
+      }
+      return new AnyProperties(getter, setter);
+    });
+  }
+
+  private static String getterPropertyName(Method method) {
+    if (Modifier.isStatic(method.getModifiers()) || method.getParameterCount() != 0 || isIgnored(method)) {
+      return null;
+    }
+    String name = method.getName();
+    if (name.startsWith("get") && name.length() > 3 && method.getReturnType() != void.class && !name.equals("getClass")) {
+      return StringUtils.uncapitalize(name.substring(3));
+    }
+    if (name.startsWith("is") && name.length() > 2 && method.getReturnType() == boolean.class) {
+      return StringUtils.uncapitalize(name.substring(2));
+    }
+    return null;
+  }
+
+  private static String setterPropertyName(Method method) {
+    if (Modifier.isStatic(method.getModifiers()) || method.getParameterCount() != 1 || isIgnored(method)) {
+      return null;
+    }
+    String name = method.getName();
+    return name.startsWith("set") && name.length() > 3 ? StringUtils.uncapitalize(name.substring(3)) : null;
+  }
+
+  private static boolean isIgnored(Method method) {
+    return method.isAnnotationPresent(JsonIgnore.class) || method.isAnnotationPresent(JsonAnyGetter.class)
+      || method.isAnnotationPresent(JsonAnySetter.class);
+  }
+
+  @SuppressWarnings("unchecked")
+  private static <T> T newInstance(Class<T> type) {
+    try {
+      Constructor<?> constructor = CONSTRUCTORS.computeIfAbsent(type, key -> {
+        try {
+          return type.getConstructor();
+        } catch (NoSuchMethodException e) {
+          throw new IllegalArgumentException(String.format("%s does not have public no-args constructor", type.getName()), e);
+        }
+      });
+      return (T) constructor.newInstance();
+    } catch (ReflectiveOperationException e) {
+      throw new IllegalStateException(String.format("Cannot create an instance of %s", type.getName()), e);
+    }
+  }
+
+  private static Class<?> rawClass(Type type) {
+    if (type instanceof Class<?> clazz) {
+      return clazz;
+    }
+    if (type instanceof ParameterizedType parameterizedType) {
+      return (Class<?>) parameterizedType.getRawType();
+    }
+    return Object.class;
+  }
+
+  private static Type typeArgument(Type type, int index) {
+    if (type instanceof ParameterizedType parameterizedType && parameterizedType.getActualTypeArguments().length > index) {
+      return parameterizedType.getActualTypeArguments()[index];
+    }
+    return Object.class;
+  }
+
+}
@@ -0,0 +1,86 @@
+package org.folio.orders.utils;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.apache.commons.lang3.StringUtils;
+
+/**
+ * Dot-separated property path (e.g. "details.productIds") resolved to the chain of getters of the generated model.
+ * Reads the value directly from the model instead of converting the whole model to {@code JsonObject} and parsing the path.
+ * The getters are resolved once per model type and path.
+ */
+public final class ModelPropertyPath {
+
+  private static final Map<Class<?>, Map<String, ModelPropertyPath>> PATHS = new ConcurrentHashMap<>();
+
+  private final String path;
+  private final List<Method> getters;
+
+  private ModelPropertyPath(String path, List<Method> getters) {
+    this.path = path;
+    this.getters = getters;
+  }
+
+  public static ModelPropertyPath of(Class<?> type, String path) {
+    return PATHS.computeIfAbsent(type, key -> new ConcurrentHashMap<>())
+      .computeIfAbsent(path, key -> compile(type, path));
+  }
+
+  public String getPath() {
+    return path;
+  }
+
+  /**
+   * @return value of the property or null if any property of the path is absent
+   */
+  public Object getValue(Object model) {
+    if (getters == null) {
+      return null;
+    }
+    Object value = model;
+    try {
+      for (Method getter : getters) {
+        if (value == null) {
+          return null;
+        }
+        value = getter.invoke(value);
+      }
+    } catch (IllegalAccessException | InvocationTargetException e) {
+      throw new IllegalStateException(String.format("Cannot read '%s' of %s", path, model.getClass().getName()), e);
+    }
+    return value;
+  }
+
+  private static ModelPropertyPath compile(Class<?> type, String path) {
+    List<Method> getters = new ArrayList<>();
+    Class<?> currentType = type;
+    for (String property : StringUtils.split(path, '.')) {
+      Method getter = findGetter(currentType, property);
+      if (getter == null) {
+        // same as the missing property of JSON: the value is always absent
+        return new ModelPropertyPath(path, null);
+      }
+      getters.add(getter);
+      currentType = getter.getReturnType();
+    }
+    return new ModelPropertyPath(path, List.copyOf(getters));
+  }
+
+  private static Method findGetter(Class<?> type, String property) {
+    String suffix = StringUtils.capitalize(property);
+    for (String name : List.of("get" + suffix, "is" + suffix)) {
+      try {
+        return type.getMethod(name);
+      } catch (NoSuchMethodException e) {
+        // try next accessor name
+      }
+    }
+    return null;
+  }
+
+}
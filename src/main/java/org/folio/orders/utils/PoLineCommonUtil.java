@@ -144,7 +144,9 @@ public final class PoLineCommonUtil {
   }
 
   public static Physical getPhysical(PoLine poLine) {
-    return getPhysical(convertToCompositePoLine(poLine));
+    String format = poLine.getOrderFormat() == null ? null : poLine.getOrderFormat().value();
+    return PHYSICAL_RESOURCE.value().equals(format) || P_E_MIX.value().equals(format) || OTHER.value().equals(format)
+      ? poLine.getPhysical() : null;
   }
 
   public static Physical getPhysical(CompositePoLine compPOL) {
@@ -153,7 +155,8 @@ public final class PoLineCommonUtil {
   }
 
   public static Eresource getEresource(PoLine poLine) {
-    return getEresource(convertToCompositePoLine(poLine));
+    String format = poLine.getOrderFormat() == null ? null : poLine.getOrderFormat().value();
+    return ELECTRONIC_RESOURCE.value().equals(format) || P_E_MIX.value().equals(format) ? poLine.getEresource() : null;
   }
 
   public static Eresource getEresource(CompositePoLine compPOL) {
@@ -262,17 +265,11 @@ public final class PoLineCommonUtil {
   }
 
   public static CompositePoLine convertToCompositePoLine(PoLine poLine) {
-    var poLineJson = JsonObject.mapFrom(poLine);
-    poLineJson.remove(ALERTS);
-    poLineJson.remove(REPORTING_CODES);
-    return poLineJson.mapTo(CompositePoLine.class);
+    return ModelCopier.copy(poLine, CompositePoLine.class, ALERTS, REPORTING_CODES);
   }
 
   public static PoLine convertToPoLine(CompositePoLine compPoLine) {
-    var pol = JsonObject.mapFrom(compPoLine);
-    pol.remove(ALERTS);
-    pol.remove(REPORTING_CODES);
-    var poLine = pol.mapTo(PoLine.class);
+    var poLine = ModelCopier.copy(compPoLine, PoLine.class, ALERTS, REPORTING_CODES);
     poLine.setAlerts(compPoLine.getAlerts().stream().map(Alert::getId).collect(toList()));
     poLine.setReportingCodes(compPoLine.getReportingCodes().stream().map(ReportingCode::getId).collect(toList()));
     return poLine;
@@ -322,6 +319,80 @@ public final class PoLineCommonUtil {
     return objectFromStorage;
   }
 
+  /**
+   * Same check as {@link #verifyProtectedFieldsChanged(List, JsonObject, JsonObject)}, but reads the protected fields directly
+   * from the lines without converting them to JSON.
+   */
+  public static void verifyProtectedFieldsChanged(List<String> protectedFields, PoLine lineFromStorage, CompositePoLine requestLine) {
+    Set<String> fields = new HashSet<>();
+    for (String field : protectedFields) {
+      Object oldValue = ModelPropertyPath.of(PoLine.class, field).getValue(lineFromStorage);
+      Object newValue = ModelPropertyPath.of(CompositePoLine.class, field).getValue(requestLine);
+      if (oldValue instanceof List<?> || newValue instanceof List<?>) {
+        var oldList = oldValue instanceof List<?> list ? list : List.of();
+        var newList = newValue instanceof List<?> list ? list : List.of();
+        if (oldList.size() != newList.size() || !containsAllValues(oldList, newList)) {
+          fields.add(field);
+        }
+      } else if (!isEqualValue(oldValue, newValue)) {
+        fields.add(field);
+      }
+    }
+
+    if (CollectionUtils.isNotEmpty(fields)) {
+      Error error = PROHIBITED_FIELD_CHANGING.toError()
+        .withAdditionalProperty(PROTECTED_AND_MODIFIED_FIELDS, fields);
+      throw new HttpException(400, error);
+    }
+  }
+
+  private static boolean containsAllValues(List<?> values, List<?> requiredValues) {
+    // Both lines mostly share the classes of the list elements, so the generated equals and hashCode are used as is
+    if (haveSameElementTypes(values, requiredValues)) {
+      return new HashSet<>(values).containsAll(requiredValues);
+    }
+    Set<Object> comparableValues = values.stream()
+      .map(PoLineCommonUtil::toComparableValue)
+      .collect(Collectors.toCollection(HashSet::new));
+    return requiredValues.stream()
+      .map(PoLineCommonUtil::toComparableValue)
+      .allMatch(comparableValues::contains);
+  }
+
+  private static boolean haveSameElementTypes(List<?> values, List<?> otherValues) {
+    Set<Class<?>> types = new HashSet<>();
+    values.forEach(value -> types.add(value == null ? null : value.getClass()));
+    otherValues.forEach(value -> types.add(value == null ? null : value.getClass()));
+    return types.size() == 1 && !types.contains(null);
+  }
+
+  private static boolean isEqualValue(Object oldValue, Object newValue) {
+    if (oldValue == null || newValue == null) {
+      return oldValue == newValue;
+    }
+    if (oldValue.getClass() == newValue.getClass()) {
+      return oldValue.equals(newValue);
+    }
+    return Objects.equals(toComparableValue(oldValue), toComparableValue(newValue));
+  }
+
+  /**
+   * Converts the value of PoLine or CompositePoLine to the form which does not depend on the model classes, e.g. their own enums.
+   */
+  private static Object toComparableValue(Object value) {
+    if (value == null || isValueType(value)) {
+      return value;
+    }
+    if (value instanceof Enum<?> enumValue) {
+      return enumValue.name();
+    }
+    return JsonObject.mapFrom(Map.of("value", value));
+  }
+
+  private static boolean isValueType(Object value) {
+    return value instanceof String || value instanceof Number || value instanceof Boolean;
+  }
+
   private static List getArray(JsonPathParser parser, String field) {
     Object valueAt = parser.getValueAt(field);
     if (!(valueAt instanceof JsonArray jsonArray)) {
@@ -19,7 +19,7 @@ public class RequestContextUtil {
     var modifiedHeaders = new CaseInsensitiveMap<>(requestContext.getHeaders());
     modifiedHeaders.put(XOkapiHeaders.TENANT, tenantId);
     logger.info("Request context has been changed with new tenant: {}", tenantId);
-    return new RequestContext(requestContext.getContext(), modifiedHeaders);
+    return new RequestContext(requestContext.getContext(), modifiedHeaders, requestContext.getEntityCache(), requestContext.getCallStats());
   }
 
   public static String getUserIdFromContext(RequestContext requestContext) {
@@ -24,6 +24,7 @@ public final class RestConstants {
   public static final String ID = "id";
 
   public static final int SEMAPHORE_MAX_ACTIVE_THREADS = 5;
+  public static final int MAX_ACTIVE_DELETE_REQUESTS = 10;
 
 
   private RestConstants() {
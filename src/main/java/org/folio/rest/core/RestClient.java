@@ -1,5 +1,6 @@
 package org.folio.rest.core;
 
+import static javax.ws.rs.core.HttpHeaders.CONTENT_TYPE;
 import static javax.ws.rs.core.HttpHeaders.LOCATION;
 import static javax.ws.rs.core.MediaType.APPLICATION_JSON;
 import static javax.ws.rs.core.MediaType.TEXT_PLAIN;
@@ -15,6 +16,7 @@ import io.vertx.core.MultiMap;
 import io.vertx.core.Promise;
 import io.vertx.core.buffer.Buffer;
 import io.vertx.core.http.HttpMethod;
+import io.vertx.core.json.Json;
 import io.vertx.core.json.JsonObject;
 import io.vertx.ext.web.client.HttpResponse;
 import io.vertx.ext.web.client.WebClient;
@@ -51,11 +53,7 @@ public class RestClient {
     if (log.isDebugEnabled()) {
       log.debug(SENDING_POST_WITH_BODY_MSG, endpoint, JsonObject.mapFrom(entity).encodePrettily());
     }
-    var caseInsensitiveHeader = convertToCaseInsensitiveMap(requestContext.getHeaders());
-    return getVertxWebClient(requestContext.getContext()).postAbs(buildAbsEndpoint(caseInsensitiveHeader, endpoint))
-      .putHeaders(caseInsensitiveHeader)
-      .expect(SUCCESS_RESPONSE_PREDICATE)
-      .sendJson(entity)
+    return send(HttpMethod.POST, endpoint, Json.encodeToBuffer(entity), requestContext)
       .map(bufferHttpResponse -> {
         var id = extractRecordId(bufferHttpResponse);
         return bufferHttpResponse.bodyAsJsonObject()
@@ -67,12 +65,7 @@ public class RestClient {
 
   public <T> Future<Void> postEmptyResponse(String endpoint, T entity, RequestContext requestContext) {
     log.debug(SENDING_POST_WITH_BODY_MSG, () -> endpoint, () -> JsonObject.mapFrom(entity).encodePrettily());
-    var caseInsensitiveHeader = convertToCaseInsensitiveMap(requestContext.getHeaders());
-    return getVertxWebClient(requestContext.getContext())
-      .postAbs(buildAbsEndpoint(caseInsensitiveHeader, endpoint))
-      .putHeaders(caseInsensitiveHeader)
-      .expect(SUCCESS_RESPONSE_PREDICATE)
-      .sendJson(entity)
+    return send(HttpMethod.POST, endpoint, Json.encodeToBuffer(entity), requestContext)
       .onFailure(log::error)
       .mapEmpty();
   }
@@ -84,6 +77,36 @@ public class RestClient {
       .add("Accept", APPLICATION_JSON + ", " + TEXT_PLAIN);
   }
 
+  /**
+   * Sends the request with JSON body (if any) and records the call latency, payload sizes and status in {@link RestClientMetrics}.
+   */
+  private Future<HttpResponse<Buffer>> send(HttpMethod method, String endpoint, Buffer body, RequestContext requestContext) {
+    var caseInsensitiveHeader = convertToCaseInsensitiveMap(requestContext.getHeaders());
+    if (body != null && !caseInsensitiveHeader.contains(CONTENT_TYPE)) {
+      caseInsensitiveHeader.add(CONTENT_TYPE, APPLICATION_JSON);
+    }
+    var request = getVertxWebClient(requestContext.getContext())
+      .requestAbs(method, buildAbsEndpoint(caseInsensitiveHeader, endpoint))
+      .putHeaders(caseInsensitiveHeader)
+      .expect(SUCCESS_RESPONSE_PREDICATE);
+    long requestSize = body == null ? 0 : body.length();
+    long start = System.nanoTime();
+    return (body == null ? request.send() : request.sendBuffer(body))
+      .onComplete(result -> {
+        long duration = System.nanoTime() - start;
+        if (result.succeeded()) {
+          HttpResponse<Buffer> response = result.result();
+          long responseSize = response.body() == null ? 0 : response.body().length();
+          RestClientMetrics.record(method, endpoint, String.valueOf(response.statusCode()), true, duration, requestSize, responseSize, requestContext);
+        } else {
+          String status = result.cause() instanceof HttpException httpException
+            ? String.valueOf(httpException.getCode())
+            : RestClientMetrics.CONNECTION_ERROR_STATUS;
+          RestClientMetrics.record(method, endpoint, status, false, duration, requestSize, 0, requestContext);
+        }
+      });
+  }
+
   public <T> Future<Void> put(RequestEntry requestEntry, T dataObject, RequestContext requestContext) {
     return put(requestEntry.buildEndpoint(), dataObject, requestContext);
   }
@@ -92,13 +115,8 @@ public class RestClient {
     if (log.isDebugEnabled()) {
       log.debug("Sending 'PUT {}' with body: {}", endpoint, recordData.encodePrettily());
     }
-    var caseInsensitiveHeader = convertToCaseInsensitiveMap(requestContext.getHeaders());
 
-    return getVertxWebClient(requestContext.getContext())
-      .putAbs(buildAbsEndpoint(caseInsensitiveHeader, endpoint))
-      .putHeaders(caseInsensitiveHeader)
-      .expect(SUCCESS_RESPONSE_PREDICATE)
-      .sendJson(recordData)
+    return send(HttpMethod.PUT, endpoint, recordData.toBuffer(), requestContext)
       .onFailure(log::error)
       .mapEmpty();
   }
@@ -113,16 +131,8 @@ public class RestClient {
     if (log.isDebugEnabled()) {
       log.debug("Sending 'PATCH {}' with body: {}", endpoint, recordData.encodePrettily());
     }
-    var caseInsensitiveHeader = convertToCaseInsensitiveMap(requestContext.getHeaders());
-
-    Promise<Void> promise = Promise.promise();
 
-    return getVertxWebClient(requestContext.getContext())
-      .patchAbs(buildAbsEndpoint(caseInsensitiveHeader, endpoint))
-      .putHeaders(caseInsensitiveHeader)
-      .expect(SUCCESS_RESPONSE_PREDICATE)
-      .sendJson(dataObject)
-      .onSuccess(json -> promise.complete())
+    return send(HttpMethod.PATCH, endpoint, recordData.toBuffer(), requestContext)
       .onFailure(log::error)
       .mapEmpty();
   }
@@ -135,14 +145,9 @@ public class RestClient {
   public Future<Void> delete(String endpointById, boolean skipError404, RequestContext requestContext) {
     log.debug(CALLING_ENDPOINT_MSG, HttpMethod.DELETE, endpointById);
 
-    var caseInsensitiveHeader = convertToCaseInsensitiveMap(requestContext.getHeaders());
     Promise<Void> promise = Promise.promise();
 
-    getVertxWebClient(requestContext.getContext())
-      .deleteAbs(buildAbsEndpoint(caseInsensitiveHeader, endpointById))
-      .putHeaders(caseInsensitiveHeader)
-      .expect(SUCCESS_RESPONSE_PREDICATE)
-      .send()
+    send(HttpMethod.DELETE, endpointById, null, requestContext)
       .onSuccess(f -> promise.complete())
       .onFailure(t -> handleErrorResponse(promise, t, skipError404));
 
@@ -186,14 +191,8 @@ public class RestClient {
 
   public <T> Future<T> get(String endpoint, boolean skipError404, Class<T> responseType,  RequestContext requestContext) {
     log.debug("Calling GET {}", endpoint);
-    var caseInsensitiveHeader = convertToCaseInsensitiveMap(requestContext.getHeaders());
-
     Promise<T> promise = Promise.promise();
-    getVertxWebClient(requestContext.getContext())
-      .getAbs(buildAbsEndpoint(caseInsensitiveHeader, endpoint))
-      .putHeaders(caseInsensitiveHeader)
-      .expect(SUCCESS_RESPONSE_PREDICATE)
-      .send()
+    send(HttpMethod.GET, endpoint, null, requestContext)
       .map(HttpResponse::bodyAsJsonObject)
       .map(jsonObject -> {
         if (log.isDebugEnabled()) {
@@ -211,13 +210,7 @@ public class RestClient {
   public Future<JsonObject> getAsJsonObject(String endpoint, boolean skipError404, RequestContext requestContext) {
     log.debug("Calling GET {}", endpoint);
     Promise<JsonObject> promise = Promise.promise();
-    var caseInsensitiveHeader = convertToCaseInsensitiveMap(requestContext.getHeaders());
-    var webClient = getVertxWebClient(requestContext.getContext());
-
-    webClient.getAbs(buildAbsEndpoint(caseInsensitiveHeader, endpoint))
-      .putHeaders(caseInsensitiveHeader)
-      .expect(SUCCESS_RESPONSE_PREDICATE)
-      .send()
+    send(HttpMethod.GET, endpoint, null, requestContext)
       .map(HttpResponse::bodyAsJsonObject)
       .onSuccess(jsonObject -> {
         if (log.isDebugEnabled()) {
@@ -269,13 +262,8 @@ public class RestClient {
     if (log.isDebugEnabled()) {
       log.debug(SENDING_POST_WITH_BODY_MSG, requestEntry.buildEndpoint(), JsonObject.mapFrom(entity).encodePrettily());
     }
-    var caseInsensitiveHeader = convertToCaseInsensitiveMap(requestContext.getHeaders());
 
-    return getVertxWebClient(requestContext.getContext())
-      .postAbs(buildAbsEndpoint(caseInsensitiveHeader, requestEntry.buildEndpoint()))
-      .putHeaders(caseInsensitiveHeader)
-      .expect(SUCCESS_RESPONSE_PREDICATE)
-      .sendJsonObject(entity)
+    return send(HttpMethod.POST, requestEntry.buildEndpoint(), entity.toBuffer(), requestContext)
       .map(this::extractRecordId)
       .onFailure(t -> log.error("error occurred invoking POST {}", requestEntry.buildEndpoint()));
   }
@@ -285,11 +273,7 @@ public class RestClient {
       log.debug(SENDING_POST_WITH_BODY_MSG, requestEntry.buildEndpoint(), jsonObject.encodePrettily());
     }
     var endpoint = requestEntry.buildEndpoint();
-    var caseInsensitiveHeader = convertToCaseInsensitiveMap(requestContext.getHeaders());
-    return getVertxWebClient(requestContext.getContext()).postAbs(buildAbsEndpoint(caseInsensitiveHeader, requestEntry.buildEndpoint()))
-      .putHeaders(caseInsensitiveHeader)
-      .expect(SUCCESS_RESPONSE_PREDICATE)
-      .sendJsonObject(jsonObject)
+    return send(HttpMethod.POST, endpoint, jsonObject.toBuffer(), requestContext)
       .map(bufferHttpResponse -> {
         var id = extractRecordId(bufferHttpResponse);
         return bufferHttpResponse
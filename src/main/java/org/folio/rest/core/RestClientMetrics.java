@@ -0,0 +1,129 @@
+package org.folio.rest.core;
+
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.folio.rest.core.models.DownstreamCallStats;
+import org.folio.rest.core.models.RequestContext;
+import org.folio.rest.tools.utils.TenantTool;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.config.MeterFilter;
+import io.vertx.core.http.HttpMethod;
+import io.vertx.micrometer.backends.BackendRegistries;
+
+/**
+ * Records the downstream calls made by {@link RestClient}: latency, payload sizes and response statuses per endpoint template
+ * and originating API. The meters are registered in the Vert.x Micrometer registry, which is bound to the backend (e.g. Prometheus)
+ * configured in the metrics options of the module; nothing is registered when the Vert.x metrics are disabled. The tenant is only
+ * logged in the request summary, so the number of the meters does not grow with the number of tenants.
+ */
+public final class RestClientMetrics {
+
+  private static final Logger logger = LogManager.getLogger();
+
+  static final String METER_PREFIX = "mod_orders.rest_client";
+  static final String REQUESTS_METER = METER_PREFIX + ".requests";
+  static final String REQUEST_PAYLOAD_METER = METER_PREFIX + ".request.payload";
+  static final String RESPONSE_PAYLOAD_METER = METER_PREFIX + ".response.payload";
+  static final String CONNECTION_ERROR_STATUS = "CONNECTION_ERROR";
+  static final String ENDPOINT_TAG = "endpoint";
+  // Guards against the unexpected ids in the paths, the meters of the endpoints above the limit are not registered
+  static final int MAX_ENDPOINT_TEMPLATES = 300;
+  private static final Duration[] LATENCY_BUCKETS = {Duration.ofMillis(50), Duration.ofMillis(100), Duration.ofMillis(250),
+    Duration.ofMillis(500), Duration.ofSeconds(1), Duration.ofSeconds(2), Duration.ofSeconds(5), Duration.ofSeconds(10)};
+
+  private static final Pattern UUID_PATH_SEGMENT = Pattern.compile("/[0-9a-fA-F]{8}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{12}");
+  // No static segment of the called paths contains a digit, so such a segment is an id, code or number
+  private static final Pattern ID_PATH_SEGMENT = Pattern.compile("/[^/]*[0-9][^/]*");
+  private static final Set<MeterRegistry> CONFIGURED_REGISTRIES = ConcurrentHashMap.newKeySet();
+
+  private RestClientMetrics() {
+  }
+
+  /**
+   * Records the completed call in the meter registry and in the call statistics of the request.
+   *
+   * @param status HTTP status code of the response or {@link #CONNECTION_ERROR_STATUS} if there is no response
+   */
+  static void record(HttpMethod method, String endpoint, String status, boolean success, long durationNanos,
+                     long requestSize, long responseSize, RequestContext requestContext) {
+    String endpointTemplate = toEndpointTemplate(endpoint);
+    DownstreamCallStats callStats = requestContext.getCallStats();
+    MeterRegistry registry = getRegistry();
+    if (registry != null) {
+      String api = callStats == null ? DownstreamCallStats.UNKNOWN_API : callStats.getApi();
+      record(registry, method, endpointTemplate, api, status, durationNanos, requestSize, responseSize);
+    }
+    if (callStats != null) {
+      callStats.record(method.name() + " " + endpointTemplate, success, durationNanos, requestSize, responseSize);
+    }
+  }
+
+  static void record(MeterRegistry registry, HttpMethod method, String endpointTemplate, String api, String status,
+                     long durationNanos, long requestSize, long responseSize) {
+    try {
+      configure(registry);
+      Tags tags = Tags.of("method", method.name(), ENDPOINT_TAG, endpointTemplate);
+      Timer.builder(REQUESTS_METER)
+        .tags(tags)
+        .tag("api", api)
+        .tag("status", status)
+        .serviceLevelObjectives(LATENCY_BUCKETS)
+        .register(registry)
+        .record(durationNanos, TimeUnit.NANOSECONDS);
+      DistributionSummary.builder(REQUEST_PAYLOAD_METER)
+        .baseUnit("bytes")
+        .tags(tags)
+        .register(registry)
+        .record(requestSize);
+      DistributionSummary.builder(RESPONSE_PAYLOAD_METER)
+        .baseUnit("bytes")
+        .tags(tags)
+        .register(registry)
+        .record(responseSize);
+    } catch (Exception e) {
+      // Metrics must never break the business flow
+      logger.warn("record:: Failed to record metrics of {} {}", method, endpointTemplate, e);
+    }
+  }
+
+  /**
+   * Logs a single structured line with the downstream calls made within the request.
+   */
+  public static void logRequestSummary(RequestContext requestContext) {
+    DownstreamCallStats callStats = requestContext.getCallStats();
+    if (callStats != null && callStats.getCalls() > 0) {
+      logger.info("logRequestSummary:: {}", callStats.toJson(TenantTool.tenantId(requestContext.getHeaders())).encode());
+    }
+  }
+
+  /**
+   * Converts the endpoint to the template without query and ids, e.g. "/orders-storage/po-lines/{id}".
+   */
+  static String toEndpointTemplate(String endpoint) {
+    int queryIndex = endpoint.indexOf('?');
+    String path = queryIndex < 0 ? endpoint : endpoint.substring(0, queryIndex);
+    path = UUID_PATH_SEGMENT.matcher(path).replaceAll("/{id}");
+    return ID_PATH_SEGMENT.matcher(path).replaceAll("/{id}");
+  }
+
+  private static void configure(MeterRegistry registry) {
+    if (CONFIGURED_REGISTRIES.add(registry)) {
+      registry.config().meterFilter(MeterFilter.maximumAllowableTags(METER_PREFIX, ENDPOINT_TAG, MAX_ENDPOINT_TEMPLATES, MeterFilter.deny()));
+    }
+  }
+
+  private static MeterRegistry getRegistry() {
+    return BackendRegistries.getDefaultNow();
+  }
+
+}
@@ -0,0 +1,74 @@
+package org.folio.rest.core.models;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import io.vertx.core.json.JsonObject;
+
+/**
+ * Accumulates downstream calls made by {@link org.folio.rest.core.RestClient} within one request, attached to {@link RequestContext}.
+ * The summary is logged as a single structured line when the request is completed, to show which flows fan out the most.
+ * <p>
+ * Some flows continue on worker threads (e.g. orders rollover), so the counters are thread-safe.
+ */
+public class DownstreamCallStats {
+
+  public static final String UNKNOWN_API = "unknown";
+
+  private final String api;
+  private final Map<String, LongAdder> callsByEndpoint = new ConcurrentHashMap<>();
+  private final LongAdder errors = new LongAdder();
+  private final LongAdder durationNanos = new LongAdder();
+  private final LongAdder requestBytes = new LongAdder();
+  private final LongAdder responseBytes = new LongAdder();
+
+  public DownstreamCallStats(String api) {
+    this.api = api;
+  }
+
+  public String getApi() {
+    return api;
+  }
+
+  /**
+   * Records the completed downstream call.
+   *
+   * @param endpointTemplate "METHOD /path" with ids replaced by {id}
+   * @param success          true if the call returned successful response
+   */
+  public void record(String endpointTemplate, boolean success, long callDurationNanos, long requestSize, long responseSize) {
+    callsByEndpoint.computeIfAbsent(endpointTemplate, key -> new LongAdder()).increment();
+    if (!success) {
+      errors.increment();
+    }
+    durationNanos.add(callDurationNanos);
+    requestBytes.add(requestSize);
+    responseBytes.add(responseSize);
+  }
+
+  public long getCalls() {
+    return callsByEndpoint.values().stream().mapToLong(LongAdder::sum).sum();
+  }
+
+  public long getErrors() {
+    return errors.sum();
+  }
+
+  public JsonObject toJson(String tenantId) {
+    JsonObject endpoints = new JsonObject();
+    new TreeMap<>(callsByEndpoint).forEach((endpoint, count) -> endpoints.put(endpoint, count.sum()));
+    return new JsonObject()
+      .put("api", api)
+      .put("tenant", tenantId)
+      .put("calls", getCalls())
+      .put("errors", getErrors())
+      .put("downstreamTimeMs", TimeUnit.NANOSECONDS.toMillis(durationNanos.sum()))
+      .put("requestBytes", requestBytes.sum())
+      .put("responseBytes", responseBytes.sum())
+      .put("endpoints", endpoints);
+  }
+
+}
@@ -3,15 +3,37 @@ package org.folio.rest.core.models;
 import java.util.Collections;
 import java.util.Map;
 
+import org.folio.service.finance.transaction.TransactionBatch;
+
 import io.vertx.core.Context;
 
 public class RequestContext {
   private Context context;
   private Map<String, String> headers;
+  private final RequestEntityCache entityCache;
+  private final DownstreamCallStats callStats;
+  private TransactionBatch transactionBatch;
 
   public RequestContext(Context context, Map<String, String> headers) {
+    this(context, headers, RequestEntityCache.disabled());
+  }
+
+  public RequestContext(Context context, Map<String, String> headers, RequestEntityCache entityCache) {
+    this(context, headers, entityCache, new DownstreamCallStats(DownstreamCallStats.UNKNOWN_API));
+  }
+
+  /**
+   * @param api name of the API handling the request (e.g. OrdersApi, ReceivingAPI), used to tag the downstream calls
+   */
+  public RequestContext(Context context, Map<String, String> headers, String api) {
+    this(context, headers, RequestEntityCache.disabled(), new DownstreamCallStats(api));
+  }
+
+  public RequestContext(Context context, Map<String, String> headers, RequestEntityCache entityCache, DownstreamCallStats callStats) {
     this.context = context;
     this.headers = headers;
+    this.entityCache = entityCache;
+    this.callStats = callStats;
   }
 
   public void withContext(Context context) {
@@ -29,4 +51,24 @@ public class RequestContext {
   public Map<String, String> getHeaders() {
     return Collections.unmodifiableMap(headers);
   }
+
+  public RequestEntityCache getEntityCache() {
+    return entityCache;
+  }
+
+  public DownstreamCallStats getCallStats() {
+    return callStats;
+  }
+
+  /**
+   * @param transactionBatch batch gathering the transaction operations of the request until it is sent,
+   *                         or null to send the operations as soon as they are requested
+   */
+  public void withTransactionBatch(TransactionBatch transactionBatch) {
+    this.transactionBatch = transactionBatch;
+  }
+
+  public TransactionBatch getTransactionBatch() {
+    return transactionBatch;
+  }
 }
@@ -0,0 +1,262 @@
+package org.folio.rest.core.models;
+
+import static org.folio.orders.utils.HelperUtils.collectResultsOnSuccess;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.folio.orders.utils.ModelCopier;
+import org.folio.rest.tools.utils.TenantTool;
+
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import io.vertx.core.json.JsonObject;
+
+/**
+ * Request-scoped cache of storage entities (po lines, purchase orders, titles, holdings) attached to {@link RequestContext}.
+ * Entities are cached per type, tenant and id, so the same entity is fetched at most once during the request,
+ * and services put saved entities back into the cache (write-through) to keep it consistent with the storage.
+ * <p>
+ * The cache is created per API request and accessed from the request's Vert.x context only, so it is not synchronized.
+ * Pending loads are shared between the callers within the request. Every caller gets its own copy of the entity and the cache
+ * keeps a copy of the put entity, so the changes of one caller are seen by the others only after the entity is saved.
+ * The entities implementing {@link Immutable} are not copied.
+ * Requests which do not enable the cache get {@link #disabled()} instance which always delegates to the loaders,
+ * requests which cache only some types get {@link #forTypes(Class[])} instance.
+ */
+public class RequestEntityCache {
+
+  private static final Logger logger = LogManager.getLogger();
+
+  private static final RequestEntityCache DISABLED = new RequestEntityCache(false);
+
+  /**
+   * Marks the cached entities which are not modified after they are created, so they are shared without copying.
+   */
+  public interface Immutable {
+  }
+
+  private record EntityKey(Class<?> type, String tenantId, String id) {
+  }
+
+  private final boolean enabled;
+  private final Set<Class<?>> cachedTypes;
+  private final Map<EntityKey, Future<?>> entities = new HashMap<>();
+
+  public RequestEntityCache() {
+    this(true);
+  }
+
+  private RequestEntityCache(boolean enabled) {
+    this(enabled, null);
+  }
+
+  private RequestEntityCache(boolean enabled, Set<Class<?>> cachedTypes) {
+    this.enabled = enabled;
+    this.cachedTypes = cachedTypes;
+  }
+
+  public static RequestEntityCache disabled() {
+    return DISABLED;
+  }
+
+  /**
+   * Returns the cache which keeps only the entities of the given types, the other types are always loaded.
+   */
+  public static RequestEntityCache forTypes(Class<?>... types) {
+    return new RequestEntityCache(true, Set.of(types));
+  }
+
+  /**
+   * Returns the cache attached to the request context or {@link #disabled()} instance if there is no cache.
+   */
+  public static RequestEntityCache of(RequestContext requestContext) {
+    return requestContext == null || requestContext.getEntityCache() == null ? DISABLED : requestContext.getEntityCache();
+  }
+
+  public boolean isEnabled() {
+    return enabled;
+  }
+
+  public boolean isEnabled(Class<?> type) {
+    return enabled && (cachedTypes == null || cachedTypes.contains(type));
+  }
+
+  /**
+   * Returns the entity from the cache or loads it with the provided loader and caches the result.
+   * Failed loads are not cached.
+   *
+   * @param type           entity type
+   * @param id             entity id
+   * @param requestContext the request context defining the tenant
+   * @param loader         loader of the entity
+   * @return future with the entity
+   */
+  public <T> Future<T> getOrLoad(Class<T> type, String id, RequestContext requestContext, Supplier<Future<T>> loader) {
+    return getOrLoadByKeyType(type, id, requestContext, loader);
+  }
+
+  /**
+   * Returns the JSON entity from the cache or loads it like {@link #getOrLoad(Class, String, RequestContext, Supplier)}.
+   * The entities kept as {@link JsonObject} are cached by the given key type, e.g. a marker class of the record,
+   * so the records of different kinds with the same id do not share the cache entry.
+   *
+   * @param keyType        type the entity is cached by
+   * @param id             entity id
+   * @param requestContext the request context defining the tenant
+   * @param loader         loader of the entity
+   * @return future with the entity
+   */
+  public Future<JsonObject> getOrLoadJson(Class<?> keyType, String id, RequestContext requestContext,
+                                          Supplier<Future<JsonObject>> loader) {
+    return getOrLoadByKeyType(keyType, id, requestContext, loader);
+  }
+
+  @SuppressWarnings("unchecked")
+  private <T> Future<T> getOrLoadByKeyType(Class<?> type, String id, RequestContext requestContext, Supplier<Future<T>> loader) {
+    if (!isEnabled(type) || id == null) {
+      return loader.get();
+    }
+    EntityKey key = buildKey(type, id, requestContext);
+    Future<T> cached = (Future<T>) entities.get(key);
+    if (cached != null) {
+      logger.debug("getOrLoad:: {} with id '{}' is taken from the request cache", type.getSimpleName(), id);
+      return cached.map(RequestEntityCache::copyOf);
+    }
+    Promise<T> promise = Promise.promise();
+    entities.put(key, promise.future());
+    load(loader)
+      .onFailure(t -> entities.remove(key, promise.future()))
+      .onComplete(promise);
+    return promise.future().map(RequestEntityCache::copyOf);
+  }
+
+  /**
+   * Returns the entities from the cache and loads only missing ones with the provided loader.
+   * Entities which were not returned by the loader are not cached and are absent in the result.
+   *
+   * @param type           entity type
+   * @param ids            ids of the entities
+   * @param requestContext the request context defining the tenant
+   * @param idExtractor    function to get the id of a loaded entity
+   * @param loader         loader of the entities by ids
+   * @return future with the list of found entities in order of the requested ids
+   */
+  @SuppressWarnings("unchecked")
+  public <T> Future<List<T>> getOrLoadAll(Class<T> type, List<String> ids, RequestContext requestContext,
+                                          Function<T, String> idExtractor, Function<List<String>, Future<List<T>>> loader) {
+    if (!isEnabled(type)) {
+      return loader.apply(ids);
+    }
+    Map<String, Future<T>> futuresById = new LinkedHashMap<>();
+    List<String> missingIds = new ArrayList<>();
+    for (String id : ids) {
+      Future<T> cached = (Future<T>) entities.get(buildKey(type, id, requestContext));
+      if (cached != null) {
+        futuresById.put(id, cached);
+      } else if (!futuresById.containsKey(id) && !missingIds.contains(id)) {
+        missingIds.add(id);
+      }
+    }
+    if (!missingIds.isEmpty()) {
+      logger.debug("getOrLoadAll:: {} of {} {} records are not in the request cache", missingIds.size(), ids.size(), type.getSimpleName());
+      // Pending entries are registered before the load starts, so the concurrent reads wait for the same load
+      Promise<Map<String, T>> loadedPromise = Promise.promise();
+      for (String id : missingIds) {
+        Future<T> future = loadedPromise.future().map(loadedById -> loadedById.get(id));
+        entities.put(buildKey(type, id, requestContext), future);
+        futuresById.put(id, future);
+      }
+      load(() -> loader.apply(missingIds))
+        .map(loaded -> {
+          Map<String, T> loadedById = new HashMap<>();
+          loaded.forEach(entity -> loadedById.put(idExtractor.apply(entity), entity));
+          missingIds.stream()
+            .filter(id -> !loadedById.containsKey(id))
+            .forEach(id -> entities.remove(buildKey(type, id, requestContext), futuresById.get(id)));
+          return loadedById;
+        })
+        .onFailure(t -> missingIds.forEach(id -> entities.remove(buildKey(type, id, requestContext), futuresById.get(id))))
+        .onComplete(loadedPromise);
+    }
+    return collectResultsOnSuccess(futuresById.values())
+      .map(results -> results.stream()
+        .filter(Objects::nonNull)
+        .map(RequestEntityCache::copyOf)
+        .toList());
+  }
+
+  /**
+   * Puts the entity into the cache replacing the previous value, used to keep the cache in sync after the entity is saved.
+   */
+  public <T> void put(Class<T> type, String id, T entity, RequestContext requestContext) {
+    putByKeyType(type, id, entity, requestContext);
+  }
+
+  /**
+   * Puts the JSON entity into the cache by the given key type, see {@link #getOrLoadJson(Class, String, RequestContext, Supplier)}.
+   */
+  public void putJson(Class<?> keyType, String id, JsonObject entity, RequestContext requestContext) {
+    putByKeyType(keyType, id, entity, requestContext);
+  }
+
+  private void putByKeyType(Class<?> type, String id, Object entity, RequestContext requestContext) {
+    if (isEnabled(type) && id != null) {
+      entities.put(buildKey(type, id, requestContext), Future.succeededFuture(copyOf(entity)));
+    }
+  }
+
+  /**
+   * Removes the entity from the cache, so it is fetched again on the next read.
+   */
+  public void evict(Class<?> type, String id, RequestContext requestContext) {
+    if (isEnabled(type) && id != null) {
+      entities.remove(buildKey(type, id, requestContext));
+    }
+  }
+
+  /**
+   * Removes all entities of the type from the cache.
+   */
+  public void evictAll(Class<?> type) {
+    if (isEnabled(type)) {
+      entities.keySet().removeIf(key -> key.type() == type);
+    }
+  }
+
+  /**
+   * Starts the load, the exception thrown by the loader fails the load, so the pending entries are removed.
+   */
+  private static <T> Future<T> load(Supplier<Future<T>> loader) {
+    try {
+      return loader.get();
+    } catch (Exception e) {
+      return Future.failedFuture(e);
+    }
+  }
+
+  @SuppressWarnings("unchecked")
+  private static <T> T copyOf(T entity) {
+    if (entity == null || entity instanceof Immutable) {
+      return entity;
+    }
+    if (entity instanceof JsonObject jsonObject) {
+      return (T) jsonObject.copy();
+    }
+    return ModelCopier.copy(entity);
+  }
+
+  private static EntityKey buildKey(Class<?> type, String id, RequestContext requestContext) {
+    return new EntityKey(type, TenantTool.tenantId(requestContext.getHeaders()), id);
+  }
+
+}
@@ -34,7 +34,7 @@ public class AcquisitionMethodAPI extends BaseApi implements OrdersAcquisitionMe
   @Override
   public void getOrdersAcquisitionMethods(String query, String totalRecords, int offset, int limit, Map<String, String> okapiHeaders,
       Handler<AsyncResult<Response>> asyncResultHandler, Context vertxContext) {
-    acquisitionMethodsService.getAcquisitionMethods(limit, offset, query, new RequestContext(vertxContext, okapiHeaders))
+    acquisitionMethodsService.getAcquisitionMethods(limit, offset, query, new RequestContext(vertxContext, okapiHeaders, getClass().getSimpleName()))
       .onSuccess(acquisitionMethods -> asyncResultHandler.handle(succeededFuture(buildOkResponse(acquisitionMethods))))
       .onFailure(fail -> handleErrorResponse(asyncResultHandler, fail));
   }
@@ -42,7 +42,7 @@ public class AcquisitionMethodAPI extends BaseApi implements OrdersAcquisitionMe
   @Override
   public void postOrdersAcquisitionMethods(AcquisitionMethod entity, Map<String, String> okapiHeaders,
       Handler<AsyncResult<Response>> asyncResultHandler, Context vertxContext) {
-    acquisitionMethodsService.createAcquisitionMethod(entity, new RequestContext(vertxContext, okapiHeaders))
+    acquisitionMethodsService.createAcquisitionMethod(entity, new RequestContext(vertxContext, okapiHeaders, getClass().getSimpleName()))
       .onSuccess(acquisitionMethod -> asyncResultHandler.handle(
         succeededFuture(buildResponseWithLocation(okapiHeaders.get(OKAPI_URL), resourceByIdPath(ACQUISITION_METHODS, acquisitionMethod.getId()), acquisitionMethod))))
       .onFailure(fail -> handleErrorResponse(asyncResultHandler, fail));
@@ -51,7 +51,7 @@ public class AcquisitionMethodAPI extends BaseApi implements OrdersAcquisitionMe
   @Override
   public void getOrdersAcquisitionMethodsById(String id, Map<String, String> okapiHeaders,
       Handler<AsyncResult<Response>> asyncResultHandler, Context vertxContext) {
-    acquisitionMethodsService.getAcquisitionMethodById(id, new RequestContext(vertxContext, okapiHeaders))
+    acquisitionMethodsService.getAcquisitionMethodById(id, new RequestContext(vertxContext, okapiHeaders, getClass().getSimpleName()))
       .onSuccess(acquisitionMethod -> asyncResultHandler.handle(succeededFuture(buildOkResponse(acquisitionMethod))))
       .onFailure(fail -> handleErrorResponse(asyncResultHandler, fail));
   }
@@ -59,7 +59,7 @@ public class AcquisitionMethodAPI extends BaseApi implements OrdersAcquisitionMe
   @Override
   public void deleteOrdersAcquisitionMethodsById(String id, Map<String, String> okapiHeaders,
       Handler<AsyncResult<Response>> asyncResultHandler, Context vertxContext) {
-    acquisitionMethodsService.deleteAcquisitionMethod(id, new RequestContext(vertxContext, okapiHeaders))
+    acquisitionMethodsService.deleteAcquisitionMethod(id, new RequestContext(vertxContext, okapiHeaders, getClass().getSimpleName()))
       .onSuccess(v -> asyncResultHandler.handle(succeededFuture(buildNoContentResponse())))
       .onFailure(fail -> handleErrorResponse(asyncResultHandler, fail));
   }
@@ -77,7 +77,7 @@ public class AcquisitionMethodAPI extends BaseApi implements OrdersAcquisitionMe
       return;
     }
 
-    acquisitionMethodsService.saveAcquisitionMethod(entity, new RequestContext(vertxContext, okapiHeaders))
+    acquisitionMethodsService.saveAcquisitionMethod(entity, new RequestContext(vertxContext, okapiHeaders, getClass().getSimpleName()))
       .onSuccess(v -> asyncResultHandler.handle(succeededFuture(buildNoContentResponse())))
       .onFailure(fail -> handleErrorResponse(asyncResultHandler, fail));
   }
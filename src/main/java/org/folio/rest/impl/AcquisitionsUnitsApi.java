@@ -45,7 +45,7 @@ public class AcquisitionsUnitsApi extends BaseApi implements AcquisitionsUnits {
   public void postAcquisitionsUnitsUnits(AcquisitionsUnit entity, Map<String, String> okapiHeaders,
       Handler<AsyncResult<Response>> asyncResultHandler, Context vertxContext) {
 
-    acquisitionsUnitsService.createAcquisitionsUnit(entity, new RequestContext(vertxContext, okapiHeaders))
+    acquisitionsUnitsService.createAcquisitionsUnit(entity, new RequestContext(vertxContext, okapiHeaders, getClass().getSimpleName()))
       .onSuccess(unit -> {
         if (logger.isInfoEnabled()) {
           logger.debug("Successfully created new acquisitions unit: {} ", JsonObject.mapFrom(unit).encodePrettily());
@@ -61,7 +61,7 @@ public class AcquisitionsUnitsApi extends BaseApi implements AcquisitionsUnits {
   public void getAcquisitionsUnitsUnits(String query, String totalRecords, int offset, int limit, Map<String, String> okapiHeaders,
       Handler<AsyncResult<Response>> asyncResultHandler, Context vertxContext) {
 
-    acquisitionsUnitsService.getAcquisitionsUnits(query, offset, limit, new RequestContext(vertxContext, okapiHeaders))
+    acquisitionsUnitsService.getAcquisitionsUnits(query, offset, limit, new RequestContext(vertxContext, okapiHeaders, getClass().getSimpleName()))
       .onSuccess(units -> {
         if (logger.isInfoEnabled()) {
           logger.debug("Successfully retrieved acquisitions units: {}", JsonObject.mapFrom(units).encodePrettily());
@@ -80,7 +80,7 @@ public class AcquisitionsUnitsApi extends BaseApi implements AcquisitionsUnits {
       addProcessingError(MISMATCH_BETWEEN_ID_IN_PATH_AND_BODY.toError());
       asyncResultHandler.handle(succeededFuture(buildErrorResponse(422)));
     } else {
-      acquisitionsUnitsService.updateAcquisitionsUnit(entity.withId(id), new RequestContext(vertxContext, okapiHeaders))
+      acquisitionsUnitsService.updateAcquisitionsUnit(entity.withId(id), new RequestContext(vertxContext, okapiHeaders, getClass().getSimpleName()))
         .onSuccess(units -> {
           logger.debug("Successfully updated acquisitions unit with id={}", id);
           asyncResultHandler.handle(succeededFuture(buildNoContentResponse()));
@@ -94,7 +94,7 @@ public class AcquisitionsUnitsApi extends BaseApi implements AcquisitionsUnits {
   public void getAcquisitionsUnitsUnitsById(String id, Map<String, String> okapiHeaders,
       Handler<AsyncResult<Response>> asyncResultHandler, Context vertxContext) {
 
-    acquisitionsUnitsService.getAcquisitionsUnit(id, new RequestContext(vertxContext, okapiHeaders))
+    acquisitionsUnitsService.getAcquisitionsUnit(id, new RequestContext(vertxContext, okapiHeaders, getClass().getSimpleName()))
       .onSuccess(unit -> {
         if (logger.isInfoEnabled()) {
           logger.debug("Successfully retrieved acquisitions unit: {}", JsonObject.mapFrom(unit).encodePrettily());
@@ -109,7 +109,7 @@ public class AcquisitionsUnitsApi extends BaseApi implements AcquisitionsUnits {
   public void deleteAcquisitionsUnitsUnitsById(String id, Map<String, String> okapiHeaders,
       Handler<AsyncResult<Response>> asyncResultHandler, Context vertxContext) {
 
-    acquisitionsUnitsService.deleteAcquisitionsUnit(id, new RequestContext(vertxContext, okapiHeaders))
+    acquisitionsUnitsService.deleteAcquisitionsUnit(id, new RequestContext(vertxContext, okapiHeaders, getClass().getSimpleName()))
       .onSuccess(ok -> {
         if (logger.isInfoEnabled()) {
           logger.debug("Successfully deleted acquisitions unit with id={}", id);
@@ -124,7 +124,7 @@ public class AcquisitionsUnitsApi extends BaseApi implements AcquisitionsUnits {
   public void postAcquisitionsUnitsMemberships(AcquisitionsUnitMembership entity, Map<String, String> okapiHeaders,
                                                Handler<AsyncResult<Response>> asyncResultHandler, Context vertxContext) {
 
-    acquisitionsUnitsService.createAcquisitionsUnitsMembership(entity, new RequestContext(vertxContext, okapiHeaders))
+    acquisitionsUnitsService.createAcquisitionsUnitsMembership(entity, new RequestContext(vertxContext, okapiHeaders, getClass().getSimpleName()))
       .onSuccess(membership -> {
         if (logger.isInfoEnabled()) {
           logger.debug("Successfully created new acquisitions units membership: {}", JsonObject.mapFrom(membership).encodePrettily());
@@ -139,7 +139,7 @@ public class AcquisitionsUnitsApi extends BaseApi implements AcquisitionsUnits {
   @Validate
   public void getAcquisitionsUnitsMemberships(String query, String totalRecords, int offset, int limit, Map<String, String> okapiHeaders,
                                               Handler<AsyncResult<Response>> asyncResultHandler, Context vertxContext) {
-    acquisitionsUnitsService.getAcquisitionsUnitsMemberships(query, offset, limit, new RequestContext(vertxContext, okapiHeaders))
+    acquisitionsUnitsService.getAcquisitionsUnitsMemberships(query, offset, limit, new RequestContext(vertxContext, okapiHeaders, getClass().getSimpleName()))
       .onSuccess(memberships -> {
         if (logger.isInfoEnabled()) {
           logger.debug("Successfully retrieved acquisitions units memberships: {}", JsonObject.mapFrom(memberships).encodePrettily());
@@ -156,7 +156,7 @@ public class AcquisitionsUnitsApi extends BaseApi implements AcquisitionsUnits {
       addProcessingError(MISMATCH_BETWEEN_ID_IN_PATH_AND_BODY.toError());
       asyncResultHandler.handle(succeededFuture(buildErrorResponse(422)));
     } else {
-      acquisitionsUnitsService.updateAcquisitionsUnitsMembership(entity.withId(id), new RequestContext(vertxContext, okapiHeaders))
+      acquisitionsUnitsService.updateAcquisitionsUnitsMembership(entity.withId(id), new RequestContext(vertxContext, okapiHeaders, getClass().getSimpleName()))
         .onSuccess(membership -> {
           logger.debug("Successfully updated acquisitions units membership with id={}", id);
           asyncResultHandler.handle(succeededFuture(buildNoContentResponse()));
@@ -168,7 +168,7 @@ public class AcquisitionsUnitsApi extends BaseApi implements AcquisitionsUnits {
   @Override
   @Validate
   public void getAcquisitionsUnitsMembershipsById(String id, Map<String, String> okapiHeaders, Handler<AsyncResult<Response>> asyncResultHandler, Context vertxContext) {
-    acquisitionsUnitsService.getAcquisitionsUnitsMembership(id, new RequestContext(vertxContext, okapiHeaders))
+    acquisitionsUnitsService.getAcquisitionsUnitsMembership(id, new RequestContext(vertxContext, okapiHeaders, getClass().getSimpleName()))
       .onSuccess(membership -> {
         if (logger.isInfoEnabled()) {
           logger.debug("Successfully retrieved acquisitions units membership: {}", JsonObject.mapFrom(membership).encodePrettily());
@@ -182,7 +182,7 @@ public class AcquisitionsUnitsApi extends BaseApi implements AcquisitionsUnits {
   @Validate
   public void deleteAcquisitionsUnitsMembershipsById(String id, Map<String, String> okapiHeaders,
                                                      Handler<AsyncResult<Response>> asyncResultHandler, Context vertxContext) {
-   acquisitionsUnitsService.deleteAcquisitionsUnitsMembership(id, new RequestContext(vertxContext, okapiHeaders))
+   acquisitionsUnitsService.deleteAcquisitionsUnitsMembership(id, new RequestContext(vertxContext, okapiHeaders, getClass().getSimpleName()))
       .onSuccess(ok -> {
         if (logger.isInfoEnabled()) {
           logger.debug("Successfully deleted acquisitions units membership with id={}", id);
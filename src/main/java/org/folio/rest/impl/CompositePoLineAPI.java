@@ -21,6 +21,7 @@ import org.folio.orders.utils.FundDistributionUtils;
 import org.folio.rest.annotations.Validate;
 import org.folio.rest.core.exceptions.ErrorCodes;
 import org.folio.rest.core.exceptions.HttpException;
+import org.folio.rest.core.RestClientMetrics;
 import org.folio.rest.core.models.RequestContext;
 import org.folio.rest.jaxrs.model.CompositePoLine;
 import org.folio.rest.jaxrs.model.Cost;
@@ -61,7 +62,7 @@ public class CompositePoLineAPI extends BaseApi implements OrdersOrderLines {
   @Validate
   public void getOrdersOrderLines(String totalRecords, int offset, int limit, String query, Map<String, String> okapiHeaders,
       Handler<AsyncResult<Response>> asyncResultHandler, Context vertxContext) {
-    helper.getOrderLines(limit, offset, query, new RequestContext(vertxContext, okapiHeaders))
+    helper.getOrderLines(limit, offset, query, new RequestContext(vertxContext, okapiHeaders, getClass().getSimpleName()))
       .onSuccess(lines -> asyncResultHandler.handle(succeededFuture(buildOkResponse(lines))))
       .onFailure(t -> handleErrorResponse(asyncResultHandler, t));
   }
@@ -70,9 +71,10 @@ public class CompositePoLineAPI extends BaseApi implements OrdersOrderLines {
   @Validate
   public void postOrdersOrderLines(CompositePoLine poLine, Map<String, String> okapiHeaders,
     Handler<AsyncResult<Response>> asyncResultHandler, Context vertxContext) {
-    RequestContext requestContext = new RequestContext(vertxContext, okapiHeaders);
+    RequestContext requestContext = new RequestContext(vertxContext, okapiHeaders, getClass().getSimpleName());
     configurationEntriesCache.loadConfiguration(ORDER_CONFIG_MODULE_NAME, requestContext)
       .compose(tenantConfig -> helper.createPoLine(poLine, tenantConfig, requestContext))
+      .onComplete(ar -> RestClientMetrics.logRequestSummary(requestContext))
       .onSuccess(pol -> {
         String okapiUrl = okapiHeaders.get(OKAPI_URL);
         String url = resourceByIdPath(PO_LINES_BUSINESS, poLine.getId());
@@ -86,7 +88,7 @@ public class CompositePoLineAPI extends BaseApi implements OrdersOrderLines {
   public void getOrdersOrderLinesById(String lineId, Map<String, String> okapiHeaders,
       Handler<AsyncResult<Response>> asyncResultHandler, Context vertxContext) {
     logger.debug("Started Invocation of POLine Request with id = {}", lineId);
-    helper.getCompositePoLine(lineId, new RequestContext(vertxContext, okapiHeaders))
+    helper.getCompositePoLine(lineId, new RequestContext(vertxContext, okapiHeaders, getClass().getSimpleName()))
       .onSuccess(poLine -> {
         if (logger.isInfoEnabled()) {
           logger.debug("Received PO Line Response: {}", JsonObject.mapFrom(poLine)
@@ -101,7 +103,9 @@ public class CompositePoLineAPI extends BaseApi implements OrdersOrderLines {
   @Validate
   public void deleteOrdersOrderLinesById(String lineId, Map<String, String> okapiHeaders,
       Handler<AsyncResult<Response>> asyncResultHandler, Context vertxContext) {
-    helper.deleteLine(lineId, new RequestContext(vertxContext, okapiHeaders))
+    RequestContext requestContext = new RequestContext(vertxContext, okapiHeaders, getClass().getSimpleName());
+    helper.deleteLine(lineId, requestContext)
+      .onComplete(ar -> RestClientMetrics.logRequestSummary(requestContext))
       .onSuccess(v -> asyncResultHandler.handle(succeededFuture(buildNoContentResponse())))
       .onFailure(t -> handleErrorResponse(asyncResultHandler, t));
   }
@@ -112,7 +116,7 @@ public class CompositePoLineAPI extends BaseApi implements OrdersOrderLines {
       Handler<AsyncResult<Response>> asyncResultHandler, Context vertxContext) {
     logger.debug("Handling PUT Order Line operation...");
     // Set id if this is available only in path
-    RequestContext requestContext = new RequestContext(vertxContext, okapiHeaders);
+    RequestContext requestContext = new RequestContext(vertxContext, okapiHeaders, getClass().getSimpleName());
     if (StringUtils.isEmpty(poLine.getId())) {
       poLine.setId(lineId);
     }
@@ -135,6 +139,7 @@ public class CompositePoLineAPI extends BaseApi implements OrdersOrderLines {
           return;
         }
         helper.updateOrderLine(poLine, requestContext)
+          .onComplete(ar -> RestClientMetrics.logRequestSummary(requestContext))
           .onSuccess(v -> asyncResultHandler.handle(succeededFuture(buildNoContentResponse())))
           .onFailure(t -> handleErrorResponse(asyncResultHandler, t));
       })
@@ -146,9 +151,10 @@ public class CompositePoLineAPI extends BaseApi implements OrdersOrderLines {
   public void patchOrdersOrderLinesById(String lineId,  PatchOrderLineRequest request,
       Map<String, String> okapiHeaders, Handler<AsyncResult<Response>> asyncResultHandler,
       Context vertxContext) {
-    RequestContext requestContext = new RequestContext(vertxContext, okapiHeaders);
+    RequestContext requestContext = new RequestContext(vertxContext, okapiHeaders, getClass().getSimpleName());
 
     orderLinePatchOperationService.patch(lineId, request, requestContext)
+        .onComplete(ar -> RestClientMetrics.logRequestSummary(requestContext))
         .onSuccess(v -> asyncResultHandler.handle(succeededFuture(buildNoContentResponse())))
         .onFailure(t -> handleErrorResponse(asyncResultHandler, t));
   }
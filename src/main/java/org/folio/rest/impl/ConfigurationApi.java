@@ -45,7 +45,7 @@ public class ConfigurationApi extends BaseApi implements OrdersConfiguration {
   @Override
   @Validate
   public void getOrdersConfigurationReasonsForClosure(String query, String totalRecords, int offset, int limit, Map<String, String> okapiHeaders, Handler<AsyncResult<Response>> asyncResultHandler, Context vertxContext) {
-    reasonForClosureService.getReasonsForClosure(query, offset, limit, new RequestContext(vertxContext, okapiHeaders))
+    reasonForClosureService.getReasonsForClosure(query, offset, limit, new RequestContext(vertxContext, okapiHeaders, getClass().getSimpleName()))
       .onSuccess(reasonForClosureCollection -> asyncResultHandler.handle(succeededFuture(buildOkResponse(reasonForClosureCollection))))
       .onFailure(fail -> handleErrorResponse(asyncResultHandler, fail));
   }
@@ -54,7 +54,7 @@ public class ConfigurationApi extends BaseApi implements OrdersConfiguration {
   @Validate
   public void putOrdersConfigurationReasonsForClosureById(String id, ReasonForClosure entity, Map<String, String> okapiHeaders, Handler<AsyncResult<Response>> asyncResultHandler, Context vertxContext) {
 
-    reasonForClosureService.updateReasonForClosure(id, entity, new RequestContext(vertxContext, okapiHeaders))
+    reasonForClosureService.updateReasonForClosure(id, entity, new RequestContext(vertxContext, okapiHeaders, getClass().getSimpleName()))
       .onSuccess(v -> asyncResultHandler.handle(succeededFuture(buildNoContentResponse())))
       .onFailure(fail -> handleErrorResponse(asyncResultHandler, fail));
   }
@@ -62,7 +62,7 @@ public class ConfigurationApi extends BaseApi implements OrdersConfiguration {
   @Override
   @Validate
   public void postOrdersConfigurationReasonsForClosure(ReasonForClosure entity, Map<String, String> okapiHeaders, Handler<AsyncResult<Response>> asyncResultHandler, Context vertxContext) {
-    reasonForClosureService.createReasonForClosure(entity, new RequestContext(vertxContext, okapiHeaders))
+    reasonForClosureService.createReasonForClosure(entity, new RequestContext(vertxContext, okapiHeaders, getClass().getSimpleName()))
       .onSuccess(obj -> asyncResultHandler.handle(succeededFuture(buildResponseWithLocation(okapiHeaders.get(OKAPI_URL), resourceByIdPath(REASONS_FOR_CLOSURE, obj.getId()), obj))))
       .onFailure(fail -> handleErrorResponse(asyncResultHandler, fail));
   }
@@ -70,7 +70,7 @@ public class ConfigurationApi extends BaseApi implements OrdersConfiguration {
   @Override
   @Validate
   public void getOrdersConfigurationReasonsForClosureById(String id, Map<String, String> okapiHeaders, Handler<AsyncResult<Response>> asyncResultHandler, Context vertxContext) {
-    reasonForClosureService.getReasonForClosureById(id, new RequestContext(vertxContext, okapiHeaders))
+    reasonForClosureService.getReasonForClosureById(id, new RequestContext(vertxContext, okapiHeaders, getClass().getSimpleName()))
     .onSuccess(reasonForClosure -> asyncResultHandler.handle(succeededFuture(buildOkResponse(reasonForClosure))))
     .onFailure(fail -> handleErrorResponse(asyncResultHandler, fail));
   }
@@ -78,7 +78,7 @@ public class ConfigurationApi extends BaseApi implements OrdersConfiguration {
   @Override
   @Validate
   public void deleteOrdersConfigurationReasonsForClosureById(String id, Map<String, String> okapiHeaders, Handler<AsyncResult<Response>> asyncResultHandler, Context vertxContext) {
-    reasonForClosureService.deleteReasonForClosure(id, new RequestContext(vertxContext, okapiHeaders))
+    reasonForClosureService.deleteReasonForClosure(id, new RequestContext(vertxContext, okapiHeaders, getClass().getSimpleName()))
       .onSuccess(v -> asyncResultHandler.handle(succeededFuture(buildNoContentResponse())))
       .onFailure(fail -> handleErrorResponse(asyncResultHandler, fail));
   }
@@ -86,7 +86,7 @@ public class ConfigurationApi extends BaseApi implements OrdersConfiguration {
   @Override
   @Validate
   public void getOrdersConfigurationSuffixes(String query, String totalRecords, int offset, int limit, Map<String, String> okapiHeaders, Handler<AsyncResult<Response>> asyncResultHandler, Context vertxContext) {
-    suffixService.getSuffixes(query, offset, limit, new RequestContext(vertxContext, okapiHeaders))
+    suffixService.getSuffixes(query, offset, limit, new RequestContext(vertxContext, okapiHeaders, getClass().getSimpleName()))
     .onSuccess(suffixCollection -> asyncResultHandler.handle(succeededFuture(buildOkResponse(suffixCollection))))
     .onFailure(fail -> handleErrorResponse(asyncResultHandler, fail));
   }
@@ -94,7 +94,7 @@ public class ConfigurationApi extends BaseApi implements OrdersConfiguration {
   @Override
   @Validate
   public void putOrdersConfigurationSuffixesById(String id, Suffix entity, Map<String, String> okapiHeaders, Handler<AsyncResult<Response>> asyncResultHandler, Context vertxContext) {
-    suffixService.updateSuffix(id, entity, new RequestContext(vertxContext, okapiHeaders))
+    suffixService.updateSuffix(id, entity, new RequestContext(vertxContext, okapiHeaders, getClass().getSimpleName()))
       .onSuccess(v -> asyncResultHandler.handle(succeededFuture(buildNoContentResponse())))
       .onFailure(fail -> handleErrorResponse(asyncResultHandler, fail));
   }
@@ -102,7 +102,7 @@ public class ConfigurationApi extends BaseApi implements OrdersConfiguration {
   @Override
   @Validate
   public void postOrdersConfigurationSuffixes(Suffix entity, Map<String, String> okapiHeaders, Handler<AsyncResult<Response>> asyncResultHandler, Context vertxContext) {
-    suffixService.createSuffix(entity, new RequestContext(vertxContext, okapiHeaders))
+    suffixService.createSuffix(entity, new RequestContext(vertxContext, okapiHeaders, getClass().getSimpleName()))
       .onSuccess(suffix -> asyncResultHandler.handle(succeededFuture(buildResponseWithLocation(okapiHeaders.get(OKAPI_URL), resourceByIdPath(SUFFIXES, suffix.getId()), suffix))))
       .onFailure(fail -> handleErrorResponse(asyncResultHandler, fail));
   }
@@ -110,7 +110,7 @@ public class ConfigurationApi extends BaseApi implements OrdersConfiguration {
   @Override
   @Validate
   public void getOrdersConfigurationSuffixesById(String id, Map<String, String> okapiHeaders, Handler<AsyncResult<Response>> asyncResultHandler, Context vertxContext) {
-    suffixService.getSuffixById(id, new RequestContext(vertxContext, okapiHeaders))
+    suffixService.getSuffixById(id, new RequestContext(vertxContext, okapiHeaders, getClass().getSimpleName()))
       .onSuccess(suffix -> asyncResultHandler.handle(succeededFuture(buildOkResponse(suffix))))
       .onFailure(fail -> handleErrorResponse(asyncResultHandler, fail));
   }
@@ -118,7 +118,7 @@ public class ConfigurationApi extends BaseApi implements OrdersConfiguration {
   @Override
   @Validate
   public void deleteOrdersConfigurationSuffixesById(String id, Map<String, String> okapiHeaders, Handler<AsyncResult<Response>> asyncResultHandler, Context vertxContext) {
-    suffixService.deleteSuffix(id, new RequestContext(vertxContext, okapiHeaders))
+    suffixService.deleteSuffix(id, new RequestContext(vertxContext, okapiHeaders, getClass().getSimpleName()))
       .onSuccess(v -> asyncResultHandler.handle(succeededFuture(buildNoContentResponse())))
       .onFailure(fail -> handleErrorResponse(asyncResultHandler, fail));
   }
@@ -126,7 +126,7 @@ public class ConfigurationApi extends BaseApi implements OrdersConfiguration {
   @Override
   @Validate
   public void getOrdersConfigurationPrefixes(String query, String totalRecords, int offset, int limit, Map<String, String> okapiHeaders, Handler<AsyncResult<Response>> asyncResultHandler, Context vertxContext) {
-    prefixService.getPrefixes(query, offset, limit, new RequestContext(vertxContext, okapiHeaders))
+    prefixService.getPrefixes(query, offset, limit, new RequestContext(vertxContext, okapiHeaders, getClass().getSimpleName()))
       .onSuccess(prefixCollection -> asyncResultHandler.handle(succeededFuture(buildOkResponse(prefixCollection))))
       .onFailure(fail -> handleErrorResponse(asyncResultHandler, fail));
   }
@@ -134,7 +134,7 @@ public class ConfigurationApi extends BaseApi implements OrdersConfiguration {
   @Override
   @Validate
   public void putOrdersConfigurationPrefixesById(String id, Prefix entity, Map<String, String> okapiHeaders, Handler<AsyncResult<Response>> asyncResultHandler, Context vertxContext) {
-    prefixService.updatePrefix(id, entity, new RequestContext(vertxContext, okapiHeaders))
+    prefixService.updatePrefix(id, entity, new RequestContext(vertxContext, okapiHeaders, getClass().getSimpleName()))
       .onSuccess(v -> asyncResultHandler.handle(succeededFuture(buildNoContentResponse())))
       .onFailure(fail -> handleErrorResponse(asyncResultHandler, fail));
   }
@@ -142,7 +142,7 @@ public class ConfigurationApi extends BaseApi implements OrdersConfiguration {
   @Override
   @Validate
   public void postOrdersConfigurationPrefixes(Prefix entity, Map<String, String> okapiHeaders, Handler<AsyncResult<Response>> asyncResultHandler, Context vertxContext) {
-    prefixService.createPrefix(entity, new RequestContext(vertxContext, okapiHeaders))
+    prefixService.createPrefix(entity, new RequestContext(vertxContext, okapiHeaders, getClass().getSimpleName()))
       .onSuccess(prefix -> asyncResultHandler.handle(succeededFuture(buildResponseWithLocation(okapiHeaders.get(OKAPI_URL), resourceByIdPath(PREFIXES, prefix.getId()), prefix))))
       .onFailure(fail -> handleErrorResponse(asyncResultHandler, fail));
   }
@@ -150,7 +150,7 @@ public class ConfigurationApi extends BaseApi implements OrdersConfiguration {
   @Override
   @Validate
   public void getOrdersConfigurationPrefixesById(String id, Map<String, String> okapiHeaders, Handler<AsyncResult<Response>> asyncResultHandler, Context vertxContext) {
-    prefixService.getPrefixById(id, new RequestContext(vertxContext, okapiHeaders))
+    prefixService.getPrefixById(id, new RequestContext(vertxContext, okapiHeaders, getClass().getSimpleName()))
       .onSuccess(prefix -> asyncResultHandler.handle(succeededFuture(buildOkResponse(prefix))))
       .onFailure(fail -> handleErrorResponse(asyncResultHandler, fail));
   }
@@ -158,7 +158,7 @@ public class ConfigurationApi extends BaseApi implements OrdersConfiguration {
   @Override
   @Validate
   public void deleteOrdersConfigurationPrefixesById(String id, Map<String, String> okapiHeaders, Handler<AsyncResult<Response>> asyncResultHandler, Context vertxContext) {
-    prefixService.deletePrefix(id, new RequestContext(vertxContext, okapiHeaders))
+    prefixService.deletePrefix(id, new RequestContext(vertxContext, okapiHeaders, getClass().getSimpleName()))
       .onSuccess(v -> asyncResultHandler.handle(succeededFuture(buildNoContentResponse())))
       .onFailure(fail -> handleErrorResponse(asyncResultHandler, fail));
   }
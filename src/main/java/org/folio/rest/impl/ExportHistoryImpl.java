@@ -29,7 +29,7 @@ public class ExportHistoryImpl extends BaseApi implements OrdersExportHistory {
   @Override
   public void getOrdersExportHistory(String totalRecords, int offset, int limit, String query, Map<String, String> okapiHeaders,
       Handler<AsyncResult<Response>> asyncResultHandler, Context vertxContext) {
-    exportHistoryService.getExportHistoryByQuery(query, offset, limit, new RequestContext(vertxContext, okapiHeaders))
+    exportHistoryService.getExportHistoryByQuery(query, offset, limit, new RequestContext(vertxContext, okapiHeaders, getClass().getSimpleName()))
       .onSuccess(exportHistoryCollection -> asyncResultHandler.handle(succeededFuture(buildOkResponse(exportHistoryCollection))))
       .onFailure(fail -> handleErrorResponse(asyncResultHandler, fail));
   }
@@ -37,7 +37,7 @@ public class HoldingsSummaryAPI extends BaseApi implements OrdersHoldingSummary
   public void getOrdersHoldingSummaryById(String holdingId, Map<String, String> okapiHeaders,
       Handler<AsyncResult<Response>> asyncResultHandler, Context vertxContext) {
 
-    var requestContext = new RequestContext(vertxContext, okapiHeaders);
+    var requestContext = new RequestContext(vertxContext, okapiHeaders, getClass().getSimpleName());
 
     holdingsSummaryService.getHoldingsSummary(holdingId, requestContext)
       .onSuccess(holdingSummary -> {
@@ -0,0 +1,57 @@
+package org.folio.rest.impl;
+
+import static org.folio.rest.RestConstants.OKAPI_URL;
+import static org.folio.rest.RestVerticle.OKAPI_HEADER_TENANT;
+
+import java.util.Map;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.folio.dao.ModuleTenantsDao;
+import org.folio.rest.core.models.RequestContext;
+import org.folio.rest.resource.interfaces.PostDeployVerticle;
+import org.folio.service.caches.CacheWarmUpService;
+import org.folio.spring.SpringContextUtil;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+
+import io.vertx.core.AsyncResult;
+import io.vertx.core.Context;
+import io.vertx.core.Future;
+import io.vertx.core.Handler;
+import io.vertx.core.Vertx;
+
+/**
+ * The class starts the cache warm-up of the tenants the module is enabled for, so that a freshly started
+ * module instance does not pay the cost of the cache misses on the first requests of each tenant.
+ * The verticle is started without waiting for the warm-up, the data failed to load is loaded on the first use.
+ */
+public class InitCacheWarmUp implements PostDeployVerticle {
+  private final Logger logger = LogManager.getLogger();
+
+  @Autowired
+  private ModuleTenantsDao moduleTenantsDao;
+  @Autowired
+  private CacheWarmUpService cacheWarmUpService;
+
+  @Value("${OKAPI_URL:http://okapi:9130}")
+  private String okapiUrl;
+
+  public InitCacheWarmUp() {
+    SpringContextUtil.autowireDependencies(this, Vertx.currentContext());
+  }
+
+  @Override
+  public void init(Vertx vertx, Context context, Handler<AsyncResult<Boolean>> resultHandler) {
+    moduleTenantsDao.getModuleTenants()
+      .map(tenantIds -> tenantIds.stream()
+        .map(tenantId -> new RequestContext(context, Map.of(OKAPI_HEADER_TENANT, tenantId, OKAPI_URL, okapiUrl)))
+        .toList())
+      .compose(requestContexts -> {
+        logger.info("init:: Starting cache warm-up of {} tenants", requestContexts.size());
+        return cacheWarmUpService.warmUp(requestContexts);
+      })
+      .onFailure(t -> logger.warn("init:: Failed to start cache warm-up of the enabled tenants", t));
+    resultHandler.handle(Future.succeededFuture(true));
+  }
+}
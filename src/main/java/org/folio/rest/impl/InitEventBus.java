@@ -38,6 +38,10 @@ public class InitEventBus implements PostDeployVerticle {
   @Qualifier("receiptStatusHandler")
   Handler<Message<JsonObject>> receiptStatusHandler;
 
+  @Autowired
+  @Qualifier("cacheInvalidationHandler")
+  Handler<Message<JsonObject>> cacheInvalidationHandler;
+
   public InitEventBus() {
     SpringContextUtil.autowireDependencies(this, Vertx.currentContext());
   }
@@ -51,18 +55,24 @@ public class InitEventBus implements PostDeployVerticle {
       Promise<Void> orderStatusRegistrationHandler = Promise.promise();
       Promise<Void> checkInOrderStatusRegistrationHandler = Promise.promise();
       Promise<Void> receiptStatusConsistencyHandler = Promise.promise();
+      Promise<Void> cacheInvalidationRegistrationHandler = Promise.promise();
 
       MessageConsumer<JsonObject> orderStatusConsumer = eb.localConsumer(MessageAddress.RECEIVE_ORDER_STATUS_UPDATE.address);
       MessageConsumer<JsonObject> checkInOrderStatusChangeConsumer = eb.localConsumer(MessageAddress.CHECKIN_ORDER_STATUS_UPDATE.address);
       MessageConsumer<JsonObject> receiptStatusConsumer = eb.localConsumer(MessageAddress.RECEIPT_STATUS.address);
+      // Not local: the invalidation published by any module instance must reach the caches of all instances of the cluster
+      MessageConsumer<JsonObject> cacheInvalidationConsumer = eb.consumer(MessageAddress.CACHE_INVALIDATION.address);
       orderStatusConsumer.handler(receiveOrderStatusChangeHandler)
         .completionHandler(orderStatusRegistrationHandler);
       checkInOrderStatusChangeConsumer.handler(checkInOrderStatusChangeHandler)
         .completionHandler(checkInOrderStatusRegistrationHandler);
       receiptStatusConsumer.handler(receiptStatusHandler)
         .completionHandler(receiptStatusConsistencyHandler);
+      cacheInvalidationConsumer.handler(cacheInvalidationHandler)
+        .completionHandler(cacheInvalidationRegistrationHandler);
 
-      CompositeFuture.join(orderStatusRegistrationHandler.future(), receiptStatusConsistencyHandler.future(), checkInOrderStatusRegistrationHandler.future())
+      CompositeFuture.join(orderStatusRegistrationHandler.future(), receiptStatusConsistencyHandler.future(), checkInOrderStatusRegistrationHandler.future(),
+          cacheInvalidationRegistrationHandler.future())
         .onComplete(result -> {
           if (result.succeeded()) {
             blockingCodeFuture.complete();
@@ -0,0 +1,56 @@
+package org.folio.rest.impl;
+
+import static io.vertx.core.Future.succeededFuture;
+import static javax.ws.rs.core.HttpHeaders.CONTENT_TYPE;
+import static javax.ws.rs.core.MediaType.APPLICATION_JSON;
+
+import java.util.Map;
+
+import javax.ws.rs.core.Response;
+
+import org.folio.service.caches.CacheWarmUpService;
+import org.folio.service.caches.CacheWarmUpService.WarmUpStatus;
+import org.folio.spring.SpringContextUtil;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import io.vertx.core.AsyncResult;
+import io.vertx.core.Context;
+import io.vertx.core.Handler;
+import io.vertx.core.Vertx;
+import io.vertx.core.json.JsonObject;
+
+/**
+ * Reports the module instance as not ready while the cache warm-up of any tenant is in progress,
+ * the response lists the warm-up statuses of the tenants. Otherwise the health check of RMB is used.
+ */
+public class ModAdminApi extends AdminAPI {
+
+  private static final String STATUS = "status";
+  private static final String CACHE_WARM_UP = "cacheWarmUp";
+
+  @Autowired
+  private CacheWarmUpService cacheWarmUpService;
+
+  public ModAdminApi() {
+    SpringContextUtil.autowireDependencies(this, Vertx.currentContext());
+  }
+
+  @Override
+  public void getAdminHealth(Map<String, String> okapiHeaders, Handler<AsyncResult<Response>> asyncResultHandler,
+                             Context vertxContext) {
+    Map<String, WarmUpStatus> statuses = cacheWarmUpService.getStatuses();
+    if (!statuses.containsValue(WarmUpStatus.IN_PROGRESS)) {
+      super.getAdminHealth(okapiHeaders, asyncResultHandler, vertxContext);
+      return;
+    }
+    JsonObject warmUpStatuses = new JsonObject();
+    statuses.forEach((tenantId, status) -> warmUpStatuses.put(tenantId, status.name()));
+    JsonObject health = new JsonObject()
+      .put(STATUS, WarmUpStatus.IN_PROGRESS.name())
+      .put(CACHE_WARM_UP, warmUpStatuses);
+    asyncResultHandler.handle(succeededFuture(Response.status(503)
+      .header(CONTENT_TYPE, APPLICATION_JSON)
+      .entity(health.encode())
+      .build()));
+  }
+}
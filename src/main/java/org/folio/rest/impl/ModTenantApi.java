@@ -10,8 +10,13 @@ import io.vertx.core.Vertx;
 import java.util.Map;
 import javax.ws.rs.core.Response;
 import org.folio.kafka.services.KafkaAdminClientService;
+import org.folio.orders.events.handlers.CacheInvalidationHandler;
+import org.folio.rest.core.models.RequestContext;
 import org.folio.rest.jaxrs.model.TenantAttributes;
 import org.folio.service.OrdersKafkaTopicService;
+import org.folio.service.caches.CacheInvalidationPublisher;
+import org.folio.service.caches.CacheInvalidationPublisher.CachedData;
+import org.folio.service.caches.CacheWarmUpService;
 import org.folio.spring.SpringContextUtil;
 import org.springframework.beans.factory.annotation.Autowired;
 
@@ -19,6 +24,12 @@ public class ModTenantApi extends TenantAPI {
 
   @Autowired
   private OrdersKafkaTopicService ordersKafkaTopicService;
+  @Autowired
+  private CacheInvalidationHandler cacheInvalidationHandler;
+  @Autowired
+  private CacheInvalidationPublisher cacheInvalidationPublisher;
+  @Autowired
+  private CacheWarmUpService cacheWarmUpService;
 
   public ModTenantApi() {
     SpringContextUtil.autowireDependencies(this, Vertx.currentContext());
@@ -33,6 +44,15 @@ public class ModTenantApi extends TenantAPI {
           var tenantId = tenantId(headers);
           var kafkaAdminClientService = new KafkaAdminClientService(vertx);
           kafkaAdminClientService.createKafkaTopics(ordersKafkaTopicService.createTopicObjects(), tenantId);
+          // reference data and settings may be changed by the tenant upgrade; the caches of this instance are invalidated
+          // synchronously, so that the invalidation does not evict the data loaded by the warm-up
+          var requestContext = new RequestContext(context, headers);
+          for (CachedData cachedData : CachedData.values()) {
+            cacheInvalidationHandler.invalidate(cachedData, tenantId);
+            cacheInvalidationPublisher.publishToOtherInstances(cachedData, requestContext);
+          }
+          // the tenant is enabled without waiting for the warm-up, the data failed to load is loaded on the first use
+          cacheWarmUpService.warmUp(requestContext);
           handler.handle(Future.succeededFuture(ar.result()));
         } else {
           handler.handle(Future.failedFuture(ar.cause()));
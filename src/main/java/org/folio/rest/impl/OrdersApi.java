@@ -4,18 +4,27 @@ import static io.vertx.core.Future.succeededFuture;
 import static org.folio.orders.utils.ResourcePathResolver.ORDERS_BUSINESS;
 import static org.folio.orders.utils.ResourcePathResolver.resourceByIdPath;
 import static org.folio.rest.RestConstants.OKAPI_URL;
+import static org.folio.rest.core.exceptions.ErrorCodes.ORDERS_RE_ENCUMBER_FAILED;
 
+import java.util.List;
 import java.util.Map;
 
 import javax.ws.rs.core.Response;
 
 import org.folio.helper.PurchaseOrderHelper;
+import org.folio.rest.acq.model.OrderInvoiceRelationshipCollection;
 import org.folio.rest.annotations.Validate;
+import org.folio.rest.core.RestClientMetrics;
+import org.folio.rest.core.exceptions.HttpException;
+import org.folio.rest.core.models.DownstreamCallStats;
 import org.folio.rest.core.models.RequestContext;
+import org.folio.rest.core.models.RequestEntityCache;
 import org.folio.rest.jaxrs.model.CompositePurchaseOrder;
 import org.folio.rest.jaxrs.model.LedgerFiscalYearRollover;
+import org.folio.rest.jaxrs.model.Parameter;
 import org.folio.rest.jaxrs.resource.OrdersCompositeOrders;
 import org.folio.rest.jaxrs.resource.OrdersRollover;
+import org.folio.service.finance.transaction.OrderEncumbrancesSnapshot;
 import org.folio.service.orders.OrderReEncumberService;
 import org.folio.service.orders.OrderRolloverService;
 import org.folio.spring.SpringContextUtil;
@@ -44,7 +53,9 @@ public class OrdersApi extends BaseApi implements OrdersCompositeOrders, OrdersR
   public void deleteOrdersCompositeOrdersById(String id, Map<String, String> okapiHeaders,
       Handler<AsyncResult<Response>> asyncResultHandler, Context vertxContext) {
 
-    purchaseOrderHelper.deleteOrder(id, new RequestContext(vertxContext, okapiHeaders))
+    RequestContext requestContext = new RequestContext(vertxContext, okapiHeaders, getClass().getSimpleName());
+    purchaseOrderHelper.deleteOrder(id, requestContext)
+      .onComplete(ar -> RestClientMetrics.logRequestSummary(requestContext))
       .onSuccess(v -> asyncResultHandler.handle(succeededFuture(buildNoContentResponse())))
       .onFailure(t -> handleErrorResponse(asyncResultHandler, t));
   }
@@ -54,7 +65,7 @@ public class OrdersApi extends BaseApi implements OrdersCompositeOrders, OrdersR
   public void getOrdersCompositeOrdersById(String id, Map<String, String> okapiHeaders,
       Handler<AsyncResult<Response>> asyncResultHandler, Context vertxContext) {
 
-    purchaseOrderHelper.getCompositeOrder(id, new RequestContext(vertxContext, okapiHeaders))
+    purchaseOrderHelper.getCompositeOrder(id, new RequestContext(vertxContext, okapiHeaders, getClass().getSimpleName()))
       .onSuccess(order -> asyncResultHandler.handle(succeededFuture(buildOkResponse(order))))
       .onFailure(t -> handleErrorResponse(asyncResultHandler, t));
   }
@@ -63,8 +74,9 @@ public class OrdersApi extends BaseApi implements OrdersCompositeOrders, OrdersR
   @Validate
   public void postOrdersCompositeOrders(CompositePurchaseOrder compPO, Map<String, String> okapiHeaders,
       Handler<AsyncResult<Response>> asyncResultHandler, Context vertxContext) {
-    RequestContext requestContext = new RequestContext(vertxContext, okapiHeaders);
+    RequestContext requestContext = new RequestContext(vertxContext, okapiHeaders, getClass().getSimpleName());
     purchaseOrderHelper.postCompositeOrder(compPO, requestContext)
+      .onComplete(ar -> RestClientMetrics.logRequestSummary(requestContext))
       .onSuccess(createdOrder -> {
         String okapiUrl = okapiHeaders.get(OKAPI_URL);
         String url = resourceByIdPath(ORDERS_BUSINESS, compPO.getId());
@@ -77,8 +89,12 @@ public class OrdersApi extends BaseApi implements OrdersCompositeOrders, OrdersR
   @Validate
   public void putOrdersCompositeOrdersById(String orderId, boolean deleteHoldings, CompositePurchaseOrder compPO,
       Map<String, String> okapiHeaders, Handler<AsyncResult<Response>> asyncResultHandler, Context vertxContext) {
-    RequestContext requestContext = new RequestContext(vertxContext, okapiHeaders);
+    // The workflow strategies of the update share the encumbrances and invoice relations of the order retrieved once
+    RequestContext requestContext = new RequestContext(vertxContext, okapiHeaders,
+      RequestEntityCache.forTypes(OrderEncumbrancesSnapshot.class, OrderInvoiceRelationshipCollection.class),
+      new DownstreamCallStats(getClass().getSimpleName()));
     purchaseOrderHelper.putCompositeOrderById(orderId, deleteHoldings, compPO, requestContext)
+      .onComplete(ar -> RestClientMetrics.logRequestSummary(requestContext))
       .onSuccess(v -> asyncResultHandler.handle(succeededFuture(buildNoContentResponse())))
       .onFailure(t -> handleErrorResponse(asyncResultHandler, t));
   }
@@ -89,7 +105,7 @@ public class OrdersApi extends BaseApi implements OrdersCompositeOrders, OrdersR
       Map<String, String> okapiHeaders, Handler<AsyncResult<Response>> asyncResultHandler, Context vertxContext) {
 
     purchaseOrderHelper
-      .getPurchaseOrders(limit, offset, query, new RequestContext(vertxContext, okapiHeaders))
+      .getPurchaseOrders(limit, offset, query, new RequestContext(vertxContext, okapiHeaders, getClass().getSimpleName()))
       .onSuccess(orders -> asyncResultHandler.handle(succeededFuture(buildOkResponse(orders))))
       .onFailure(t -> handleErrorResponse(asyncResultHandler, t));
   }
@@ -97,7 +113,29 @@ public class OrdersApi extends BaseApi implements OrdersCompositeOrders, OrdersR
   @Override
   @Validate
   public void postOrdersCompositeOrdersReEncumberById(String id, Map<String, String> okapiHeaders, Handler<AsyncResult<Response>> asyncResultHandler, Context vertxContext) {
-    orderReEncumberService.reEncumber(id, new RequestContext(vertxContext, okapiHeaders))
+    RequestContext requestContext = new RequestContext(vertxContext, okapiHeaders, getClass().getSimpleName());
+    orderReEncumberService.reEncumber(id, requestContext)
+      .onComplete(ar -> RestClientMetrics.logRequestSummary(requestContext))
+      .onSuccess(v -> asyncResultHandler.handle(succeededFuture(buildNoContentResponse())))
+      .onFailure(fail -> handleErrorResponse(asyncResultHandler, fail));
+  }
+
+  @Override
+  @Validate
+  public void postOrdersCompositeOrdersReEncumber(String ledgerRolloverId, Map<String, String> okapiHeaders,
+      Handler<AsyncResult<Response>> asyncResultHandler, Context vertxContext) {
+    RequestContext requestContext = new RequestContext(vertxContext, okapiHeaders, getClass().getSimpleName());
+    orderReEncumberService.reEncumberRolloverOrders(ledgerRolloverId, requestContext)
+      .map(failures -> {
+        if (!failures.isEmpty()) {
+          List<Parameter> parameters = failures.entrySet().stream()
+            .map(failure -> new Parameter().withKey(failure.getKey()).withValue(failure.getValue().getMessage()))
+            .toList();
+          throw new HttpException(422, ORDERS_RE_ENCUMBER_FAILED, parameters);
+        }
+        return null;
+      })
+      .onComplete(ar -> RestClientMetrics.logRequestSummary(requestContext))
       .onSuccess(v -> asyncResultHandler.handle(succeededFuture(buildNoContentResponse())))
       .onFailure(fail -> handleErrorResponse(asyncResultHandler, fail));
   }
@@ -105,7 +143,7 @@ public class OrdersApi extends BaseApi implements OrdersCompositeOrders, OrdersR
   @Override
   @Validate
   public void postOrdersRollover(LedgerFiscalYearRollover ledgerFYRollover, Map<String, String> okapiHeaders, Handler<AsyncResult<Response>> asyncResultHandler, Context vertxContext) {
-    orderRolloverService.rollover(ledgerFYRollover, new RequestContext(vertxContext, okapiHeaders))
+    orderRolloverService.rollover(ledgerFYRollover, new RequestContext(vertxContext, okapiHeaders, getClass().getSimpleName()))
       .onSuccess(v -> asyncResultHandler.handle(succeededFuture(buildNoContentResponse())))
       .onFailure(fail -> handleErrorResponse(asyncResultHandler, fail));
   }
@@ -11,6 +11,7 @@ import org.apache.commons.lang3.StringUtils;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.folio.rest.annotations.Validate;
+import org.folio.rest.core.RestClientMetrics;
 import org.folio.rest.core.models.RequestContext;
 import org.folio.rest.jaxrs.model.Piece;
 import org.folio.rest.jaxrs.resource.OrdersPieces;
@@ -51,7 +52,7 @@ public class PiecesAPI extends BaseApi implements OrdersPieces, OrdersPiecesRequ
   @Validate
   public void getOrdersPieces(String totalRecords, int offset, int limit, String query, Map<String, String> okapiHeaders,
                               Handler<AsyncResult<Response>> asyncResultHandler, Context vertxContext) {
-    pieceStorageService.getPieces(limit, offset, query, new RequestContext(vertxContext, okapiHeaders))
+    pieceStorageService.getPieces(limit, offset, query, new RequestContext(vertxContext, okapiHeaders, getClass().getSimpleName()))
       .onSuccess(pieces -> asyncResultHandler.handle(succeededFuture(buildOkResponse(pieces))))
       .onFailure(fail -> handleErrorResponse(asyncResultHandler, fail));
   }
@@ -60,7 +61,9 @@ public class PiecesAPI extends BaseApi implements OrdersPieces, OrdersPiecesRequ
   @Validate
   public void postOrdersPieces(boolean createItem, Piece entity, Map<String, String> okapiHeaders,
                                Handler<AsyncResult<Response>> asyncResultHandler, Context vertxContext) {
-    pieceCreateFlowManager.createPiece(entity, createItem, new RequestContext(vertxContext, okapiHeaders))
+    RequestContext requestContext = new RequestContext(vertxContext, okapiHeaders, getClass().getSimpleName());
+    pieceCreateFlowManager.createPiece(entity, createItem, requestContext)
+      .onComplete(ar -> RestClientMetrics.logRequestSummary(requestContext))
       .onSuccess(piece -> {
         if (logger.isInfoEnabled()) {
           logger.debug("Successfully created piece: {}", JsonObject.mapFrom(piece)
@@ -75,7 +78,7 @@ public class PiecesAPI extends BaseApi implements OrdersPieces, OrdersPiecesRequ
   @Validate
   public void getOrdersPiecesById(String id, Map<String, String> okapiHeaders,
                                   Handler<AsyncResult<Response>> asyncResultHandler, Context vertxContext) {
-    pieceStorageService.getPieceById(id, new RequestContext(vertxContext, okapiHeaders))
+    pieceStorageService.getPieceById(id, new RequestContext(vertxContext, okapiHeaders, getClass().getSimpleName()))
       .onSuccess(piece -> asyncResultHandler.handle(succeededFuture(buildOkResponse(piece))))
       .onFailure(fail -> handleErrorResponse(asyncResultHandler, fail));
   }
@@ -88,7 +91,9 @@ public class PiecesAPI extends BaseApi implements OrdersPieces, OrdersPiecesRequ
       piece.setId(pieceId);
     }
 
-    pieceUpdateFlowManager.updatePiece(piece, createItem, deleteHolding, new RequestContext(vertxContext, okapiHeaders))
+    RequestContext requestContext = new RequestContext(vertxContext, okapiHeaders, getClass().getSimpleName());
+    pieceUpdateFlowManager.updatePiece(piece, createItem, deleteHolding, requestContext)
+      .onComplete(ar -> RestClientMetrics.logRequestSummary(requestContext))
       .onSuccess(v -> asyncResultHandler.handle(succeededFuture(buildNoContentResponse())))
       .onFailure(t -> handleErrorResponse(asyncResultHandler, t));
   }
@@ -97,7 +102,9 @@ public class PiecesAPI extends BaseApi implements OrdersPieces, OrdersPiecesRequ
   @Validate
   public void deleteOrdersPiecesById(String pieceId, boolean deleteHolding, Map<String, String> okapiHeaders,
                                      Handler<AsyncResult<Response>> asyncResultHandler, Context vertxContext) {
-    pieceDeleteFlowManager.deletePiece(pieceId, deleteHolding, new RequestContext(vertxContext, okapiHeaders))
+    RequestContext requestContext = new RequestContext(vertxContext, okapiHeaders, getClass().getSimpleName());
+    pieceDeleteFlowManager.deletePiece(pieceId, deleteHolding, requestContext)
+      .onComplete(ar -> RestClientMetrics.logRequestSummary(requestContext))
       .onSuccess(ok -> asyncResultHandler.handle(succeededFuture(buildNoContentResponse())))
       .onFailure(fail -> handleErrorResponse(asyncResultHandler, fail));
   }
@@ -105,7 +112,7 @@ public class PiecesAPI extends BaseApi implements OrdersPieces, OrdersPiecesRequ
   @Override
   public void getOrdersPiecesRequests(List<String> pieceIds, String status, Map<String, String> okapiHeaders,
                                                  Handler<AsyncResult<Response>> asyncResultHandler, Context vertxContext) {
-    circulationRequestsRetriever.getRequesterIdsToRequestsByPieceIds(pieceIds, status, new RequestContext(vertxContext, okapiHeaders))
+    circulationRequestsRetriever.getRequesterIdsToRequestsByPieceIds(pieceIds, status, new RequestContext(vertxContext, okapiHeaders, getClass().getSimpleName()))
       .onSuccess(requests -> asyncResultHandler.handle(succeededFuture(buildOkResponse(requests))))
       .onFailure(fail -> handleErrorResponse(asyncResultHandler, fail));
   }
@@ -37,7 +37,7 @@ public class PoNumberAPI extends BaseApi implements OrdersPoNumber {
       Context vertxContext) {
     logger.debug("Receiving generated poNumber ...");
 
-    poNumberHelper.getPoNumber(new RequestContext(vertxContext, okapiHeaders))
+    poNumberHelper.getPoNumber(new RequestContext(vertxContext, okapiHeaders, getClass().getSimpleName()))
       .onSuccess(result -> asyncResultHandler.handle(succeededFuture(buildOkResponse(result))))
       .onFailure(t -> handleErrorResponse(asyncResultHandler, t));
   }
@@ -49,7 +49,7 @@ public class PoNumberAPI extends BaseApi implements OrdersPoNumber {
 
     // @Validate asserts the pattern of a PO Number, the below method is used to
     // check for uniqueness
-    poNumberHelper.checkPONumberUnique(poNumber, new RequestContext(vertxContext, okapiHeaders))
+    poNumberHelper.checkPONumberUnique(poNumber, new RequestContext(vertxContext, okapiHeaders, getClass().getSimpleName()))
       .onSuccess(result -> asyncResultHandler.handle(succeededFuture(buildNoContentResponse())))
       .onFailure(t -> handleErrorResponse(asyncResultHandler, t));
   }
@@ -18,7 +18,10 @@ import org.folio.helper.ReceivingHelper;
 import org.folio.rest.RestConstants;
 import org.folio.rest.annotations.Validate;
 import org.folio.rest.core.exceptions.HttpException;
+import org.folio.rest.core.RestClientMetrics;
+import org.folio.rest.core.models.DownstreamCallStats;
 import org.folio.rest.core.models.RequestContext;
+import org.folio.rest.core.models.RequestEntityCache;
 import org.folio.rest.jaxrs.model.BindPiecesCollection;
 import org.folio.rest.jaxrs.model.CheckinCollection;
 import org.folio.rest.jaxrs.model.ExpectCollection;
@@ -44,7 +47,9 @@ public class ReceivingAPI implements OrdersReceive, OrdersCheckIn, OrdersExpect,
       Handler<AsyncResult<Response>> asyncResultHandler, Context vertxContext) {
     logger.debug("Receiving {} items", entity.getTotalRecords());
     ReceivingHelper helper = new ReceivingHelper(entity, okapiHeaders, vertxContext);
-    helper.receiveItems(entity, new RequestContext(vertxContext, okapiHeaders))
+    RequestContext requestContext = new RequestContext(vertxContext, okapiHeaders, new RequestEntityCache(), new DownstreamCallStats(getClass().getSimpleName()));
+    helper.receiveItems(entity, requestContext)
+      .onComplete(ar -> RestClientMetrics.logRequestSummary(requestContext))
       .onSuccess(result -> asyncResultHandler.handle(succeededFuture(helper.buildOkResponse(result))))
       .onFailure(t -> handleErrorResponse(asyncResultHandler, helper, t));
   }
@@ -55,7 +60,9 @@ public class ReceivingAPI implements OrdersReceive, OrdersCheckIn, OrdersExpect,
       Handler<AsyncResult<Response>> asyncResultHandler, Context vertxContext) {
     logger.debug("Checkin {} items", entity.getTotalRecords());
     CheckinHelper helper = new CheckinHelper(entity, okapiHeaders, vertxContext);
-    helper.checkinPieces(entity, new RequestContext(vertxContext, okapiHeaders))
+    RequestContext requestContext = new RequestContext(vertxContext, okapiHeaders, new RequestEntityCache(), new DownstreamCallStats(getClass().getSimpleName()));
+    helper.checkinPieces(entity, requestContext)
+      .onComplete(ar -> RestClientMetrics.logRequestSummary(requestContext))
       .onSuccess(result -> asyncResultHandler.handle(succeededFuture(helper.buildOkResponse(result))))
       .onFailure(t -> handleErrorResponse(asyncResultHandler, helper, t));
   }
@@ -64,7 +71,9 @@ public class ReceivingAPI implements OrdersReceive, OrdersCheckIn, OrdersExpect,
   public void postOrdersExpect(ExpectCollection entity, Map<String, String> okapiHeaders, Handler<AsyncResult<Response>> asyncResultHandler, Context vertxContext) {
     logger.debug("Expect {} pieces", entity.getTotalRecords());
     ExpectHelper helper = new ExpectHelper(entity, okapiHeaders, vertxContext);
-    helper.expectPieces(entity, new RequestContext(vertxContext, okapiHeaders))
+    RequestContext requestContext = new RequestContext(vertxContext, okapiHeaders, new RequestEntityCache(), new DownstreamCallStats(getClass().getSimpleName()));
+    helper.expectPieces(entity, requestContext)
+      .onComplete(ar -> RestClientMetrics.logRequestSummary(requestContext))
       .onSuccess(result -> asyncResultHandler.handle(succeededFuture(helper.buildOkResponse(result))))
       .onFailure(t -> handleErrorResponse(asyncResultHandler, helper, t));
   }
@@ -74,7 +83,9 @@ public class ReceivingAPI implements OrdersReceive, OrdersCheckIn, OrdersExpect,
     logger.debug("Bind {} pieces", entity.getBindPieceIds());
     validateRequiredFields(entity);
     BindHelper helper = new BindHelper(entity, okapiHeaders, vertxContext);
-    helper.bindPieces(entity, new RequestContext(vertxContext, okapiHeaders))
+    RequestContext requestContext = new RequestContext(vertxContext, okapiHeaders, getClass().getSimpleName());
+    helper.bindPieces(entity, requestContext)
+      .onComplete(ar -> RestClientMetrics.logRequestSummary(requestContext))
       .onSuccess(result -> asyncResultHandler.handle(succeededFuture(helper.buildOkResponse(result))))
       .onFailure(t -> handleErrorResponse(asyncResultHandler, helper, t));
   }
@@ -83,7 +94,7 @@ public class ReceivingAPI implements OrdersReceive, OrdersCheckIn, OrdersExpect,
   public void deleteOrdersBindPiecesById(String id, Map<String, String> okapiHeaders, Handler<AsyncResult<Response>> asyncResultHandler, Context vertxContext) {
     logger.debug("Removing binding for piece: {}", id);
     BindHelper helper = new BindHelper(okapiHeaders, vertxContext);
-    helper.removeBinding(id, new RequestContext(vertxContext, okapiHeaders))
+    helper.removeBinding(id, new RequestContext(vertxContext, okapiHeaders, getClass().getSimpleName()))
       .onSuccess(s -> asyncResultHandler.handle(succeededFuture(helper.buildNoContentResponse())))
       .onFailure(t -> handleErrorResponse(asyncResultHandler, helper, t));
   }
@@ -95,7 +106,7 @@ public class ReceivingAPI implements OrdersReceive, OrdersCheckIn, OrdersExpect,
 
     ReceivingHelper helper = new ReceivingHelper(okapiHeaders, vertxContext);
 
-    helper.getReceivingHistory(limit, offset, query, new RequestContext(vertxContext, okapiHeaders))
+    helper.getReceivingHistory(limit, offset, query, new RequestContext(vertxContext, okapiHeaders, getClass().getSimpleName()))
       .onSuccess(receivingHistory -> {
         if (logger.isInfoEnabled()) {
           logger.debug("Successfully retrieved receiving history: {} ", JsonObject.mapFrom(receivingHistory).encodePrettily());
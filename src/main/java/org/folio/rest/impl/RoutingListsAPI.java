@@ -35,7 +35,7 @@ public class RoutingListsAPI extends BaseApi implements OrdersRoutingLists {
   @Override
   @Validate
   public void getOrdersRoutingLists(String query, String totalRecords, int offset, int limit, Map<String, String> okapiHeaders, Handler<AsyncResult<Response>> asyncResultHandler, Context vertxContext) {
-    routingListService.getRoutingLists(limit, offset, query, new RequestContext(vertxContext, okapiHeaders))
+    routingListService.getRoutingLists(limit, offset, query, new RequestContext(vertxContext, okapiHeaders, getClass().getSimpleName()))
       .onSuccess(lists -> asyncResultHandler.handle(succeededFuture(buildOkResponse(lists))))
       .onFailure(fail -> handleErrorResponse(asyncResultHandler, fail));
   }
@@ -43,7 +43,7 @@ public class RoutingListsAPI extends BaseApi implements OrdersRoutingLists {
   @Override
   @Validate
   public void postOrdersRoutingLists(RoutingList entity, Map<String, String> okapiHeaders, Handler<AsyncResult<Response>> asyncResultHandler, Context vertxContext) {
-    routingListService.createRoutingList(entity, new RequestContext(vertxContext, okapiHeaders))
+    routingListService.createRoutingList(entity, new RequestContext(vertxContext, okapiHeaders, getClass().getSimpleName()))
       .onSuccess(list -> asyncResultHandler.handle(succeededFuture(buildOkResponse(list))))
       .onFailure(fail -> handlePostPutErrorResponse(asyncResultHandler, fail));
   }
@@ -51,7 +51,7 @@ public class RoutingListsAPI extends BaseApi implements OrdersRoutingLists {
   @Override
   @Validate
   public void getOrdersRoutingListsById(String id, Map<String, String> okapiHeaders, Handler<AsyncResult<Response>> asyncResultHandler, Context vertxContext) {
-    routingListService.getRoutingList(id, new RequestContext(vertxContext, okapiHeaders))
+    routingListService.getRoutingList(id, new RequestContext(vertxContext, okapiHeaders, getClass().getSimpleName()))
       .onSuccess(list -> asyncResultHandler.handle(succeededFuture(buildOkResponse(list))))
       .onFailure(fail -> handleErrorResponse(asyncResultHandler, fail));
   }
@@ -59,7 +59,7 @@ public class RoutingListsAPI extends BaseApi implements OrdersRoutingLists {
   @Override
   @Validate
   public void deleteOrdersRoutingListsById(String id, Map<String, String> okapiHeaders, Handler<AsyncResult<Response>> asyncResultHandler, Context vertxContext) {
-    routingListService.deleteRoutingList(id, new RequestContext(vertxContext, okapiHeaders))
+    routingListService.deleteRoutingList(id, new RequestContext(vertxContext, okapiHeaders, getClass().getSimpleName()))
       .onSuccess(list -> asyncResultHandler.handle(succeededFuture(buildNoContentResponse())))
       .onFailure(fail -> handleErrorResponse(asyncResultHandler, fail));
 
@@ -68,7 +68,7 @@ public class RoutingListsAPI extends BaseApi implements OrdersRoutingLists {
   @Override
   @Validate
   public void putOrdersRoutingListsById(String id, RoutingList entity, Map<String, String> okapiHeaders, Handler<AsyncResult<Response>> asyncResultHandler, Context vertxContext) {
-    routingListService.updateRoutingList(entity, new RequestContext(vertxContext, okapiHeaders))
+    routingListService.updateRoutingList(entity, new RequestContext(vertxContext, okapiHeaders, getClass().getSimpleName()))
       .onSuccess(list -> asyncResultHandler.handle(succeededFuture(buildNoContentResponse())))
       .onFailure(fail -> handlePostPutErrorResponse(asyncResultHandler, fail));
   }
@@ -76,7 +76,7 @@ public class RoutingListsAPI extends BaseApi implements OrdersRoutingLists {
   @Override
   public void getOrdersRoutingListsTemplateById(String id, Map<String, String> okapiHeaders,
                                                 Handler<AsyncResult<Response>> asyncResultHandler, Context vertxContext) {
-    routingListService.processTemplateRequest(id, new RequestContext(vertxContext, okapiHeaders))
+    routingListService.processTemplateRequest(id, new RequestContext(vertxContext, okapiHeaders, getClass().getSimpleName()))
       .onSuccess(jsonObject -> asyncResultHandler.handle(succeededFuture(this.buildOkResponse(jsonObject))))
       .onFailure(t -> handleErrorResponse(asyncResultHandler, t));
   }
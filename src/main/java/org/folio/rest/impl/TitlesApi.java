@@ -44,7 +44,7 @@ public class TitlesApi extends BaseApi implements OrdersTitles {
   public void getOrdersTitles(String query, String totalRecords, int offset, int limit, Map<String, String> okapiHeaders,
       Handler<AsyncResult<Response>> asyncResultHandler, Context vertxContext) {
 
-    titlesService.getTitles(limit, offset, query, new RequestContext(vertxContext, okapiHeaders))
+    titlesService.getTitles(limit, offset, query, new RequestContext(vertxContext, okapiHeaders, getClass().getSimpleName()))
       .onSuccess(titles -> asyncResultHandler.handle(succeededFuture(buildOkResponse(titles))))
       .onFailure(fail -> handleErrorResponse(asyncResultHandler, fail));
   }
@@ -59,7 +59,7 @@ public class TitlesApi extends BaseApi implements OrdersTitles {
       asyncResultHandler.handle(succeededFuture(buildErrorResponse(422)));
       return;
     }
-    titlesService.createTitle(entity, new RequestContext(vertxContext, okapiHeaders))
+    titlesService.createTitle(entity, new RequestContext(vertxContext, okapiHeaders, getClass().getSimpleName()))
       .onSuccess(title -> asyncResultHandler.handle(
         succeededFuture(buildResponseWithLocation(okapiHeaders.get(OKAPI_URL), resourceByIdPath(TITLES, title.getId()), title))))
       .onFailure(fail -> handleErrorResponse(asyncResultHandler, fail));
@@ -69,7 +69,7 @@ public class TitlesApi extends BaseApi implements OrdersTitles {
   @Validate
   public void getOrdersTitlesById(String id, Map<String, String> okapiHeaders,
       Handler<AsyncResult<Response>> asyncResultHandler, Context vertxContext) {
-    titlesService.getTitleById(id, new RequestContext(vertxContext, okapiHeaders))
+    titlesService.getTitleById(id, new RequestContext(vertxContext, okapiHeaders, getClass().getSimpleName()))
       .onSuccess(title -> asyncResultHandler.handle(succeededFuture(buildOkResponse(title))))
       .onFailure(fail -> handleErrorResponse(asyncResultHandler, fail));
   }
@@ -78,7 +78,7 @@ public class TitlesApi extends BaseApi implements OrdersTitles {
   @Validate
   public void deleteOrdersTitlesById(String id, Map<String, String> okapiHeaders,
       Handler<AsyncResult<Response>> asyncResultHandler, Context vertxContext) {
-    titlesService.deleteTitle(id, new RequestContext(vertxContext, okapiHeaders))
+    titlesService.deleteTitle(id, new RequestContext(vertxContext, okapiHeaders, getClass().getSimpleName()))
       .onSuccess(v -> asyncResultHandler.handle(succeededFuture(buildNoContentResponse())))
       .onFailure(fail -> handleErrorResponse(asyncResultHandler, fail));
   }
@@ -102,7 +102,7 @@ public class TitlesApi extends BaseApi implements OrdersTitles {
       return;
     }
 
-    titlesService.saveTitleWithAcqUnitsCheck(entity, new RequestContext(vertxContext, okapiHeaders))
+    titlesService.saveTitleWithAcqUnitsCheck(entity, new RequestContext(vertxContext, okapiHeaders, getClass().getSimpleName()))
       .onSuccess(v -> asyncResultHandler.handle(succeededFuture(buildNoContentResponse())))
       .onFailure(fail -> handleErrorResponse(asyncResultHandler, fail));
   }
@@ -12,6 +12,8 @@ import org.folio.rest.core.models.RequestContext;
 import org.folio.rest.core.models.RequestEntry;
 import org.folio.rest.jaxrs.model.AcquisitionMethod;
 import org.folio.rest.jaxrs.model.AcquisitionMethodCollection;
+import org.folio.service.caches.CacheInvalidationPublisher;
+import org.folio.service.caches.CacheInvalidationPublisher.CachedData;
 import org.folio.service.orders.PurchaseOrderLineService;
 
 import io.vertx.core.Future;
@@ -23,10 +25,13 @@ public class AcquisitionMethodsService {
 
   private final RestClient restClient;
   private final PurchaseOrderLineService purchaseOrderLineService;
+  private final CacheInvalidationPublisher cacheInvalidationPublisher;
 
-  public AcquisitionMethodsService(RestClient restClient, PurchaseOrderLineService purchaseOrderLineService) {
+  public AcquisitionMethodsService(RestClient restClient, PurchaseOrderLineService purchaseOrderLineService,
+                                   CacheInvalidationPublisher cacheInvalidationPublisher) {
     this.restClient = restClient;
     this.purchaseOrderLineService = purchaseOrderLineService;
+    this.cacheInvalidationPublisher = cacheInvalidationPublisher;
   }
 
   public Future<AcquisitionMethodCollection> getAcquisitionMethods(int limit, int offset, String query,
@@ -44,13 +49,15 @@ public class AcquisitionMethodsService {
 
   public Future<Void> saveAcquisitionMethod(AcquisitionMethod acquisitionMethod, RequestContext requestContext) {
     RequestEntry requestEntry = new RequestEntry(BY_ID_ENDPOINT).withId(acquisitionMethod.getId());
-    return restClient.put(requestEntry, acquisitionMethod, requestContext);
+    return restClient.put(requestEntry, acquisitionMethod, requestContext)
+      .onSuccess(v -> invalidateCache(requestContext));
   }
 
   public Future<AcquisitionMethod> createAcquisitionMethod(AcquisitionMethod acquisitionMethod,
       RequestContext requestContext) {
     RequestEntry requestEntry = new RequestEntry(ENDPOINT);
-    return restClient.post(requestEntry, acquisitionMethod, AcquisitionMethod.class, requestContext);
+    return restClient.post(requestEntry, acquisitionMethod, AcquisitionMethod.class, requestContext)
+      .onSuccess(v -> invalidateCache(requestContext));
   }
 
   public Future<Void> deleteAcquisitionMethod(String acquisitionMethodId, RequestContext requestContext) {
@@ -59,7 +66,13 @@ public class AcquisitionMethodsService {
       .compose(v -> {
       RequestEntry requestEntry = new RequestEntry(BY_ID_ENDPOINT).withId(acquisitionMethodId);
       return restClient.delete(requestEntry, requestContext);
-    });
+    })
+      .onSuccess(v -> invalidateCache(requestContext));
+  }
+
+  private void invalidateCache(RequestContext requestContext) {
+    // acquisition methods are cached in the data import mapping parameters
+    cacheInvalidationPublisher.publish(CachedData.ACQUISITION_METHODS, requestContext);
   }
 
   private Future<Void> validateDeleteOperation(String acquisitionMethodId, RequestContext requestContext) {
@@ -0,0 +1,114 @@
+package org.folio.service.caches;
+
+import static java.util.stream.Collectors.toMap;
+import static org.folio.orders.utils.HelperUtils.collectResultsOnSuccess;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.commons.lang3.tuple.Pair;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.folio.rest.acq.model.finance.BudgetExpenseClass;
+import org.folio.rest.core.models.RequestContext;
+import org.folio.rest.tools.utils.TenantTool;
+import org.folio.service.finance.expenceclass.BudgetExpenseClassService;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import io.vertx.core.Future;
+import io.vertx.core.Vertx;
+
+/**
+ * Budget expense classes of the active budgets of the funds, shared by all requests of the tenant for a short time.
+ * The budget expense classes do not refer to the fund, so they are retrieved per fund, but only for the funds which are not
+ * cached yet. The cached entries must not be modified. With the expiration of 0 seconds nothing is cached.
+ */
+public class BudgetExpenseClassCache {
+  private static final Logger logger = LogManager.getLogger();
+  private static final String ACTIVE_BUDGET_EXPENSE_CLASSES_QUERY = "budget.fundId==%s and budget.budgetStatus==Active";
+
+  private record TenantKey(String tenantId, String fundId) {
+  }
+
+  private final BudgetExpenseClassService budgetExpenseClassService;
+  private final AsyncCache<TenantKey, List<BudgetExpenseClass>> cache;
+
+  /**
+   * @param expirationSeconds time after which the entry is reloaded, 0 disables the cache
+   * @param maxSize           maximum number of the cached funds
+   */
+  public BudgetExpenseClassCache(BudgetExpenseClassService budgetExpenseClassService, long expirationSeconds, long maxSize) {
+    this.budgetExpenseClassService = budgetExpenseClassService;
+    if (expirationSeconds <= 0) {
+      cache = null;
+      return;
+    }
+    cache = CacheMetrics.monitor(Caffeine.newBuilder()
+      .expireAfterWrite(expirationSeconds, TimeUnit.SECONDS)
+      .maximumSize(maxSize)
+      .recordStats()
+      .executor(task -> Vertx.currentContext()
+        .runOnContext(v -> task.run()))
+      .<TenantKey, List<BudgetExpenseClass>>buildAsync(), "orders.finance.budget-expense-classes");
+  }
+
+  /**
+   * @return budget expense classes of the active budgets by fund id, every requested fund is present in the result
+   */
+  public Future<Map<String, List<BudgetExpenseClass>>> getActiveBudgetExpenseClasses(Collection<String> fundIds,
+                                                                                      RequestContext requestContext) {
+    if (cache == null) {
+      return load(fundIds.stream().distinct().toList(), requestContext);
+    }
+    try {
+      String tenantId = TenantTool.tenantId(requestContext.getHeaders());
+      List<TenantKey> cacheKeys = fundIds.stream()
+        .distinct()
+        .map(fundId -> new TenantKey(tenantId, fundId))
+        .toList();
+      return Future.fromCompletionStage(cache.getAll(cacheKeys, (missingKeys, executor) -> load(missingKeys, requestContext)))
+        .map(entries -> entries.entrySet().stream()
+          .collect(toMap(entry -> entry.getKey().fundId(), Map.Entry::getValue)));
+    } catch (Exception e) {
+      logger.error("getActiveBudgetExpenseClasses:: Error loading budget expense classes from cache, fundIds: {}", fundIds, e);
+      return Future.failedFuture(e);
+    }
+  }
+
+  /**
+   * Removes all cached budget expense classes of the tenant.
+   */
+  public void invalidate(String tenantId) {
+    if (cache == null) {
+      return;
+    }
+    cache.synchronous().asMap().keySet().removeIf(key -> key.tenantId().equals(tenantId));
+  }
+
+  private CompletableFuture<Map<TenantKey, List<BudgetExpenseClass>>> load(Set<? extends TenantKey> cacheKeys,
+                                                                           RequestContext requestContext) {
+    String tenantId = cacheKeys.iterator().next().tenantId();
+    return load(cacheKeys.stream().map(TenantKey::fundId).toList(), requestContext)
+      .map(budgetExpenseClasses -> budgetExpenseClasses.entrySet().stream()
+        .collect(toMap(entry -> new TenantKey(tenantId, entry.getKey()), Map.Entry::getValue)))
+      .toCompletionStage()
+      .toCompletableFuture();
+  }
+
+  private Future<Map<String, List<BudgetExpenseClass>>> load(List<String> fundIds, RequestContext requestContext) {
+    return collectResultsOnSuccess(fundIds.stream()
+      .map(fundId -> budgetExpenseClassService.getBudgetExpenseClasses(String.format(ACTIVE_BUDGET_EXPENSE_CLASSES_QUERY, fundId),
+          0, Integer.MAX_VALUE, requestContext)
+        .map(collection -> Pair.of(fundId, List.copyOf(collection.getBudgetExpenseClasses()))))
+      .toList())
+      .map(budgetExpenseClasses -> budgetExpenseClasses.stream()
+        .collect(toMap(Pair::getKey, Pair::getValue, (first, second) -> first)));
+  }
+
+}
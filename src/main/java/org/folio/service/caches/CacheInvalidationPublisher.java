@@ -0,0 +1,84 @@
+package org.folio.service.caches;
+
+import static org.folio.orders.events.handlers.MessageAddress.CACHE_INVALIDATION;
+
+import java.util.UUID;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.folio.rest.core.models.RequestContext;
+import org.folio.rest.tools.utils.TenantTool;
+
+import io.vertx.core.Context;
+import io.vertx.core.json.JsonObject;
+
+/**
+ * Publishes the invalidation of the cached tenant data when the data is changed through this module.
+ * The message is published to all consumers of the event bus, so with the clustered event bus the caches
+ * of all module instances are invalidated.
+ */
+public class CacheInvalidationPublisher {
+  private static final Logger logger = LogManager.getLogger();
+
+  public static final String TENANT_ID = "tenantId";
+  public static final String CACHED_DATA = "cachedData";
+  public static final String SKIPPED_INSTANCE_ID = "skippedInstanceId";
+
+  private static final String INSTANCE_ID = UUID.randomUUID().toString();
+
+  public enum CachedData {
+    ACQUISITION_METHODS,
+    BUDGET_EXPENSE_CLASSES,
+    CONSORTIUM_CONFIGURATION,
+    FINANCE_REFERENCE_DATA,
+    ORDER_SETTINGS,
+    TENANT_CONFIGURATION
+  }
+
+  public void publish(CachedData cachedData, RequestContext requestContext) {
+    publish(cachedData, requestContext, new JsonObject());
+  }
+
+  /**
+   * Publishes the invalidation to be handled by all module instances except this one, for the data already invalidated here.
+   */
+  public void publishToOtherInstances(CachedData cachedData, RequestContext requestContext) {
+    publish(cachedData, requestContext, new JsonObject().put(SKIPPED_INSTANCE_ID, INSTANCE_ID));
+  }
+
+  /**
+   * Checks the expiration of a cache whose data is changed outside this module. No invalidation is published for
+   * such data, so raising the expiration above the default would only extend the time stale data is used.
+   *
+   * @throws IllegalArgumentException if the expiration is greater than the default one
+   */
+  public static long checkExpirationOfNotPublishedData(CachedData cachedData, long expirationSeconds,
+                                                       long defaultExpirationSeconds) {
+    if (expirationSeconds > defaultExpirationSeconds) {
+      throw new IllegalArgumentException(String.format("Expiration of cached %s must not exceed %d seconds, got %d: "
+        + "the data is changed outside this module and is not invalidated", cachedData, defaultExpirationSeconds, expirationSeconds));
+    }
+    return expirationSeconds;
+  }
+
+  /**
+   * @return true if the invalidation message was published by this module instance to other instances only
+   */
+  public static boolean isSkippedByThisInstance(JsonObject message) {
+    return INSTANCE_ID.equals(message.getString(SKIPPED_INSTANCE_ID));
+  }
+
+  private void publish(CachedData cachedData, RequestContext requestContext, JsonObject message) {
+    String tenantId = TenantTool.tenantId(requestContext.getHeaders());
+    Context context = requestContext.getContext();
+    if (context == null) {
+      logger.warn("publish:: No Vert.x context to publish invalidation of {} for tenant '{}'", cachedData, tenantId);
+      return;
+    }
+    message.put(TENANT_ID, tenantId)
+      .put(CACHED_DATA, cachedData.name());
+    context.owner().eventBus().publish(CACHE_INVALIDATION.address, message);
+    logger.debug("publish:: Invalidation of {} published for tenant '{}'", cachedData, tenantId);
+  }
+
+}
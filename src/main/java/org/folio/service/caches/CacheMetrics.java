@@ -0,0 +1,50 @@
+package org.folio.service.caches;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Cache;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import io.vertx.micrometer.backends.BackendRegistries;
+
+/**
+ * Registers hit, miss, eviction and load time meters of the Caffeine caches, tagged by the cache name.
+ * The caches must be built with {@code recordStats()}. The meters are registered in the Vert.x Micrometer registry
+ * when the Vert.x metrics are enabled, otherwise in the Micrometer global registry.
+ */
+public final class CacheMetrics {
+
+  private static final Logger logger = LogManager.getLogger();
+
+  private CacheMetrics() {
+  }
+
+  public static <K, V> AsyncCache<K, V> monitor(AsyncCache<K, V> cache, String cacheName) {
+    try {
+      CaffeineCacheMetrics.monitor(getRegistry(), cache, cacheName);
+    } catch (Exception e) {
+      // Metrics must never break the business flow
+      logger.warn("monitor:: Failed to register metrics of cache '{}'", cacheName, e);
+    }
+    return cache;
+  }
+
+  public static <K, V> Cache<K, V> monitor(Cache<K, V> cache, String cacheName) {
+    try {
+      CaffeineCacheMetrics.monitor(getRegistry(), cache, cacheName);
+    } catch (Exception e) {
+      logger.warn("monitor:: Failed to register metrics of cache '{}'", cacheName, e);
+    }
+    return cache;
+  }
+
+  private static MeterRegistry getRegistry() {
+    MeterRegistry registry = BackendRegistries.getDefaultNow();
+    return registry != null ? registry : Metrics.globalRegistry;
+  }
+
+}
@@ -0,0 +1,148 @@
+package org.folio.service.caches;
+
+import static org.folio.orders.utils.HelperUtils.ORDER_CONFIG_MODULE_NAME;
+import static org.folio.rest.core.exceptions.ErrorCodes.MISSING_INSTANCE_STATUS;
+import static org.folio.rest.core.exceptions.ErrorCodes.MISSING_INSTANCE_TYPE;
+import static org.folio.rest.core.exceptions.ErrorCodes.MISSING_LOAN_TYPE;
+import static org.folio.service.inventory.InventoryUtils.INSTANCE_STATUSES;
+import static org.folio.service.inventory.InventoryUtils.INSTANCE_TYPES;
+import static org.folio.service.inventory.InventoryUtils.LOAN_TYPES;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.folio.orders.utils.HelperUtils;
+import org.folio.rest.core.models.RequestContext;
+import org.folio.rest.tools.utils.TenantTool;
+import org.folio.service.consortium.ConsortiumConfigurationService;
+import org.folio.service.inventory.InventoryUtils;
+
+import io.vertx.core.Future;
+
+/**
+ * Loads the tenant reference data used by the most of the order operations to the caches in advance,
+ * so the first requests of the tenant do not pay the cost of the cache misses.
+ * The warm-up is the best effort: the data failed to load is loaded lazily on the first use.
+ */
+public class CacheWarmUpService {
+  private static final Logger logger = LogManager.getLogger();
+
+  public enum WarmUpStatus {
+    IN_PROGRESS,
+    READY,
+    PARTIALLY_READY
+  }
+
+  private final ConfigurationEntriesCache configurationEntriesCache;
+  private final InventoryCache inventoryCache;
+  private final ConsortiumConfigurationService consortiumConfigurationService;
+  private final boolean enabled;
+  private final Map<String, WarmUpStatus> statuses = new ConcurrentHashMap<>();
+
+  public CacheWarmUpService(ConfigurationEntriesCache configurationEntriesCache, InventoryCache inventoryCache,
+                            ConsortiumConfigurationService consortiumConfigurationService, boolean enabled) {
+    this.configurationEntriesCache = configurationEntriesCache;
+    this.inventoryCache = inventoryCache;
+    this.consortiumConfigurationService = consortiumConfigurationService;
+    this.enabled = enabled;
+  }
+
+  /**
+   * Loads the reference data of the tenant of the request to the caches. The returned future never fails.
+   *
+   * @param requestContext context of the request with the tenant, token and Okapi URL headers
+   * @return future with the warm-up status of the tenant
+   */
+  public Future<WarmUpStatus> warmUp(RequestContext requestContext) {
+    String tenantId = TenantTool.tenantId(requestContext.getHeaders());
+    if (!enabled) {
+      logger.debug("warmUp:: Cache warm-up is disabled, tenant '{}' is skipped", tenantId);
+      return Future.succeededFuture(WarmUpStatus.READY);
+    }
+    long start = System.currentTimeMillis();
+    statuses.put(tenantId, WarmUpStatus.IN_PROGRESS);
+    logger.info("warmUp:: Cache warm-up started for tenant '{}'", tenantId);
+
+    Map<String, Supplier<Future<?>>> loaders = new LinkedHashMap<>();
+    loaders.put("orders configuration", () -> configurationEntriesCache.loadConfiguration(ORDER_CONFIG_MODULE_NAME, requestContext));
+    loaders.put("system currency", () -> configurationEntriesCache.getSystemCurrency(requestContext));
+    loaders.put("ISBN identifier type", () -> inventoryCache.getISBNProductTypeId(requestContext));
+    loaders.put("invalid ISBN identifier type", () -> inventoryCache.getInvalidISBNProductTypeId(requestContext));
+    loaders.put("instance type", () -> getEntryId(INSTANCE_TYPES, requestContext));
+    loaders.put("instance status", () -> getEntryId(INSTANCE_STATUSES, requestContext));
+    loaders.put("loan type", () -> getEntryId(LOAN_TYPES, requestContext));
+    loaders.put("consortium configuration", () -> consortiumConfigurationService.getConsortiumConfiguration(requestContext));
+
+    List<Future<Boolean>> futures = loaders.entrySet().stream()
+      .map(loader -> load(loader.getKey(), loader.getValue(), tenantId))
+      .toList();
+    return Future.join(futures)
+      .transform(ar -> {
+        long loaded = futures.stream().filter(Future::result).count();
+        WarmUpStatus status = loaded == futures.size() ? WarmUpStatus.READY : WarmUpStatus.PARTIALLY_READY;
+        statuses.put(tenantId, status);
+        logger.info("warmUp:: Cache warm-up finished for tenant '{}' with status {}: {} of {} loaded in {} ms",
+          tenantId, status, loaded, futures.size(), System.currentTimeMillis() - start);
+        return Future.succeededFuture(status);
+      });
+  }
+
+  /**
+   * Loads the reference data of the tenants one tenant at a time. All tenants are reported as in progress
+   * until the warm-up of each of them is finished. The returned future never fails.
+   *
+   * @param requestContexts contexts with the tenant and Okapi URL headers, one per tenant
+   */
+  public Future<Void> warmUp(List<RequestContext> requestContexts) {
+    if (!enabled) {
+      return Future.succeededFuture();
+    }
+    requestContexts.forEach(requestContext -> statuses.put(TenantTool.tenantId(requestContext.getHeaders()), WarmUpStatus.IN_PROGRESS));
+    return HelperUtils.chainCallInChunks(requestContexts, 1, this::warmUp)
+      .mapEmpty();
+  }
+
+  /**
+   * @return warm-up status of the tenant or null if the warm-up has not been started for the tenant by this module instance
+   */
+  public WarmUpStatus getStatus(String tenantId) {
+    return statuses.get(tenantId);
+  }
+
+  /**
+   * @return warm-up statuses of the tenants warmed up by this module instance
+   */
+  public Map<String, WarmUpStatus> getStatuses() {
+    return Map.copyOf(statuses);
+  }
+
+  private Future<?> getEntryId(String entryType, RequestContext requestContext) {
+    var errorCode = switch (entryType) {
+      case INSTANCE_TYPES -> MISSING_INSTANCE_TYPE;
+      case INSTANCE_STATUSES -> MISSING_INSTANCE_STATUS;
+      default -> MISSING_LOAN_TYPE;
+    };
+    return InventoryUtils.getEntryId(configurationEntriesCache, inventoryCache, entryType, errorCode, requestContext);
+  }
+
+  private Future<Boolean> load(String name, Supplier<Future<?>> loader, String tenantId) {
+    Future<?> future;
+    try {
+      future = loader.get();
+    } catch (Exception e) {
+      future = Future.failedFuture(e);
+    }
+    return future
+      .map(result -> true)
+      .otherwise(t -> {
+        logger.warn("load:: Failed to warm up {} for tenant '{}', it will be loaded on the first use", name, tenantId, t);
+        return false;
+      });
+  }
+
+}
@@ -1,6 +1,7 @@
 package org.folio.service.caches;
 
 import static org.folio.orders.utils.HelperUtils.SYSTEM_CONFIG_MODULE_NAME;
+import static org.folio.service.caches.CacheInvalidationPublisher.checkExpirationOfNotPublishedData;
 import static org.folio.service.configuration.ConfigurationEntriesService.CONFIG_QUERY;
 import static org.folio.service.configuration.ConfigurationEntriesService.TENANT_CONFIGURATION_ENTRIES;
 
@@ -13,10 +14,8 @@ import org.folio.processing.mapping.defaultmapper.processor.parameters.MappingPa
 import org.folio.rest.core.models.RequestContext;
 import org.folio.rest.core.models.RequestEntry;
 import org.folio.rest.tools.utils.TenantTool;
-import org.folio.service.UserService;
+import org.folio.service.caches.CacheInvalidationPublisher.CachedData;
 import org.folio.service.configuration.ConfigurationEntriesService;
-import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.stereotype.Component;
 
 import com.github.benmanes.caffeine.cache.AsyncCache;
 import com.github.benmanes.caffeine.cache.Caffeine;
@@ -25,28 +24,40 @@ import io.vertx.core.Future;
 import io.vertx.core.Vertx;
 import io.vertx.core.json.JsonObject;
 
-@Component
 public class ConfigurationEntriesCache {
   private static final Logger log = LogManager.getLogger();
 
   private final AsyncCache<String, JsonObject> configsCache;
   private final AsyncCache<String, String> systemCurrencyCache;
-  private static final String UNIQUE_CACHE_KEY_PATTERN = "%s_%s_%s";
+  private static final String TENANT_CACHE_KEY_PATTERN = "%s_%s";
+  private static final long DEFAULT_EXPIRATION_SECONDS = 30;
   private final ConfigurationEntriesService configurationEntriesService;
-  @Autowired
-  public ConfigurationEntriesCache(ConfigurationEntriesService configurationEntriesService) {
+
+  /**
+   * The tenant configuration does not depend on the user, so the entries are shared by all users of the tenant.
+   *
+   * @param expirationSeconds time after which the entry is reloaded, at most {@value #DEFAULT_EXPIRATION_SECONDS}
+   *                          seconds since the entries are edited outside this module
+   * @param maxSize           maximum number of entries of each cache
+   */
+  public ConfigurationEntriesCache(ConfigurationEntriesService configurationEntriesService, long expirationSeconds, long maxSize) {
     this.configurationEntriesService = configurationEntriesService;
-    configsCache = Caffeine.newBuilder()
-      .expireAfterWrite(30, TimeUnit.SECONDS)
+    checkExpirationOfNotPublishedData(CachedData.TENANT_CONFIGURATION, expirationSeconds, DEFAULT_EXPIRATION_SECONDS);
+    configsCache = CacheMetrics.monitor(Caffeine.newBuilder()
+      .expireAfterWrite(expirationSeconds, TimeUnit.SECONDS)
+      .maximumSize(maxSize)
+      .recordStats()
       .executor(task -> Vertx.currentContext()
         .runOnContext(v -> task.run()))
-      .buildAsync();
+      .buildAsync(), "orders.configuration.entries");
 
-    systemCurrencyCache = Caffeine.newBuilder()
-      .expireAfterWrite(30, TimeUnit.SECONDS)
+    systemCurrencyCache = CacheMetrics.monitor(Caffeine.newBuilder()
+      .expireAfterWrite(expirationSeconds, TimeUnit.SECONDS)
+      .maximumSize(maxSize)
+      .recordStats()
       .executor(task -> Vertx.currentContext()
         .runOnContext(v -> task.run()))
-      .buildAsync();
+      .buildAsync(), "orders.configuration.system-currency");
   }
 
   /**
@@ -79,8 +90,16 @@ public class ConfigurationEntriesCache {
   private String buildUniqueKey(RequestEntry requestEntry, RequestContext requestContext) {
     var endpoint = requestEntry.buildEndpoint();
     var tenantId = TenantTool.tenantId(requestContext.getHeaders());
-    var userId = UserService.getCurrentUserId(requestContext.getHeaders());
-    return String.format(UNIQUE_CACHE_KEY_PATTERN, tenantId, userId, endpoint);
+    return String.format(TENANT_CACHE_KEY_PATTERN, tenantId, endpoint);
+  }
+
+  /**
+   * Removes all cached configuration of the tenant.
+   */
+  public void invalidate(String tenantId) {
+    String keyPrefix = String.format(TENANT_CACHE_KEY_PATTERN, tenantId, "");
+    configsCache.synchronous().asMap().keySet().removeIf(key -> key.startsWith(keyPrefix));
+    systemCurrencyCache.synchronous().asMap().keySet().removeIf(key -> key.startsWith(keyPrefix));
   }
 
   public Future<String> getSystemCurrency(RequestContext requestContext) {
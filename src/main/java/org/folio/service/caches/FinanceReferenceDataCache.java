@@ -0,0 +1,196 @@
+package org.folio.service.caches;
+
+import static java.util.stream.Collectors.toMap;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.folio.rest.acq.model.finance.FiscalYear;
+import org.folio.rest.acq.model.finance.Fund;
+import org.folio.rest.acq.model.finance.Ledger;
+import org.folio.rest.core.models.RequestContext;
+import org.folio.rest.tools.utils.TenantTool;
+import org.folio.service.finance.FiscalYearService;
+import org.folio.service.finance.FundService;
+import org.folio.service.finance.LedgerService;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+
+import io.vertx.core.Future;
+import io.vertx.core.Vertx;
+
+/**
+ * Funds, ledgers and current fiscal years of the ledgers shared by all requests of the tenant for a short time.
+ * The data is changed in mod-finance, which does not notify this module, so e.g. the changed restrictions of a ledger are
+ * enforced only after the expiration. Only the ids which are not cached yet are requested from mod-finance. The cached entries must not be modified.
+ * The current fiscal year is not kept after the end of its period, so the rollover to the next fiscal year is not missed.
+ * With the expiration of 0 seconds nothing is cached and every call is delegated to the services.
+ */
+public class FinanceReferenceDataCache {
+  private static final Logger logger = LogManager.getLogger();
+
+  private record TenantKey(String tenantId, String id) {
+  }
+
+  private final FundService fundService;
+  private final LedgerService ledgerService;
+  private final FiscalYearService fiscalYearService;
+  private final AsyncCache<TenantKey, Fund> fundCache;
+  private final AsyncCache<TenantKey, Ledger> ledgerCache;
+  private final AsyncCache<TenantKey, FiscalYear> currentFiscalYearCache;
+
+  /**
+   * @param expirationSeconds time after which the entry is reloaded, 0 disables the cache
+   * @param maxSize           maximum number of entries of each cache
+   */
+  public FinanceReferenceDataCache(FundService fundService, LedgerService ledgerService, FiscalYearService fiscalYearService,
+                                   long expirationSeconds, long maxSize) {
+    this.fundService = fundService;
+    this.ledgerService = ledgerService;
+    this.fiscalYearService = fiscalYearService;
+    if (expirationSeconds <= 0) {
+      fundCache = null;
+      ledgerCache = null;
+      currentFiscalYearCache = null;
+      return;
+    }
+    fundCache = CacheMetrics.monitor(Caffeine.newBuilder()
+      .expireAfterWrite(expirationSeconds, TimeUnit.SECONDS)
+      .maximumSize(maxSize)
+      .recordStats()
+      .executor(task -> Vertx.currentContext()
+        .runOnContext(v -> task.run()))
+      .<TenantKey, Fund>buildAsync(), "orders.finance.funds");
+    ledgerCache = CacheMetrics.monitor(Caffeine.newBuilder()
+      .expireAfterWrite(expirationSeconds, TimeUnit.SECONDS)
+      .maximumSize(maxSize)
+      .recordStats()
+      .executor(task -> Vertx.currentContext()
+        .runOnContext(v -> task.run()))
+      .<TenantKey, Ledger>buildAsync(), "orders.finance.ledgers");
+    currentFiscalYearCache = CacheMetrics.monitor(Caffeine.newBuilder()
+      .expireAfter(currentFiscalYearExpiry(expirationSeconds))
+      .maximumSize(maxSize)
+      .recordStats()
+      .executor(task -> Vertx.currentContext()
+        .runOnContext(v -> task.run()))
+      .buildAsync(), "orders.finance.current-fiscal-years");
+  }
+
+  /**
+   * Same as {@link FundService#getAllFunds(Collection, RequestContext)}, fails if any of the funds is not found.
+   */
+  public Future<List<Fund>> getFunds(Collection<String> fundIds, RequestContext requestContext) {
+    if (fundCache == null) {
+      return fundService.getAllFunds(fundIds, requestContext);
+    }
+    return getAll(fundCache, fundIds, Fund::getId,
+      ids -> fundService.getAllFunds(ids, requestContext), requestContext);
+  }
+
+  /**
+   * Same as {@link LedgerService#getLedgersByIds(Collection, RequestContext)}, fails if any of the ledgers is not found.
+   */
+  public Future<List<Ledger>> getLedgers(Collection<String> ledgerIds, RequestContext requestContext) {
+    if (ledgerCache == null) {
+      return ledgerService.getLedgersByIds(ledgerIds, requestContext);
+    }
+    return getAll(ledgerCache, ledgerIds, Ledger::getId,
+      ids -> ledgerService.getLedgersByIds(ids, requestContext), requestContext);
+  }
+
+  public Future<FiscalYear> getCurrentFiscalYear(String ledgerId, RequestContext requestContext) {
+    if (currentFiscalYearCache == null) {
+      return fiscalYearService.getCurrentFiscalYear(ledgerId, requestContext);
+    }
+    try {
+      TenantKey cacheKey = new TenantKey(TenantTool.tenantId(requestContext.getHeaders()), ledgerId);
+      return Future.fromCompletionStage(currentFiscalYearCache.get(cacheKey, (key, executor) ->
+        fiscalYearService.getCurrentFiscalYear(ledgerId, requestContext)
+          .toCompletionStage()
+          .toCompletableFuture()));
+    } catch (Exception e) {
+      logger.error("getCurrentFiscalYear:: Error loading current fiscal year from cache, ledgerId: '{}'", ledgerId, e);
+      return Future.failedFuture(e);
+    }
+  }
+
+  /**
+   * Removes all cached funds, ledgers and fiscal years of the tenant.
+   */
+  public void invalidate(String tenantId) {
+    if (fundCache == null) {
+      return;
+    }
+    fundCache.synchronous().asMap().keySet().removeIf(key -> key.tenantId().equals(tenantId));
+    ledgerCache.synchronous().asMap().keySet().removeIf(key -> key.tenantId().equals(tenantId));
+    currentFiscalYearCache.synchronous().asMap().keySet().removeIf(key -> key.tenantId().equals(tenantId));
+  }
+
+  private <T> Future<List<T>> getAll(AsyncCache<TenantKey, T> cache, Collection<String> ids, Function<T, String> idExtractor,
+                                     Function<List<String>, Future<List<T>>> loader, RequestContext requestContext) {
+    try {
+      String tenantId = TenantTool.tenantId(requestContext.getHeaders());
+      List<TenantKey> cacheKeys = ids.stream()
+        .distinct()
+        .map(id -> new TenantKey(tenantId, id))
+        .toList();
+      return Future.fromCompletionStage(cache.getAll(cacheKeys, (missingKeys, executor) -> load(missingKeys, idExtractor, loader)))
+        .map(entries -> cacheKeys.stream()
+          .map(entries::get)
+          .filter(Objects::nonNull)
+          .toList());
+    } catch (Exception e) {
+      logger.error("getAll:: Error loading finance data from cache, ids: {}", ids, e);
+      return Future.failedFuture(e);
+    }
+  }
+
+  private <T> CompletableFuture<Map<TenantKey, T>> load(Set<? extends TenantKey> cacheKeys, Function<T, String> idExtractor,
+                                                         Function<List<String>, Future<List<T>>> loader) {
+    String tenantId = cacheKeys.iterator().next().tenantId();
+    List<String> ids = cacheKeys.stream()
+      .map(TenantKey::id)
+      .toList();
+    return loader.apply(ids)
+      .map(entries -> entries.stream()
+        .collect(toMap(entry -> new TenantKey(tenantId, idExtractor.apply(entry)), Function.identity(), (first, second) -> first)))
+      .toCompletionStage()
+      .toCompletableFuture();
+  }
+
+  private static Expiry<TenantKey, FiscalYear> currentFiscalYearExpiry(long expirationSeconds) {
+    long expirationNanos = TimeUnit.SECONDS.toNanos(expirationSeconds);
+    return new Expiry<>() {
+      @Override
+      public long expireAfterCreate(TenantKey key, FiscalYear fiscalYear, long currentTime) {
+        if (fiscalYear.getPeriodEnd() == null) {
+          return expirationNanos;
+        }
+        long periodEndNanos = TimeUnit.MILLISECONDS.toNanos(fiscalYear.getPeriodEnd().getTime() - System.currentTimeMillis());
+        return Math.max(0, Math.min(expirationNanos, periodEndNanos));
+      }
+
+      @Override
+      public long expireAfterUpdate(TenantKey key, FiscalYear fiscalYear, long currentTime, long currentDuration) {
+        return expireAfterCreate(key, fiscalYear, currentTime);
+      }
+
+      @Override
+      public long expireAfterRead(TenantKey key, FiscalYear fiscalYear, long currentTime, long currentDuration) {
+        return currentDuration;
+      }
+    };
+  }
+
+}
@@ -1,26 +1,31 @@
 package org.folio.service.caches;
 
+import static org.folio.rest.core.exceptions.ErrorCodes.ISBN_NOT_VALID;
+
+import java.util.Collections;
+import java.util.List;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.TimeUnit;
 
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
+import org.folio.isbn.IsbnUtil;
+import org.folio.rest.core.exceptions.HttpException;
 import org.folio.rest.core.exceptions.NoInventoryRecordException;
 import org.folio.rest.core.models.RequestContext;
 import org.folio.rest.core.models.RequestEntry;
+import org.folio.rest.jaxrs.model.Parameter;
 import org.folio.rest.tools.utils.TenantTool;
-import org.folio.service.UserService;
 import org.folio.service.inventory.InventoryService;
-import org.springframework.stereotype.Component;
 
 import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Cache;
 import com.github.benmanes.caffeine.cache.Caffeine;
 
 import io.vertx.core.Future;
 import io.vertx.core.Vertx;
 import io.vertx.core.json.JsonObject;
 
-@Component
 public class InventoryCache {
   private static final Logger log = LogManager.getLogger();
 
@@ -33,21 +38,37 @@ public class InventoryCache {
   private static final String INVALID_ISBN_PRODUCT_TYPE_NAME = "Invalid ISBN";
   private static final String INVALID_ISBN_PRODUCT_TYPE_ID = "fcca2643-406a-482a-b760-7a7f8aec640e";
   private static final String UNIQUE_CACHE_KEY_PATTERN = "%s_%s_%s";
+  private static final String TENANT_CACHE_KEY_PATTERN = "%s_%s";
+  private static final int ISBN13_CACHE_MAX_SIZE = 100_000;
+  private static final Cache<String, String> ISBN13_CACHE = CacheMetrics.monitor(Caffeine.newBuilder()
+    .maximumSize(ISBN13_CACHE_MAX_SIZE)
+    .recordStats()
+    .build(), "orders.isbn13");
   private final InventoryService inventoryService;
 
-  public InventoryCache(InventoryService inventoryService) {
+  /**
+   * The cached inventory reference data does not depend on the user, so the entries are shared by all users of the tenant.
+   *
+   * @param expirationSeconds time after which the entry is reloaded
+   * @param maxSize           maximum number of entries of each cache
+   */
+  public InventoryCache(InventoryService inventoryService, long expirationSeconds, long maxSize) {
     this.inventoryService = inventoryService;
-    asyncCache = Caffeine.newBuilder()
-      .expireAfterWrite(30, TimeUnit.SECONDS)
+    asyncCache = CacheMetrics.monitor(Caffeine.newBuilder()
+      .expireAfterWrite(expirationSeconds, TimeUnit.SECONDS)
+      .maximumSize(maxSize)
+      .recordStats()
       .executor(task -> Vertx.currentContext()
         .runOnContext(v -> task.run()))
-      .buildAsync();
+      .buildAsync(), "orders.inventory.identifier-types");
 
-    asyncJsonCache = Caffeine.newBuilder()
-      .expireAfterWrite(30, TimeUnit.SECONDS)
+    asyncJsonCache = CacheMetrics.monitor(Caffeine.newBuilder()
+      .expireAfterWrite(expirationSeconds, TimeUnit.SECONDS)
+      .maximumSize(maxSize)
+      .recordStats()
       .executor(task -> Vertx.currentContext()
         .runOnContext(v -> task.run()))
-      .buildAsync();
+      .buildAsync(), "orders.inventory.entries");
   }
 
   public Future<String> getISBNProductTypeId(RequestContext requestContext) {
@@ -82,23 +103,27 @@ public class InventoryCache {
   }
 
 
-  public Future<String> convertToISBN13(String isbn, RequestContext requestContext) {
-    try {
-      String convertEndpoint = String.format("/isbn/convertTo13?isbn=%s", isbn);
-      RequestEntry requestEntry = new RequestEntry(convertEndpoint);
-      var cacheKey = buildUniqueKey(requestEntry, requestContext);
-      return Future.fromCompletionStage(asyncCache.get(cacheKey, (key, executor) -> convertToISBN13(isbn, requestEntry, requestContext)));
-    } catch (Exception e) {
-      log.error("convertToISBN13:: Error normalizing isbn value: '{}'", isbn, e);
-      return Future.failedFuture(e);
+  /**
+   * Converts ISBN-10 to ISBN-13, the valid ISBN-13 is returned as is. The conversion does not depend on the tenant,
+   * so it is done in-process and the results are shared across tenants.
+   *
+   * @param isbn {@link String} ISBN-10 or ISBN-13 value
+   * @return Future with ISBN-13 value or failed with {@link HttpException} if the value is not a valid ISBN
+   */
+  public Future<String> convertToISBN13(String isbn) {
+    String isbn13 = isbn == null ? null : ISBN13_CACHE.get(isbn, InventoryCache::normalizeISBN13);
+    if (isbn13 == null) {
+      log.warn("convertToISBN13:: Can't convert '{}' to ISBN-13", isbn);
+      List<Parameter> parameters = Collections.singletonList(new Parameter().withKey("isbn").withValue(isbn));
+      return Future.failedFuture(new HttpException(400, ISBN_NOT_VALID.toError().withParameters(parameters)));
     }
+    return Future.succeededFuture(isbn13);
   }
 
   public Future<JsonObject> getEntryId(String entryType, String entryTypeValue, RequestContext requestContext) {
     try {
       var tenantId = TenantTool.tenantId(requestContext.getHeaders());
-      var userId = UserService.getCurrentUserId(requestContext.getHeaders());
-      var cacheKey = String.format(UNIQUE_CACHE_KEY_PATTERN, tenantId, userId, entryType);
+      var cacheKey = String.format(UNIQUE_CACHE_KEY_PATTERN, tenantId, entryType, entryTypeValue);
 
       return Future.fromCompletionStage(asyncJsonCache.get(cacheKey, (key, executor) -> getEntryTypeId(entryType, entryTypeValue, requestContext)));
     } catch (Exception e) {
@@ -126,16 +151,17 @@ public class InventoryCache {
       .toCompletableFuture();
   }
 
-  private CompletableFuture<String> convertToISBN13(String isbn, RequestEntry requestEntry, RequestContext requestContext) {
-    return inventoryService.convertToISBN13(isbn, requestEntry.buildEndpoint(), requestContext)
-      .toCompletionStage()
-      .toCompletableFuture();
+  private static String normalizeISBN13(String isbn) {
+    if (IsbnUtil.isValid13DigitNumber(isbn)) {
+      return isbn;
+    }
+    // null is not cached, so the invalid values do not take the place of the valid ones
+    return IsbnUtil.isValid10DigitNumber(isbn) ? IsbnUtil.convertTo13DigitNumber(isbn) : null;
   }
 
   private String buildUniqueKey(RequestEntry requestEntry, RequestContext requestContext) {
     var endpoint = requestEntry.buildEndpoint();
     var tenantId = TenantTool.tenantId(requestContext.getHeaders());
-    var userId = UserService.getCurrentUserId(requestContext.getHeaders());
-    return String.format(UNIQUE_CACHE_KEY_PATTERN, tenantId, userId, endpoint);
+    return String.format(TENANT_CACHE_KEY_PATTERN, tenantId, endpoint);
   }
 }
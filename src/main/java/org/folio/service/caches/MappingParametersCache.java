@@ -80,9 +80,6 @@ public class MappingParametersCache {
   @Value("${orders.cache.mapping.parameters.settings.limit:5000}")
   private int settingsLimit;
 
-  @Value("${orders.cache.mapping.parameters.expiration.seconds:3600}")
-  private long cacheExpirationTime;
-
   private final AsyncCache<String, MappingParameters> cache;
   private final RestClient restClient;
   private final AcquisitionsUnitsService acquisitionsUnitsService;
@@ -91,7 +88,8 @@ public class MappingParametersCache {
   @Autowired
   public MappingParametersCache(Vertx vertx, RestClient restClient,
                                 AcquisitionsUnitsService acquisitionsUnitsService,
-                                AcquisitionMethodsService acquisitionMethodsService) {
+                                AcquisitionMethodsService acquisitionMethodsService,
+                                @Value("${orders.cache.mapping.parameters.expiration.seconds:3600}") long cacheExpirationTime) {
     LOGGER.info("MappingParametersCache:: settings limit: '{}'", settingsLimit);
     cache = Caffeine.newBuilder()
       .expireAfterAccess(cacheExpirationTime, TimeUnit.SECONDS)
@@ -118,6 +116,15 @@ public class MappingParametersCache {
     }
   }
 
+  /**
+   * Removes cached {@link MappingParameters} of the tenant
+   *
+   * @param tenantId tenant id
+   */
+  public void invalidate(String tenantId) {
+    cache.synchronous().invalidate(tenantId);
+  }
+
   /**
    * Generates {@link MappingParameters}
    *
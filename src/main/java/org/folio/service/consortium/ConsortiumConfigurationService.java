@@ -14,12 +14,14 @@ import org.folio.rest.core.models.RequestContext;
 import org.folio.rest.core.models.RequestEntry;
 import org.folio.rest.jaxrs.model.Location;
 import org.folio.rest.tools.utils.TenantTool;
-import org.springframework.beans.factory.annotation.Value;
+import org.folio.service.caches.CacheInvalidationPublisher.CachedData;
 
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.TimeUnit;
 
+import static org.folio.service.caches.CacheInvalidationPublisher.checkExpirationOfNotPublishedData;
+
 public class ConsortiumConfigurationService {
   private static final Logger logger = LogManager.getLogger(ConsortiumConfigurationService.class);
 
@@ -28,17 +30,21 @@ public class ConsortiumConfigurationService {
   private static final String USER_TENANTS_ARRAY_IDENTIFIER = "userTenants";
   private static final String USER_TENANTS_ENDPOINT = "/user-tenants";
 
-  @Value("${orders.cache.consortium-data.expiration.time.seconds:300}")
-  private long cacheExpirationTime;
+  private static final long DEFAULT_EXPIRATION_SECONDS = 300;
 
   private final RestClient restClient;
   private final AsyncCache<String, Optional<ConsortiumConfiguration>> asyncCache;
 
   public ConsortiumConfigurationService(RestClient restClient) {
+    this(restClient, DEFAULT_EXPIRATION_SECONDS);
+  }
+
+  public ConsortiumConfigurationService(RestClient restClient, long cacheExpirationTime) {
     this.restClient = restClient;
 
     asyncCache = Caffeine.newBuilder()
-      .expireAfterWrite(cacheExpirationTime, TimeUnit.SECONDS)
+      .expireAfterWrite(checkExpirationOfNotPublishedData(CachedData.CONSORTIUM_CONFIGURATION, cacheExpirationTime,
+        DEFAULT_EXPIRATION_SECONDS), TimeUnit.SECONDS)
       .executor(task -> Vertx.currentContext().runOnContext(v -> task.run()))
       .buildAsync();
   }
@@ -54,6 +60,13 @@ public class ConsortiumConfigurationService {
     }
   }
 
+  /**
+   * Removes the cached consortium configuration of the tenant.
+   */
+  public void invalidate(String tenantId) {
+    asyncCache.synchronous().invalidate(tenantId);
+  }
+
   private CompletableFuture<Optional<ConsortiumConfiguration>> getConsortiumConfigurationFromRemote(RequestContext requestContext) {
     RequestEntry requestEntry = new RequestEntry(USER_TENANTS_ENDPOINT).withLimit(1);
     return restClient.getAsJsonObject(requestEntry, requestContext)
@@ -0,0 +1,66 @@
+package org.folio.service.exchange;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.folio.rest.acq.model.finance.ExchangeRate;
+import org.folio.rest.core.models.RequestContext;
+import org.folio.rest.tools.utils.TenantTool;
+import org.folio.service.caches.CacheMetrics;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import io.vertx.core.Future;
+import io.vertx.core.Vertx;
+
+/**
+ * Caches the exchange rates retrieved from the finance module per tenant, so the rate of the currency pair is
+ * retrieved once for all the PO lines converted at the same time and is reused by the next requests.
+ */
+public class CacheableExchangeRateService {
+  private static final Logger logger = LogManager.getLogger();
+
+  private static final String CACHE_KEY_PATTERN = "%s_%s_%s";
+
+  private final FinanceExchangeRateService financeExchangeRateService;
+  private final AsyncCache<String, ExchangeRate> asyncCache;
+
+  /**
+   * @param cacheExpirationTime time in seconds after which the rate is retrieved again
+   * @param maxSize             maximum number of cached currency pairs of all tenants
+   */
+  public CacheableExchangeRateService(FinanceExchangeRateService financeExchangeRateService, long cacheExpirationTime,
+                                      long maxSize) {
+    this.financeExchangeRateService = financeExchangeRateService;
+    this.asyncCache = CacheMetrics.monitor(Caffeine.newBuilder()
+      .expireAfterWrite(cacheExpirationTime, TimeUnit.SECONDS)
+      .maximumSize(maxSize)
+      .recordStats()
+      .executor(task -> Vertx.currentContext().runOnContext(v -> task.run()))
+      .buildAsync(), "orders.finance.exchange-rates");
+  }
+
+  public Future<ExchangeRate> getExchangeRate(String from, String to, RequestContext requestContext) {
+    if (from.equals(to)) {
+      return Future.succeededFuture(new ExchangeRate().withFrom(from).withTo(to).withExchangeRate(1d));
+    }
+    try {
+      var cacheKey = String.format(CACHE_KEY_PATTERN, TenantTool.tenantId(requestContext.getHeaders()), from, to);
+      return Future.fromCompletionStage(asyncCache.get(cacheKey, (key, executor) -> getExchangeRateFromRemote(from, to, requestContext)));
+    } catch (Exception e) {
+      logger.error("getExchangeRate:: Error when retrieving exchange rate {} -> {}", from, to, e);
+      return Future.failedFuture(e);
+    }
+  }
+
+  private CompletableFuture<ExchangeRate> getExchangeRateFromRemote(String from, String to, RequestContext requestContext) {
+    return financeExchangeRateService.getExchangeRate(from, to, requestContext)
+      .onSuccess(rate -> logger.debug("getExchangeRateFromRemote:: Exchange rate {} -> {}: {}", from, to, rate.getExchangeRate()))
+      .toCompletionStage()
+      .toCompletableFuture();
+  }
+
+}
@@ -9,12 +9,24 @@ import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.folio.rest.core.models.RequestContext;
 
+import io.vertx.core.Future;
+
 public class ExchangeRateProviderResolver {
 
   public static final String RATE_KEY = "factor";
 
   private final Logger logger = LogManager.getLogger();
 
+  private final CacheableExchangeRateService cacheableExchangeRateService;
+
+  public ExchangeRateProviderResolver() {
+    this(null);
+  }
+
+  public ExchangeRateProviderResolver(CacheableExchangeRateService cacheableExchangeRateService) {
+    this.cacheableExchangeRateService = cacheableExchangeRateService;
+  }
+
   public ExchangeRateProvider resolve(ConversionQuery conversionQuery, RequestContext requestContext) {
     return resolve(conversionQuery, requestContext, ManualCurrencyConversion.OperationMode.MULTIPLY);
   }
@@ -27,4 +39,29 @@ public class ExchangeRateProviderResolver {
     logger.info("resolve:: exchangeRateProvider name: {}, operationMode: {}", exchangeRateProvider.getContext().getProviderName(), operationMode);
     return exchangeRateProvider;
   }
+
+  public Future<ExchangeRateProvider> resolveAsync(ConversionQuery conversionQuery, RequestContext requestContext) {
+    return resolveAsync(conversionQuery, requestContext, ManualCurrencyConversion.OperationMode.MULTIPLY);
+  }
+
+  /**
+   * Resolves the provider the same way as {@link #resolve(ConversionQuery, RequestContext, ManualCurrencyConversion.OperationMode)},
+   * but the rate of the finance provider is retrieved in advance from the finance module, so the conversions made
+   * with the provider do not block the calling thread.
+   */
+  public Future<ExchangeRateProvider> resolveAsync(ConversionQuery conversionQuery, RequestContext requestContext,
+                                                   ManualCurrencyConversion.OperationMode operationMode) {
+    if (cacheableExchangeRateService == null || conversionQuery == null || conversionQuery.get(RATE_KEY, Double.class) != null) {
+      return Future.succeededFuture(resolve(conversionQuery, requestContext, operationMode));
+    }
+    String from = conversionQuery.getBaseCurrency().getCurrencyCode();
+    String to = conversionQuery.getCurrency().getCurrencyCode();
+    return cacheableExchangeRateService.getExchangeRate(from, to, requestContext)
+      .map(exchangeRate -> {
+        ExchangeRateProvider exchangeRateProvider = new FinanceApiExchangeRateProvider(exchangeRate);
+        logger.info("resolveAsync:: exchangeRateProvider name: {}, {} -> {} rate: {}", exchangeRateProvider.getContext().getProviderName(),
+          from, to, exchangeRate.getExchangeRate());
+        return exchangeRateProvider;
+      });
+  }
 }
@@ -3,6 +3,9 @@ package org.folio.service.exchange;
 import static org.javamoney.moneta.convert.ExchangeRateType.ECB;
 import static org.javamoney.moneta.convert.ExchangeRateType.IDENTITY;
 
+import java.math.BigDecimal;
+import java.math.MathContext;
+
 import javax.money.convert.ConversionContext;
 import javax.money.convert.ConversionQuery;
 import javax.money.convert.CurrencyConversion;
@@ -29,8 +32,19 @@ public class FinanceApiExchangeRateProvider implements ExchangeRateProvider {
     CONTEXT = ProviderContextBuilder.of("FRE", RateType.DEFERRED, RateType.ANY).set("providerDescription", "ThunderJet Finance API Exchange Rate Service").build();
   }
 
+  private final org.folio.rest.acq.model.finance.ExchangeRate prefetchedExchangeRate;
+
   public FinanceApiExchangeRateProvider(RequestContext requestContext) {
     SpringContextUtil.autowireDependencies(this, requestContext.getContext());
+    this.prefetchedExchangeRate = null;
+  }
+
+  /**
+   * Creates the provider with the rate retrieved in advance. The rate is used for the conversion of its currency pair
+   * and for the reverse conversion, so the conversion does not block the calling thread.
+   */
+  public FinanceApiExchangeRateProvider(org.folio.rest.acq.model.finance.ExchangeRate prefetchedExchangeRate) {
+    this.prefetchedExchangeRate = prefetchedExchangeRate;
   }
 
   @Override
@@ -51,6 +65,18 @@ public class FinanceApiExchangeRateProvider implements ExchangeRateProvider {
   }
 
   private org.folio.rest.acq.model.finance.ExchangeRate getExchangeRateFromService(ConversionQuery conversionQuery) {
+      String from = conversionQuery.getBaseCurrency().getCurrencyCode();
+      String to = conversionQuery.getCurrency().getCurrencyCode();
+      if (prefetchedExchangeRate != null) {
+        if (from.equals(prefetchedExchangeRate.getFrom()) && to.equals(prefetchedExchangeRate.getTo())) {
+          return prefetchedExchangeRate;
+        }
+        if (from.equals(prefetchedExchangeRate.getTo()) && to.equals(prefetchedExchangeRate.getFrom())) {
+          double reverseRate = BigDecimal.ONE.divide(BigDecimal.valueOf(prefetchedExchangeRate.getExchangeRate()), MathContext.DECIMAL64)
+            .doubleValue();
+          return new org.folio.rest.acq.model.finance.ExchangeRate().withFrom(from).withTo(to).withExchangeRate(reverseRate);
+        }
+      }
       double exchangeRate = MonetaryConversions.getExchangeRateProvider(IDENTITY, ECB)
         .getExchangeRate(conversionQuery.getBaseCurrency(), conversionQuery.getCurrency())
         .getFactor()
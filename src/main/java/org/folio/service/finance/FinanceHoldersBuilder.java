@@ -3,15 +3,10 @@ package org.folio.service.finance;
 import static io.vertx.core.Future.succeededFuture;
 import static java.util.stream.Collectors.groupingBy;
 import static java.util.stream.Collectors.toMap;
-import static one.util.streamex.StreamEx.ofSubLists;
 import static org.folio.orders.utils.HelperUtils.collectResultsOnSuccess;
-import static org.folio.orders.utils.QueryUtils.convertFieldListToCqlQuery;
 import static org.folio.orders.utils.HelperUtils.getConversionQuery;
-import static org.folio.rest.RestConstants.MAX_IDS_FOR_GET_RQ_15;
 import static org.folio.rest.core.exceptions.ErrorCodes.BUDGET_NOT_FOUND_FOR_FISCAL_YEAR;
 
-import java.util.ArrayList;
-import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -20,12 +15,10 @@ import java.util.function.Function;
 
 import javax.money.convert.ConversionQuery;
 import javax.money.convert.CurrencyConversion;
-import javax.money.convert.ExchangeRateProvider;
 
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.folio.models.EncumbranceRelationsHolder;
-import org.folio.rest.acq.model.finance.Budget;
 import org.folio.rest.acq.model.finance.FiscalYear;
 import org.folio.rest.acq.model.finance.Fund;
 import org.folio.rest.acq.model.finance.Ledger;
@@ -34,6 +27,7 @@ import org.folio.rest.core.models.RequestContext;
 import org.folio.rest.jaxrs.model.CompositePoLine;
 import org.folio.rest.jaxrs.model.Cost;
 import org.folio.rest.jaxrs.model.Parameter;
+import org.folio.service.caches.FinanceReferenceDataCache;
 import org.folio.service.exchange.ExchangeRateProviderResolver;
 import org.folio.service.finance.budget.BudgetService;
 
@@ -42,25 +36,22 @@ import io.vertx.core.Future;
 public class FinanceHoldersBuilder {
   protected final Logger logger = LogManager.getLogger();
 
-  private final FundService fundService;
-  private final FiscalYearService fiscalYearService;
+  private final FinanceReferenceDataCache financeReferenceDataCache;
   protected final ExchangeRateProviderResolver exchangeRateProviderResolver;
   private final BudgetService budgetService;
-  private final LedgerService ledgerService;
 
-  public FinanceHoldersBuilder(FundService fundService, FiscalYearService fiscalYearService,
-      ExchangeRateProviderResolver exchangeRateProviderResolver, BudgetService budgetService,
-      LedgerService ledgerService) {
-    this.fundService = fundService;
-    this.fiscalYearService = fiscalYearService;
+  public FinanceHoldersBuilder(FinanceReferenceDataCache financeReferenceDataCache,
+      ExchangeRateProviderResolver exchangeRateProviderResolver, BudgetService budgetService) {
+    this.financeReferenceDataCache = financeReferenceDataCache;
     this.exchangeRateProviderResolver = exchangeRateProviderResolver;
     this.budgetService = budgetService;
-    this.ledgerService = ledgerService;
   }
 
   /**
    * Populate the encumbrance holders with the following data based on the fund ids in the holders:
    * ledger ids, ledgers, fiscal year, budgets, currency conversion.
+   * The fiscal year only depends on the ledger ids of the funds, so the fiscal year and the budgets are retrieved
+   * at the same time as the ledgers.
    */
   public Future<Void> withFinances(List<? extends EncumbranceRelationsHolder> encumbranceHolders,
       RequestContext requestContext) {
@@ -68,9 +59,10 @@ public class FinanceHoldersBuilder {
       return succeededFuture();
     }
     return getLedgerIds(encumbranceHolders, requestContext)
-      .compose(ledgerIds -> getLedgers(ledgerIds, encumbranceHolders, requestContext))
-      .compose(ledgers -> getFiscalYear(ledgers, encumbranceHolders, requestContext))
-      .compose(fiscalYear -> getBudgets(fiscalYear, encumbranceHolders, requestContext))
+      .compose(ledgerIds -> Future.join(
+        getLedgers(ledgerIds, encumbranceHolders, requestContext),
+        getFiscalYear(ledgerIds.get(0), encumbranceHolders, requestContext)
+          .compose(fiscalYear -> getBudgets(fiscalYear, encumbranceHolders, requestContext))))
       .compose(v -> withConversion(encumbranceHolders, requestContext))
       .onSuccess(v -> logger.info("withFinances :: success retrieving finance data"))
       .onFailure(t -> logger.error("withFinances :: error retrieving finance data", t));
@@ -89,7 +81,7 @@ public class FinanceHoldersBuilder {
     if (fundIds.isEmpty()) {
       return succeededFuture(List.of());
     }
-    return fundService.getAllFunds(fundIds, requestContext)
+    return financeReferenceDataCache.getFunds(fundIds, requestContext)
       .map(funds -> {
         populateLedgerIds(funds, encumbranceHolders);
         return funds.stream()
@@ -111,12 +103,13 @@ public class FinanceHoldersBuilder {
     if (fyCurrency == null) {
       return succeededFuture();
     }
-    return requestContext.getContext().executeBlocking(() -> {
-      Map<String, List<EncumbranceRelationsHolder>> currencyHolderMap = encumbranceHolders.stream()
-        .filter(holder -> Objects.nonNull(holder.getPoLine()))
-        .collect(groupingBy(holder -> holder.getPoLine().getCost().getCurrency()));
+    Map<String, List<EncumbranceRelationsHolder>> currencyHolderMap = encumbranceHolders.stream()
+      .filter(holder -> Objects.nonNull(holder.getPoLine()))
+      .collect(groupingBy(holder -> holder.getPoLine().getCost().getCurrency()));
 
-      currencyHolderMap.forEach((poLineCurrency, encumbranceRelationsHolders) -> {
+    var futures = currencyHolderMap.entrySet().stream()
+      .map(entry -> {
+        List<EncumbranceRelationsHolder> encumbranceRelationsHolders = entry.getValue();
         Double exchangeRate = encumbranceRelationsHolders.stream()
           .map(EncumbranceRelationsHolder::getPoLine)
           .map(CompositePoLine::getCost)
@@ -125,14 +118,17 @@ public class FinanceHoldersBuilder {
           .findFirst()
           .orElse(null);
 
-        ConversionQuery conversionQuery = getConversionQuery(exchangeRate, poLineCurrency, fyCurrency);
-        ExchangeRateProvider exchangeRateProvider = exchangeRateProviderResolver.resolve(conversionQuery, requestContext);
-        CurrencyConversion conversion = exchangeRateProvider.getCurrencyConversion(conversionQuery);
-        encumbranceRelationsHolders.forEach(holder -> holder.withPoLineToFyConversion(conversion));
-      });
-      return null;
-    })
-    .mapEmpty();
+        ConversionQuery conversionQuery = getConversionQuery(exchangeRate, entry.getKey(), fyCurrency);
+        return exchangeRateProviderResolver.resolveAsync(conversionQuery, requestContext)
+          .map(exchangeRateProvider -> {
+            CurrencyConversion conversion = exchangeRateProvider.getCurrencyConversion(conversionQuery);
+            encumbranceRelationsHolders.forEach(holder -> holder.withPoLineToFyConversion(conversion));
+            return null;
+          });
+      })
+      .toList();
+    return collectResultsOnSuccess(futures)
+      .mapEmpty();
   }
 
   private void populateLedgerIds(List<Fund> funds, List<? extends EncumbranceRelationsHolder> encumbranceHolders) {
@@ -145,16 +141,16 @@ public class FinanceHoldersBuilder {
 
   private Future<List<Ledger>> getLedgers(List<String> ledgerIds,
       List<? extends EncumbranceRelationsHolder> encumbranceHolders, RequestContext requestContext) {
-    return ledgerService.getLedgersByIds(ledgerIds, requestContext)
+    return financeReferenceDataCache.getLedgers(ledgerIds, requestContext)
       .map(ledgers -> {
         mapRestrictEncumbranceToHolders(ledgers, encumbranceHolders);
         return ledgers;
       });
   }
 
-  private Future<FiscalYear> getFiscalYear(List<Ledger> ledgers,
+  private Future<FiscalYear> getFiscalYear(String ledgerId,
       List<? extends EncumbranceRelationsHolder> encumbranceHolders, RequestContext requestContext) {
-    return fiscalYearService.getCurrentFiscalYear(ledgers.get(0).getId(), requestContext)
+    return financeReferenceDataCache.getCurrentFiscalYear(ledgerId, requestContext)
       .map(fiscalYear -> {
         encumbranceHolders.forEach(holder -> holder.withCurrentFiscalYearId(fiscalYear.getId())
           .withCurrency(fiscalYear.getCurrency()));
@@ -169,17 +165,13 @@ public class FinanceHoldersBuilder {
       .filter(Objects::nonNull)
       .distinct()
       .toList();
-    var futures = ofSubLists(new ArrayList<>(fundIds), MAX_IDS_FOR_GET_RQ_15)
-      .map(ids -> getBudgetsChunk(ids, fiscalYear, requestContext))
-      .toList();
-    return collectResultsOnSuccess(futures)
-      .map(lists -> lists.stream().flatMap(Collection::stream).toList())
-      .map(budgets -> {
-        if (budgets.size() < fundIds.size()) {
-          List<? extends EncumbranceRelationsHolder> holdersOfMissingBudgets = encumbranceHolders.stream()
-            .filter(h -> budgets.stream().noneMatch(b -> h.getFundId().equals(b.getFundId())))
-            .distinct()
-            .toList();
+    return budgetService.getBudgetSnapshot(fundIds, fiscalYear.getId(), requestContext)
+      .map(budgetSnapshot -> {
+        List<? extends EncumbranceRelationsHolder> holdersOfMissingBudgets = encumbranceHolders.stream()
+          .filter(h -> h.getFundId() != null && !budgetSnapshot.containsBudget(h.getFundId(), fiscalYear.getId()))
+          .distinct()
+          .toList();
+        if (!holdersOfMissingBudgets.isEmpty()) {
           List<String> fundIdsOfMissingBudgets = holdersOfMissingBudgets.stream()
             .map(EncumbranceRelationsHolder::getFundId)
             .toList();
@@ -206,17 +198,11 @@ public class FinanceHoldersBuilder {
               new Parameter().withKey("fiscalYearCode").withValue(fiscalYear.getCode())
             )));
         }
-        mapHoldersToBudgets(budgets, encumbranceHolders);
+        encumbranceHolders.forEach(holder -> holder.withBudget(budgetSnapshot.getBudget(holder.getFundId(), fiscalYear.getId())));
         return null;
       });
   }
 
-  private Future<List<Budget>> getBudgetsChunk(List<String> fundIds, FiscalYear fiscalYear, RequestContext requestContext) {
-    String query = convertFieldListToCqlQuery(fundIds, "fundId", true) +
-      String.format(" AND fiscalYearId == %s AND budgetStatus == Active", fiscalYear.getId());
-    return budgetService.getBudgetsByQuery(query, requestContext);
-  }
-
   private void mapRestrictEncumbranceToHolders(List<Ledger> ledgers,
       List<? extends EncumbranceRelationsHolder> encumbranceHolders) {
     Map<String, Ledger> idLedgerMap = ledgers.stream()
@@ -231,10 +217,4 @@ public class FinanceHoldersBuilder {
       });
   }
 
-  private void mapHoldersToBudgets(List<Budget> budgets, List<? extends EncumbranceRelationsHolder> encumbranceHolders) {
-    Map<String, Budget> fundIdBudgetMap = budgets.stream()
-      .collect(toMap(Budget::getFundId, Function.identity()));
-    encumbranceHolders.forEach(holder -> holder.withBudget(fundIdBudgetMap.get(holder.getFundId())));
-  }
-
 }
@@ -1,37 +1,44 @@
 package org.folio.service.finance.budget;
 
-import static java.util.stream.Collectors.groupingBy;
-import static java.util.stream.Collectors.toList;
 import static org.folio.orders.utils.ResourcePathResolver.FUNDS;
 import static org.folio.rest.core.exceptions.ErrorCodes.FUND_CANNOT_BE_PAID;
 
 import java.math.BigDecimal;
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
-import java.util.Optional;
 import java.util.stream.Collectors;
 
-import javax.money.CurrencyUnit;
-import javax.money.Monetary;
-import javax.money.MonetaryAmount;
-
 import org.folio.models.EncumbranceRelationsHolder;
 import org.folio.rest.acq.model.finance.Budget;
+import org.folio.rest.acq.model.finance.Transaction;
 import org.folio.rest.core.exceptions.HttpException;
 import org.folio.rest.jaxrs.model.FundDistribution;
 import org.folio.rest.jaxrs.model.Parameter;
-import org.javamoney.moneta.Money;
-import org.javamoney.moneta.function.MonetaryFunctions;
+import org.folio.service.finance.budget.BudgetSnapshot.BudgetKey;
 
 public class BudgetRestrictionService {
 
   public void checkEncumbranceRestrictions(List<? extends EncumbranceRelationsHolder> dataHolders) {
 
-    Map<Budget, List<EncumbranceRelationsHolder>> budgetHoldersMap = dataHolders.stream()
+    // new encumbered amounts are summed up per budget in the same order as the budgets first appear in the holders
+    Map<BudgetKey, BigDecimal> newEncumberedAmounts = new LinkedHashMap<>();
+    List<Budget> budgets = new ArrayList<>();
+    dataHolders.stream()
         .filter(EncumbranceRelationsHolder::getRestrictEncumbrance)
-        .collect(groupingBy(EncumbranceRelationsHolder::getBudget));
+        .forEach(holder -> {
+          BudgetKey budgetKey = BudgetKey.of(holder.getBudget());
+          if (!newEncumberedAmounts.containsKey(budgetKey)) {
+            budgets.add(holder.getBudget());
+          }
+          newEncumberedAmounts.merge(budgetKey, calculateNewEncumberedAmount(holder), BigDecimal::add);
+        });
+    if (newEncumberedAmounts.isEmpty()) {
+      return;
+    }
 
     Map<String, String> fundHoldersMap = dataHolders.stream()
         .filter(EncumbranceRelationsHolder::getRestrictEncumbrance)
@@ -41,55 +48,29 @@ public class BudgetRestrictionService {
         .collect(Collectors.toMap(FundDistribution::getFundId, FundDistribution::getCode,
           (fundEntityKey, fundEntityDupKey) -> fundEntityKey));
 
-    List<String> failedFundIds = budgetHoldersMap.entrySet()
+    BudgetSnapshot budgetSnapshot = BudgetSnapshot.of(budgets);
+    List<String> failedFundIds = newEncumberedAmounts.entrySet()
         .stream()
-        .filter(entry -> Objects.nonNull(entry.getKey().getAllowableEncumbrance()))
         .filter(entry -> {
-          MonetaryAmount newEncumberedAmount = calculateNewEncumberedAmount(entry.getValue());
-          return isRemainingAmountExceed(entry.getKey(), newEncumberedAmount);
+          BigDecimal remainingAmount = budgetSnapshot.getRemainingAmountToEncumber(entry.getKey());
+          return Objects.nonNull(remainingAmount) && entry.getValue().compareTo(remainingAmount) > 0;
         })
-        .map(Map.Entry::getKey)
-        .map(Budget::getFundId)
-        .collect(toList());
+        .map(entry -> entry.getKey().fundId())
+        .toList();
 
     if (!failedFundIds.isEmpty()) {
       Parameter parameter = new Parameter().withKey(FUNDS)
-          .withValue(failedFundIds.stream().map(fundHoldersMap::get).collect(toList()).toString());
+          .withValue(failedFundIds.stream().map(fundHoldersMap::get).toList().toString());
       throw new HttpException(422, FUND_CANNOT_BE_PAID.toError()
           .withParameters(Collections.singletonList(parameter)));
     }
   }
 
-  private boolean isRemainingAmountExceed(Budget budget, MonetaryAmount newEncumberedAmount) {
-    // [remaining amount we can encumber] = (totalFunding * allowableEncumbrance) - unavailable
-    // where unavailable = awaitingPayment + encumbered + expenditure
-    CurrencyUnit currency = newEncumberedAmount.getCurrency();
-    Money totalFundings = Money.of(budget.getTotalFunding(), currency);
-
-    BigDecimal allowableEncumbrance = BigDecimal.valueOf(budget.getAllowableEncumbrance())
-        .movePointLeft(2);
-    Money unavailable = Money.of(budget.getUnavailable(), currency);
-    Money totalAmountCanBeExpended = totalFundings.multiply(allowableEncumbrance);
-    Money amountCanBeEncumbered = totalAmountCanBeExpended.subtract(unavailable);
-
-
-    return newEncumberedAmount.isGreaterThan(amountCanBeEncumbered);
-  }
-
-  private MonetaryAmount calculateNewEncumberedAmount(List<EncumbranceRelationsHolder> encumbranceRelationsHolders) {
-    CurrencyUnit currency = Monetary.getCurrency(encumbranceRelationsHolders.get(0).getCurrency());
-    return encumbranceRelationsHolders.stream()
-        .map(holder -> {
-          MonetaryAmount newTransactionAmount = Money.of(holder.getNewEncumbrance().getAmount(), holder.getCurrency());
-
-          MonetaryAmount existingTransactionAmount = Optional.ofNullable(holder.getOldEncumbrance())
-              .map(transaction -> Money.of(transaction.getAmount(), transaction.getCurrency()))
-              .orElseGet(() -> Money.zero(Monetary.getCurrency(holder.getCurrency())));
-
-          return newTransactionAmount.subtract(existingTransactionAmount);
-        })
-        .reduce(MonetaryFunctions::sum)
-        .orElseGet(() -> Money.zero(currency));
+  private BigDecimal calculateNewEncumberedAmount(EncumbranceRelationsHolder holder) {
+    BigDecimal newTransactionAmount = BigDecimal.valueOf(holder.getNewEncumbrance().getAmount());
+    Transaction oldEncumbrance = holder.getOldEncumbrance();
+    return oldEncumbrance == null ? newTransactionAmount
+        : newTransactionAmount.subtract(BigDecimal.valueOf(oldEncumbrance.getAmount()));
   }
 
 }
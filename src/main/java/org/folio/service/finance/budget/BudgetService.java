@@ -1,5 +1,11 @@
 package org.folio.service.finance.budget;
 
+import static org.folio.orders.utils.HelperUtils.collectResultsOnSuccess;
+import static org.folio.orders.utils.QueryUtils.convertFieldListToCqlQuery;
+import static org.folio.rest.RestConstants.MAX_IDS_FOR_GET_RQ_15;
+
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 
 import org.apache.logging.log4j.LogManager;
@@ -16,6 +22,7 @@ public class BudgetService {
   private static final Logger logger = LogManager.getLogger();
 
   private static final String BUDGETS_ENDPOINT = "/finance/budgets";
+  private static final String ACTIVE_BUDGETS_OF_FISCAL_YEAR_QUERY = "%s AND fiscalYearId == %s AND budgetStatus == Active";
 
   private final RestClient restClient;
 
@@ -33,4 +40,39 @@ public class BudgetService {
       .onSuccess(budgets -> logger.info("getBudgetsByQuery :: Successfully retrieved budgets"))
       .onFailure(t -> logger.error("getBudgetsByQuery :: Failed to retrieve budgets", t));
   }
+
+  /**
+   * Retrieves the active budgets of the funds in the fiscal year. The fund ids are split into the minimal number of chunks
+   * allowed by the query length, and the chunks are balanced so that the last request is not almost empty.
+   */
+  public Future<BudgetSnapshot> getBudgetSnapshot(Collection<String> fundIds, String fiscalYearId,
+                                                  RequestContext requestContext) {
+    List<String> ids = fundIds.stream().distinct().toList();
+    if (ids.isEmpty()) {
+      return Future.succeededFuture(BudgetSnapshot.ofFiscalYear(fiscalYearId, List.of()));
+    }
+    var futures = toBalancedChunks(ids, MAX_IDS_FOR_GET_RQ_15).stream()
+      .map(chunk -> getBudgetsByQuery(String.format(ACTIVE_BUDGETS_OF_FISCAL_YEAR_QUERY,
+        convertFieldListToCqlQuery(chunk, "fundId", true), fiscalYearId), requestContext))
+      .toList();
+    return collectResultsOnSuccess(futures)
+      .map(lists -> BudgetSnapshot.ofFiscalYear(fiscalYearId, lists.stream().flatMap(Collection::stream).toList()));
+  }
+
+  /**
+   * Splits the ids into the minimal number of chunks of at most {@code maxChunkSize} ids, the sizes of the chunks differ by one at most.
+   */
+  static List<List<String>> toBalancedChunks(List<String> ids, int maxChunkSize) {
+    int chunksNumber = (ids.size() + maxChunkSize - 1) / maxChunkSize;
+    int minChunkSize = ids.size() / chunksNumber;
+    int biggerChunksNumber = ids.size() % chunksNumber;
+    List<List<String>> chunks = new ArrayList<>(chunksNumber);
+    int from = 0;
+    for (int i = 0; i < chunksNumber; i++) {
+      int to = from + minChunkSize + (i < biggerChunksNumber ? 1 : 0);
+      chunks.add(ids.subList(from, to));
+      from = to;
+    }
+    return chunks;
+  }
 }
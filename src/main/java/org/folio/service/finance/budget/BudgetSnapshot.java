@@ -0,0 +1,88 @@
+package org.folio.service.finance.budget;
+
+import java.math.BigDecimal;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+import org.folio.rest.acq.model.finance.Budget;
+
+/**
+ * Budgets indexed by the fund and fiscal year. The remaining amount which can be encumbered from the budget is computed once
+ * when the snapshot is built, so the restriction checks do not repeat the money arithmetic for every holder.
+ */
+public class BudgetSnapshot {
+
+  public record BudgetKey(String fundId, String fiscalYearId) {
+
+    public static BudgetKey of(Budget budget) {
+      return new BudgetKey(budget.getFundId(), budget.getFiscalYearId());
+    }
+  }
+
+  private record BudgetEntry(Budget budget, BigDecimal remainingAmountToEncumber) {
+  }
+
+  private final Map<BudgetKey, BudgetEntry> entries;
+
+  private BudgetSnapshot(Map<BudgetKey, BudgetEntry> entries) {
+    this.entries = entries;
+  }
+
+  /**
+   * @return snapshot of the budgets indexed by their own fund and fiscal year
+   */
+  public static BudgetSnapshot of(Collection<Budget> budgets) {
+    Map<BudgetKey, BudgetEntry> entries = new HashMap<>();
+    budgets.forEach(budget -> entries.putIfAbsent(BudgetKey.of(budget), toEntry(budget)));
+    return new BudgetSnapshot(entries);
+  }
+
+  /**
+   * @param fiscalYearId id of the fiscal year the budgets were retrieved for
+   * @return snapshot of the budgets indexed by their fund and the given fiscal year
+   */
+  public static BudgetSnapshot ofFiscalYear(String fiscalYearId, Collection<Budget> budgets) {
+    Map<BudgetKey, BudgetEntry> entries = new HashMap<>();
+    budgets.forEach(budget -> entries.putIfAbsent(new BudgetKey(budget.getFundId(), fiscalYearId), toEntry(budget)));
+    return new BudgetSnapshot(entries);
+  }
+
+  public Budget getBudget(String fundId, String fiscalYearId) {
+    return Optional.ofNullable(entries.get(new BudgetKey(fundId, fiscalYearId)))
+      .map(BudgetEntry::budget)
+      .orElse(null);
+  }
+
+  public boolean containsBudget(String fundId, String fiscalYearId) {
+    return entries.containsKey(new BudgetKey(fundId, fiscalYearId));
+  }
+
+  /**
+   * @return remaining amount which can be encumbered from the budget or null if the encumbrances of the budget are not restricted
+   */
+  public BigDecimal getRemainingAmountToEncumber(BudgetKey budgetKey) {
+    return Optional.ofNullable(entries.get(budgetKey))
+      .map(BudgetEntry::remainingAmountToEncumber)
+      .orElse(null);
+  }
+
+  public int size() {
+    return entries.size();
+  }
+
+  private static BudgetEntry toEntry(Budget budget) {
+    if (budget.getAllowableEncumbrance() == null) {
+      return new BudgetEntry(budget, null);
+    }
+    // [remaining amount we can encumber] = (totalFunding * allowableEncumbrance) - unavailable
+    // where unavailable = awaitingPayment + encumbered + expenditure
+    BigDecimal allowableEncumbrance = BigDecimal.valueOf(budget.getAllowableEncumbrance()).movePointLeft(2);
+    BigDecimal remainingAmount = BigDecimal.valueOf(budget.getTotalFunding())
+      .multiply(allowableEncumbrance)
+      .subtract(BigDecimal.valueOf(budget.getUnavailable()));
+    return new BudgetEntry(budget, remainingAmount);
+  }
+
+}
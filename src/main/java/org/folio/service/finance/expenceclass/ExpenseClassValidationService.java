@@ -1,8 +1,10 @@
 package org.folio.service.finance.expenceclass;
 
-import static java.util.stream.Collectors.toList;
 import static java.util.stream.Collectors.toMap;
-import static org.folio.orders.utils.HelperUtils.ID;
+import static one.util.streamex.StreamEx.ofSubLists;
+import static org.folio.orders.utils.HelperUtils.collectResultsOnSuccess;
+import static org.folio.orders.utils.QueryUtils.convertIdsToCqlQuery;
+import static org.folio.rest.RestConstants.MAX_IDS_FOR_GET_RQ_15;
 import static org.folio.rest.core.exceptions.ErrorCodes.BUDGET_EXPENSE_CLASS_NOT_FOUND;
 import static org.folio.rest.core.exceptions.ErrorCodes.INACTIVE_EXPENSE_CLASS;
 import static org.folio.service.finance.transaction.EncumbranceService.EXPENSE_CLASS_NAME;
@@ -12,27 +14,30 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
-import java.util.function.Function;
 
+import org.apache.commons.lang3.tuple.Pair;
 import org.folio.rest.acq.model.finance.BudgetExpenseClass;
+import org.folio.rest.acq.model.finance.ExpenseClass;
+import org.folio.rest.core.exceptions.ErrorCodes;
 import org.folio.rest.core.exceptions.HttpException;
 import org.folio.rest.core.models.RequestContext;
 import org.folio.rest.jaxrs.model.CompositePoLine;
 import org.folio.rest.jaxrs.model.CompositePurchaseOrder;
+import org.folio.rest.jaxrs.model.Error;
 import org.folio.rest.jaxrs.model.FundDistribution;
 import org.folio.rest.jaxrs.model.Parameter;
+import org.folio.service.caches.BudgetExpenseClassCache;
 
-import io.vertx.core.CompositeFuture;
 import io.vertx.core.Future;
 
 public class ExpenseClassValidationService {
 
-  private final BudgetExpenseClassService budgetExpenseClassService;
+  private final BudgetExpenseClassCache budgetExpenseClassCache;
   private final ExpenseClassService expenseClassService;
 
-  public ExpenseClassValidationService(BudgetExpenseClassService budgetExpenseClassService,
+  public ExpenseClassValidationService(BudgetExpenseClassCache budgetExpenseClassCache,
       ExpenseClassService expenseClassService) {
-    this.budgetExpenseClassService = budgetExpenseClassService;
+    this.budgetExpenseClassCache = budgetExpenseClassCache;
     this.expenseClassService = expenseClassService;
   }
 
@@ -46,70 +51,100 @@ public class ExpenseClassValidationService {
 
   public Future<Void> validateExpenseClasses(List<CompositePoLine> poLines,
       boolean isActiveExpenseClassCheckRequired, RequestContext requestContext) {
-    Map<FundDistribution, String> expenseClassesByFundId = poLines.stream()
-      .flatMap(poLine -> poLine.getFundDistribution()
-        .stream())
-      .distinct()
-      .filter(fundDistribution -> Objects.nonNull(fundDistribution.getExpenseClassId()))
-      .collect(toMap(Function.identity(), FundDistribution::getExpenseClassId));
-
-    return CompositeFuture.join(expenseClassesByFundId.entrySet()
-      .stream()
-      .map(expenseClassByFundId -> checkExpenseClassIsActiveByFundDistribution(expenseClassByFundId, isActiveExpenseClassCheckRequired, requestContext))
-      .collect(toList()))
-      .mapEmpty();
+    return getExpenseClassErrors(poLines, isActiveExpenseClassCheckRequired, requestContext)
+      .map(errors -> {
+        errors.stream()
+          .flatMap(List::stream)
+          .findFirst()
+          .ifPresent(error -> {
+            throw new HttpException(400, error);
+          });
+        return null;
+      });
   }
 
-  public Future<Void> checkExpenseClassIsActiveByFundDistribution(
-      Map.Entry<FundDistribution, String> expenseClassByFundId,
+  /**
+   * Validates the expense classes of the fund distributions of all lines at once: the budget expense classes of all funds
+   * are resolved together and the expense class names of the errors are retrieved with a single query set.
+   *
+   * @return validation errors of each line, in the order of the lines
+   */
+  public Future<List<List<Error>>> getExpenseClassErrors(List<CompositePoLine> poLines,
       boolean isActiveExpenseClassCheckRequired, RequestContext requestContext) {
-    String query = String.format("budget.fundId==%s and budget.budgetStatus==Active", expenseClassByFundId.getKey()
-      .getFundId());
-    return budgetExpenseClassService.getBudgetExpenseClasses(query, 0, Integer.MAX_VALUE, requestContext)
-      .compose(budgetExpenseClasses -> {
-        var budgetExpenseClassIdsList = budgetExpenseClasses.getBudgetExpenseClasses()
-          .stream()
-          .map(BudgetExpenseClass::getExpenseClassId)
-          .collect(toList());
+    List<String> fundIds = poLines.stream()
+      .flatMap(poLine -> poLine.getFundDistribution().stream())
+      .filter(fundDistribution -> Objects.nonNull(fundDistribution.getExpenseClassId()))
+      .map(FundDistribution::getFundId)
+      .distinct()
+      .toList();
+    if (fundIds.isEmpty()) {
+      return Future.succeededFuture(poLines.stream()
+        .map(poLine -> List.<Error>of())
+        .toList());
+    }
 
-        if (budgetExpenseClassIdsList.contains(expenseClassByFundId.getValue())) {
-          var hasInactiveExpenseClass = budgetExpenseClasses.getBudgetExpenseClasses()
-            .stream()
-            .filter(budgetExpenseClass -> expenseClassByFundId.getValue()
-              .contains(budgetExpenseClass.getExpenseClassId()))
-            .anyMatch(expenseClass -> BudgetExpenseClass.Status.INACTIVE.equals(expenseClass.getStatus()));
+    return budgetExpenseClassCache.getActiveBudgetExpenseClasses(fundIds, requestContext)
+      .compose(budgetExpenseClassesByFundId -> {
+        List<List<Pair<FundDistribution, ErrorCodes>>> failures = poLines.stream()
+          .map(poLine -> poLine.getFundDistribution().stream()
+            .filter(fundDistribution -> Objects.nonNull(fundDistribution.getExpenseClassId()))
+            .distinct()
+            .map(fundDistribution -> Pair.of(fundDistribution, checkExpenseClass(fundDistribution,
+              budgetExpenseClassesByFundId.getOrDefault(fundDistribution.getFundId(), List.of()), isActiveExpenseClassCheckRequired)))
+            .filter(failure -> Objects.nonNull(failure.getValue()))
+            .toList())
+          .toList();
+        List<String> expenseClassIds = failures.stream()
+          .flatMap(List::stream)
+          .map(failure -> failure.getKey().getExpenseClassId())
+          .distinct()
+          .toList();
+
+        return getExpenseClassNames(expenseClassIds, requestContext)
+          .map(expenseClassNames -> failures.stream()
+            .map(lineFailures -> lineFailures.stream()
+              .map(failure -> toError(failure.getKey(), failure.getValue(), expenseClassNames))
+              .toList())
+            .toList());
+      });
+  }
 
-          if (isActiveExpenseClassCheckRequired && hasInactiveExpenseClass) {
-            return getFundIdExpenseClassIdParameters(expenseClassByFundId, requestContext).map(parameters -> {
-              throw new HttpException(400, INACTIVE_EXPENSE_CLASS.toError()
-                .withParameters(parameters));
-            });
-          }
+  private ErrorCodes checkExpenseClass(FundDistribution fundDistribution, List<BudgetExpenseClass> budgetExpenseClasses,
+      boolean isActiveExpenseClassCheckRequired) {
+    List<BudgetExpenseClass> fundDistributionBudgetExpenseClasses = budgetExpenseClasses.stream()
+      .filter(budgetExpenseClass -> fundDistribution.getExpenseClassId().equals(budgetExpenseClass.getExpenseClassId()))
+      .toList();
+    if (fundDistributionBudgetExpenseClasses.isEmpty()) {
+      return BUDGET_EXPENSE_CLASS_NOT_FOUND;
+    }
+    if (isActiveExpenseClassCheckRequired && fundDistributionBudgetExpenseClasses.stream()
+      .anyMatch(budgetExpenseClass -> BudgetExpenseClass.Status.INACTIVE.equals(budgetExpenseClass.getStatus()))) {
+      return INACTIVE_EXPENSE_CLASS;
+    }
+    return null;
+  }
 
-        } else {
-          return getFundIdExpenseClassIdParameters(expenseClassByFundId, requestContext).map(parameters -> {
-            throw new HttpException(400, BUDGET_EXPENSE_CLASS_NOT_FOUND.toError()
-              .withParameters(parameters));
-          });
-        }
-        return Future.succeededFuture();
-      });
+  private Future<Map<String, String>> getExpenseClassNames(List<String> expenseClassIds, RequestContext requestContext) {
+    if (expenseClassIds.isEmpty()) {
+      return Future.succeededFuture(Map.of());
+    }
+    return collectResultsOnSuccess(ofSubLists(expenseClassIds, MAX_IDS_FOR_GET_RQ_15)
+      .map(ids -> expenseClassService.getExpenseClasses(convertIdsToCqlQuery(ids), 0, ids.size(), requestContext))
+      .toList())
+      .map(expenseClassCollections -> expenseClassCollections.stream()
+        .flatMap(expenseClasses -> expenseClasses.getExpenseClasses().stream())
+        .collect(toMap(ExpenseClass::getId, ExpenseClass::getName, (first, second) -> first)));
   }
 
-  private Future<List<Parameter>> getFundIdExpenseClassIdParameters(Map.Entry<FundDistribution, String> expenseClassByFundId,
-      RequestContext requestContext) {
-    String query = ID + "==" + expenseClassByFundId.getValue();
+  private Error toError(FundDistribution fundDistribution, ErrorCodes errorCode, Map<String, String> expenseClassNames) {
     List<Parameter> parameters = new ArrayList<>();
     parameters.add(new Parameter().withKey(FUND_CODE)
-      .withValue(expenseClassByFundId.getKey()
-        .getCode()));
-
-    return expenseClassService.getExpenseClasses(query, 0, Integer.MAX_VALUE, requestContext)
-      .map(expenseClasses -> {
-        expenseClasses.getExpenseClasses()
-          .forEach(exc -> parameters.add(new Parameter().withKey(EXPENSE_CLASS_NAME)
-            .withValue(exc.getName())));
-        return parameters;
-      });
+      .withValue(fundDistribution.getCode()));
+    if (expenseClassNames.containsKey(fundDistribution.getExpenseClassId())) {
+      parameters.add(new Parameter().withKey(EXPENSE_CLASS_NAME)
+        .withValue(expenseClassNames.get(fundDistribution.getExpenseClassId())));
+    }
+    return errorCode.toError()
+      .withParameters(parameters);
   }
 }
@@ -0,0 +1,80 @@
+package org.folio.service.finance.rollover;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+import org.folio.rest.acq.model.finance.LedgerFiscalYearRolloverError;
+
+/**
+ * Errors of a ledger rollover indexed by the order and PO line they refer to, built once per rollover run.
+ * The index is kept in sync with the storage by {@link #add(LedgerFiscalYearRolloverError)} after an error is saved
+ * and by {@link #remove(Collection)} after the errors are deleted.
+ */
+public class LedgerRolloverErrorIndex {
+
+  private final Map<String, List<LedgerFiscalYearRolloverError>> errorsByOrderId = new LinkedHashMap<>();
+  private final Map<String, List<LedgerFiscalYearRolloverError>> errorsByPoLineId = new LinkedHashMap<>();
+
+  public LedgerRolloverErrorIndex(Collection<LedgerFiscalYearRolloverError> errors) {
+    errors.forEach(this::add);
+  }
+
+  public Set<String> getOrderIds() {
+    return new LinkedHashSet<>(errorsByOrderId.keySet());
+  }
+
+  public List<LedgerFiscalYearRolloverError> getOrderErrors(String orderId) {
+    return new ArrayList<>(errorsByOrderId.getOrDefault(orderId, List.of()));
+  }
+
+  public List<LedgerFiscalYearRolloverError> getPoLineErrors(String poLineId) {
+    return new ArrayList<>(errorsByPoLineId.getOrDefault(poLineId, List.of()));
+  }
+
+  public void add(LedgerFiscalYearRolloverError error) {
+    if (error.getDetails() != null) {
+      addToIndex(errorsByOrderId, error.getDetails().getPurchaseOrderId(), error);
+      addToIndex(errorsByPoLineId, error.getDetails().getPoLineId(), error);
+    }
+  }
+
+  public void remove(Collection<LedgerFiscalYearRolloverError> errors) {
+    Set<String> ids = new HashSet<>();
+    errors.forEach(error -> ids.add(error.getId()));
+    removeFromIndex(errorsByOrderId, errors, ids, error -> error.getDetails().getPurchaseOrderId());
+    removeFromIndex(errorsByPoLineId, errors, ids, error -> error.getDetails().getPoLineId());
+  }
+
+  private static void addToIndex(Map<String, List<LedgerFiscalYearRolloverError>> index, String key,
+                                 LedgerFiscalYearRolloverError error) {
+    if (key != null) {
+      index.computeIfAbsent(key, k -> new ArrayList<>()).add(error);
+    }
+  }
+
+  private static void removeFromIndex(Map<String, List<LedgerFiscalYearRolloverError>> index,
+                                      Collection<LedgerFiscalYearRolloverError> errors, Set<String> ids,
+                                      Function<LedgerFiscalYearRolloverError, String> keyExtractor) {
+    errors.stream()
+      .filter(error -> error.getDetails() != null)
+      .map(keyExtractor)
+      .distinct()
+      .forEach(key -> {
+        List<LedgerFiscalYearRolloverError> keyErrors = index.get(key);
+        if (keyErrors != null) {
+          keyErrors.removeIf(error -> ids.contains(error.getId()));
+          if (keyErrors.isEmpty()) {
+            index.remove(key);
+          }
+        }
+      });
+  }
+
+}
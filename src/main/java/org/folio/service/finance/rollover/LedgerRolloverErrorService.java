@@ -1,9 +1,8 @@
 package org.folio.service.finance.rollover;
 
+import java.util.ArrayList;
 import java.util.List;
-import java.util.stream.Collectors;
 
-import org.folio.okapi.common.GenericCompositeFuture;
 import org.folio.rest.acq.model.finance.LedgerFiscalYearRolloverError;
 import org.folio.rest.acq.model.finance.LedgerFiscalYearRolloverErrorCollection;
 import org.folio.rest.core.RestClient;
@@ -13,15 +12,18 @@ import org.folio.rest.core.models.RequestEntry;
 import io.vertx.core.Future;
 import io.vertx.core.json.JsonObject;
 
+import static org.folio.orders.utils.HelperUtils.chainCallInChunks;
 import static org.folio.orders.utils.ResourcePathResolver.LEDGER_FY_ROLLOVER_ERRORS;
 import static org.folio.orders.utils.ResourcePathResolver.resourceByIdPath;
 import static org.folio.orders.utils.ResourcePathResolver.resourcesPath;
+import static org.folio.rest.RestConstants.MAX_ACTIVE_DELETE_REQUESTS;
 
 public class LedgerRolloverErrorService {
 
     // use only for get by query requests
     private static final String ENDPOINT = resourcesPath(LEDGER_FY_ROLLOVER_ERRORS);
     private static final String ENDPOINT_BY_ID = resourceByIdPath(LEDGER_FY_ROLLOVER_ERRORS) + "{id}";
+    private static final int ERRORS_PAGE_SIZE = 1000;
 
     private final RestClient restClient;
 
@@ -30,15 +32,44 @@ public class LedgerRolloverErrorService {
     }
 
     public Future<LedgerFiscalYearRolloverErrorCollection> getRolloverErrorsByRolloverId(String rolloverId, RequestContext requestContext) {
-      String query = "ledgerRolloverId==" + rolloverId ;
-      RequestEntry requestEntry = new RequestEntry(ENDPOINT).withQuery(query).withOffset(0).withLimit(Integer.MAX_VALUE);
-      return restClient.get(requestEntry, LedgerFiscalYearRolloverErrorCollection.class, requestContext);
+      return getRolloverErrors("ledgerRolloverId==" + rolloverId, requestContext);
+    }
+
+    /**
+     * @return number of the errors of the rollover, the errors themselves are not retrieved
+     */
+    public Future<Integer> getRolloverErrorsCount(String rolloverId, RequestContext requestContext) {
+      String query = "ledgerRolloverId==" + rolloverId;
+      RequestEntry requestEntry = new RequestEntry(ENDPOINT).withQuery(query).withOffset(0).withLimit(0);
+      return restClient.get(requestEntry, LedgerFiscalYearRolloverErrorCollection.class, requestContext)
+        .map(LedgerFiscalYearRolloverErrorCollection::getTotalRecords);
     }
 
     public Future<LedgerFiscalYearRolloverErrorCollection> getLedgerFyRolloverErrors(String orderId, RequestContext requestContext) {
-        String query = "details.purchaseOrderId==" + orderId;
-        RequestEntry requestEntry = new RequestEntry(ENDPOINT).withQuery(query).withOffset(0).withLimit(Integer.MAX_VALUE);
-        return restClient.get(requestEntry, LedgerFiscalYearRolloverErrorCollection.class, requestContext);
+        return getRolloverErrors("details.purchaseOrderId==" + orderId, requestContext);
+    }
+
+    /**
+     * Retrieves all errors matching the query by pages of {@value #ERRORS_PAGE_SIZE} errors, one page at a time.
+     */
+    private Future<LedgerFiscalYearRolloverErrorCollection> getRolloverErrors(String query, RequestContext requestContext) {
+      List<LedgerFiscalYearRolloverError> errors = new ArrayList<>();
+      return getRolloverErrorsPages(query + " sortBy id", 0, errors, requestContext)
+        .map(v -> new LedgerFiscalYearRolloverErrorCollection()
+          .withLedgerFiscalYearRolloverErrors(errors)
+          .withTotalRecords(errors.size()));
+    }
+
+    private Future<Void> getRolloverErrorsPages(String query, int offset, List<LedgerFiscalYearRolloverError> errors,
+                                                RequestContext requestContext) {
+      RequestEntry requestEntry = new RequestEntry(ENDPOINT).withQuery(query).withOffset(offset).withLimit(ERRORS_PAGE_SIZE);
+      return restClient.get(requestEntry, LedgerFiscalYearRolloverErrorCollection.class, requestContext)
+        .compose(page -> {
+          errors.addAll(page.getLedgerFiscalYearRolloverErrors());
+          boolean lastPage = page.getLedgerFiscalYearRolloverErrors().size() < ERRORS_PAGE_SIZE
+            || (page.getTotalRecords() != null && errors.size() >= page.getTotalRecords());
+          return lastPage ? Future.succeededFuture() : getRolloverErrorsPages(query, offset + ERRORS_PAGE_SIZE, errors, requestContext);
+        });
     }
 
     public Future<LedgerFiscalYearRolloverError> saveRolloverError(String rolloverId, Throwable t, LedgerFiscalYearRolloverError.ErrorType errorType,
@@ -61,10 +92,11 @@ public class LedgerRolloverErrorService {
       return restClient.post(requestEntry, error, LedgerFiscalYearRolloverError.class, requestContext);
   }
 
+    /**
+     * Deletes the errors with no more than {@link org.folio.rest.RestConstants#MAX_ACTIVE_DELETE_REQUESTS} requests in progress.
+     */
     public Future<Void> deleteRolloverErrors(List<LedgerFiscalYearRolloverError> errors, RequestContext requestContext) {
-      return GenericCompositeFuture.join(errors.stream()
-        .map(error -> deleteRolloverError(error.getId(), requestContext))
-        .collect(Collectors.toList()))
+      return chainCallInChunks(errors, MAX_ACTIVE_DELETE_REQUESTS, error -> deleteRolloverError(error.getId(), requestContext))
         .mapEmpty();
     }
 
@@ -4,10 +4,12 @@ import static java.util.stream.Collectors.groupingBy;
 import static java.util.stream.Collectors.mapping;
 import static java.util.stream.Collectors.toList;
 
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 import io.vertx.core.json.JsonObject;
@@ -21,11 +23,9 @@ import org.folio.rest.jaxrs.model.CompositePoLine;
 import org.folio.rest.jaxrs.model.CompositePurchaseOrder;
 import org.folio.rest.jaxrs.model.FundDistribution;
 import org.folio.rest.jaxrs.model.Ongoing;
+import org.folio.service.caches.FinanceReferenceDataCache;
 import org.folio.service.exchange.ExchangeRateProviderResolver;
 import org.folio.service.finance.FinanceHoldersBuilder;
-import org.folio.service.finance.FiscalYearService;
-import org.folio.service.finance.FundService;
-import org.folio.service.finance.LedgerService;
 import org.folio.service.finance.budget.BudgetService;
 
 import io.vertx.core.Future;
@@ -34,10 +34,10 @@ public class EncumbranceRelationsHoldersBuilder extends FinanceHoldersBuilder {
 
   private final EncumbranceService encumbranceService;
 
-  public EncumbranceRelationsHoldersBuilder(EncumbranceService encumbranceService, FundService fundService,
-      FiscalYearService fiscalYearService, ExchangeRateProviderResolver exchangeRateProviderResolver,
-      BudgetService budgetService, LedgerService ledgerService) {
-    super(fundService, fiscalYearService, exchangeRateProviderResolver, budgetService, ledgerService);
+  public EncumbranceRelationsHoldersBuilder(EncumbranceService encumbranceService,
+      FinanceReferenceDataCache financeReferenceDataCache, ExchangeRateProviderResolver exchangeRateProviderResolver,
+      BudgetService budgetService) {
+    super(financeReferenceDataCache, exchangeRateProviderResolver, budgetService);
     this.encumbranceService = encumbranceService;
   }
 
@@ -104,25 +104,31 @@ public class EncumbranceRelationsHoldersBuilder extends FinanceHoldersBuilder {
 
   private void withToBeReleasedHolders(List<EncumbranceRelationsHolder> encumbranceHolders,
       List<Transaction> transactionsFromStorage) {
+    Set<String> matchedTransactionIds = encumbranceHolders.stream()
+      .map(EncumbranceRelationsHolder::getOldEncumbrance)
+      .filter(Objects::nonNull)
+      .map(Transaction::getId)
+      .collect(Collectors.toSet());
+    // the first fund distribution referencing the transaction, to be able to remove the reference if the transaction is deleted
+    Map<String, FundDistribution> fundDistributionsByEncumbranceId = new HashMap<>();
+    encumbranceHolders.stream()
+      .map(EncumbranceRelationsHolder::getFundDistribution)
+      .filter(fd -> fd != null && fd.getEncumbrance() != null)
+      .forEach(fd -> fundDistributionsByEncumbranceId.putIfAbsent(fd.getEncumbrance(), fd));
 
     List<EncumbranceRelationsHolder> toBeReleasedHolders = transactionsFromStorage.stream()
-      .filter(transaction -> encumbranceHolders.stream()
-        .noneMatch(holder -> holder.getOldEncumbrance() != null && transaction.getId().equals(holder.getOldEncumbrance().getId())))
-      .map(tr -> buildToBeReleasedHolder(tr, encumbranceHolders))
+      .filter(transaction -> !matchedTransactionIds.contains(transaction.getId()))
+      .map(transaction -> new EncumbranceRelationsHolder()
+        .withOldEncumbrance(transaction)
+        .withFundDistribution(fundDistributionsByEncumbranceId.get(transaction.getId())))
       .toList();
     encumbranceHolders.addAll(toBeReleasedHolders);
   }
 
-  private boolean encumbranceHolderMatchWithoutId(Transaction encumbrance, EncumbranceRelationsHolder holder) {
-    return encumbrance.getEncumbrance().getSourcePoLineId().equals(holder.getPoLineId())
-      && encumbrance.getFromFundId().equals(holder.getFundId())
-      && Objects.equals(encumbrance.getExpenseClassId(), holder.getFundDistribution().getExpenseClassId());
-  }
-
-  private Optional<Transaction> findBestMatch(EncumbranceRelationsHolder holder, List<Transaction> transactions) {
+  private Optional<Transaction> findBestMatch(EncumbranceRelationsHolder holder, TransactionIndex transactionIndex) {
     // Match by fundId/expenseClassId first and by encumbrance id last
     // (to avoid a conflict if 2 expense classes are switched between fund distributions of the same amount)
-    Optional<Transaction> fundEcMatch = transactions.stream().filter(tr -> encumbranceHolderMatchWithoutId(tr, holder)).findFirst();
+    Optional<Transaction> fundEcMatch = transactionIndex.findByFundDistribution(holder);
     if (fundEcMatch.isPresent()) {
       if (holder.getFundDistribution().getEncumbrance() != null) {
         // update the encumbrance id in the po line fund distribution
@@ -130,27 +136,13 @@ public class EncumbranceRelationsHoldersBuilder extends FinanceHoldersBuilder {
       }
       return fundEcMatch;
     }
-    String id = holder.getFundDistribution().getEncumbrance();
-    return transactions.stream().filter(tr -> tr.getId().equals(id)).findAny();
-  }
-
-  private EncumbranceRelationsHolder buildToBeReleasedHolder(Transaction transaction,
-      List<EncumbranceRelationsHolder> encumbranceHolders) {
-    // find the transaction reference in the fund distributions, to be able to remove it if the transaction is deleted
-    FundDistribution fd = encumbranceHolders.stream()
-      .filter(erh -> erh.getFundDistribution() != null &&
-        transaction.getId().equals(erh.getFundDistribution().getEncumbrance()))
-      .findFirst()
-      .map(EncumbranceRelationsHolder::getFundDistribution)
-      .orElse(null);
-    return new EncumbranceRelationsHolder()
-      .withOldEncumbrance(transaction)
-      .withFundDistribution(fd);
+    return transactionIndex.findById(holder.getFundDistribution().getEncumbrance());
   }
 
   private void mapHoldersToTransactions(List<EncumbranceRelationsHolder> encumbranceHolders,
       List<Transaction> existingTransactions) {
-    encumbranceHolders.forEach(holder -> findBestMatch(holder, existingTransactions)
+    TransactionIndex transactionIndex = new TransactionIndex(existingTransactions);
+    encumbranceHolders.forEach(holder -> findBestMatch(holder, transactionIndex)
       .ifPresent(existingTransaction -> {
         holder.withOldEncumbrance(existingTransaction);
         Transaction newTransaction = holder.getNewEncumbrance();
@@ -187,4 +179,43 @@ public class EncumbranceRelationsHoldersBuilder extends FinanceHoldersBuilder {
       );
   }
 
+  /**
+   * Encumbrances indexed once by the fund distribution key (PO line, fund and expense class) and by id,
+   * so every holder is matched in constant time instead of scanning all the encumbrances.
+   * The first encumbrance of the key is kept, as the linear search returns it.
+   */
+  private static class TransactionIndex {
+
+    private record FundDistributionKey(String poLineId, String fundId, String expenseClassId) {
+    }
+
+    private final Map<FundDistributionKey, Transaction> byFundDistribution = new HashMap<>();
+    private final Map<String, Transaction> byId = new HashMap<>();
+
+    TransactionIndex(List<Transaction> transactions) {
+      transactions.forEach(transaction -> {
+        String poLineId = transaction.getEncumbrance().getSourcePoLineId();
+        String fundId = transaction.getFromFundId();
+        if (poLineId != null && fundId != null) {
+          byFundDistribution.putIfAbsent(new FundDistributionKey(poLineId, fundId, transaction.getExpenseClassId()), transaction);
+        }
+        byId.putIfAbsent(transaction.getId(), transaction);
+      });
+    }
+
+    Optional<Transaction> findByFundDistribution(EncumbranceRelationsHolder holder) {
+      String poLineId = holder.getPoLineId();
+      String fundId = holder.getFundId();
+      if (poLineId == null || fundId == null) {
+        return Optional.empty();
+      }
+      return Optional.ofNullable(byFundDistribution.get(
+        new FundDistributionKey(poLineId, fundId, holder.getFundDistribution().getExpenseClassId())));
+    }
+
+    Optional<Transaction> findById(String id) {
+      return id == null ? Optional.empty() : Optional.ofNullable(byId.get(id));
+    }
+  }
+
 }
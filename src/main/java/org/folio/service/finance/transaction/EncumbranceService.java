@@ -2,6 +2,7 @@ package org.folio.service.finance.transaction;
 
 import static java.util.Objects.requireNonNullElse;
 import static java.util.stream.Collectors.toList;
+import static java.util.stream.Collectors.toSet;
 import static org.folio.orders.utils.HelperUtils.collectResultsOnSuccess;
 import static org.folio.rest.core.exceptions.ErrorCodes.BUDGET_IS_INACTIVE;
 import static org.folio.rest.core.exceptions.ErrorCodes.BUDGET_NOT_FOUND_FOR_TRANSACTION;
@@ -14,9 +15,13 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.CompletionException;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
 
 import org.apache.commons.collections4.CollectionUtils;
 import org.apache.logging.log4j.LogManager;
@@ -31,6 +36,7 @@ import org.folio.rest.acq.model.finance.TransactionPatch;
 import org.folio.rest.core.exceptions.ErrorCodes;
 import org.folio.rest.core.exceptions.HttpException;
 import org.folio.rest.core.models.RequestContext;
+import org.folio.rest.core.models.RequestEntityCache;
 import org.folio.rest.jaxrs.model.CompositePoLine;
 import org.folio.rest.jaxrs.model.CompositePurchaseOrder;
 import org.folio.rest.jaxrs.model.CompositePurchaseOrder.WorkflowStatus;
@@ -78,17 +84,20 @@ public class EncumbranceService {
     transactionsToUpdate.addAll(holder.getPendingPaymentsToUpdate());
     List<Transaction> transactionsToDelete = prepareTransactionsToDelete(holder.getEncumbrancesForDelete());
     List<String> idsOfTransactionsToDelete = transactionsToDelete.stream().map(Transaction::getId).toList();
+    TransactionBatch requestBatch = requestContext.getTransactionBatch();
+    if (requestBatch != null) {
+      requestBatch.create(transactionsToCreate)
+        .update(transactionsToUpdate)
+        .delete(idsOfTransactionsToDelete);
+      if (!transactionsToDelete.isEmpty()) {
+        requestBatch.onSuccess(() -> deleteEncumbranceLinksInInvoiceLines(transactionsToDelete, requestContext));
+      }
+      return Future.succeededFuture();
+    }
     List<TransactionPatch> transactionPatches = Collections.emptyList();
     return transactionService.batchAllOrNothing(transactionsToCreate, transactionsToUpdate, idsOfTransactionsToDelete,
         transactionPatches, requestContext)
-      .recover(t -> {
-        try {
-          checkCustomTransactionError(t);
-        } catch (Exception ex) {
-          return Future.failedFuture(ex);
-        }
-        return Future.failedFuture(t);
-      })
+      .recover(this::recoverCustomTransactionError)
       .compose(v -> {
         if (transactionsToDelete.isEmpty()) {
           return Future.succeededFuture();
@@ -97,6 +106,33 @@ public class EncumbranceService {
       });
   }
 
+  /**
+   * Runs the operations with one transaction batch attached to the request: the encumbrance changes of all the operations
+   * are sent all-or-nothing in one request once the operations succeed, and the encumbrances retrieved by the operations
+   * include the changes not sent yet.
+   */
+  public Future<Void> processInOneBatch(Supplier<Future<Void>> operations, RequestContext requestContext) {
+    if (requestContext.getTransactionBatch() != null) {
+      return operations.get();
+    }
+    TransactionBatch transactionBatch = new TransactionBatch();
+    requestContext.withTransactionBatch(transactionBatch);
+    return Future.<Void>succeededFuture()
+      .compose(v -> operations.get())
+      .onComplete(ar -> requestContext.withTransactionBatch(null))
+      .compose(v -> transactionService.batchAllOrNothing(transactionBatch, requestContext)
+        .recover(this::recoverCustomTransactionError));
+  }
+
+  private Future<Void> recoverCustomTransactionError(Throwable t) {
+    try {
+      checkCustomTransactionError(t);
+    } catch (Exception ex) {
+      return Future.failedFuture(ex);
+    }
+    return Future.failedFuture(t);
+  }
+
   private List<Transaction> prepareTransactionsToCreate(List<EncumbranceRelationsHolder> relationsHolders) {
     if (CollectionUtils.isEmpty(relationsHolders)) {
       return Collections.emptyList();
@@ -199,8 +235,8 @@ public class EncumbranceService {
       return Future.succeededFuture(List.of());
     }
     return fiscalYearService.getCurrentFiscalYearByFundId(fundId.get(), requestContext)
-      .compose(fiscalYear -> transactionService.getTransactions(
-        buildEncumbrancesByOrderForCurrentFiscalYearQuery(order.getId(), fiscalYear.getId()), requestContext));
+      .compose(fiscalYear -> getOrderEncumbrancesSnapshot(order.getId(), fiscalYear.getId(), requestContext))
+      .map(OrderEncumbrancesSnapshot::getEncumbrances);
   }
 
   public Future<List<Transaction>> getOrderEncumbrancesToUnrelease(CompositePurchaseOrder compPO,
@@ -211,7 +247,7 @@ public class EncumbranceService {
       compPO.getCompositePoLines()
         .stream()
         .filter(poLines -> CollectionUtils.isNotEmpty(poLines.getFundDistribution()))
-        .map(poLine -> getPoLineEncumbrancesToUnrelease(compPO.getOrderType(), poLine, mapFiscalYearWithCompPOLines, requestContext))
+        .map(poLine -> getPoLineEncumbrancesToUnrelease(compPO.getId(), compPO.getOrderType(), poLine, mapFiscalYearWithCompPOLines, requestContext))
         .collect(toList());
     return collectResultsOnSuccess(futures)
       .map(listOfLists -> listOfLists.stream()
@@ -230,8 +266,13 @@ public class EncumbranceService {
       return Future.succeededFuture(List.of());
     }
     return fiscalYearService.getCurrentFiscalYearByFundId(fundId.get(), requestContext)
-      .compose(fiscalYear -> transactionService.getTransactions(
-        buildUnreleasedEncumbrancesByPoLineQuery(poLine.getId(), fiscalYear.getId()), requestContext));
+      .compose(fiscalYear -> {
+        if (isOrderEncumbrancesSnapshotEnabled(requestContext) && poLine.getPurchaseOrderId() != null) {
+          return getOrderEncumbrancesSnapshot(poLine.getPurchaseOrderId(), fiscalYear.getId(), requestContext)
+            .map(snapshot -> snapshot.getPoLineUnreleasedEncumbrances(poLine.getId()));
+        }
+        return transactionService.getTransactions(buildUnreleasedEncumbrancesByPoLineQuery(poLine.getId(), fiscalYear.getId()), requestContext);
+      });
   }
 
   public Future<List<Transaction>> getPoLineReleasedEncumbrances(CompositePoLine poLine, RequestContext requestContext) {
@@ -241,17 +282,25 @@ public class EncumbranceService {
       return Future.succeededFuture(List.of());
     }
     return fiscalYearService.getCurrentFiscalYearByFundId(fundId.get(), requestContext)
-      .compose(fiscalYear -> transactionService.getTransactions(
-        buildReleasedEncumbranceByPoLineQuery(poLine.getId(), fiscalYear.getId()), requestContext));
+      .compose(fiscalYear -> getPoLineReleasedEncumbrances(poLine.getPurchaseOrderId(), poLine.getId(), fiscalYear.getId(), requestContext));
   }
 
   public Future<List<Transaction>> getEncumbrancesByIds(List<String> transactionIds, RequestContext requestContext) {
-    return transactionService.getTransactionsByIds(transactionIds, requestContext);
+    return transactionService.getTransactionsByIds(transactionIds, requestContext)
+      .map(encumbrances -> withPendingChanges(encumbrances, encumbrance -> false, requestContext));
   }
 
   public Future<List<Transaction>> getCurrentPoLinesEncumbrances(List<CompositePoLine> poLines, String fiscalYearId, RequestContext requestContext) {
     String searchCriteria = "fiscalYearId==" + fiscalYearId;
     List<String> poLineIds = poLines.stream().map(CompositePoLine::getId).collect(toList());
+    List<String> orderIds = poLines.stream().map(CompositePoLine::getPurchaseOrderId).distinct().toList();
+    if (isOrderEncumbrancesSnapshotEnabled(requestContext) && !orderIds.contains(null)) {
+      return collectResultsOnSuccess(orderIds.stream()
+        .map(orderId -> getOrderEncumbrancesSnapshot(orderId, fiscalYearId, requestContext)
+          .map(snapshot -> snapshot.getPoLinesEncumbrances(poLineIds)))
+        .toList())
+        .map(encumbrances -> encumbrances.stream().flatMap(Collection::stream).collect(toList()));
+    }
     return transactionService.getTransactionsByPoLinesIds(poLineIds, searchCriteria, requestContext);
   }
 
@@ -293,6 +342,22 @@ public class EncumbranceService {
       });
   }
 
+  public Future<Void> deletePoLinesEncumbrances(List<PoLine> poLines, RequestContext requestContext) {
+    if (poLines.isEmpty()) {
+      return Future.succeededFuture();
+    }
+    List<String> poLineIds = poLines.stream().map(PoLine::getId).distinct().toList();
+    return transactionService.getTransactionsByPoLinesIds(poLineIds, ENCUMBRANCE_CRITERIA, requestContext)
+      .map(encumbrances -> withPendingChanges(encumbrances,
+        encumbrance -> isEncumbrance(encumbrance) && poLineIds.contains(encumbrance.getEncumbrance().getSourcePoLineId()), requestContext))
+      .compose(encumbrances -> {
+        if (encumbrances.isEmpty()) {
+          return Future.succeededFuture();
+        }
+        return transactionService.batchReleaseAndDelete(encumbrances, requestContext);
+      });
+  }
+
   public Future<Void> deleteOrderEncumbrances(String orderId, RequestContext requestContext) {
     return getOrderEncumbrances(orderId, requestContext)
       .compose(encumbrances -> {
@@ -304,16 +369,30 @@ public class EncumbranceService {
   }
 
   public Future<Void> deleteEncumbranceLinksInInvoiceLines(List<Transaction> transactions, RequestContext requestContext) {
-    String orderId = transactions.get(0).getEncumbrance().getSourcePurchaseOrderId();
-    return orderInvoiceRelationService.isOrderLinkedToAnInvoice(orderId, requestContext)
-      .compose(linked -> {
-        if (!linked)
+    // The relations of the orders are checked once per request, see OrderInvoiceRelationService#isOrderLinkedToAnInvoice
+    List<String> orderIds = transactions.stream()
+      .map(tr -> tr.getEncumbrance().getSourcePurchaseOrderId())
+      .filter(Objects::nonNull)
+      .distinct()
+      .toList();
+    return collectResultsOnSuccess(orderIds.stream()
+        .map(orderId -> orderInvoiceRelationService.isOrderLinkedToAnInvoice(orderId, requestContext)
+          .map(linked -> Boolean.TRUE.equals(linked) ? orderId : null))
+        .toList())
+      .compose(linkedOrderIds -> {
+        Set<String> linkedOrderIdSet = linkedOrderIds.stream()
+          .filter(Objects::nonNull)
+          .collect(toSet());
+        if (linkedOrderIdSet.isEmpty())
           return Future.succeededFuture();
-        List<String> poLineIds = transactions.stream()
+        List<Transaction> linkedTransactions = transactions.stream()
+          .filter(tr -> linkedOrderIdSet.contains(tr.getEncumbrance().getSourcePurchaseOrderId()))
+          .toList();
+        List<String> poLineIds = linkedTransactions.stream()
           .map(tr -> tr.getEncumbrance().getSourcePoLineId())
           .distinct()
           .collect(toList());
-        List<String> transactionIds = transactions.stream().map(Transaction::getId).collect(toList());
+        List<String> transactionIds = linkedTransactions.stream().map(Transaction::getId).collect(toList());
         return invoiceLineService.getInvoiceLinesByOrderLineIds(poLineIds, requestContext)
           .compose(invoiceLines -> invoiceLineService.removeEncumbranceLinks(invoiceLines, transactionIds, requestContext));
       })
@@ -355,7 +434,7 @@ public class EncumbranceService {
       + AND + ENCUMBRANCE_CRITERIA;
   }
 
-  private Future<List<Transaction>> getPoLineEncumbrancesToUnrelease(CompositePurchaseOrder.OrderType orderType,
+  private Future<List<Transaction>> getPoLineEncumbrancesToUnrelease(String orderId, CompositePurchaseOrder.OrderType orderType,
       CompositePoLine poLine, Map<String, List<CompositePoLine>> mapFiscalYearWithCompPOLines, RequestContext requestContext) {
 
     final String[] currentFiscalYearId = new String[1];
@@ -378,10 +457,52 @@ public class EncumbranceService {
         if (hasNotInvoiceLineWithReleaseEncumbrance) {
           return Future.succeededFuture(Collections.emptyList());
         }
-        return transactionService.getTransactions(buildReleasedEncumbranceByPoLineQuery(poLine.getId(), currentFiscalYearId[0]), requestContext);
+        return getPoLineReleasedEncumbrances(orderId, poLine.getId(), currentFiscalYearId[0], requestContext);
       });
     }
-    return transactionService.getTransactions(buildReleasedEncumbranceByPoLineQuery(poLine.getId(), currentFiscalYearId[0]), requestContext);
+    return getPoLineReleasedEncumbrances(orderId, poLine.getId(), currentFiscalYearId[0], requestContext);
+  }
+
+  private Future<List<Transaction>> getPoLineReleasedEncumbrances(String orderId, String poLineId, String fiscalYearId,
+                                                                  RequestContext requestContext) {
+    if (isOrderEncumbrancesSnapshotEnabled(requestContext) && orderId != null) {
+      return getOrderEncumbrancesSnapshot(orderId, fiscalYearId, requestContext)
+        .map(snapshot -> snapshot.getPoLineReleasedEncumbrances(poLineId));
+    }
+    return transactionService.getTransactions(buildReleasedEncumbranceByPoLineQuery(poLineId, fiscalYearId), requestContext);
+  }
+
+  /**
+   * Encumbrances of the order in the fiscal year, retrieved once per request when the request caches the snapshots
+   * and retrieved on every call otherwise.
+   */
+  private Future<OrderEncumbrancesSnapshot> getOrderEncumbrancesSnapshot(String orderId, String fiscalYearId,
+                                                                         RequestContext requestContext) {
+    return RequestEntityCache.of(requestContext).getOrLoad(OrderEncumbrancesSnapshot.class,
+      OrderEncumbrancesSnapshot.buildKey(orderId, fiscalYearId), requestContext,
+      () -> transactionService.getTransactions(buildEncumbrancesByOrderForCurrentFiscalYearQuery(orderId, fiscalYearId), requestContext)
+        .map(OrderEncumbrancesSnapshot::new))
+      .map(snapshot -> requestContext.getTransactionBatch() == null ? snapshot
+        : new OrderEncumbrancesSnapshot(withPendingChanges(snapshot.getEncumbrances(),
+            encumbrance -> isEncumbrance(encumbrance) && orderId.equals(encumbrance.getEncumbrance().getSourcePurchaseOrderId())
+              && fiscalYearId.equals(encumbrance.getFiscalYearId()), requestContext)));
+  }
+
+  /**
+   * Applies the changes of the transaction batch of the request, not sent yet, to the encumbrances retrieved from storage.
+   */
+  private static List<Transaction> withPendingChanges(List<Transaction> encumbrances, Predicate<Transaction> createdFilter,
+                                                      RequestContext requestContext) {
+    TransactionBatch transactionBatch = requestContext.getTransactionBatch();
+    return transactionBatch == null ? encumbrances : transactionBatch.applyTo(encumbrances, createdFilter);
+  }
+
+  private static boolean isEncumbrance(Transaction transaction) {
+    return transaction.getTransactionType() == Transaction.TransactionType.ENCUMBRANCE && transaction.getEncumbrance() != null;
+  }
+
+  private static boolean isOrderEncumbrancesSnapshotEnabled(RequestContext requestContext) {
+    return RequestEntityCache.of(requestContext).isEnabled(OrderEncumbrancesSnapshot.class);
   }
 
   private Future<Boolean> hasNotInvoiceLineWithReleaseEncumbrance(CompositePoLine poLine, RequestContext requestContext) {
@@ -0,0 +1,69 @@
+package org.folio.service.finance.transaction;
+
+import static java.util.stream.Collectors.groupingBy;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Predicate;
+
+import org.folio.orders.utils.ModelCopier;
+import org.folio.rest.acq.model.finance.Encumbrance;
+import org.folio.rest.acq.model.finance.Transaction;
+import org.folio.rest.core.models.RequestEntityCache;
+
+/**
+ * Encumbrances of the order in the fiscal year, retrieved once per request and kept in the request cache
+ * (see {@link RequestEntityCache#forTypes(Class[])}). The views of the order and PO line encumbrances
+ * used by the workflow strategies are filtered in memory. The snapshot is evicted after every transaction batch of the request,
+ * as the storage changes the transactions (e.g. their versions) when they are saved. The views return copies of the transactions,
+ * so the changes made by a strategy are seen by the other strategies of the request only once they are added to a transaction batch
+ * (see {@link EncumbranceService#processInOneBatch}).
+ */
+public class OrderEncumbrancesSnapshot implements RequestEntityCache.Immutable {
+
+  private final List<Transaction> encumbrances;
+  private final Map<String, List<Transaction>> encumbrancesByPoLineId;
+
+  public OrderEncumbrancesSnapshot(List<Transaction> encumbrances) {
+    this.encumbrances = List.copyOf(encumbrances);
+    this.encumbrancesByPoLineId = encumbrances.stream()
+      .filter(encumbrance -> encumbrance.getEncumbrance() != null && encumbrance.getEncumbrance().getSourcePoLineId() != null)
+      .collect(groupingBy(encumbrance -> encumbrance.getEncumbrance().getSourcePoLineId()));
+  }
+
+  static String buildKey(String orderId, String fiscalYearId) {
+    return orderId + "/" + fiscalYearId;
+  }
+
+  public List<Transaction> getEncumbrances() {
+    return encumbrances.stream()
+      .map(ModelCopier::copy)
+      .collect(ArrayList::new, List::add, List::addAll);
+  }
+
+  public List<Transaction> getPoLinesEncumbrances(Collection<String> poLineIds) {
+    return poLineIds.stream()
+      .distinct()
+      .flatMap(poLineId -> encumbrancesByPoLineId.getOrDefault(poLineId, List.of()).stream())
+      .map(ModelCopier::copy)
+      .collect(ArrayList::new, List::add, List::addAll);
+  }
+
+  public List<Transaction> getPoLineReleasedEncumbrances(String poLineId) {
+    return getPoLineEncumbrances(poLineId, encumbrance -> encumbrance.getEncumbrance().getStatus() == Encumbrance.Status.RELEASED);
+  }
+
+  public List<Transaction> getPoLineUnreleasedEncumbrances(String poLineId) {
+    return getPoLineEncumbrances(poLineId, encumbrance -> encumbrance.getEncumbrance().getStatus() != Encumbrance.Status.RELEASED);
+  }
+
+  private List<Transaction> getPoLineEncumbrances(String poLineId, Predicate<Transaction> filter) {
+    return encumbrancesByPoLineId.getOrDefault(poLineId, List.of()).stream()
+      .filter(filter)
+      .map(ModelCopier::copy)
+      .collect(ArrayList::new, List::add, List::addAll);
+  }
+
+}
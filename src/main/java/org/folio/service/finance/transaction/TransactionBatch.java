@@ -0,0 +1,176 @@
+package org.folio.service.finance.transaction;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+import org.folio.rest.acq.model.finance.Batch;
+import org.folio.rest.acq.model.finance.Encumbrance;
+import org.folio.rest.acq.model.finance.Transaction;
+import org.folio.rest.acq.model.finance.TransactionPatch;
+
+import io.vertx.core.Future;
+
+/**
+ * Transaction operations gathered to be sent to mod-finance with {@link TransactionService#batchAllOrNothing(TransactionBatch,
+ * org.folio.rest.core.models.RequestContext)}. The operations on the same transaction are merged: a transaction is sent only once
+ * with its latest state, an update of a transaction created in the batch replaces the created one, and a transaction created
+ * and deleted in the batch is not sent at all. The whole batch is sent in one request, so it stays all-or-nothing.
+ * A batch attached to the request context (see {@link org.folio.rest.core.models.RequestContext#getTransactionBatch()})
+ * gathers all the operations of the request, the actions depending on the outcome are run once it is sent.
+ */
+public class TransactionBatch {
+
+  private final Map<String, Transaction> transactionsToCreate = new LinkedHashMap<>();
+  private final Map<String, Transaction> transactionsToUpdate = new LinkedHashMap<>();
+  private final Set<String> idsOfTransactionsToDelete = new LinkedHashSet<>();
+  private final List<TransactionPatch> transactionPatches = new ArrayList<>();
+  private final List<Supplier<Future<Void>>> successActions = new ArrayList<>();
+  private final List<Supplier<Future<Void>>> failureActions = new ArrayList<>();
+
+  public TransactionBatch create(Collection<Transaction> transactions) {
+    transactions.forEach(transaction -> {
+      if (transaction.getId() == null) {
+        transaction.setId(UUID.randomUUID().toString());
+      }
+      idsOfTransactionsToDelete.remove(transaction.getId());
+      transactionsToCreate.put(transaction.getId(), transaction);
+    });
+    return this;
+  }
+
+  public TransactionBatch update(Collection<Transaction> transactions) {
+    transactions.forEach(transaction -> {
+      if (transactionsToCreate.containsKey(transaction.getId())) {
+        transactionsToCreate.put(transaction.getId(), transaction);
+      } else {
+        transactionsToUpdate.put(transaction.getId(), transaction);
+      }
+    });
+    return this;
+  }
+
+  public TransactionBatch release(Collection<Transaction> transactions) {
+    // NOTE: we will have to use transactionPatches when it is available (see MODORDERS-1008)
+    transactions.forEach(tr -> tr.getEncumbrance().setStatus(Encumbrance.Status.RELEASED));
+    return update(transactions);
+  }
+
+  public TransactionBatch unrelease(Collection<Transaction> transactions) {
+    // NOTE: we will have to use transactionPatches when it is available (see MODORDERS-1008)
+    transactions.forEach(tr -> tr.getEncumbrance().setStatus(Encumbrance.Status.UNRELEASED));
+    return update(transactions);
+  }
+
+  public TransactionBatch delete(Collection<String> transactionIds) {
+    transactionIds.forEach(id -> {
+      if (transactionsToCreate.remove(id) == null) {
+        idsOfTransactionsToDelete.add(id);
+      }
+    });
+    return this;
+  }
+
+  public TransactionBatch releaseAndDelete(Collection<Transaction> transactions) {
+    // Transactions are not automatically released in mod-finance-storage before they are deleted.
+    // They need to be released for the budgets to be updated correctly.
+    release(transactions.stream()
+      .filter(tr -> tr.getEncumbrance().getStatus() != Encumbrance.Status.RELEASED)
+      .toList());
+    return delete(transactions.stream().map(Transaction::getId).toList());
+  }
+
+  public TransactionBatch patch(Collection<TransactionPatch> patches) {
+    transactionPatches.addAll(patches);
+    return this;
+  }
+
+  /**
+   * @param action action run after the batch is processed successfully, e.g. removal of the links to the deleted transactions
+   */
+  public TransactionBatch onSuccess(Supplier<Future<Void>> action) {
+    successActions.add(action);
+    return this;
+  }
+
+  /**
+   * @param action action run after the batch fails, e.g. rollback of the changes depending on the transactions
+   */
+  public TransactionBatch onFailure(Supplier<Future<Void>> action) {
+    failureActions.add(action);
+    return this;
+  }
+
+  public boolean isEmpty() {
+    return size() == 0;
+  }
+
+  /**
+   * @return number of the operations in the batch
+   */
+  public int size() {
+    return transactionsToCreate.size() + transactionsToUpdate.size() + idsOfTransactionsToDelete.size() + transactionPatches.size();
+  }
+
+  /**
+   * @param transactions transactions retrieved from storage
+   * @param createdFilter selects the transactions created in the batch which match the retrieval
+   * @return the transactions as they will be once the batch is processed: the updated transactions are replaced,
+   * the deleted ones are removed and the matching created ones are added
+   */
+  List<Transaction> applyTo(List<Transaction> transactions, Predicate<Transaction> createdFilter) {
+    List<Transaction> result = new ArrayList<>();
+    for (Transaction transaction : transactions) {
+      if (!idsOfTransactionsToDelete.contains(transaction.getId())) {
+        result.add(transactionsToUpdate.getOrDefault(transaction.getId(), transaction));
+      }
+    }
+    for (Transaction transaction : transactionsToCreate.values()) {
+      if (createdFilter.test(transaction)) {
+        result.add(transaction);
+      }
+    }
+    return result;
+  }
+
+  Future<Void> runSuccessActions() {
+    return runActions(successActions);
+  }
+
+  Future<Void> runFailureActions() {
+    return runActions(failureActions);
+  }
+
+  private static Future<Void> runActions(List<Supplier<Future<Void>>> actions) {
+    Future<Void> future = Future.succeededFuture();
+    for (Supplier<Future<Void>> action : actions) {
+      future = future.compose(v -> action.get());
+    }
+    return future;
+  }
+
+  /**
+   * @return all the gathered operations as one batch, to be processed by mod-finance all-or-nothing
+   */
+  Batch toBatch() {
+    return toBatch(transactionsToCreate.keySet(), transactionsToUpdate.keySet(), idsOfTransactionsToDelete, transactionPatches);
+  }
+
+  private Batch toBatch(Collection<String> idsToCreate, Collection<String> idsToUpdate, Collection<String> idsToDelete,
+                        List<TransactionPatch> patches) {
+    Batch batch = new Batch();
+    batch.setTransactionsToCreate(idsToCreate.stream().map(transactionsToCreate::get).toList());
+    batch.setTransactionsToUpdate(idsToUpdate.stream().map(transactionsToUpdate::get).toList());
+    batch.setIdsOfTransactionsToDelete(List.copyOf(idsToDelete));
+    batch.setTransactionPatches(List.copyOf(patches));
+    return batch;
+  }
+
+}
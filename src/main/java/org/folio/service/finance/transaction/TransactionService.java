@@ -13,20 +13,22 @@ import java.util.Collection;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Set;
-import java.util.UUID;
+import java.util.function.Function;
+import java.util.function.UnaryOperator;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import io.vertx.core.json.JsonObject;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.folio.rest.acq.model.finance.Batch;
-import org.folio.rest.acq.model.finance.Encumbrance;
 import org.folio.rest.acq.model.finance.Transaction;
 import org.folio.rest.acq.model.finance.TransactionCollection;
 import org.folio.rest.acq.model.finance.TransactionPatch;
 import org.folio.rest.core.RestClient;
 import org.folio.rest.core.exceptions.HttpException;
 import org.folio.rest.core.models.RequestContext;
+import org.folio.rest.core.models.RequestEntityCache;
 import org.folio.rest.core.models.RequestEntry;
 import org.folio.rest.jaxrs.model.Parameter;
 
@@ -36,6 +38,7 @@ import one.util.streamex.StreamEx;
 public class TransactionService {
   private static final Logger log = LogManager.getLogger();
   private static final String ENDPOINT = "/finance/transactions";
+  static final int LOGGED_TRANSACTION_IDS_LIMIT = 10;
 
   private final RestClient restClient;
 
@@ -89,63 +92,100 @@ public class TransactionService {
 
   public Future<Void> batchAllOrNothing(List<Transaction> transactionsToCreate, List<Transaction> transactionsToUpdate,
     List<String> idsOfTransactionsToDelete, List<TransactionPatch> transactionPatches, RequestContext requestContext) {
-    Batch batch = new Batch();
-    if (transactionsToCreate != null) {
-      transactionsToCreate.forEach(tr -> {
-        if (tr.getId() == null) {
-          tr.setId(UUID.randomUUID().toString());
-        }
-      });
-      batch.setTransactionsToCreate(transactionsToCreate);
-    }
-    if (transactionsToUpdate != null) {
-      batch.setTransactionsToUpdate(transactionsToUpdate);
-    }
-    if (idsOfTransactionsToDelete != null) {
-      batch.setIdsOfTransactionsToDelete(idsOfTransactionsToDelete);
+    return batch(transactionBatch -> {
+      if (transactionsToCreate != null) {
+        transactionBatch.create(transactionsToCreate);
+      }
+      if (transactionsToUpdate != null) {
+        transactionBatch.update(transactionsToUpdate);
+      }
+      if (idsOfTransactionsToDelete != null) {
+        transactionBatch.delete(idsOfTransactionsToDelete);
+      }
+      if (transactionPatches != null) {
+        transactionBatch.patch(transactionPatches);
+      }
+      return transactionBatch;
+    }, requestContext);
+  }
+
+  /**
+   * Sends the gathered operations to mod-finance in one all-or-nothing request, then runs the actions depending on the outcome.
+   */
+  public Future<Void> batchAllOrNothing(TransactionBatch transactionBatch, RequestContext requestContext) {
+    if (transactionBatch.isEmpty()) {
+      return transactionBatch.runSuccessActions();
     }
-    if (transactionPatches != null) {
-      batch.setTransactionPatches(transactionPatches);
+    return postBatch(transactionBatch.toBatch(), requestContext)
+      .onComplete(ar -> RequestEntityCache.of(requestContext).evictAll(OrderEncumbrancesSnapshot.class))
+      .compose(v -> transactionBatch.runSuccessActions(),
+        t -> transactionBatch.runFailureActions().transform(ar -> Future.failedFuture(t)));
+  }
+
+  /**
+   * Adds the operations to the transaction batch of the request when there is one (they are sent with it later),
+   * sends them in their own batch otherwise.
+   */
+  private Future<Void> batch(UnaryOperator<TransactionBatch> operations, RequestContext requestContext) {
+    TransactionBatch requestBatch = requestContext.getTransactionBatch();
+    if (requestBatch != null) {
+      operations.apply(requestBatch);
+      return Future.succeededFuture();
     }
+    return batchAllOrNothing(operations.apply(new TransactionBatch()), requestContext);
+  }
+
+  private Future<Void> postBatch(Batch batch, RequestContext requestContext) {
     return restClient.postEmptyResponse(resourcesPath(FINANCE_BATCH_TRANSACTIONS), batch, requestContext)
       .onSuccess(v -> log.info("batchAllOrNothing completed successfully"))
-      .onFailure(t -> log.error("batchAllOrNothing failed, batch={}", JsonObject.mapFrom(batch), t));
+      .onFailure(t -> {
+        log.error("batchAllOrNothing failed, batch: {}", describeBatch(batch), t);
+        // the whole batch can hold thousands of transactions, it is serialized only on demand
+        if (log.isDebugEnabled()) {
+          log.debug("batchAllOrNothing:: failed batch={}", JsonObject.mapFrom(batch).encode());
+        }
+      });
+  }
+
+  /**
+   * @return number of the operations of each type and at most {@value #LOGGED_TRANSACTION_IDS_LIMIT} transaction ids;
+   * the cost does not depend on the size of the batch
+   */
+  static String describeBatch(Batch batch) {
+    List<String> firstIds = Stream.of(
+        batch.getTransactionsToCreate().stream().map(Transaction::getId),
+        batch.getTransactionsToUpdate().stream().map(Transaction::getId),
+        batch.getIdsOfTransactionsToDelete().stream())
+      .flatMap(Function.identity())
+      .limit(LOGGED_TRANSACTION_IDS_LIMIT)
+      .toList();
+    return String.format("transactionsToCreate=%d, transactionsToUpdate=%d, idsOfTransactionsToDelete=%d, transactionPatches=%d, firstTransactionIds=%s",
+      batch.getTransactionsToCreate().size(), batch.getTransactionsToUpdate().size(), batch.getIdsOfTransactionsToDelete().size(),
+      batch.getTransactionPatches().size(), firstIds);
   }
 
   public Future<Void> batchCreate(List<Transaction> transactions, RequestContext requestContext) {
-    return batchAllOrNothing(transactions, null, null, null, requestContext);
+    return batch(transactionBatch -> transactionBatch.create(transactions), requestContext);
   }
 
   public Future<Void> batchUpdate(List<Transaction> transactions, RequestContext requestContext) {
-    return batchAllOrNothing(null, transactions, null, null, requestContext);
+    return batch(transactionBatch -> transactionBatch.update(transactions), requestContext);
   }
 
   public Future<Void> batchRelease(List<Transaction> transactions, RequestContext requestContext) {
-    // NOTE: we will have to use transactionPatches when it is available (see MODORDERS-1008)
-    transactions.forEach(tr -> tr.getEncumbrance().setStatus(Encumbrance.Status.RELEASED));
-    return batchUpdate(transactions, requestContext);
+    return batch(transactionBatch -> transactionBatch.release(transactions), requestContext);
   }
 
   public Future<Void> batchUnrelease(List<Transaction> transactions, RequestContext requestContext) {
-    // NOTE: we will have to use transactionPatches when it is available (see MODORDERS-1008)
-    transactions.forEach(tr -> tr.getEncumbrance().setStatus(Encumbrance.Status.UNRELEASED));
-    return batchUpdate(transactions, requestContext);
+    return batch(transactionBatch -> transactionBatch.unrelease(transactions), requestContext);
   }
 
   public Future<Void> batchDelete(List<String> transactionIds, RequestContext requestContext) {
-    return batchAllOrNothing(null, null, transactionIds, null, requestContext);
+    return batch(transactionBatch -> transactionBatch.delete(transactionIds), requestContext);
   }
 
   public Future<Void> batchReleaseAndDelete(List<Transaction> transactions, RequestContext requestContext) {
-    // Transactions are not automatically released in mod-finance-storage before they are deleted.
-    // They need to be released for the budgets to be updated correctly.
-    // NOTE: we will have to use transactionPatches when it is available (see MODORDERS-1008)
-    List<String> allIds = transactions.stream().map(Transaction::getId).toList();
-    List<Transaction> transactionsToRelease = transactions.stream()
-      .filter(tr -> tr.getEncumbrance().getStatus() != Encumbrance.Status.RELEASED)
-      .toList();
-    transactionsToRelease.forEach(tr -> tr.getEncumbrance().setStatus(Encumbrance.Status.RELEASED));
-    return batchAllOrNothing(null, transactionsToRelease, allIds, null, requestContext);
+    return batch(transactionBatch -> transactionBatch.releaseAndDelete(transactions), requestContext);
   }
 
 }
@@ -14,6 +14,7 @@ import org.folio.orders.utils.StreamUtils;
 import org.folio.rest.core.RestClient;
 import org.folio.rest.core.exceptions.HttpException;
 import org.folio.rest.core.models.RequestContext;
+import org.folio.rest.core.models.RequestEntityCache;
 import org.folio.rest.core.models.RequestEntry;
 import org.folio.rest.jaxrs.model.CompositePoLine;
 import org.folio.rest.jaxrs.model.Eresource;
@@ -26,9 +27,11 @@ import org.folio.service.caches.InventoryCache;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
 import java.util.concurrent.CompletionException;
 import java.util.stream.Collectors;
 
@@ -58,6 +61,14 @@ public class InventoryHoldingManager {
   private static final String TENANT_SPECIFIC_KEY_FORMAT = "%s.%s.%s";
   public static final String HOLDINGS_LOOKUP_QUERY = "instanceId==%s and permanentLocationId==%s";
 
+  /**
+   * Key type of the holdings records kept as {@link JsonObject} in the {@link RequestEntityCache}.
+   */
+  public static final class Holding {
+    private Holding() {
+    }
+  }
+
   private final RestClient restClient;
   private final ConfigurationEntriesCache configurationEntriesCache;
   private final InventoryCache inventoryCache;
@@ -176,8 +187,16 @@ public class InventoryHoldingManager {
     if (StringUtils.isNotEmpty(holdingId)) {
       RequestEntry requestEntry = new RequestEntry(INVENTORY_LOOKUP_ENDPOINTS.get(HOLDINGS_RECORDS_BY_ID_ENDPOINT))
         .withId(holdingId);
-
-      return restClient.getAsJsonObject(requestEntry, skipNotFoundException, requestContext);
+      RequestEntityCache entityCache = RequestEntityCache.of(requestContext);
+      return entityCache.getOrLoadJson(Holding.class, holdingId, requestContext,
+          () -> restClient.getAsJsonObject(requestEntry, skipNotFoundException, requestContext))
+        .map(holding -> {
+          if (holding == null) {
+            entityCache.evict(Holding.class, holdingId, requestContext);
+            return null;
+          }
+          return holding;
+        });
     }
     return Future.succeededFuture(new JsonObject());
   }
@@ -246,7 +265,8 @@ public class InventoryHoldingManager {
 
   private Future<Void> updateHolding(JsonObject holding, RequestContext requestContext) {
     RequestEntry requestEntry = new RequestEntry(INVENTORY_LOOKUP_ENDPOINTS.get(HOLDINGS_RECORDS_BY_ID_ENDPOINT)).withId(holding.getString(ID));
-    return restClient.put(requestEntry, holding, requestContext);
+    return restClient.put(requestEntry, holding, requestContext)
+      .onSuccess(v -> RequestEntityCache.of(requestContext).putJson(Holding.class, holding.getString(ID), holding, requestContext));
   }
 
   public Future<String> getOrCreateHoldingRecordByInstanceAndLocation(String instanceId, Location location, RequestContext requestContext) {
@@ -295,7 +315,8 @@ public class InventoryHoldingManager {
     if (StringUtils.isNotEmpty(holdingId)) {
       RequestEntry requestEntry = new RequestEntry(INVENTORY_LOOKUP_ENDPOINTS.get(HOLDINGS_RECORDS_BY_ID_ENDPOINT))
         .withId(holdingId);
-      return restClient.delete(requestEntry, skipNotFoundException, requestContext);
+      return restClient.delete(requestEntry, skipNotFoundException, requestContext)
+        .onSuccess(v -> RequestEntityCache.of(requestContext).evict(Holding.class, holdingId, requestContext));
     }
     return Future.succeededFuture();
   }
@@ -330,25 +351,36 @@ public class InventoryHoldingManager {
       });
   }
 
-  public Future<List<String>> getLocationIdsFromHoldings(List<Location> locations, RequestContext requestContext) {
+  /**
+   * Resolves permanent locations of the holdings referenced by the locations, which may belong to different POLs.
+   * Holding ids are deduplicated and fetched in chunks per receiving tenant, so the number of inventory calls depends
+   * on the number of distinct holdings, not on the number of POLs.
+   *
+   * @return map of holding id to its permanent location id, holdings which were not found are absent
+   */
+  public Future<Map<String, String>> getPermanentLocationIdsByHoldingIds(Collection<Location> locations, RequestContext requestContext) {
     var holdingLocations = StreamUtils.filter(locations, location -> location.getHoldingId() != null);
     if (holdingLocations.isEmpty()) {
-      return Future.succeededFuture(List.of());
+      return Future.succeededFuture(Map.of());
     }
-    Map<String, List<String>> holdingIdsByTenant = StreamUtils.groupBy(
-      holdingLocations,
-      Location::getTenantId,
-      Location::getHoldingId
-    );
+    Map<String, Set<String>> holdingIdsByTenant = holdingLocations.stream()
+      .collect(Collectors.groupingBy(
+        location -> StringUtils.defaultString(location.getTenantId()),
+        Collectors.mapping(Location::getHoldingId, Collectors.toCollection(LinkedHashSet::new))
+      ));
     return HelperUtils.combineResultListsOnSuccess(
       holdingIdsByTenant.entrySet()
         .stream()
         .map(entry -> {
-          var locationContext = RequestContextUtil.createContextWithNewTenantId(requestContext, entry.getKey());
-          return getHoldingsByIdsWithoutVerification(entry.getValue(), locationContext);
+          var tenantId = StringUtils.defaultIfEmpty(entry.getKey(), null);
+          var locationContext = RequestContextUtil.createContextWithNewTenantId(requestContext, tenantId);
+          return getHoldingsByIdsWithoutVerification(new ArrayList<>(entry.getValue()), locationContext);
         })
         .toList()
-    ).map(holdings -> StreamUtils.map(holdings, holding -> holding.getString(HOLDING_PERMANENT_LOCATION_ID)));
+    ).map(holdings -> holdings.stream()
+      .filter(holding -> holding.getString(HOLDING_PERMANENT_LOCATION_ID) != null)
+      .collect(Collectors.toMap(holding -> holding.getString(ID), holding -> holding.getString(HOLDING_PERMANENT_LOCATION_ID),
+        (first, second) -> first)));
   }
 
 }
@@ -29,14 +29,19 @@ import org.folio.service.caches.InventoryCache;
 import org.folio.service.consortium.ConsortiumConfigurationService;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 
 import static java.util.stream.Collectors.toList;
+import static org.folio.orders.utils.CommonFields.COLLECTION_TOTAL;
 import static org.folio.orders.utils.HelperUtils.collectResultsOnSuccess;
 import static org.folio.orders.utils.QueryUtils.convertIdsToCqlQuery;
+import static org.folio.rest.RestConstants.MAX_ACTIVE_DELETE_REQUESTS;
 import static org.folio.rest.RestConstants.MAX_IDS_FOR_GET_RQ_15;
 import static org.folio.rest.core.exceptions.ErrorCodes.BARCODE_IS_NOT_UNIQUE;
 import static org.folio.rest.core.exceptions.ErrorCodes.ITEM_CREATION_FAILED;
@@ -159,10 +164,13 @@ public class InventoryItemManager {
     return restClient.delete(requestEntry, skipNotFoundException, requestContext);
   }
 
+  /**
+   * Deletes the items with no more than {@link org.folio.rest.RestConstants#MAX_ACTIVE_DELETE_REQUESTS} requests in progress, as inventory does not
+   * provide the bulk deletion of items.
+   */
   public Future<List<Void>> deleteItems(List<String> itemIds, boolean skipNotFoundException, RequestContext requestContext) {
-    List<Future<Void>> futures = new ArrayList<>(itemIds.size());
-    itemIds.forEach(itemId -> futures.add(deleteItem(itemId, skipNotFoundException, requestContext)));
-    return collectResultsOnSuccess(futures);
+    return HelperUtils.chainCallInChunks(itemIds, MAX_ACTIVE_DELETE_REQUESTS,
+      itemId -> deleteItem(itemId, skipNotFoundException, requestContext));
   }
 
   /**
@@ -296,6 +304,32 @@ public class InventoryItemManager {
     }
   }
 
+  /**
+   * Gets the total number of items of each holding with the queries of {@code limit=0}, so the items are not retrieved.
+   * No more than {@link org.folio.rest.RestConstants#MAX_IDS_FOR_GET_RQ_15} queries are in progress.
+   *
+   * @param holdingIds ids of the holdings
+   * @return future with the number of items per holding id, including the holdings without items
+   */
+  public Future<Map<String, Integer>> getNumbersOfItemsByHoldingIds(Collection<String> holdingIds, RequestContext requestContext) {
+    List<String> ids = holdingIds.stream().filter(Objects::nonNull).distinct().toList();
+    Map<String, Integer> numbersOfItems = new HashMap<>();
+    return HelperUtils.chainCallInChunks(ids, MAX_IDS_FOR_GET_RQ_15, holdingId -> getNumberOfItemsByHoldingId(holdingId, requestContext)
+        .onSuccess(numberOfItems -> numbersOfItems.put(holdingId, numberOfItems)))
+      .map(v -> {
+        logger.debug("getNumbersOfItemsByHoldingIds:: Numbers of items of {} holdings: {}", ids.size(), numbersOfItems);
+        return numbersOfItems;
+      });
+  }
+
+  private Future<Integer> getNumberOfItemsByHoldingId(String holdingId, RequestContext requestContext) {
+    RequestEntry requestEntry = new RequestEntry(INVENTORY_LOOKUP_ENDPOINTS.get(ITEMS))
+      .withQuery(String.format("%s==%s", ITEM_HOLDINGS_RECORD_ID, holdingId))
+      .withOffset(0).withLimit(0); // limit = 0 means payload will include only totalRecords value
+    return restClient.getAsJsonObject(requestEntry, requestContext)
+      .map(json -> json.getInteger(COLLECTION_TOTAL.getValue(), 0));
+  }
+
   public Future<List<JsonObject>> getItemsByHoldingId(String holdingId, RequestContext requestContext) {
     String query = String.format("holdingsRecordId==%s", holdingId);
     RequestEntry requestEntry = new RequestEntry(INVENTORY_LOOKUP_ENDPOINTS.get(ITEMS)).withQuery(query)
@@ -3,20 +3,23 @@ package org.folio.service.invoice;
 import static java.lang.String.format;
 import static java.util.stream.Collectors.joining;
 import static java.util.stream.Collectors.toList;
-import static org.folio.orders.utils.HelperUtils.collectResultsOnSuccess;
+import static org.folio.orders.utils.HelperUtils.chainCallInChunks;
 import static org.folio.orders.utils.InvoiceUtil.filterInvoiceLinesByStatuses;
 import static org.folio.rest.RestConstants.MAX_IDS_FOR_GET_RQ_15;
+import static org.folio.rest.RestConstants.SEMAPHORE_MAX_ACTIVE_THREADS;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.stream.Collectors;
 
-import org.apache.commons.collections4.CollectionUtils;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.folio.HttpStatus;
-import org.folio.okapi.common.GenericCompositeFuture;
 import org.folio.rest.acq.model.invoice.Adjustment;
 import org.folio.rest.acq.model.invoice.FundDistribution;
 import org.folio.rest.acq.model.invoice.InvoiceLine;
@@ -67,11 +70,8 @@ public class InvoiceLineService {
   }
 
   public Future<List<InvoiceLine>> getInvoiceLinesByOrderLineIds(List<String> poLineIds, RequestContext requestContext) {
-    List<Future<List<InvoiceLine>>> futures = StreamEx
-      .ofSubLists(poLineIds, MAX_IDS_FOR_GET_RQ_15)
-      .map(ids -> getInvoiceLineByOrderLineIdsChunk(ids, requestContext))
-      .collect(toList());
-    return collectResultsOnSuccess(futures)
+    List<List<String>> idChunks = StreamEx.ofSubLists(poLineIds, MAX_IDS_FOR_GET_RQ_15).toList();
+    return chainCallInChunks(idChunks, SEMAPHORE_MAX_ACTIVE_THREADS, ids -> getInvoiceLineByOrderLineIdsChunk(ids, requestContext))
       .map(listList -> listList.stream().flatMap(Collection::stream).collect(toList()))
       .map(invoiceLines -> invoiceLines.stream().distinct().collect(Collectors.toList()));
   }
@@ -79,40 +79,40 @@ public class InvoiceLineService {
   public Future<Void> removeEncumbranceLinks(List<InvoiceLine> invoiceLines, List<String> transactionIds, RequestContext requestContext) {
     List<InvoiceLine> editableOrCancelledInvoiceLines = filterInvoiceLinesByStatuses(invoiceLines,
       List.of(InvoiceLineStatus.OPEN, InvoiceLineStatus.REVIEWED, InvoiceLineStatus.CANCELLED));
-    List<InvoiceLine> invoiceLinesToUpdate = new ArrayList<>();
+    Set<String> transactionIdSet = new HashSet<>(transactionIds);
+    // Only the invoice lines with removed links are saved, every line once
+    Map<String, InvoiceLine> invoiceLinesToUpdate = new LinkedHashMap<>();
     for (InvoiceLine invoiceLine : editableOrCancelledInvoiceLines) {
       for (FundDistribution fd : invoiceLine.getFundDistributions()) {
-        if (transactionIds.contains(fd.getEncumbrance())) {
+        if (transactionIdSet.contains(fd.getEncumbrance())) {
           fd.setEncumbrance(null);
-          if (!invoiceLinesToUpdate.contains(invoiceLine))
-            invoiceLinesToUpdate.add(invoiceLine);
+          invoiceLinesToUpdate.putIfAbsent(invoiceLine.getId(), invoiceLine);
         }
       }
       for (Adjustment adj : invoiceLine.getAdjustments()) {
         for (FundDistribution fd : adj.getFundDistributions()) {
-          if (transactionIds.contains(fd.getEncumbrance())) {
+          if (transactionIdSet.contains(fd.getEncumbrance())) {
             fd.setEncumbrance(null);
-            if (!invoiceLinesToUpdate.contains(invoiceLine))
-              invoiceLinesToUpdate.add(invoiceLine);
+            invoiceLinesToUpdate.putIfAbsent(invoiceLine.getId(), invoiceLine);
           }
         }
       }
     }
-    if (CollectionUtils.isEmpty(invoiceLinesToUpdate)) {
+    if (invoiceLinesToUpdate.isEmpty()) {
       logger.info("removeEncumbranceLinks:: no invoice lines to update");
       return Future.succeededFuture();
     }
-    logger.info("removeEncumbranceLinks:: updating invoice lines: {} with removed encumbrance links",
-      invoiceLinesToUpdate.stream().map(InvoiceLine::getId).collect(joining(", ")));
-    return saveInvoiceLines(invoiceLinesToUpdate, requestContext);
+    logger.info("removeEncumbranceLinks:: updating {} invoice lines with removed encumbrance links", invoiceLinesToUpdate.size());
+    logger.debug("removeEncumbranceLinks:: invoice lines to update: {}", invoiceLinesToUpdate.keySet());
+    return saveInvoiceLines(new ArrayList<>(invoiceLinesToUpdate.values()), requestContext);
   }
 
+  /**
+   * Saves the invoice lines with no more than {@link org.folio.rest.RestConstants#SEMAPHORE_MAX_ACTIVE_THREADS} requests in progress.
+   */
   public Future<Void> saveInvoiceLines(List<InvoiceLine> invoiceLines, RequestContext requestContext) {
-    return GenericCompositeFuture.join(invoiceLines.stream()
-        .map(invLine -> saveInvoiceLine(invLine, requestContext))
-        .collect(toList()))
+    return chainCallInChunks(invoiceLines, SEMAPHORE_MAX_ACTIVE_THREADS, invLine -> saveInvoiceLine(invLine, requestContext))
       .mapEmpty();
-
   }
 
   private Future<Void> saveInvoiceLine(InvoiceLine invoiceLine, RequestContext requestContext) {
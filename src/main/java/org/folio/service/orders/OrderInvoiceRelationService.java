@@ -8,6 +8,7 @@ import org.folio.rest.acq.model.OrderInvoiceRelationshipCollection;
 import org.folio.rest.core.RestClient;
 import org.folio.rest.core.exceptions.HttpException;
 import org.folio.rest.core.models.RequestContext;
+import org.folio.rest.core.models.RequestEntityCache;
 import org.folio.rest.core.models.RequestEntry;
 import org.folio.rest.jaxrs.model.PoLine;
 import org.folio.service.invoice.InvoiceLineService;
@@ -33,16 +34,17 @@ public class OrderInvoiceRelationService {
     return restClient.get(requestEntry, OrderInvoiceRelationshipCollection.class, requestContext);
   }
 
+  /**
+   * The result is kept in the request cache if it is enabled for {@link OrderInvoiceRelationshipCollection},
+   * so the relations of the order are retrieved once per request.
+   */
   public Future<Boolean> isOrderLinkedToAnInvoice(String orderId, RequestContext requestContext) {
-    String query = "purchaseOrderId==" + orderId;
-    return getOrderInvoiceRelationshipCollection(query, 0, 0, requestContext)
+    return getOrderInvoiceRelationsCount(orderId, requestContext)
       .map(oirs -> oirs.getTotalRecords() > 0);
   }
 
   public Future<Void> checkOrderInvoiceRelationship(String id, RequestContext requestContext) {
-    String query = "purchaseOrderId==" + id;
-
-    return getOrderInvoiceRelationshipCollection(query, 0, 0, requestContext)
+    return getOrderInvoiceRelationsCount(id, requestContext)
       .map(oirs -> {
         if (oirs.getTotalRecords() > 0) {
           logger.error("Order or order line {} is linked to the invoice and can not be deleted", id);
@@ -53,9 +55,7 @@ public class OrderInvoiceRelationService {
   }
 
   public Future<Void> checkOrderPOLineLinkedToInvoiceLine(PoLine line, RequestContext requestContext) {
-    String query = "purchaseOrderId==" + line.getPurchaseOrderId();
-
-    return getOrderInvoiceRelationshipCollection(query, 0, 0, requestContext)
+    return getOrderInvoiceRelationsCount(line.getPurchaseOrderId(), requestContext)
       .compose(oirs -> {
         if (oirs.getTotalRecords() > 0) {
           return invoiceLineService.getInvoiceLinesByOrderLineId(line.getId(), requestContext)
@@ -74,4 +74,10 @@ public class OrderInvoiceRelationService {
         return Future.succeededFuture();
       });
   }
+
+  private Future<OrderInvoiceRelationshipCollection> getOrderInvoiceRelationsCount(String orderId, RequestContext requestContext) {
+    String query = "purchaseOrderId==" + orderId;
+    return RequestEntityCache.of(requestContext).getOrLoad(OrderInvoiceRelationshipCollection.class, orderId, requestContext,
+      () -> getOrderInvoiceRelationshipCollection(query, 0, 0, requestContext));
+  }
 }
@@ -66,18 +66,16 @@ public class OrderLinesSummaryPopulateService implements CompositeOrderDynamicDa
   private Future<List<Money>> getCollect(List<CompositePoLine> compositePoLines, RequestContext requestContext, String toCurrency) {
     var futures = compositePoLines.stream()
       .map(CompositePoLine::getCost)
-      .map(cost -> requestContext.getContext().<Money>executeBlocking(blockingFuture -> {
+      .map(cost -> {
         Money money = Money.of(cost.getPoLineEstimatedPrice(), cost.getCurrency());
         if (money.getCurrency().getCurrencyCode().equals(toCurrency)) {
-          blockingFuture.complete(money);
-        } else {
-          Double exchangeRate = cost.getExchangeRate();
-          ConversionQuery conversionQuery = getConversionQuery(exchangeRate, cost.getCurrency(), toCurrency);
-          var exchangeRateProvider = exchangeRateProviderResolver.resolve(conversionQuery, requestContext);
-          var conversion = exchangeRateProvider.getCurrencyConversion(conversionQuery);
-          blockingFuture.complete(money.with(conversion));
+          return Future.succeededFuture(money);
         }
-      }))
+        Double exchangeRate = cost.getExchangeRate();
+        ConversionQuery conversionQuery = getConversionQuery(exchangeRate, cost.getCurrency(), toCurrency);
+        return exchangeRateProviderResolver.resolveAsync(conversionQuery, requestContext)
+          .map(exchangeRateProvider -> money.with(exchangeRateProvider.getCurrencyConversion(conversionQuery)));
+      })
       .collect(Collectors.toList());
     return GenericCompositeFuture.join(futures)
       .map(CompositeFuture::list);
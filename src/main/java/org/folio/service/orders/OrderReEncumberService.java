@@ -7,11 +7,15 @@ import static org.folio.orders.utils.ResourcePathResolver.REPORTING_CODES;
 import static org.folio.rest.core.exceptions.ErrorCodes.ROLLOVER_NOT_COMPLETED;
 import static org.folio.rest.core.exceptions.ErrorCodes.ENCUMBRANCES_FOR_RE_ENCUMBER_NOT_FOUND;
 
+import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.function.Supplier;
 
 import javax.money.Monetary;
 import javax.money.MonetaryAmount;
@@ -28,6 +32,7 @@ import org.folio.models.CompositeOrderRetrieveHolder;
 import org.folio.models.ReEncumbranceHolder;
 import org.folio.okapi.common.GenericCompositeFuture;
 import org.folio.orders.utils.HelperUtils;
+import org.folio.rest.acq.model.finance.LedgerFiscalYearRolloverError;
 import org.folio.rest.acq.model.finance.LedgerFiscalYearRolloverErrorCollection;
 import org.folio.rest.acq.model.finance.LedgerFiscalYearRolloverProgress;
 import org.folio.rest.acq.model.finance.Transaction;
@@ -37,17 +42,20 @@ import org.folio.rest.jaxrs.model.Alert;
 import org.folio.rest.jaxrs.model.CompositePoLine;
 import org.folio.rest.jaxrs.model.EncumbranceRollover;
 import org.folio.rest.jaxrs.model.FundDistribution;
+import org.folio.rest.jaxrs.model.LedgerFiscalYearRollover;
 import org.folio.rest.jaxrs.model.Parameter;
 import org.folio.rest.jaxrs.model.PoLine;
 import org.folio.rest.jaxrs.model.ReportingCode;
 import org.folio.rest.jaxrs.model.RolloverStatus;
 import org.folio.service.finance.budget.BudgetRestrictionService;
+import org.folio.service.finance.rollover.LedgerRolloverErrorIndex;
 import org.folio.service.finance.rollover.LedgerRolloverErrorService;
 import org.folio.service.finance.rollover.LedgerRolloverProgressService;
 import org.folio.service.finance.transaction.FinanceUtils;
 import org.folio.service.finance.transaction.TransactionService;
 import org.javamoney.moneta.Money;
 import org.javamoney.moneta.function.MonetaryOperators;
+import org.springframework.beans.factory.annotation.Value;
 
 import io.vertx.core.Future;
 import io.vertx.core.json.JsonObject;
@@ -64,6 +72,10 @@ public class OrderReEncumberService implements CompositeOrderDynamicDataPopulate
   private final TransactionService transactionService;
   private final BudgetRestrictionService budgetRestrictionService;
 
+  // Max number of orders re-encumbered at the same time by the bulk re-encumber
+  @Value("${orders.re-encumber.bulk.concurrency:5}")
+  private int bulkReEncumberConcurrency = 5;
+
   public OrderReEncumberService(PurchaseOrderStorageService purchaseOrderStorageService,
                                 ReEncumbranceHoldersBuilder reEncumbranceHoldersBuilder,
                                 LedgerRolloverErrorService ledgerRolloverErrorService,
@@ -97,7 +109,7 @@ public class OrderReEncumberService implements CompositeOrderDynamicDataPopulate
                 .forEach(holder -> holder.withCurrentFiscalYearId(fiscalYear.getId()).withCurrency(fiscalYear.getCurrency())));
 
         return reEncumbranceHoldersBuilder.withRollovers(reEncumbranceHolders, requestContext)
-          .compose(holders -> getLedgersIdsRolloverNotCompleted(holders, requestContext).compose(ledgerIds -> {
+          .compose(holders -> getLedgersIdsRolloverNotCompleted(holders, new RolloverLookups(false), requestContext).compose(ledgerIds -> {
             if (isRolloversPartiallyCompleted(holders, ledgerIds)) {
               return Future.succeededFuture(orderRetrieveHolder.withNeedReEncumber(true));
             }
@@ -109,13 +121,57 @@ public class OrderReEncumberService implements CompositeOrderDynamicDataPopulate
   }
 
   public Future<Void> reEncumber(String orderId, RequestContext requestContext) {
+    return reEncumber(orderId, new RolloverLookups(false), requestContext);
+  }
+
+  /**
+   * Re-encumbers the orders having errors in the given ledger fiscal year rollover.
+   *
+   * @see #reEncumber(Collection, RequestContext)
+   */
+  public Future<Map<String, Throwable>> reEncumberRolloverOrders(String rolloverId, RequestContext requestContext) {
+    RolloverLookups rolloverLookups = new RolloverLookups(true);
+    return rolloverLookups.getRolloverErrorIndex(rolloverId, requestContext)
+      .compose(index -> reEncumber(index.getOrderIds(), rolloverLookups, requestContext));
+  }
+
+  /**
+   * Re-encumbers the orders after the fiscal year rollover, at most {@code orders.re-encumber.bulk.concurrency} orders at a time.
+   * The rollover progresses and rollover errors are looked up once per rollover and shared by all orders.
+   * Every order is re-encumbered with its own all-or-nothing batch of transactions, so the failure of one order
+   * does not stop the others.
+   *
+   * @return causes of the failures by the ids of the orders which were not re-encumbered
+   */
+  public Future<Map<String, Throwable>> reEncumber(Collection<String> orderIds, RequestContext requestContext) {
+    return reEncumber(orderIds, new RolloverLookups(true), requestContext);
+  }
+
+  private Future<Map<String, Throwable>> reEncumber(Collection<String> orderIds, RolloverLookups rolloverLookups,
+                                                    RequestContext requestContext) {
+    Map<String, Throwable> failures = new LinkedHashMap<>();
+    List<String> distinctOrderIds = orderIds.stream().distinct().toList();
+    return HelperUtils.chainCallInChunks(distinctOrderIds, bulkReEncumberConcurrency,
+        orderId -> reEncumber(orderId, rolloverLookups, requestContext)
+          .otherwise(t -> {
+            logger.warn("reEncumber:: Failed to re-encumber order '{}'", orderId, t);
+            failures.put(orderId, t);
+            return null;
+          }))
+      .map(v -> {
+        logger.info("reEncumber:: {} of {} orders re-encumbered", distinctOrderIds.size() - failures.size(), distinctOrderIds.size());
+        return failures;
+      });
+  }
+
+  private Future<Void> reEncumber(String orderId, RolloverLookups rolloverLookups, RequestContext requestContext) {
     return purchaseOrderStorageService.getCompositeOrderById(orderId, requestContext)
       .map(reEncumbranceHoldersBuilder::buildReEncumbranceHoldersWithOrdersData)
       .compose(holders -> reEncumbranceHoldersBuilder.withFinances(holders, requestContext)
         .map(v -> holders))
       .compose(holders -> reEncumbranceHoldersBuilder.withRollovers(holders, requestContext))
       .map(reEncumbranceHoldersBuilder::withEncumbranceRollover)
-      .compose(holders -> checkRolloverHappensForAllLedgers(holders, requestContext))
+      .compose(holders -> checkRolloverHappensForAllLedgers(holders, rolloverLookups, requestContext))
       .compose(holders -> reEncumbranceHoldersBuilder.withPreviousFyEncumbrances(holders, requestContext))
       .map(this::filterNeedReEncumbranceHolders)
       .map(this::ensureReEncumbranceHoldersExist)
@@ -123,13 +179,14 @@ public class OrderReEncumberService implements CompositeOrderDynamicDataPopulate
       .compose(holders -> reEncumbranceHoldersBuilder.withToEncumbrances(holders, requestContext))
       .compose(holders -> validateAndCreateEncumbrances(holders, requestContext))
       .map(this::updateLinkToEncumbrances)
-      .compose(holders -> deleteRolloverErrors(orderId, requestContext).map(aVoid -> holders))
+      .compose(holders -> deleteRolloverErrors(orderId, holders, rolloverLookups, requestContext).map(aVoid -> holders))
       .compose(holders -> updatePoLines(holders, requestContext));
   }
 
   private Future<List<ReEncumbranceHolder>> checkRolloverHappensForAllLedgers(List<ReEncumbranceHolder> holders,
+                                                                                         RolloverLookups rolloverLookups,
                                                                                          RequestContext requestContext) {
-    return getLedgersIdsRolloverNotCompleted(holders, requestContext)
+    return getLedgersIdsRolloverNotCompleted(holders, rolloverLookups, requestContext)
             .map(ledgerIds -> {
               if (isRolloversPartiallyCompleted(holders, ledgerIds)) {
                 Parameter parameter = new Parameter().withKey("ledgerIds")
@@ -146,7 +203,8 @@ public class OrderReEncumberService implements CompositeOrderDynamicDataPopulate
             && ledgerIds.size() != holders.stream().map(ReEncumbranceHolder::getLedgerId).filter(Objects::nonNull).distinct().count();
   }
 
-  private Future<List<String>> getLedgersIdsRolloverNotCompleted(List<ReEncumbranceHolder> holders, RequestContext requestContext) {
+  private Future<List<String>> getLedgersIdsRolloverNotCompleted(List<ReEncumbranceHolder> holders,
+                                                                 RolloverLookups rolloverLookups, RequestContext requestContext) {
     List<String> ledgerIds = holders.stream()
             .filter(holder -> Objects.isNull(holder.getRollover()))
             .map(ReEncumbranceHolder::getLedgerId)
@@ -157,7 +215,7 @@ public class OrderReEncumberService implements CompositeOrderDynamicDataPopulate
     return GenericCompositeFuture.join(holders.stream()
             .map(ReEncumbranceHolder::getRollover)
             .filter(Objects::nonNull)
-            .map(rollover -> ledgerRolloverProgressService.getRolloversProgress(rollover.getId(), requestContext)
+            .map(rollover -> rolloverLookups.getRolloverProgresses(rollover.getId(), requestContext)
               .map(progresses -> {
                 if (isRolloverNotCompleted(progresses)) {
                   ledgerIds.add(rollover.getLedgerId());
@@ -192,10 +250,11 @@ public class OrderReEncumberService implements CompositeOrderDynamicDataPopulate
       .orElseThrow(() -> new HttpException(HttpResponseStatus.CONFLICT.code(), ENCUMBRANCES_FOR_RE_ENCUMBER_NOT_FOUND.toError()));
   }
 
-  private Future<Void> deleteRolloverErrors(String orderId, RequestContext requestContext) {
-    return ledgerRolloverErrorService.getLedgerFyRolloverErrors(orderId, requestContext)
-            .map(LedgerFiscalYearRolloverErrorCollection::getLedgerFiscalYearRolloverErrors)
-            .compose(errors -> ledgerRolloverErrorService.deleteRolloverErrors(errors, requestContext));
+  private Future<Void> deleteRolloverErrors(String orderId, List<ReEncumbranceHolder> holders,
+                                            RolloverLookups rolloverLookups, RequestContext requestContext) {
+    return rolloverLookups.getOrderRolloverErrors(orderId, holders, requestContext)
+            .compose(errors -> ledgerRolloverErrorService.deleteRolloverErrors(errors, requestContext)
+              .onSuccess(v -> rolloverLookups.removeRolloverErrors(errors)));
   }
 
   private Future<Void> updatePoLines(List<ReEncumbranceHolder> holders, RequestContext requestContext) {
@@ -273,4 +332,63 @@ public class OrderReEncumberService implements CompositeOrderDynamicDataPopulate
       .map(aVoid -> holders);
   }
 
+  /**
+   * Rollover progresses and rollover errors looked up once per rollover. The failed lookups are not kept.
+   * In the bulk mode the rollover errors of the order are taken from the index of the errors of the rollovers of its ledgers,
+   * which are retrieved once for all orders, instead of being retrieved by the order. The deleted errors are removed from the index.
+   */
+  private class RolloverLookups {
+    private final boolean bulk;
+    private final Map<String, Future<List<LedgerFiscalYearRolloverProgress>>> progresses = new HashMap<>();
+    private final Map<String, Future<LedgerRolloverErrorIndex>> errorIndexes = new HashMap<>();
+
+    RolloverLookups(boolean bulk) {
+      this.bulk = bulk;
+    }
+
+    Future<List<LedgerFiscalYearRolloverProgress>> getRolloverProgresses(String rolloverId, RequestContext requestContext) {
+      return getOrLoad(progresses, rolloverId, () -> ledgerRolloverProgressService.getRolloversProgress(rolloverId, requestContext));
+    }
+
+    Future<List<LedgerFiscalYearRolloverError>> getOrderRolloverErrors(String orderId, List<ReEncumbranceHolder> holders,
+                                                                       RequestContext requestContext) {
+      if (!bulk) {
+        return ledgerRolloverErrorService.getLedgerFyRolloverErrors(orderId, requestContext)
+          .map(LedgerFiscalYearRolloverErrorCollection::getLedgerFiscalYearRolloverErrors);
+      }
+      var futures = holders.stream()
+        .map(ReEncumbranceHolder::getRollover)
+        .filter(Objects::nonNull)
+        .map(LedgerFiscalYearRollover::getId)
+        .distinct()
+        .map(rolloverId -> getRolloverErrorIndex(rolloverId, requestContext))
+        .toList();
+      return HelperUtils.collectResultsOnSuccess(futures)
+        .map(indexes -> indexes.stream()
+          .flatMap(index -> index.getOrderErrors(orderId).stream())
+          .toList());
+    }
+
+    Future<LedgerRolloverErrorIndex> getRolloverErrorIndex(String rolloverId, RequestContext requestContext) {
+      return getOrLoad(errorIndexes, rolloverId, () -> ledgerRolloverErrorService.getRolloverErrorsByRolloverId(rolloverId, requestContext)
+        .map(errors -> new LedgerRolloverErrorIndex(errors.getLedgerFiscalYearRolloverErrors())));
+    }
+
+    void removeRolloverErrors(List<LedgerFiscalYearRolloverError> errors) {
+      errorIndexes.values().stream()
+        .filter(Future::succeeded)
+        .forEach(index -> index.result().remove(errors));
+    }
+
+    private <T> Future<T> getOrLoad(Map<String, Future<T>> loaded, String rolloverId, Supplier<Future<T>> loader) {
+      Future<T> future = loaded.get(rolloverId);
+      if (future == null) {
+        future = loader.get();
+        loaded.put(rolloverId, future);
+        future.onFailure(t -> loaded.remove(rolloverId));
+      }
+      return future;
+    }
+  }
+
 }
@@ -43,6 +43,7 @@ import org.folio.rest.acq.model.finance.Encumbrance;
 import org.folio.rest.acq.model.finance.Fund;
 import org.folio.rest.acq.model.finance.LedgerFiscalYearRolloverProgress;
 import org.folio.rest.acq.model.finance.Transaction;
+import org.folio.rest.core.RestClientMetrics;
 import org.folio.rest.core.exceptions.ErrorCodes;
 import org.folio.rest.core.exceptions.HttpException;
 import org.folio.rest.core.models.RequestContext;
@@ -112,7 +113,8 @@ public class OrderRolloverService {
     return prepareRollover(ledgerFYRollover, requestContext)
       // order rollover should be executed asynchronously, because of it .onSuccess is used here
       .onSuccess(v -> ledgerRolloverProgressService.getRolloversProgressByRolloverId(ledgerFYRollover.getId(), requestContext)
-        .compose(progress -> startRollover(ledgerFYRollover, progress, requestContext)));
+        .compose(progress -> startRollover(ledgerFYRollover, progress, requestContext))
+        .onComplete(ar -> RestClientMetrics.logRequestSummary(requestContext)));
   }
 
   public Future<Void> prepareRollover(LedgerFiscalYearRollover ledgerFYRollover, RequestContext requestContext) {
@@ -283,9 +285,9 @@ public class OrderRolloverService {
   }
 
   public Future<Void> calculateAndUpdateOverallProgressStatus(LedgerFiscalYearRolloverProgress progress, RequestContext requestContext) {
-    return ledgerRolloverErrorService.getRolloverErrorsByRolloverId(progress.getLedgerRolloverId(), requestContext)
-      .compose(rolloverErrors -> {
-        if (rolloverErrors.getTotalRecords() == 0) {
+    return ledgerRolloverErrorService.getRolloverErrorsCount(progress.getLedgerRolloverId(), requestContext)
+      .compose(rolloverErrorsCount -> {
+        if (rolloverErrorsCount == 0) {
           progress.setOverallRolloverStatus(SUCCESS);
         } else {
           progress.setOverallRolloverStatus(ERROR);
@@ -24,7 +24,6 @@ import java.util.Date;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.NoSuchElementException;
 import java.util.Optional;
 import java.util.concurrent.CompletionException;
 import java.util.function.BiConsumer;
@@ -47,6 +46,7 @@ import org.folio.rest.core.RestClient;
 import org.folio.rest.core.exceptions.ErrorCodes;
 import org.folio.rest.core.exceptions.HttpException;
 import org.folio.rest.core.models.RequestContext;
+import org.folio.rest.core.models.RequestEntityCache;
 import org.folio.rest.core.models.RequestEntry;
 import org.folio.rest.jaxrs.model.CompositePoLine;
 import org.folio.rest.jaxrs.model.CompositePurchaseOrder;
@@ -100,16 +100,18 @@ public class PurchaseOrderLineService {
 
   public Future<PoLine> getOrderLineById(String lineId, RequestContext requestContext) {
     RequestEntry requestEntry = new RequestEntry(BY_ID_ENDPOINT).withId(lineId);
-    return restClient.get(requestEntry, PoLine.class, requestContext);
+    return RequestEntityCache.of(requestContext)
+      .getOrLoad(PoLine.class, lineId, requestContext, () -> restClient.get(requestEntry, PoLine.class, requestContext));
   }
 
   public Future<List<PoLine>> getOrderLinesByIds(List<String> orderLineIds, RequestContext requestContext) {
-
-    return collectResultsOnSuccess(ofSubLists(orderLineIds, MAX_IDS_FOR_GET_RQ_15)
-      .map(ids -> getOrderLinesChunk(ids, requestContext)).toList())
-      .map(lists -> lists.stream()
-        .flatMap(Collection::stream)
-        .toList());
+    return RequestEntityCache.of(requestContext)
+      .getOrLoadAll(PoLine.class, orderLineIds, requestContext, PoLine::getId,
+        missingIds -> collectResultsOnSuccess(ofSubLists(missingIds, MAX_IDS_FOR_GET_RQ_15)
+          .map(ids -> getOrderLinesChunk(ids, requestContext)).toList())
+          .map(lists -> lists.stream()
+            .flatMap(Collection::stream)
+            .toList()));
   }
 
   public Future<Void> saveOrderLine(PoLine poLine, RequestContext requestContext) {
@@ -119,7 +121,8 @@ public class PurchaseOrderLineService {
   private Future<Void> saveOrderLine(PoLine poLine, List<Location> locations, RequestContext requestContext) {
     RequestEntry requestEntry = new RequestEntry(BY_ID_ENDPOINT).withId(poLine.getId());
     return updateSearchLocations(poLine, locations, requestContext)
-      .compose(v -> restClient.put(requestEntry, poLine, requestContext));
+      .compose(v -> restClient.put(requestEntry, poLine, requestContext))
+      .onSuccess(v -> RequestEntityCache.of(requestContext).put(PoLine.class, poLine.getId(), poLine, requestContext));
   }
 
   public Future<Void> saveOrderLine(CompositePoLine compositePoLine, RequestContext requestContext) {
@@ -137,31 +140,14 @@ public class PurchaseOrderLineService {
   }
 
   public Future<Void> saveOrderLinesWithLocations(List<PoLineLocationsPair> pairs, RequestContext requestContext) {
-    List<PoLineCollection> poLineCollections = getPartitionedPoLines(pairs.stream().map(PoLineLocationsPair::getPoLine).toList());
-
-    for (PoLineCollection collection: poLineCollections) {
-      for (PoLine poLine: collection.getPoLines()) {
-        List<Location> locations = pairs.stream()
-          .filter(pair -> StringUtils.equals(pair.getPoLine().getId(), poLine.getId()))
-          .findFirst().orElseThrow(() -> new NoSuchElementException("No matching PoLine found"))
-          .getLocations();
-        updateSearchLocations(poLine, locations, requestContext);
-      }
-    }
-
-    return saveOrderLinesCollections(poLineCollections, requestContext);
+    return updateSearchLocations(pairs, requestContext)
+      .compose(v -> saveOrderLinesCollections(getPartitionedPoLines(pairs.stream().map(PoLineLocationsPair::getPoLine).toList()), requestContext));
   }
 
   public Future<Void> saveOrderLines(List<PoLine> orderLines, RequestContext requestContext) {
-    List<PoLineCollection> poLineCollections = getPartitionedPoLines(orderLines);
-
-    for (PoLineCollection collection: poLineCollections) {
-      for (PoLine poLine: collection.getPoLines()) {
-        updateSearchLocations(poLine, requestContext);
-      }
-    }
-
-    return saveOrderLinesCollections(poLineCollections, requestContext);
+    var pairs = orderLines.stream().map(poLine -> PoLineLocationsPair.of(poLine, poLine.getLocations())).toList();
+    return updateSearchLocations(pairs, requestContext)
+      .compose(v -> saveOrderLinesCollections(getPartitionedPoLines(orderLines), requestContext));
   }
 
   private List<PoLineCollection> getPartitionedPoLines(List<PoLine> orderLines) {
@@ -177,7 +163,9 @@ public class PurchaseOrderLineService {
       .map(poLineCollection -> {
         logger.info("saveOrderLines:: start saving {} po lines in batch", poLineCollection.getTotalRecords());
         RequestEntry requestEntry = new RequestEntry(BATCH_ENDPOINT);
-        return restClient.put(requestEntry, poLineCollection, requestContext);
+        return restClient.put(requestEntry, poLineCollection, requestContext)
+          .onSuccess(v -> poLineCollection.getPoLines()
+            .forEach(poLine -> RequestEntityCache.of(requestContext).put(PoLine.class, poLine.getId(), poLine, requestContext)));
       }).toList())
       .mapEmpty();
   }
@@ -515,12 +503,13 @@ public class PurchaseOrderLineService {
     return inventoryCache.getISBNProductTypeId(requestContext)
       .compose(isbnTypeId -> {
         var setOfProductIds = buildSetOfProductIdsFromCompositePoLines(filteredCompLines, isbnTypeId);
-        return org.folio.service.orders.utils.HelperUtils.executeWithSemaphores(setOfProductIds,
-          productId -> inventoryCache.convertToISBN13(productIdUnaryOperator.apply(productId), requestContext)
-            .map(normalizedId -> Map.entry(productId, normalizedId))
-            .recover(throwable -> validationExceptionPredicate.test(throwable) ?
-              Future.succeededFuture(Maps.immutableEntry(productId, null)) :
-              Future.failedFuture(throwable)), requestContext)
+        return collectResultsOnSuccess(setOfProductIds.stream()
+            .map(productId -> inventoryCache.convertToISBN13(productIdUnaryOperator.apply(productId))
+              .map(normalizedId -> Map.entry(productId, normalizedId))
+              .recover(throwable -> validationExceptionPredicate.test(throwable) ?
+                Future.succeededFuture(Maps.immutableEntry(productId, null)) :
+                Future.failedFuture(throwable)))
+            .toList())
           .map(result -> result
             .stream()
             .collect(HashMap<String, String>::new, (m,v) -> m.put(v.getKey(), v.getValue()), HashMap::putAll))
@@ -543,30 +532,49 @@ public class PurchaseOrderLineService {
       .mapEmpty();
   }
 
-  private Future<Void> updateSearchLocations(PoLine poLine, RequestContext requestContext) {
-    return updateSearchLocations(poLine, poLine.getLocations(), requestContext);
-  }
-
   private Future<Void> updateSearchLocations(PoLine poLine, List<Location> locations, RequestContext requestContext) {
     return retrieveSearchLocationIds(locations, requestContext)
       .map(poLine::withSearchLocationIds)
       .mapEmpty();
   }
 
+  /**
+   * Populates search locations of all POLs of the batch with a single holdings lookup for the whole batch.
+   */
+  private Future<Void> updateSearchLocations(List<PoLineLocationsPair> pairs, RequestContext requestContext) {
+    var locations = StreamEx.of(pairs).map(PoLineLocationsPair::getLocations).nonNull().flatMap(Collection::stream).toList();
+    return retrieveHoldingsLocationIds(locations, requestContext)
+      .onSuccess(holdingsLocationIds -> pairs.forEach(pair ->
+        pair.getPoLine().setSearchLocationIds(buildSearchLocationIds(pair.getLocations(), holdingsLocationIds))))
+      .mapEmpty();
+  }
+
   private Future<List<String>> retrieveSearchLocationIds(List<Location> locations, RequestContext requestContext) {
     if (CollectionUtils.isEmpty(locations)) {
       return Future.succeededFuture(List.of());
     }
+    return retrieveHoldingsLocationIds(locations, requestContext)
+      .map(holdingsLocationIds -> buildSearchLocationIds(locations, holdingsLocationIds));
+  }
 
-    var locationIds = StreamEx.of(locations).map(Location::getLocationId).nonNull().toList();
+  private Future<Map<String, String>> retrieveHoldingsLocationIds(List<Location> locations, RequestContext requestContext) {
+    if (locations.stream().noneMatch(location -> location.getHoldingId() != null)) {
+      return Future.succeededFuture(Map.of());
+    }
+    return inventoryHoldingManager.getPermanentLocationIdsByHoldingIds(locations, requestContext);
+  }
 
+  private List<String> buildSearchLocationIds(List<Location> locations, Map<String, String> holdingsLocationIds) {
+    if (CollectionUtils.isEmpty(locations)) {
+      return List.of();
+    }
     /*
      * Possible scenarios where holding can be removed but the operation is not yet complete, and this would
-     * result in halting the entire flow. To avoid this, we do not compare the number of holdingIds with
-     * the final result from the inventory.
+     * result in halting the entire flow. To avoid this, holdings which were not found are skipped.
      */
-    return inventoryHoldingManager.getLocationIdsFromHoldings(locations, requestContext)
-      .map(holdingsPermanentLocationIds -> StreamEx.of(locationIds).append(holdingsPermanentLocationIds)
-        .distinct().toList());
+    return StreamEx.of(locations).map(Location::getLocationId).nonNull()
+      .append(StreamEx.of(locations).map(Location::getHoldingId).nonNull().map(holdingsLocationIds::get).nonNull())
+      .distinct()
+      .toList();
   }
 }
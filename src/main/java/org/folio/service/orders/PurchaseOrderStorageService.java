@@ -14,6 +14,7 @@ import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.folio.rest.core.RestClient;
 import org.folio.rest.core.models.RequestContext;
+import org.folio.rest.core.models.RequestEntityCache;
 import org.folio.rest.core.models.RequestEntry;
 import org.folio.rest.jaxrs.model.CompositePurchaseOrder;
 import org.folio.rest.jaxrs.model.PurchaseOrder;
@@ -39,7 +40,8 @@ public class PurchaseOrderStorageService {
 
   public Future<PurchaseOrder> getPurchaseOrderById(String id, RequestContext requestContext) {
     RequestEntry requestEntry = new RequestEntry(BY_ID_ENDPOINT).withId(id);
-    return restClient.get(requestEntry, PurchaseOrder.class, requestContext);
+    return RequestEntityCache.of(requestContext)
+      .getOrLoad(PurchaseOrder.class, id, requestContext, () -> restClient.get(requestEntry, PurchaseOrder.class, requestContext));
   }
 
   public Future<JsonObject> getPurchaseOrderByIdAsJson(String id, RequestContext requestContext) {
@@ -61,12 +63,13 @@ public class PurchaseOrderStorageService {
     return restClient.get(requestEntry, PurchaseOrderCollection.class, requestContext);
   }
   public Future<List<PurchaseOrder>> getPurchaseOrdersByIds(List<String> orderIds, RequestContext requestContext) {
-
-    return collectResultsOnSuccess(ofSubLists(orderIds, MAX_IDS_FOR_GET_RQ_15)
-      .map(ids -> getOrdersChunk(ids, requestContext)).toList())
-      .map(lists -> lists.stream()
-        .flatMap(Collection::stream)
-        .collect(toList()));
+    return RequestEntityCache.of(requestContext)
+      .getOrLoadAll(PurchaseOrder.class, orderIds, requestContext, PurchaseOrder::getId,
+        missingIds -> collectResultsOnSuccess(ofSubLists(missingIds, MAX_IDS_FOR_GET_RQ_15)
+          .map(ids -> getOrdersChunk(ids, requestContext)).toList())
+          .map(lists -> lists.stream()
+            .flatMap(Collection::stream)
+            .collect(toList())));
   }
 
   public Future<CompositePurchaseOrder> getCompositeOrderByPoLineId(String poLineId, RequestContext requestContext) {
@@ -95,7 +98,8 @@ public class PurchaseOrderStorageService {
 
   public Future<Void> deleteOrderById(String orderId, RequestContext requestContext) {
     RequestEntry requestEntry = new RequestEntry(BY_ID_ENDPOINT).withId(orderId);
-    return restClient.delete(requestEntry, requestContext);
+    return restClient.delete(requestEntry, requestContext)
+      .onSuccess(v -> RequestEntityCache.of(requestContext).evict(PurchaseOrder.class, orderId, requestContext));
   }
 
   public Future<PurchaseOrder> createPurchaseOrder(PurchaseOrder jsonOrder, RequestContext requestContext) {
@@ -104,6 +108,7 @@ public class PurchaseOrderStorageService {
   }
   public Future<Void> saveOrder(PurchaseOrder purchaseOrder, RequestContext requestContext) {
     RequestEntry requestEntry = new RequestEntry(BY_ID_ENDPOINT).withId(purchaseOrder.getId());
-    return restClient.put(requestEntry, purchaseOrder, requestContext);
+    return restClient.put(requestEntry, purchaseOrder, requestContext)
+      .onSuccess(v -> RequestEntityCache.of(requestContext).put(PurchaseOrder.class, purchaseOrder.getId(), purchaseOrder, requestContext));
   }
 }
@@ -14,7 +14,6 @@ import java.util.function.Function;
 
 import javax.money.convert.ConversionQuery;
 import javax.money.convert.CurrencyConversion;
-import javax.money.convert.ExchangeRateProvider;
 
 import org.folio.models.EncumbranceRelationsHolder;
 import org.folio.models.ReEncumbranceHolder;
@@ -29,10 +28,8 @@ import org.folio.rest.jaxrs.model.EncumbranceRollover;
 import org.folio.rest.jaxrs.model.LedgerFiscalYearRollover;
 import org.folio.service.FundsDistributionService;
 import org.folio.service.exchange.ExchangeRateProviderResolver;
+import org.folio.service.caches.FinanceReferenceDataCache;
 import org.folio.service.finance.FinanceHoldersBuilder;
-import org.folio.service.finance.FiscalYearService;
-import org.folio.service.finance.FundService;
-import org.folio.service.finance.LedgerService;
 import org.folio.service.finance.budget.BudgetService;
 import org.folio.service.finance.rollover.LedgerRolloverService;
 import org.folio.service.finance.transaction.TransactionService;
@@ -49,11 +46,10 @@ public class ReEncumbranceHoldersBuilder extends FinanceHoldersBuilder {
   private final TransactionService transactionService;
   private final FundsDistributionService fundsDistributionService;
 
-  public ReEncumbranceHoldersBuilder(BudgetService budgetService, LedgerService ledgerService, FundService fundService,
-      ExchangeRateProviderResolver exchangeRateProviderResolver, FiscalYearService fiscalYearService,
-      LedgerRolloverService ledgerRolloverService, TransactionService transactionService,
-      FundsDistributionService fundsDistributionService) {
-    super(fundService, fiscalYearService, exchangeRateProviderResolver, budgetService, ledgerService);
+  public ReEncumbranceHoldersBuilder(BudgetService budgetService, FinanceReferenceDataCache financeReferenceDataCache,
+      ExchangeRateProviderResolver exchangeRateProviderResolver, LedgerRolloverService ledgerRolloverService,
+      TransactionService transactionService, FundsDistributionService fundsDistributionService) {
+    super(financeReferenceDataCache, exchangeRateProviderResolver, budgetService);
     this.ledgerRolloverService = ledgerRolloverService;
     this.transactionService = transactionService;
     this.fundsDistributionService = fundsDistributionService;
@@ -100,10 +96,12 @@ public class ReEncumbranceHoldersBuilder extends FinanceHoldersBuilder {
     if (fyCurrency.isEmpty()) {
       return Future.succeededFuture(null);
     }
-    return requestContext.getContext().executeBlocking(() -> {
-      Map<String, List<ReEncumbranceHolder>> currencyHoldersMap = reEncumbranceHolders.stream()
-        .collect(groupingBy(holder -> holder.getPoLine().getCost().getCurrency()));
-      currencyHoldersMap.forEach((poLineCurrency, holders) -> {
+    Map<String, List<ReEncumbranceHolder>> currencyHoldersMap = reEncumbranceHolders.stream()
+      .collect(groupingBy(holder -> holder.getPoLine().getCost().getCurrency()));
+    var futures = currencyHoldersMap.entrySet().stream()
+      .map(entry -> {
+        String poLineCurrency = entry.getKey();
+        List<ReEncumbranceHolder> holders = entry.getValue();
         Double exchangeRate = holders.stream()
           .map(ReEncumbranceHolder::getPoLine)
           .map(CompositePoLine::getCost)
@@ -111,18 +109,22 @@ public class ReEncumbranceHoldersBuilder extends FinanceHoldersBuilder {
           .filter(Objects::nonNull)
           .findFirst().orElse(null);
         ConversionQuery poLineToFYConversionQuery = HelperUtils.getConversionQuery(exchangeRate, poLineCurrency, fyCurrency.get());
-        ExchangeRateProvider exchangeRateProvider = exchangeRateProviderResolver.resolve(poLineToFYConversionQuery, requestContext);
-        CurrencyConversion poLineToFYConversion = exchangeRateProvider.getCurrencyConversion(poLineToFYConversionQuery);
-        exchangeRate = poLineToFYConversion.getExchangeRate(Money.of(0d, poLineCurrency)).getFactor().doubleValue();
-
-        double reverseRate = BigDecimal.ONE.divide(BigDecimal.valueOf(exchangeRate), DECIMAL64).doubleValue();
-
-        ConversionQuery fyToPoLineConversionQuery = HelperUtils.getConversionQuery(reverseRate, fyCurrency.get(), poLineCurrency);
-        CurrencyConversion fyToPoLineConversion = exchangeRateProvider.getCurrencyConversion(fyToPoLineConversionQuery);
-        holders.forEach(holder -> holder.withPoLineToFyConversion(poLineToFYConversion).withFyToPoLineConversion(fyToPoLineConversion));
-      });
-      return null;
-    });
+        return exchangeRateProviderResolver.resolveAsync(poLineToFYConversionQuery, requestContext)
+          .map(exchangeRateProvider -> {
+            CurrencyConversion poLineToFYConversion = exchangeRateProvider.getCurrencyConversion(poLineToFYConversionQuery);
+            double rate = poLineToFYConversion.getExchangeRate(Money.of(0d, poLineCurrency)).getFactor().doubleValue();
+
+            double reverseRate = BigDecimal.ONE.divide(BigDecimal.valueOf(rate), DECIMAL64).doubleValue();
+
+            ConversionQuery fyToPoLineConversionQuery = HelperUtils.getConversionQuery(reverseRate, fyCurrency.get(), poLineCurrency);
+            CurrencyConversion fyToPoLineConversion = exchangeRateProvider.getCurrencyConversion(fyToPoLineConversionQuery);
+            holders.forEach(holder -> holder.withPoLineToFyConversion(poLineToFYConversion).withFyToPoLineConversion(fyToPoLineConversion));
+            return null;
+          });
+      })
+      .toList();
+    return HelperUtils.collectResultsOnSuccess(futures)
+      .mapEmpty();
   }
 
   public Future<List<ReEncumbranceHolder>> withPreviousFyEncumbrances(List<ReEncumbranceHolder> holders,
@@ -1,8 +1,6 @@
 package org.folio.service.orders.flows.update.open;
 
 import static java.util.stream.Collectors.toList;
-import static org.folio.orders.utils.ResourcePathResolver.ALERTS;
-import static org.folio.orders.utils.ResourcePathResolver.REPORTING_CODES;
 import static org.folio.rest.jaxrs.model.CompositePurchaseOrder.WorkflowStatus.OPEN;
 
 import java.util.Date;
@@ -14,16 +12,16 @@ import org.apache.commons.collections4.CollectionUtils;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.folio.okapi.common.GenericCompositeFuture;
+import org.folio.orders.utils.ModelCopier;
 import org.folio.orders.utils.PoLineCommonUtil;
 import org.folio.rest.core.models.RequestContext;
-import org.folio.rest.jaxrs.model.Alert;
 import org.folio.rest.jaxrs.model.CompositePoLine;
 import org.folio.rest.jaxrs.model.CompositePurchaseOrder;
 import org.folio.rest.jaxrs.model.PoLine;
-import org.folio.rest.jaxrs.model.ReportingCode;
 import org.folio.rest.jaxrs.model.Title;
 import org.folio.service.finance.transaction.EncumbranceWorkflowStrategy;
 import org.folio.service.finance.transaction.EncumbranceWorkflowStrategyFactory;
+import org.folio.service.finance.transaction.TransactionBatch;
 import org.folio.service.orders.OrderWorkflowType;
 import org.folio.service.orders.PurchaseOrderLineService;
 import org.folio.service.orders.flows.update.unopen.UnOpenCompositeOrderManager;
@@ -96,13 +94,7 @@ public class OpenCompositeOrderManager {
   }
 
   public PoLine convertToPoLine(CompositePoLine compPoLine) {
-    JsonObject pol = JsonObject.mapFrom(compPoLine);
-    pol.remove(ALERTS);
-    pol.remove(REPORTING_CODES);
-    PoLine poLine = pol.mapTo(PoLine.class);
-    poLine.setAlerts(compPoLine.getAlerts().stream().map(Alert::getId).collect(toList()));
-    poLine.setReportingCodes(compPoLine.getReportingCodes().stream().map(ReportingCode::getId).collect(toList()));
-    return poLine;
+    return PoLineCommonUtil.convertToPoLine(compPoLine);
   }
 
   private CompositePoLine removeLocationId(CompositePoLine compositePoLine) {
@@ -161,24 +153,33 @@ public class OpenCompositeOrderManager {
   private Future<Void> finishProcessingEncumbrancesForOpenOrder(CompositePurchaseOrder compPO,
       CompositePurchaseOrder poFromStorage, RequestContext requestContext) {
     EncumbranceWorkflowStrategy strategy = encumbranceWorkflowStrategyFactory.getStrategy(OrderWorkflowType.PENDING_TO_OPEN);
+    TransactionBatch transactionBatch = requestContext.getTransactionBatch();
+    if (transactionBatch != null) {
+      // the encumbrances are sent with the other transactions of the request, the inventory changes are rolled back if they fail
+      transactionBatch.onFailure(() -> rollbackInventory(compPO, requestContext));
+    }
     return strategy.processEncumbrances(compPO, poFromStorage, requestContext)
       .onSuccess(v -> logger.info("Finished processing encumbrances to open the order, order id={}", compPO.getId()))
       .recover(t -> {
         logger.error("Error when processing encumbrances to open the order, order id={}", compPO.getId(), t);
         // There was an error when processing the encumbrances despite the previous validations.
         // Try to rollback inventory changes
-        return unOpenCompositeOrderManager.rollbackInventory(compPO, requestContext)
-          .onSuccess(v -> logger.info("Successfully rolled back inventory changes, order id={}", compPO.getId()))
-          .onFailure(t2 -> logger.error("Error when trying to rollback inventory changes, order id={}", compPO.getId(), t2))
+        return rollbackInventory(compPO, requestContext)
           .transform(v -> Future.failedFuture(t));
       });
   }
 
+  private Future<Void> rollbackInventory(CompositePurchaseOrder compPO, RequestContext requestContext) {
+    return unOpenCompositeOrderManager.rollbackInventory(compPO, requestContext)
+      .onSuccess(v -> logger.info("Successfully rolled back inventory changes, order id={}", compPO.getId()))
+      .onFailure(t -> logger.error("Error when trying to rollback inventory changes, order id={}", compPO.getId(), t));
+  }
+
   private void updateIncomingOrder(CompositePurchaseOrder compPO, CompositePurchaseOrder poFromStorage) {
     compPO.setWorkflowStatus(OPEN);
     compPO.setDateOrdered(new Date());
     if (CollectionUtils.isEmpty(compPO.getCompositePoLines())) {
-      CompositePurchaseOrder clonedPoFromStorage = JsonObject.mapFrom(poFromStorage).mapTo(CompositePurchaseOrder.class);
+      CompositePurchaseOrder clonedPoFromStorage = ModelCopier.copy(poFromStorage);
       compPO.setCompositePoLines(clonedPoFromStorage.getCompositePoLines());
     }
     compPO.getCompositePoLines().forEach(poLine -> PoLineCommonUtil.updateLocationsQuantity(poLine.getLocations()));
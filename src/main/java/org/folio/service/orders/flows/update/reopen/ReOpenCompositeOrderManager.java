@@ -11,6 +11,7 @@ import java.util.Map;
 import org.apache.commons.collections4.CollectionUtils;
 import org.folio.helper.CheckinReceivePiecesHelper;
 import org.folio.models.orders.flows.update.reopen.ReOpenCompositeOrderHolder;
+import org.folio.orders.utils.ModelCopier;
 import org.folio.rest.acq.model.invoice.Invoice;
 import org.folio.rest.acq.model.invoice.InvoiceLine;
 import org.folio.rest.core.models.RequestContext;
@@ -25,7 +26,6 @@ import org.folio.service.orders.OrderWorkflowType;
 import org.folio.service.pieces.PieceStorageService;
 
 import io.vertx.core.Future;
-import io.vertx.core.json.JsonObject;
 
 public class ReOpenCompositeOrderManager {
   private final EncumbranceWorkflowStrategyFactory encumbranceWorkflowStrategyFactory;
@@ -56,7 +56,7 @@ public class ReOpenCompositeOrderManager {
     if (CollectionUtils.isEmpty(compPO.getCompositePoLines())) {
       List<CompositePoLine> clonedLines = poFromStorage.getCompositePoLines()
         .stream()
-        .map(line -> JsonObject.mapFrom(line).mapTo(CompositePoLine.class))
+        .map(ModelCopier::copy)
         .collect(toList());
       compPO.setCompositePoLines(clonedLines);
     }
@@ -5,6 +5,8 @@ import static java.util.stream.Collectors.toList;
 import static org.folio.orders.utils.HelperUtils.collectResultsOnSuccess;
 import static org.folio.orders.utils.ProtectedOperationType.DELETE;
 import static org.folio.orders.utils.RequestContextUtil.createContextWithNewTenantId;
+import static org.folio.rest.RestConstants.MAX_ACTIVE_DELETE_REQUESTS;
+import static org.folio.rest.RestConstants.SEMAPHORE_MAX_ACTIVE_THREADS;
 import static org.folio.service.inventory.InventoryHoldingManager.HOLDING_PERMANENT_LOCATION_ID;
 import static org.folio.service.inventory.InventoryItemManager.ID;
 import static org.folio.service.inventory.InventoryItemManager.ITEM_EFFECTIVE_LOCATION;
@@ -14,6 +16,7 @@ import static org.folio.service.inventory.InventoryItemManager.ITEM_STATUS_NAME;
 
 import java.util.ArrayList;
 import java.util.EnumSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -48,6 +51,7 @@ import org.folio.service.orders.PurchaseOrderLineService;
 import org.folio.service.orders.PurchaseOrderStorageService;
 import org.folio.service.pieces.PieceStorageService;
 
+import io.vertx.core.AsyncResult;
 import io.vertx.core.Future;
 import io.vertx.core.json.JsonObject;
 
@@ -133,13 +137,14 @@ public class UnOpenCompositeOrderManager {
   }
 
   private Future<Void> processInventory(List<CompositePoLine> compositePoLines, boolean deleteHoldings, RequestContext requestContext) {
-    return GenericCompositeFuture.join(
-        compositePoLines
-          .stream()
-          .map(line -> processInventory(line, deleteHoldings, requestContext))
-          .toList()
-      )
-      .mapEmpty();
+    // every line is processed even if some of them fail, the first failure is returned at the end
+    return HelperUtils.chainCallInChunks(compositePoLines, SEMAPHORE_MAX_ACTIVE_THREADS,
+        line -> processInventory(line, deleteHoldings, requestContext).transform(ar -> Future.<AsyncResult<Void>>succeededFuture(ar)))
+      .compose(results -> results.stream()
+        .filter(AsyncResult::failed)
+        .findFirst()
+        .map(result -> Future.<Void>failedFuture(result.cause()))
+        .orElseGet(Future::succeededFuture));
   }
 
   /**
@@ -192,19 +197,16 @@ public class UnOpenCompositeOrderManager {
   private Future<Void> processInventoryOnlyWithHolding(CompositePoLine compPOL, RequestContext requestContext) {
     return deleteExpectedPieces(compPOL, requestContext)
       .compose(deletedPieces -> {
-        var deleteHoldingsVsLocations = inventoryHoldingManager.getHoldingsByLocationTenants(compPOL, requestContext)
-          .entrySet()
-          .stream()
-          .map(entry -> entry.getValue().compose(holdings -> deleteHoldings(entry.getKey(), holdings, requestContext)))
-          .toList();
-        return GenericCompositeFuture.all(deleteHoldingsVsLocations).map(ar -> {
-          var deletedHoldingVsLocationIds = deleteHoldingsVsLocations.stream()
-            .map(Future::result)
-            .flatMap(List::stream)
-            .toList();
-          updateLocations(compPOL, deletedHoldingVsLocationIds);
-          return null;
-        });
+        var holdingsByTenants = new ArrayList<>(inventoryHoldingManager.getHoldingsByLocationTenants(compPOL, requestContext).entrySet());
+        return HelperUtils.chainCallInChunks(holdingsByTenants, SEMAPHORE_MAX_ACTIVE_THREADS,
+            entry -> entry.getValue().compose(holdings -> deleteHoldings(entry.getKey(), holdings, requestContext)))
+          .map(deleteHoldingsVsLocations -> {
+            var deletedHoldingVsLocationIds = deleteHoldingsVsLocations.stream()
+              .flatMap(List::stream)
+              .toList();
+            updateLocations(compPOL, deletedHoldingVsLocationIds);
+            return null;
+          });
       })
       .onSuccess(v -> logger.debug("Pieces, Holdings deleted after UnOpen order"))
       .mapEmpty();
@@ -214,28 +216,44 @@ public class UnOpenCompositeOrderManager {
     if (CollectionUtils.isEmpty(holdings)) {
       return Future.succeededFuture(List.of());
     }
-    RequestContext newContext = createContextWithNewTenantId(requestContext, tenantId);
-    List<Future<Pair<String, String>>> deletedHoldingIds = new ArrayList<>(holdings.size());
+    Map<String, String> holdingIdVsLocationId = new LinkedHashMap<>();
     holdings.forEach(holding -> {
       String holdingId = holding.getString(ID);
-      String permanentLocationId = holding.getString(HOLDING_PERMANENT_LOCATION_ID);
-      if (holdingId != null) {
-        deletedHoldingIds.add(inventoryItemManager.getItemsByHoldingId(holdingId, newContext)
-          .compose(items -> {
-            if (items.isEmpty()) {
-              logger.info("deleteHoldings:: Deleting holdings, holdingId: {}", holdingId);
-              return inventoryHoldingManager.deleteHoldingById(holdingId, true, newContext)
-                .map(v -> Pair.of(holdingId, permanentLocationId));
-            } else {
-              logger.info("deleteHoldings:: Cannot delete holdings with items, holdingId: {}, items: {}", holdingId, items.size());
-            }
-            return Future.succeededFuture();
-          }));
+      if (holdingId != null && !holdingIdVsLocationId.containsKey(holdingId)) {
+        holdingIdVsLocationId.put(holdingId, holding.getString(HOLDING_PERMANENT_LOCATION_ID));
       }
     });
-    return collectResultsOnSuccess(deletedHoldingIds)
-      .map(resultDeletedHoldingVsLocationIds -> resultDeletedHoldingVsLocationIds.stream()
-        .filter(pair -> Objects.nonNull(pair) && Objects.nonNull(pair.getKey())).collect(toList()))
+    return deleteHoldingsWithoutItems(holdingIdVsLocationId, createContextWithNewTenantId(requestContext, tenantId));
+  }
+
+  /**
+   * Deletes the holdings which do not have items. The items of the holdings are counted without retrieving them
+   * and the holdings are deleted with the bounded number of requests in progress.
+   *
+   * @param holdingIdVsLocationId location id of every holding to be set to the PO line locations when the holding is deleted
+   * @return future with the pairs of the deleted holding id and its location id
+   */
+  private Future<List<Pair<String, String>>> deleteHoldingsWithoutItems(Map<String, String> holdingIdVsLocationId,
+                                                                       RequestContext requestContext) {
+    if (holdingIdVsLocationId.isEmpty()) {
+      return Future.succeededFuture(List.of());
+    }
+    return inventoryItemManager.getNumbersOfItemsByHoldingIds(holdingIdVsLocationId.keySet(), requestContext)
+      .compose(numbersOfItemsByHoldingId -> {
+        List<String> holdingIdsToDelete = new ArrayList<>();
+        holdingIdVsLocationId.keySet().forEach(holdingId -> {
+          int itemsCount = numbersOfItemsByHoldingId.getOrDefault(holdingId, 0);
+          if (itemsCount == 0) {
+            logger.info("deleteHoldingsWithoutItems:: Deleting holdings, holdingId: {}", holdingId);
+            holdingIdsToDelete.add(holdingId);
+          } else {
+            logger.info("deleteHoldingsWithoutItems:: Cannot delete holdings with items, holdingId: {}, items: {}", holdingId, itemsCount);
+          }
+        });
+        return HelperUtils.chainCallInChunks(holdingIdsToDelete, MAX_ACTIVE_DELETE_REQUESTS,
+          holdingId -> inventoryHoldingManager.deleteHoldingById(holdingId, true, requestContext)
+            .map(v -> Pair.of(holdingId, holdingIdVsLocationId.get(holdingId))));
+      })
       .map(resultDeletedHoldingVsLocationIds -> {
         if (logger.isDebugEnabled()) {
           String deletedIds = resultDeletedHoldingVsLocationIds.stream().map(Pair::getKey).collect(Collectors.joining(","));
@@ -248,14 +266,10 @@ public class UnOpenCompositeOrderManager {
 
   private Future<Void> processInventoryOnlyWithItems(CompositePoLine compPOL, RequestContext requestContext) {
     return deleteExpectedPieces(compPOL, requestContext)
-      .compose(deletedPieces ->
-        GenericCompositeFuture.all(
-          PoLineCommonUtil.getTenantsFromLocations(compPOL)
-            .stream()
-            .map(tenantId -> processInventoryOnlyWithItemsForTenant(compPOL, createContextWithNewTenantId(requestContext, tenantId)))
-            .toList()
-        )
-      ).mapEmpty();
+      .compose(deletedPieces -> HelperUtils.chainCallInChunks(PoLineCommonUtil.getTenantsFromLocations(compPOL),
+        SEMAPHORE_MAX_ACTIVE_THREADS,
+        tenantId -> processInventoryOnlyWithItemsForTenant(compPOL, createContextWithNewTenantId(requestContext, tenantId)).mapEmpty()))
+      .mapEmpty();
   }
 
   private Future<?> processInventoryOnlyWithItemsForTenant(CompositePoLine compPOL, RequestContext requestContext) {
@@ -273,12 +287,9 @@ public class UnOpenCompositeOrderManager {
 
 
   private Future<Void> processInventoryHoldingWithItems(CompositePoLine compPOL, RequestContext requestContext) {
-    return GenericCompositeFuture.all(
-      PoLineCommonUtil.getTenantsFromLocations(compPOL)
-        .stream()
-        .map(tenantId -> processInventoryHoldingWithItemsForTenant(compPOL, requestContext, createContextWithNewTenantId(requestContext, tenantId)))
-        .toList()
-    ).mapEmpty();
+    return HelperUtils.chainCallInChunks(PoLineCommonUtil.getTenantsFromLocations(compPOL), SEMAPHORE_MAX_ACTIVE_THREADS,
+        tenantId -> processInventoryHoldingWithItemsForTenant(compPOL, requestContext, createContextWithNewTenantId(requestContext, tenantId)))
+      .mapEmpty();
   }
 
   private Future<Void> processInventoryHoldingWithItemsForTenant(CompositePoLine compPOL,
@@ -322,40 +333,14 @@ public class UnOpenCompositeOrderManager {
   }
 
   private Future<List<Pair<String, String>>> deleteHoldingsByItems(List<JsonObject> deletedItems, RequestContext requestContext) {
-    List<Future<Pair<String, String>>> deletedHoldingIds = new ArrayList<>(deletedItems.size());
-    var holdingIdVsItemMap = deletedItems.stream()
-      .collect(groupingBy(item -> Optional.ofNullable(item.getString(ITEM_HOLDINGS_RECORD_ID))));
-    holdingIdVsItemMap.forEach((optionalHoldingId, holdingDeletedItems) -> {
-      if (optionalHoldingId.isEmpty()) {
-        return;
+    Map<String, String> holdingIdVsLocationId = new LinkedHashMap<>();
+    deletedItems.forEach(item -> {
+      String holdingId = item.getString(ITEM_HOLDINGS_RECORD_ID);
+      if (holdingId != null && !holdingIdVsLocationId.containsKey(holdingId)) {
+        holdingIdVsLocationId.put(holdingId, item.getJsonObject(ITEM_EFFECTIVE_LOCATION).getString(ID));
       }
-      String holdingId = optionalHoldingId.get();
-      String effectiveLocationId = holdingDeletedItems.get(0).getJsonObject(ITEM_EFFECTIVE_LOCATION).getString(ID);
-      deletedHoldingIds.add(inventoryItemManager.getItemsByHoldingId(holdingId, requestContext)
-        .compose(items -> {
-          if (items.isEmpty()) {
-            logger.info("deleteHoldingsByItems:: Deleting holdings, holdingId: {}", holdingId);
-            return inventoryHoldingManager.deleteHoldingById(holdingId, true, requestContext)
-              .map(v -> Pair.of(holdingId, effectiveLocationId));
-          } else {
-            logger.info("deleteHoldingsByItems:: Cannot delete holdings with items, holdingId: {}, items: {}", holdingId, items.size());
-          }
-          return Future.succeededFuture();
-        }));
     });
-    return collectResultsOnSuccess(deletedHoldingIds)
-      .map(resultDeletedHoldingVsLocationIds -> resultDeletedHoldingVsLocationIds.stream()
-        .filter(pair -> Objects.nonNull(pair) && Objects.nonNull(pair.getKey()))
-        .collect(toList()))
-      .map(resultDeletedHoldingVsLocationIds -> {
-        if (logger.isDebugEnabled()) {
-          String deletedIds = resultDeletedHoldingVsLocationIds.stream()
-            .map(Pair::getKey)
-            .collect(Collectors.joining(","));
-          logger.debug(String.format("Holdings were removed : %s", deletedIds));
-        }
-        return resultDeletedHoldingVsLocationIds;
-      });
+    return deleteHoldingsWithoutItems(holdingIdVsLocationId, requestContext);
   }
 
   private Future<List<JsonObject>> deletePiecesAndItems(List<JsonObject> onOrderItems,
@@ -1,5 +1,6 @@
 package org.folio.service.orders.lines.update;
 
+import static org.folio.orders.utils.HelperUtils.collectResultsOnSuccess;
 import static org.folio.rest.core.exceptions.ErrorCodes.INSTANCE_INVALID_PRODUCT_ID_ERROR;
 import static org.folio.service.inventory.InventoryInstanceManager.INSTANCE_TITLE;
 import static org.folio.service.inventory.InventoryUtils.INSTANCE_RECORDS_BY_ID_ENDPOINT;
@@ -38,7 +39,6 @@ import org.folio.service.orders.PurchaseOrderLineService;
 import io.vertx.core.Future;
 import io.vertx.core.Promise;
 import io.vertx.core.json.JsonObject;
-import org.folio.service.orders.utils.HelperUtils;
 
 
 public class OrderLinePatchOperationService {
@@ -156,9 +156,10 @@ public class OrderLinePatchOperationService {
       .compose(isbnTypeId -> {
         List<ProductId> productIds = InventoryUtils.getProductIds(lookupObj);
         Set<String> setOfProductIds = buildSetOfProductIds(productIds, isbnTypeId);
-        return HelperUtils.executeWithSemaphores(setOfProductIds,
-            productId -> inventoryCache.convertToISBN13(extractProductId(productId), requestContext)
-              .map(normalizedId -> Map.entry(productId, normalizedId)), requestContext)
+        return collectResultsOnSuccess(setOfProductIds.stream()
+            .map(productId -> inventoryCache.convertToISBN13(extractProductId(productId))
+              .map(normalizedId -> Map.entry(productId, normalizedId)))
+            .toList())
           .map(result -> result
             .stream()
             .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue)))
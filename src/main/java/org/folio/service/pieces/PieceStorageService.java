@@ -4,6 +4,7 @@ import static one.util.streamex.StreamEx.ofSubLists;
 import static org.folio.orders.utils.HelperUtils.collectResultsOnSuccess;
 import static org.folio.orders.utils.QueryUtils.combineCqlExpressions;
 import static org.folio.orders.utils.QueryUtils.convertIdsToCqlQuery;
+import static org.folio.orders.utils.QueryUtils.convertTagListToCqlQuery;
 import static org.folio.orders.utils.QueryUtils.getCqlExpressionForFieldNullValue;
 import static org.folio.orders.utils.ResourcePathResolver.PIECES_STORAGE;
 import static org.folio.orders.utils.ResourcePathResolver.resourcesPath;
@@ -38,6 +39,7 @@ import org.folio.service.settings.util.SettingKey;
 public class PieceStorageService {
 
   private static final String PIECES_BY_POL_ID_AND_STATUS_QUERY = "poLineId==%s and receivingStatus==%s";
+  private static final String PIECES_BY_POL_ID_AND_STATUSES_QUERY = "poLineId==%s and %s";
   private static final String PIECES_BY_HOLDING_ID_QUERY = "holdingId==%s";
   private static final String PIECE_STORAGE_ENDPOINT = resourcesPath(PIECES_STORAGE);
   private static final String PIECE_STORAGE_BY_ID_ENDPOINT = PIECE_STORAGE_ENDPOINT + "/{id}";
@@ -116,6 +118,25 @@ public class PieceStorageService {
     return getAllPieces(query, requestContext);
   }
 
+  /**
+   * Counts pieces of the PO line which have one of the specified receiving statuses.
+   * Only the total number of records is requested from storage ({@code limit=0}), so no piece records are transferred.
+   *
+   * @param poLineId PO line id to count pieces for
+   * @param receivingStatuses receiving statuses to be counted
+   * @return future with number of pieces having one of the statuses
+   */
+  public Future<Integer> getPiecesCountByPoLineIdAndStatuses(String poLineId, Collection<Piece.ReceivingStatus> receivingStatuses,
+                                                             RequestContext requestContext) {
+    if (CollectionUtils.isEmpty(receivingStatuses)) {
+      return Future.succeededFuture(0);
+    }
+    List<String> statuses = receivingStatuses.stream().map(Piece.ReceivingStatus::value).toList();
+    String query = String.format(PIECES_BY_POL_ID_AND_STATUSES_QUERY, poLineId, convertTagListToCqlQuery(statuses, "receivingStatus", true));
+    return getAllPieces(0, 0, query, requestContext)
+      .map(PieceCollection::getTotalRecords);
+  }
+
   public Future<List<Piece>> getPiecesByHoldingId(String holdingId, RequestContext requestContext) {
     if (holdingId != null) {
       String query = String.format(PIECES_BY_HOLDING_ID_QUERY, holdingId);
@@ -12,6 +12,7 @@ import org.folio.rest.core.RestClient;
 import org.folio.rest.core.models.RequestContext;
 import org.folio.rest.core.models.RequestEntry;
 import org.folio.rest.tools.utils.TenantTool;
+import org.folio.service.caches.CacheInvalidationPublisher.CachedData;
 import org.folio.service.settings.util.SettingKey;
 import org.springframework.beans.factory.annotation.Value;
 
@@ -21,6 +22,7 @@ import java.util.concurrent.TimeUnit;
 
 import static org.folio.orders.utils.ResourcePathResolver.ORDER_SETTINGS;
 import static org.folio.orders.utils.ResourcePathResolver.resourcesPath;
+import static org.folio.service.caches.CacheInvalidationPublisher.checkExpirationOfNotPublishedData;
 
 @Log4j2
 public class SettingsRetriever {
@@ -29,17 +31,22 @@ public class SettingsRetriever {
   private static final String SETTINGS_BY_KEY_QUERY = "key==%s";
   private static final String SETTINGS_CACHE_KEY = "%s.%s";
 
-  @Value("${orders.cache.orders-settings.expiration.time.seconds:300}")
-  private long cacheExpirationTime;
+  private static final long DEFAULT_EXPIRATION_SECONDS = 300;
 
   private final AsyncCache<String, Optional<Setting>> asyncCache;
   private final RestClient restClient;
 
   public SettingsRetriever(RestClient restClient) {
+    this(restClient, DEFAULT_EXPIRATION_SECONDS);
+  }
+
+  public SettingsRetriever(RestClient restClient,
+                           @Value("${orders.cache.orders-settings.expiration.time.seconds:300}") long cacheExpirationTime) {
     this.restClient = restClient;
 
     asyncCache = Caffeine.newBuilder()
-      .expireAfterWrite(cacheExpirationTime, TimeUnit.SECONDS)
+      .expireAfterWrite(checkExpirationOfNotPublishedData(CachedData.ORDER_SETTINGS, cacheExpirationTime,
+        DEFAULT_EXPIRATION_SECONDS), TimeUnit.SECONDS)
       .executor(task -> Vertx.currentContext().runOnContext(v -> task.run()))
       .buildAsync();
   }
@@ -54,6 +61,14 @@ public class SettingsRetriever {
     }
   }
 
+  /**
+   * Removes all cached settings of the tenant.
+   */
+  public void invalidate(String tenantId) {
+    String keyPrefix = String.format(SETTINGS_CACHE_KEY, tenantId, "");
+    asyncCache.synchronous().asMap().keySet().removeIf(key -> key.startsWith(keyPrefix));
+  }
+
   private CompletableFuture<Optional<Setting>> getSettingByKeyFromRemote(SettingKey settingKey, RequestContext requestContext) {
     var requestEntry = new RequestEntry(SETTINGS_ENDPOINT).withLimit(1).withOffset(0)
       .withQuery(String.format(SETTINGS_BY_KEY_QUERY, settingKey.getName()));
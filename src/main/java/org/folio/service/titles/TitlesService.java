@@ -20,6 +20,7 @@ import org.folio.orders.utils.ProtectedOperationType;
 import org.folio.orders.utils.QueryUtils;
 import org.folio.rest.core.RestClient;
 import org.folio.rest.core.models.RequestContext;
+import org.folio.rest.core.models.RequestEntityCache;
 import org.folio.rest.core.models.RequestEntry;
 import org.folio.rest.jaxrs.model.CompositePoLine;
 import org.folio.rest.jaxrs.model.CompositePurchaseOrder;
@@ -66,12 +67,14 @@ public class TitlesService {
 
   public Future<Title> getTitleById(String titleId, RequestContext requestContext) {
     RequestEntry requestEntry = new RequestEntry(BY_ID_ENDPOINT).withId(titleId);
-    return restClient.get(requestEntry, Title.class, requestContext);
+    return RequestEntityCache.of(requestContext)
+      .getOrLoad(Title.class, titleId, requestContext, () -> restClient.get(requestEntry, Title.class, requestContext));
   }
 
   public Future<Void> saveTitle(Title title, RequestContext requestContext) {
     RequestEntry requestEntry = new RequestEntry(BY_ID_ENDPOINT).withId(title.getId());
-    return restClient.put(requestEntry, title, requestContext);
+    return restClient.put(requestEntry, title, requestContext)
+      .onSuccess(v -> RequestEntityCache.of(requestContext).put(Title.class, title.getId(), title, requestContext));
   }
 
   public Future<Void> saveTitleWithAcqUnitsCheck(Title entity, RequestContext requestContext) {
@@ -90,6 +93,7 @@ public class TitlesService {
         RequestEntry requestEntry = new RequestEntry(BY_ID_ENDPOINT).withId(id);
         return restClient.delete(requestEntry, requestContext);
       })
+      .onSuccess(v -> RequestEntityCache.of(requestContext).evict(Title.class, id, requestContext))
       .mapEmpty();
   }
 
@@ -101,8 +105,10 @@ public class TitlesService {
       // Send get request for each CQL query
       .map(query -> getTitlesByQuery(query, requestContext))
       .toList())
-      .map(lists -> StreamEx.of(lists)
-        .toFlatList(Function.identity()).stream().collect(groupingBy(Title::getPoLineId)));
+      .map(lists -> StreamEx.of(lists).toFlatList(Function.identity()))
+      // Titles found by po lines are kept in the request cache, so the later reads by id are not sent to the storage
+      .onSuccess(titles -> titles.forEach(title -> RequestEntityCache.of(requestContext).put(Title.class, title.getId(), title, requestContext)))
+      .map(titles -> titles.stream().collect(groupingBy(Title::getPoLineId)));
   }
 
   public Future<List<Title>> getTitlesByPieceIds(List<String> pieceIds, RequestContext requestContext) {
@@ -13,18 +13,22 @@ import java.util.concurrent.TimeoutException;
 import org.folio.helper.CheckinHelperTest;
 import org.folio.helper.PurchaseOrderHelperTest;
 import org.folio.helper.PurchaseOrderLineHelperTest;
+import org.folio.orders.events.handlers.CacheInvalidationHandlerTest;
 import org.folio.orders.events.handlers.CheckInOrderStatusChangeChangeHandlerTest;
 import org.folio.orders.events.handlers.ReceiptStatusConsistencyTest;
 import org.folio.orders.events.handlers.ReceiveOrderStatusChangeHandlerTest;
 import org.folio.orders.utils.FundDistributionUtilsTest;
 import org.folio.orders.utils.HelperUtilsTest;
+import org.folio.orders.utils.ModelCopierTest;
 import org.folio.orders.utils.PoLineCommonUtilTest;
 import org.folio.orders.utils.QueryUtilsTest;
 import org.folio.orders.utils.StreamUtilsTest;
 import org.folio.orders.utils.validators.LocationsAndPiecesConsistencyValidatorTest;
 import org.folio.rest.core.ResponseUtilTest;
+import org.folio.rest.core.RestClientMetricsTest;
 import org.folio.rest.core.RestClientTest;
 import org.folio.rest.core.exceptions.ExceptionUtilTest;
+import org.folio.rest.core.models.RequestEntityCacheTest;
 import org.folio.rest.impl.AcquisitionMethodAPITest;
 import org.folio.rest.impl.BaseApiTest;
 import org.folio.rest.impl.CheckinReceivingApiTest;
@@ -43,12 +47,17 @@ import org.folio.rest.impl.protection.LinesProtectionTest;
 import org.folio.rest.impl.protection.OrdersProtectionTest;
 import org.folio.rest.impl.protection.PiecesProtectionTest;
 import org.folio.rest.impl.protection.ReceivingCheckinProtectionTest;
+import org.folio.service.AcquisitionMethodsServiceTest;
 import org.folio.service.CirculationRequestsRetrieverTest;
 import org.folio.service.PrefixServiceTest;
 import org.folio.service.ReasonForClosureServiceTest;
 import org.folio.service.SuffixServiceTest;
 import org.folio.service.TagServiceTest;
 import org.folio.service.UserServiceTest;
+import org.folio.service.caches.BudgetExpenseClassCacheTest;
+import org.folio.service.caches.CacheInvalidationPublisherTest;
+import org.folio.service.caches.CacheWarmUpServiceTest;
+import org.folio.service.caches.FinanceReferenceDataCacheTest;
 import org.folio.service.consortium.ConsortiumConfigurationServiceTest;
 import org.folio.service.consortium.SharingInstanceServiceTest;
 import org.folio.service.exchange.ExchangeRateProviderResolverTest;
@@ -59,6 +68,7 @@ import org.folio.service.finance.FinanceHoldersBuilderTest;
 import org.folio.service.finance.FiscalYearServiceTest;
 import org.folio.service.finance.FundServiceTest;
 import org.folio.service.finance.budget.BudgetRestrictionServiceTest;
+import org.folio.service.finance.budget.BudgetServiceTest;
 import org.folio.service.finance.rollover.LedgerRolloverErrorServiceTest;
 import org.folio.service.finance.rollover.LedgerRolloverProgressServiceTest;
 import org.folio.service.finance.rollover.LedgerRolloverServiceTest;
@@ -378,6 +388,10 @@ public class ApiTestSuite {
   class PoLineCommonUtilTestNested extends PoLineCommonUtilTest {
   }
 
+  @Nested
+  class ModelCopierTestNested extends ModelCopierTest {
+  }
+
   @Nested
   class CompositePoLineValidationServiceTestNested extends CompositePoLineValidationServiceTest {
   }
@@ -410,6 +424,14 @@ public class ApiTestSuite {
   class ResponseUtilTestNested extends ResponseUtilTest {
   }
 
+  @Nested
+  class RequestEntityCacheTestNested extends RequestEntityCacheTest {
+  }
+
+  @Nested
+  class RestClientMetricsTestNested extends RestClientMetricsTest {
+  }
+
   @Nested
   class PieceValidatorUtilTestNested extends PieceValidatorUtilTest {
   }
@@ -546,4 +568,32 @@ public class ApiTestSuite {
   class SettingsRetrieverTestNested extends SettingsRetrieverTest {
   }
 
+  @Nested
+  class CacheWarmUpServiceTestNested extends CacheWarmUpServiceTest {
+  }
+
+  @Nested
+  class FinanceReferenceDataCacheTestNested extends FinanceReferenceDataCacheTest {
+  }
+
+  @Nested
+  class BudgetServiceTestNested extends BudgetServiceTest {
+  }
+
+  @Nested
+  class BudgetExpenseClassCacheTestNested extends BudgetExpenseClassCacheTest {
+  }
+
+  @Nested
+  class CacheInvalidationHandlerTestNested extends CacheInvalidationHandlerTest {
+  }
+
+  @Nested
+  class CacheInvalidationPublisherTestNested extends CacheInvalidationPublisherTest {
+  }
+
+  @Nested
+  class AcquisitionMethodsServiceTestNested extends AcquisitionMethodsServiceTest {
+  }
+
 }
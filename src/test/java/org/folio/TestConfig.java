@@ -36,6 +36,11 @@ public final class TestConfig {
   private static final String KAFKA_HOST = "KAFKA_HOST";
   private static final String KAFKA_PORT = "KAFKA_PORT";
   private static final String KAFKA_ENV = "ENV";
+  // the funds, ledgers, fiscal years and budget expense classes are changed by the tests in the mock server, so they must not be cached
+  private static final String FINANCE_CACHE_EXPIRATION = "orders.cache.finance.expiration.seconds";
+  // the consortium of the tenant is changed by the tests in the mock server, so it must not be cached
+  private static final String CONSORTIUM_CACHE_EXPIRATION = "orders.cache.consortium-data.expiration.time.seconds";
+  private static final String BUDGET_EXPENSE_CLASS_CACHE_EXPIRATION = "orders.cache.budget-expense-classes.expiration.seconds";
   private static final String KAFKA_ENV_VALUE = "test-env";
 
   private static MockServer mockServer;
@@ -60,6 +65,9 @@ public final class TestConfig {
     System.setProperty(KAFKA_HOST, hostAndPort[0]);
     System.setProperty(KAFKA_PORT, hostAndPort[1]);
     System.setProperty(KAFKA_ENV, KAFKA_ENV_VALUE);
+    System.setProperty(FINANCE_CACHE_EXPIRATION, "0");
+    System.setProperty(CONSORTIUM_CACHE_EXPIRATION, "0");
+    System.setProperty(BUDGET_EXPENSE_CLASS_CACHE_EXPIRATION, "0");
 
     vertx.deployVerticle(RestVerticle.class.getName(), opt, res -> {
       if(res.succeeded()) {
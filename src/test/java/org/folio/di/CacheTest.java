@@ -60,7 +60,7 @@ public class CacheTest {
   private MappingParametersCache mappingParametersCache;
   private OkapiConnectionParams okapiConnectionParams;
   private final AcquisitionsUnitsService acquisitionsUnitsService = new AcquisitionsUnitsService(new RestClient());
-  private final AcquisitionMethodsService acquisitionMethodsService = new AcquisitionMethodsService(new RestClient(), null);
+  private final AcquisitionMethodsService acquisitionMethodsService = new AcquisitionMethodsService(new RestClient(), null, null);
 
   @Rule
   public WireMockRule snapshotMockServer =
@@ -70,7 +70,7 @@ public class CacheTest {
   public void setUp() {
     Vertx vertx = rule.vertx();
     jobProfileSnapshotCache = new JobProfileSnapshotCache(vertx);
-    mappingParametersCache = new MappingParametersCache(vertx, new RestClient(), acquisitionsUnitsService, acquisitionMethodsService);
+    mappingParametersCache = new MappingParametersCache(vertx, new RestClient(), acquisitionsUnitsService, acquisitionMethodsService, 3600);
 
     HashMap<String, String> headers = new HashMap<>();
     headers.put(OKAPI_URL_HEADER, "http://localhost:" + snapshotMockServer.port());
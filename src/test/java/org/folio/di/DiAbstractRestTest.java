@@ -76,6 +76,11 @@ public abstract class DiAbstractRestTest {
   private static final String KAFKA_HOST = "KAFKA_HOST";
   private static final String KAFKA_PORT = "KAFKA_PORT";
   private static final String KAFKA_ENV = "ENV";
+  // the funds, ledgers, fiscal years and budget expense classes are changed by the tests in the mock server, so they must not be cached
+  private static final String FINANCE_CACHE_EXPIRATION = "orders.cache.finance.expiration.seconds";
+  // the consortium of the tenant is changed by the tests in the mock server, so it must not be cached
+  private static final String CONSORTIUM_CACHE_EXPIRATION = "orders.cache.consortium-data.expiration.time.seconds";
+  private static final String BUDGET_EXPENSE_CLASS_CACHE_EXPIRATION = "orders.cache.budget-expense-classes.expiration.seconds";
   protected static final String KAFKA_ENV_VALUE = "test-env";
   public static final String OKAPI_URL_ENV = "OKAPI_URL";
   private static final int PORT = NetworkUtils.nextFreePort();
@@ -108,6 +113,9 @@ public abstract class DiAbstractRestTest {
     System.setProperty(KAFKA_HOST, hostAndPort[0]);
     System.setProperty(KAFKA_PORT, hostAndPort[1]);
     System.setProperty(KAFKA_ENV, KAFKA_ENV_VALUE);
+    System.setProperty(FINANCE_CACHE_EXPIRATION, "0");
+    System.setProperty(CONSORTIUM_CACHE_EXPIRATION, "0");
+    System.setProperty(BUDGET_EXPENSE_CLASS_CACHE_EXPIRATION, "0");
     System.setProperty(OKAPI_URL_ENV, OKAPI_URL);
     runDatabase();
     deployVerticle(context);
@@ -23,6 +23,7 @@ import java.util.Collections;
 import java.util.List;
 import java.util.Set;
 import java.util.UUID;
+import java.util.function.Supplier;
 
 import io.vertx.core.json.JsonObject;
 import jakarta.validation.ConstraintViolation;
@@ -181,6 +182,10 @@ public class PurchaseOrderHelperTest {
 
     doReturn(succeededFuture(List.of()))
       .when(orderValidationService).validateOrderForPut(eq(compPO.getId()), any(CompositePurchaseOrder.class), eq(requestContext));
+    doAnswer((Answer<Future<Void>>) invocation -> {
+      Supplier<Future<Void>> operations = invocation.getArgument(0);
+      return operations.get();
+    }).when(encumbranceService).processInOneBatch(any(), eq(requestContext));
     doReturn(succeededFuture(JsonObject.mapFrom(poFromStorage)))
       .when(purchaseOrderStorageService).getPurchaseOrderByIdAsJson(eq(compPO.getId()), eq(requestContext));
     doReturn(succeededFuture(poFromStorage))
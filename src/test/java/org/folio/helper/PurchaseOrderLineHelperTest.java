@@ -1,9 +1,11 @@
 package org.folio.helper;
 
 import io.vertx.core.Future;
+import io.vertx.core.Promise;
 import io.vertx.core.json.JsonObject;
 
 import java.lang.reflect.InvocationTargetException;
+import java.util.ArrayList;
 import java.util.Optional;
 import java.util.stream.Stream;
 
@@ -21,6 +23,8 @@ import org.folio.rest.jaxrs.model.PoLine;
 import org.folio.rest.jaxrs.model.ReportingCode;
 import org.folio.service.consortium.ConsortiumConfigurationService;
 import org.folio.service.consortium.ConsortiumUserTenantsRetriever;
+import org.folio.service.finance.transaction.EncumbranceService;
+import org.folio.service.orders.OrderInvoiceRelationService;
 import org.folio.service.orders.PurchaseOrderLineService;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
@@ -33,6 +37,7 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 import org.mockito.stubbing.Answer;
+import org.springframework.test.util.ReflectionTestUtils;
 
 import java.util.List;
 import java.util.UUID;
@@ -42,12 +47,15 @@ import static io.vertx.core.Future.succeededFuture;
 import static org.folio.TestUtils.callPrivateMethod;
 import static org.folio.TestUtils.getLocationsForTenants;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertInstanceOf;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 
 public class PurchaseOrderLineHelperTest {
   private AutoCloseable mockitoMocks;
@@ -63,6 +71,10 @@ public class PurchaseOrderLineHelperTest {
   private RequestContext requestContext;
   @Mock
   private RestClient restClient;
+  @Mock
+  private OrderInvoiceRelationService orderInvoiceRelationService;
+  @Mock
+  private EncumbranceService encumbranceService;
 
   @BeforeEach
   void beforeEach() {
@@ -228,6 +240,37 @@ public class PurchaseOrderLineHelperTest {
     assertInstanceOf(HttpException.class, future.cause());
   }
 
+  @Test
+  void testPoLinesDeletionKeepsAtMostConfiguredNumberOfLinesInProgress() throws NoSuchMethodException, InvocationTargetException, IllegalAccessException {
+    ReflectionTestUtils.setField(purchaseOrderLineHelper, "poLinesUpdateConcurrency", 2);
+    var compPO = new CompositePurchaseOrder().withId(UUID.randomUUID().toString());
+    List<PoLine> poLinesToDelete = Stream.generate(() -> new PoLine().withId(UUID.randomUUID().toString())).limit(5).toList();
+    List<Promise<Void>> deletionsInProgress = new ArrayList<>();
+
+    doReturn(succeededFuture()).when(orderInvoiceRelationService).checkOrderInvoiceRelationship(compPO.getId(), requestContext);
+    doReturn(succeededFuture()).when(encumbranceService).deletePoLinesEncumbrances(poLinesToDelete, requestContext);
+    doAnswer((Answer<Future<Void>>) invocation -> {
+      Promise<Void> promise = Promise.promise();
+      deletionsInProgress.add(promise);
+      return promise.future();
+    }).when(purchaseOrderLineService).deletePoLine(any(PoLine.class), eq(requestContext));
+
+    Future<?> future = callPrivateMethod(purchaseOrderLineHelper, "processPoLinesDeletion", Future.class,
+      new Class[]{ CompositePurchaseOrder.class, List.class, RequestContext.class }, new Object[] { compPO, poLinesToDelete, requestContext });
+
+    int maxDeletionsInProgress = 0;
+    while (!future.isComplete()) {
+      assertFalse(deletionsInProgress.isEmpty());
+      maxDeletionsInProgress = Math.max(maxDeletionsInProgress, deletionsInProgress.size());
+      List<Promise<Void>> started = new ArrayList<>(deletionsInProgress);
+      deletionsInProgress.clear();
+      started.forEach(promise -> promise.complete());
+    }
+    assertTrue(future.succeeded());
+    assertEquals(2, maxDeletionsInProgress);
+    verify(purchaseOrderLineService, times(5)).deletePoLine(any(PoLine.class), eq(requestContext));
+  }
+
   private Future<Void> callValidateUserUnaffiliatedLocationUpdates(CompositePoLine updatedPoLine, PoLine storagePoLine,
                                                                    RequestContext requestContext, PurchaseOrderLineHelper purchaseOrderLineHelper)
     throws NoSuchMethodException, IllegalAccessException, InvocationTargetException {
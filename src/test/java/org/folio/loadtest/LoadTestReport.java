@@ -0,0 +1,71 @@
+package org.folio.loadtest;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import io.vertx.core.json.JsonObject;
+
+/**
+ * Result of a {@link LoadTestScenario} run: throughput, latency percentiles and downstream calls made to the mock server
+ * per endpoint, so the results of different releases and concurrency settings can be compared.
+ */
+public record LoadTestReport(String scenario, int iterations, int concurrency, int errors, long durationMs,
+                             double throughput, double p50Ms, double p99Ms, double maxMs,
+                             Map<String, Long> downstreamCalls) {
+
+  public static LoadTestReport of(String scenario, int concurrency, long[] latenciesNanos, int errors, long durationNanos,
+                                  Map<String, Long> downstreamCalls) {
+    long[] sorted = latenciesNanos.clone();
+    Arrays.sort(sorted);
+    long durationMs = TimeUnit.NANOSECONDS.toMillis(durationNanos);
+    double throughput = durationNanos == 0 ? 0 : sorted.length * 1_000_000_000d / durationNanos;
+    return new LoadTestReport(scenario, sorted.length, concurrency, errors, durationMs, throughput,
+      percentileMs(sorted, 50), percentileMs(sorted, 99), percentileMs(sorted, 100), downstreamCalls);
+  }
+
+  public long totalDownstreamCalls() {
+    return downstreamCalls.values().stream().mapToLong(Long::longValue).sum();
+  }
+
+  public String format() {
+    StringBuilder sb = new StringBuilder()
+      .append(String.format("Scenario '%s': %d iterations, concurrency %d, %d errors, %d ms%n", scenario, iterations, concurrency, errors, durationMs))
+      .append(String.format("  throughput %.2f ops/s, p50 %.1f ms, p99 %.1f ms, max %.1f ms%n", throughput, p50Ms, p99Ms, maxMs))
+      .append(String.format("  downstream calls: %d total, %.1f per iteration%n", totalDownstreamCalls(),
+        iterations == 0 ? 0d : (double) totalDownstreamCalls() / iterations));
+    downstreamCalls.forEach((endpoint, count) -> sb.append(String.format("    %-70s %d%n", endpoint, count)));
+    return sb.toString();
+  }
+
+  public JsonObject toJson() {
+    return JsonObject.mapFrom(this)
+      .put("totalDownstreamCalls", totalDownstreamCalls());
+  }
+
+  /**
+   * Writes the report as JSON into {@code <directory>/<scenario>.json}.
+   */
+  public Path writeTo(Path directory) throws IOException {
+    Files.createDirectories(directory);
+    Path file = directory.resolve(scenario + ".json");
+    Files.writeString(file, toJson().encodePrettily(), StandardCharsets.UTF_8);
+    return file;
+  }
+
+  /**
+   * Nearest-rank percentile of the sorted latencies.
+   */
+  private static double percentileMs(long[] sortedNanos, int percentile) {
+    if (sortedNanos.length == 0) {
+      return 0;
+    }
+    int rank = (int) Math.ceil(percentile / 100d * sortedNanos.length);
+    return sortedNanos[Math.max(rank, 1) - 1] / 1_000_000d;
+  }
+
+}
@@ -0,0 +1,66 @@
+package org.folio.loadtest;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.folio.rest.impl.MockServer;
+
+/**
+ * Runs {@link LoadTestScenario} iterations with the given concurrency against the deployed module
+ * and collects the latency of every iteration and the downstream calls counted by the {@link MockServer}.
+ */
+public final class LoadTestRunner {
+
+  private static final Logger logger = LogManager.getLogger();
+
+  private LoadTestRunner() {
+  }
+
+  public static LoadTestReport run(LoadTestScenario scenario, int iterations, int concurrency) throws Exception {
+    logger.info("run:: Preparing scenario '{}'", scenario.name());
+    scenario.prepare();
+    MockServer.resetDownstreamCallCounts();
+
+    long[] latencies = new long[iterations];
+    AtomicInteger errors = new AtomicInteger();
+    ExecutorService executor = Executors.newFixedThreadPool(concurrency);
+    long start = System.nanoTime();
+    try {
+      List<Future<?>> futures = new ArrayList<>(iterations);
+      for (int i = 0; i < iterations; i++) {
+        int iteration = i;
+        futures.add(executor.submit(() -> {
+          long iterationStart = System.nanoTime();
+          try {
+            scenario.execute(iteration);
+          } catch (Exception | AssertionError e) {
+            // Only the first failures are logged in detail to keep the log readable with high error rates
+            if (errors.incrementAndGet() <= 3) {
+              logger.warn("run:: Iteration {} of scenario '{}' failed", iteration, scenario.name(), e);
+            }
+          } finally {
+            latencies[iteration] = System.nanoTime() - iterationStart;
+          }
+        }));
+      }
+      for (Future<?> future : futures) {
+        future.get();
+      }
+    } finally {
+      executor.shutdownNow();
+    }
+    long duration = System.nanoTime() - start;
+
+    LoadTestReport report = LoadTestReport.of(scenario.name(), concurrency, latencies, errors.get(), duration,
+      MockServer.getDownstreamCallCounts());
+    logger.info("run:: {}", report.format());
+    return report;
+  }
+
+}
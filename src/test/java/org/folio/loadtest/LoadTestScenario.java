@@ -0,0 +1,26 @@
+package org.folio.loadtest;
+
+/**
+ * Scripted scenario executed by {@link LoadTestRunner}.
+ * <p>
+ * All mock data must be registered in {@link #prepare()}: the mock server data is not thread-safe,
+ * so {@link #execute(int)} is expected to only send the requests prepared beforehand.
+ */
+public interface LoadTestScenario {
+
+  String name();
+
+  /**
+   * Registers mock data in the {@link org.folio.rest.impl.MockServer} and builds the request bodies.
+   */
+  default void prepare() throws Exception {
+  }
+
+  /**
+   * Executes a single iteration of the scenario. The iteration is counted as failed if an exception or an assertion error is thrown.
+   *
+   * @param iteration the iteration number starting from 0
+   */
+  void execute(int iteration) throws Exception;
+
+}
@@ -0,0 +1,298 @@
+package org.folio.loadtest;
+
+import static org.awaitility.Awaitility.await;
+import static org.folio.RestTestUtils.prepareHeaders;
+import static org.folio.RestTestUtils.verifyPostResponse;
+import static org.folio.TestConfig.clearServiceInteractions;
+import static org.folio.TestConfig.isVerticleNotDeployed;
+import static org.folio.TestConstants.ORDERS_RECEIVING_ENDPOINT;
+import static org.folio.TestConstants.X_OKAPI_TOKEN;
+import static org.folio.TestConstants.X_OKAPI_USER_ID;
+import static org.folio.TestUtils.getMockAsJson;
+import static org.folio.TestUtils.getMockData;
+import static org.folio.TestUtils.getMinimalOrder;
+import static org.folio.orders.utils.ResourcePathResolver.FUNDS;
+import static org.folio.orders.utils.ResourcePathResolver.PIECES_STORAGE;
+import static org.folio.orders.utils.ResourcePathResolver.PO_LINES_STORAGE;
+import static org.folio.orders.utils.ResourcePathResolver.PURCHASE_ORDER_STORAGE;
+import static org.folio.rest.RestVerticle.OKAPI_HEADER_TENANT;
+import static org.folio.rest.impl.MockServer.CONFIGS;
+import static org.folio.rest.impl.MockServer.CONFIG_MOCK_PATH;
+import static org.folio.rest.impl.MockServer.POLINES_COLLECTION;
+import static org.folio.rest.impl.PurchaseOrdersApiTest.COMPOSITE_ORDERS_PATH;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+import javax.ws.rs.core.MediaType;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.folio.ApiTestSuite;
+import org.folio.rest.acq.model.finance.Fund;
+import org.folio.rest.impl.MockServer;
+import org.folio.rest.jaxrs.model.CompositePoLine;
+import org.folio.rest.jaxrs.model.CompositePurchaseOrder;
+import org.folio.rest.jaxrs.model.EncumbranceRollover;
+import org.folio.rest.jaxrs.model.LedgerFiscalYearRollover;
+import org.folio.rest.jaxrs.model.Piece;
+import org.folio.rest.jaxrs.model.ReceivedItem;
+import org.folio.rest.jaxrs.model.ReceivingCollection;
+import org.folio.rest.jaxrs.model.ReceivingResults;
+import org.folio.rest.jaxrs.model.ToBeReceived;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+import io.restassured.http.Header;
+import io.restassured.http.Headers;
+import io.vertx.core.json.JsonObject;
+
+/**
+ * Load tests of the main order flows against the {@link MockServer} stand-ins of the storage, inventory and finance modules.
+ * The tests are skipped by default and are run locally with:
+ * <pre>
+ * mvn test -Dtest=OrdersLoadTest -Dloadtest=true -Dloadtest.iterations=200 -Dloadtest.concurrency=8 -Dloadtest.latencyMs=20 -Dloadtest.errorRate=0.01
+ * </pre>
+ * The reports with throughput, p50/p99 latency and downstream call counts are logged and written to {@code target/loadtest}.
+ */
+@EnabledIfSystemProperty(named = "loadtest", matches = "true")
+public class OrdersLoadTest {
+
+  private static final Logger logger = LogManager.getLogger();
+
+  private static final String LISTED_PRINT_MONOGRAPH_PATH = "po_listed_print_monograph.json";
+  private static final String ROLLOVER_PATH = "/orders/rollover";
+  private static final Path REPORTS_DIRECTORY = Path.of("target", "loadtest");
+  // Separate tenant, so the tenant caches of the module do not keep the configuration of the API tests
+  private static final Header LOAD_TEST_TENANT = new Header(OKAPI_HEADER_TENANT, "loadtest");
+  private static final Headers HEADERS = prepareHeaders(LOAD_TEST_TENANT, X_OKAPI_TOKEN, X_OKAPI_USER_ID);
+
+  private static final int ITERATIONS = Integer.getInteger("loadtest.iterations", 100);
+  private static final int CONCURRENCY = Integer.getInteger("loadtest.concurrency", 4);
+  private static final int ORDER_LINES = Integer.getInteger("loadtest.lines", 10);
+  private static final int PIECES = Integer.getInteger("loadtest.pieces", 50);
+  private static final int FUNDS_COUNT = Integer.getInteger("loadtest.funds", 20);
+  private static final long LATENCY_MS = Long.getLong("loadtest.latencyMs", 0);
+  private static final double ERROR_RATE = Double.parseDouble(System.getProperty("loadtest.errorRate", "0"));
+
+  private static boolean runningOnOwn;
+
+  @BeforeAll
+  static void before() throws Exception {
+    if (isVerticleNotDeployed()) {
+      ApiTestSuite.before();
+      runningOnOwn = true;
+    }
+  }
+
+  @BeforeEach
+  void beforeEach() {
+    MockServer.setFaultInjection(LATENCY_MS, ERROR_RATE);
+  }
+
+  @AfterEach
+  void afterEach() {
+    MockServer.resetFaultInjection();
+    clearServiceInteractions();
+    MockServer.release();
+  }
+
+  @AfterAll
+  static void after() {
+    if (runningOnOwn) {
+      ApiTestSuite.after();
+    }
+  }
+
+  @Test
+  void createAndOpenOrder() throws Exception {
+    run(new CreateOpenOrderScenario(ORDER_LINES));
+  }
+
+  @Test
+  void receivePieces() throws Exception {
+    run(new ReceivePiecesScenario(PIECES));
+  }
+
+  @Test
+  void rolloverFunds() throws Exception {
+    run(new RolloverScenario(FUNDS_COUNT));
+  }
+
+  private void run(LoadTestScenario scenario) throws Exception {
+    LoadTestReport report = LoadTestRunner.run(scenario, ITERATIONS, CONCURRENCY);
+    Path file = report.writeTo(REPORTS_DIRECTORY);
+    logger.info("run:: Report of scenario '{}' is written to {}", scenario.name(), file.toAbsolutePath());
+    if (ERROR_RATE == 0) {
+      assertEquals(0, report.errors(), "Failed iterations without error injection");
+    }
+  }
+
+  /**
+   * Creates an order with N po lines in Open status: po lines, titles, inventory and encumbrances are created for every line.
+   */
+  private static class CreateOpenOrderScenario implements LoadTestScenario {
+
+    private final int lines;
+    private final List<String> bodies = new ArrayList<>();
+
+    CreateOpenOrderScenario(int lines) {
+      this.lines = lines;
+    }
+
+    @Override
+    public String name() {
+      return "create-open-order-" + lines + "-lines";
+    }
+
+    @Override
+    public void prepare() throws Exception {
+      // Raise the po lines limit, so the order with N lines passes the validation
+      JsonObject configs = new JsonObject(getMockData(String.format(CONFIG_MOCK_PATH, "test_diku_limit_10")));
+      configs.getJsonArray(CONFIGS).stream()
+        .map(JsonObject.class::cast)
+        .map(config -> "poLines-limit".equals(config.getString("configName")) ? config.put("value", String.valueOf(Math.max(lines, 1))) : config)
+        .forEach(config -> MockServer.addMockEntry(CONFIGS, config));
+
+      JsonObject template = new JsonObject(getMockData(LISTED_PRINT_MONOGRAPH_PATH));
+      CompositePoLine lineTemplate = template.getJsonArray("compositePoLines").getJsonObject(0).mapTo(CompositePoLine.class);
+      for (int i = 0; i < ITERATIONS; i++) {
+        CompositePurchaseOrder order = template.copy().mapTo(CompositePurchaseOrder.class)
+          .withWorkflowStatus(CompositePurchaseOrder.WorkflowStatus.OPEN)
+          .withCompositePoLines(new ArrayList<>());
+        for (int lineNumber = 1; lineNumber <= lines; lineNumber++) {
+          CompositePoLine poLine = JsonObject.mapFrom(lineTemplate).mapTo(CompositePoLine.class)
+            .withId(UUID.randomUUID().toString())
+            .withPoLineNumber(order.getPoNumber() + "-" + lineNumber);
+          poLine.getFundDistribution().forEach(fundDistribution -> fundDistribution.setEncumbrance(null));
+          order.getCompositePoLines().add(poLine);
+        }
+        MockServer.addMockTitles(order.getCompositePoLines());
+        bodies.add(JsonObject.mapFrom(order).encode());
+      }
+    }
+
+    @Override
+    public void execute(int iteration) {
+      verifyPostResponse(COMPOSITE_ORDERS_PATH, bodies.get(iteration), HEADERS, MediaType.APPLICATION_JSON, 201);
+    }
+  }
+
+  /**
+   * Receives M pieces of one physical po line. Pieces have no items, so the inventory is not updated.
+   */
+  private static class ReceivePiecesScenario implements LoadTestScenario {
+
+    private final int pieces;
+    private String body;
+
+    ReceivePiecesScenario(int pieces) {
+      this.pieces = pieces;
+    }
+
+    @Override
+    public String name() {
+      return "receive-" + pieces + "-pieces";
+    }
+
+    @Override
+    public void prepare() {
+      CompositePoLine poLine = getMockAsJson(POLINES_COLLECTION).getJsonArray("poLines").getJsonObject(2).mapTo(CompositePoLine.class);
+      String locationId = poLine.getLocations().get(0).getLocationId();
+      String titleId = UUID.randomUUID().toString();
+      MockServer.addMockEntry(PURCHASE_ORDER_STORAGE, getMinimalOrder(poLine));
+      MockServer.addMockEntry(PO_LINES_STORAGE, poLine);
+      MockServer.addMockTitleWithId(poLine, titleId);
+
+      List<ReceivedItem> receivedItems = IntStream.range(0, pieces)
+        .mapToObj(i -> {
+          Piece piece = new Piece()
+            .withId(UUID.randomUUID().toString())
+            .withPoLineId(poLine.getId())
+            .withTitleId(titleId)
+            .withLocationId(locationId)
+            .withFormat(Piece.Format.PHYSICAL)
+            .withReceivingStatus(Piece.ReceivingStatus.EXPECTED);
+          MockServer.addMockEntry(PIECES_STORAGE, piece);
+          return new ReceivedItem()
+            .withPieceId(piece.getId())
+            .withLocationId(locationId)
+            .withItemStatus(ReceivedItem.ItemStatus.IN_PROCESS);
+        })
+        .toList();
+
+      ReceivingCollection receivingCollection = new ReceivingCollection()
+        .withToBeReceived(List.of(new ToBeReceived()
+          .withPoLineId(poLine.getId())
+          .withReceived(pieces)
+          .withReceivedItems(receivedItems)))
+        .withTotalRecords(pieces);
+      body = JsonObject.mapFrom(receivingCollection).encode();
+    }
+
+    @Override
+    public void execute(int iteration) {
+      ReceivingResults results = verifyPostResponse(ORDERS_RECEIVING_ENDPOINT, body, HEADERS, MediaType.APPLICATION_JSON, 200)
+        .as(ReceivingResults.class);
+      assertEquals(pieces, results.getReceivingResults().get(0).getProcessedSuccessfully());
+    }
+  }
+
+  /**
+   * Runs the orders rollover of a ledger with K funds and waits until the final rollover progress is saved.
+   */
+  private static class RolloverScenario implements LoadTestScenario {
+
+    private final int funds;
+    private final String ledgerId = UUID.randomUUID().toString();
+    private final List<String> rolloverIds = new ArrayList<>();
+
+    RolloverScenario(int funds) {
+      this.funds = funds;
+    }
+
+    @Override
+    public String name() {
+      return "rollover-" + funds + "-funds";
+    }
+
+    @Override
+    public void prepare() {
+      IntStream.range(0, funds)
+        .mapToObj(i -> new Fund()
+          .withId(UUID.randomUUID().toString())
+          .withCode("LOAD-" + i)
+          .withName("Load test fund " + i)
+          .withLedgerId(ledgerId))
+        .forEach(fund -> MockServer.addMockEntry(FUNDS, fund));
+      IntStream.range(0, ITERATIONS)
+        .forEach(i -> rolloverIds.add(UUID.randomUUID().toString()));
+    }
+
+    @Override
+    public void execute(int iteration) {
+      String rolloverId = rolloverIds.get(iteration);
+      LedgerFiscalYearRollover rollover = new LedgerFiscalYearRollover()
+        .withId(rolloverId)
+        .withLedgerId(ledgerId)
+        .withFromFiscalYearId(UUID.randomUUID().toString())
+        .withToFiscalYearId(UUID.randomUUID().toString())
+        .withEncumbrancesRollover(List.of(new EncumbranceRollover()
+          .withOrderType(EncumbranceRollover.OrderType.ONE_TIME)
+          .withBasedOn(EncumbranceRollover.BasedOn.REMAINING)));
+      verifyPostResponse(ROLLOVER_PATH, JsonObject.mapFrom(rollover).encode(), HEADERS, "", 204);
+      // The orders rollover continues asynchronously after the response
+      await().atMost(Duration.ofMinutes(1)).until(() -> MockServer.isRolloverFinished(rolloverId));
+    }
+  }
+
+}
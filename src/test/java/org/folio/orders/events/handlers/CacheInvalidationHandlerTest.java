@@ -0,0 +1,114 @@
+package org.folio.orders.events.handlers;
+
+import static org.folio.service.caches.CacheInvalidationPublisher.CACHED_DATA;
+import static org.folio.service.caches.CacheInvalidationPublisher.SKIPPED_INSTANCE_ID;
+import static org.folio.service.caches.CacheInvalidationPublisher.TENANT_ID;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+
+import org.folio.service.caches.BudgetExpenseClassCache;
+import org.folio.service.caches.CacheInvalidationPublisher.CachedData;
+import org.folio.service.caches.ConfigurationEntriesCache;
+import org.folio.service.caches.FinanceReferenceDataCache;
+import org.folio.service.caches.MappingParametersCache;
+import org.folio.service.consortium.ConsortiumConfigurationService;
+import org.folio.service.settings.SettingsRetriever;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import io.vertx.core.eventbus.Message;
+import io.vertx.core.json.JsonObject;
+
+public class CacheInvalidationHandlerTest {
+
+  private static final String TENANT = "diku";
+
+  @Mock
+  private MappingParametersCache mappingParametersCache;
+  @Mock
+  private SettingsRetriever settingsRetriever;
+  @Mock
+  private ConfigurationEntriesCache configurationEntriesCache;
+  @Mock
+  private FinanceReferenceDataCache financeReferenceDataCache;
+  @Mock
+  private BudgetExpenseClassCache budgetExpenseClassCache;
+  @Mock
+  private ConsortiumConfigurationService consortiumConfigurationService;
+
+  private AutoCloseable mockitoMocks;
+  private CacheInvalidationHandler cacheInvalidationHandler;
+
+  @BeforeEach
+  void initMocks() {
+    mockitoMocks = MockitoAnnotations.openMocks(this);
+    cacheInvalidationHandler = new CacheInvalidationHandler(mappingParametersCache, settingsRetriever, configurationEntriesCache,
+      financeReferenceDataCache, budgetExpenseClassCache, consortiumConfigurationService);
+  }
+
+  @AfterEach
+  void resetMocks() throws Exception {
+    mockitoMocks.close();
+  }
+
+  @ParameterizedTest
+  @EnumSource(CachedData.class)
+  void shouldInvalidateOnlyCacheOfPublishedData(CachedData cachedData) {
+    cacheInvalidationHandler.handle(message(cachedData.name()));
+
+    switch (cachedData) {
+      case ACQUISITION_METHODS -> verify(mappingParametersCache).invalidate(TENANT);
+      case BUDGET_EXPENSE_CLASSES -> verify(budgetExpenseClassCache).invalidate(TENANT);
+      case CONSORTIUM_CONFIGURATION -> verify(consortiumConfigurationService).invalidate(TENANT);
+      case FINANCE_REFERENCE_DATA -> verify(financeReferenceDataCache).invalidate(TENANT);
+      case ORDER_SETTINGS -> verify(settingsRetriever).invalidate(TENANT);
+      case TENANT_CONFIGURATION -> verify(configurationEntriesCache).invalidate(TENANT);
+    }
+    verifyNoMoreInteractions(mappingParametersCache, settingsRetriever, configurationEntriesCache,
+      financeReferenceDataCache, budgetExpenseClassCache, consortiumConfigurationService);
+  }
+
+  @Test
+  void shouldInvalidateCachePublishedByAnotherInstance() {
+    Message<JsonObject> message = message(CachedData.ORDER_SETTINGS.name());
+    message.body().put(SKIPPED_INSTANCE_ID, "anotherInstanceId");
+
+    cacheInvalidationHandler.handle(message);
+
+    verify(settingsRetriever).invalidate(TENANT);
+  }
+
+  @Test
+  void shouldIgnoreUnknownCachedData() {
+    cacheInvalidationHandler.handle(message("UNKNOWN"));
+
+    verifyNoInteractions(mappingParametersCache, settingsRetriever, configurationEntriesCache,
+      financeReferenceDataCache, budgetExpenseClassCache, consortiumConfigurationService);
+  }
+
+  @Test
+  void shouldNotFailWhenCacheInvalidationFails() {
+    doThrow(new IllegalStateException("test")).when(settingsRetriever).invalidate(TENANT);
+
+    cacheInvalidationHandler.handle(message(CachedData.ORDER_SETTINGS.name()));
+
+    verify(settingsRetriever).invalidate(TENANT);
+  }
+
+  @SuppressWarnings("unchecked")
+  private static Message<JsonObject> message(String cachedData) {
+    Message<JsonObject> message = mock(Message.class);
+    doReturn(new JsonObject().put(TENANT_ID, TENANT).put(CACHED_DATA, cachedData)).when(message).body();
+    return message;
+  }
+
+}
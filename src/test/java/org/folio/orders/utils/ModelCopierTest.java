@@ -0,0 +1,103 @@
+package org.folio.orders.utils;
+
+import static org.folio.TestConstants.COMP_ORDER_MOCK_DATA_PATH;
+import static org.folio.TestUtils.getMockAsJson;
+import static org.folio.orders.utils.ResourcePathResolver.ALERTS;
+import static org.folio.orders.utils.ResourcePathResolver.REPORTING_CODES;
+import static org.folio.rest.impl.MockServer.POLINES_COLLECTION;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.util.List;
+import java.util.UUID;
+
+import org.folio.rest.jaxrs.model.Alert;
+import org.folio.rest.jaxrs.model.CompositePoLine;
+import org.folio.rest.jaxrs.model.CompositePurchaseOrder;
+import org.folio.rest.jaxrs.model.PoLine;
+import org.folio.rest.jaxrs.model.PoLineCollection;
+import org.folio.rest.jaxrs.model.PurchaseOrder;
+import org.junit.jupiter.api.Test;
+
+import io.vertx.core.json.JsonObject;
+
+public class ModelCopierTest {
+
+  private static final String ORDER_PATH = COMP_ORDER_MOCK_DATA_PATH + "1ab7ef6a-d1d4-4a4f-90a2-882aed18af14.json";
+
+  @Test
+  void shouldConvertPoLinesSameAsJsonRoundTrip() {
+    List<PoLine> poLines = getMockAsJson(POLINES_COLLECTION).mapTo(PoLineCollection.class).getPoLines();
+
+    for (PoLine poLine : poLines) {
+      JsonObject expected = JsonObject.mapFrom(poLine);
+      expected.remove(ALERTS);
+      expected.remove(REPORTING_CODES);
+
+      CompositePoLine compositePoLine = PoLineCommonUtil.convertToCompositePoLine(poLine);
+
+      assertEquals(JsonObject.mapFrom(expected.mapTo(CompositePoLine.class)), JsonObject.mapFrom(compositePoLine));
+      assertEquals(JsonObject.mapFrom(poLine), JsonObject.mapFrom(PoLineCommonUtil.convertToPoLine(compositePoLine)));
+    }
+  }
+
+  @Test
+  void shouldConvertCompositePoLinesSameAsJsonRoundTrip() {
+    CompositePurchaseOrder order = getMockAsJson(ORDER_PATH).mapTo(CompositePurchaseOrder.class);
+
+    for (CompositePoLine compositePoLine : order.getCompositePoLines()) {
+      compositePoLine.getAlerts().add(new Alert().withId(UUID.randomUUID().toString()).withAlert("alert"));
+      JsonObject expected = JsonObject.mapFrom(compositePoLine);
+      expected.remove(ALERTS);
+      expected.remove(REPORTING_CODES);
+      PoLine expectedPoLine = expected.mapTo(PoLine.class)
+        .withAlerts(List.of(compositePoLine.getAlerts().get(0).getId()));
+
+      assertEquals(JsonObject.mapFrom(expectedPoLine), JsonObject.mapFrom(PoLineCommonUtil.convertToPoLine(compositePoLine)));
+    }
+  }
+
+  @Test
+  void shouldConvertPurchaseOrderSameAsJsonRoundTrip() {
+    JsonObject orderJson = getMockAsJson(ORDER_PATH);
+    orderJson.remove("compositePoLines");
+    orderJson.remove("totalEstimatedPrice");
+    orderJson.remove("totalItems");
+    orderJson.remove("totalEncumbered");
+    orderJson.remove("totalExpended");
+    orderJson.remove("totalCredited");
+    PurchaseOrder purchaseOrder = orderJson.mapTo(PurchaseOrder.class);
+
+    CompositePurchaseOrder compositeOrder = HelperUtils.convertToCompositePurchaseOrder(purchaseOrder, List.of());
+
+    assertEquals(JsonObject.mapFrom(JsonObject.mapFrom(purchaseOrder).mapTo(CompositePurchaseOrder.class)),
+      JsonObject.mapFrom(compositeOrder));
+  }
+
+  @Test
+  void shouldCopyWithoutSharedState() {
+    CompositePurchaseOrder order = getMockAsJson(ORDER_PATH).mapTo(CompositePurchaseOrder.class);
+
+    CompositePurchaseOrder copy = ModelCopier.copy(order);
+
+    assertEquals(JsonObject.mapFrom(order), JsonObject.mapFrom(copy));
+    assertNotSame(order.getCompositePoLines(), copy.getCompositePoLines());
+    CompositePoLine line = order.getCompositePoLines().get(0);
+    CompositePoLine lineCopy = copy.getCompositePoLines().get(0);
+    assertNotSame(line, lineCopy);
+    assertNotSame(line.getCost(), lineCopy.getCost());
+    assertNotSame(line.getLocations().get(0), lineCopy.getLocations().get(0));
+
+    lineCopy.getCost().setListUnitPrice(1000d);
+    lineCopy.getLocations().get(0).setQuantity(1000);
+    assertEquals(JsonObject.mapFrom(getMockAsJson(ORDER_PATH).mapTo(CompositePurchaseOrder.class)), JsonObject.mapFrom(order));
+  }
+
+  @Test
+  void shouldReturnNullForNullSource() {
+    assertNull(ModelCopier.copy(null));
+    assertNull(ModelCopier.copy(null, PoLine.class));
+  }
+
+}
@@ -245,4 +245,45 @@ public class PoLineCommonUtilTest {
     return new Location().withTenantId(tenantId);
   }
 
+  @Test
+  void shouldNotThrowWhenProtectedFieldsOfLinesNotChanged() {
+    List<String> protectedFields = POLineProtectedFieldsUtil.getFieldNames(CompositePoLine.OrderFormat.P_E_MIX.value());
+    CompositePoLine requestLine = getMockAsJson(ORDER_PATH).mapTo(CompositePurchaseOrder.class).getCompositePoLines().get(0)
+      .withOrderFormat(CompositePoLine.OrderFormat.P_E_MIX)
+      .withDetails(null);
+    PoLine lineFromStorage = PoLineCommonUtil.convertToPoLine(requestLine)
+      .withDetails(new Details().withProductIds(List.of()));
+
+    assertDoesNotThrow(() -> PoLineCommonUtil.verifyProtectedFieldsChanged(protectedFields, lineFromStorage, requestLine));
+  }
+
+  @Test
+  void shouldThrowWhenProtectedFieldsOfLinesChanged() {
+    List<String> protectedFields = POLineProtectedFieldsUtil.getFieldNames(CompositePoLine.OrderFormat.PHYSICAL_RESOURCE.value());
+    CompositePoLine requestLine = getMockAsJson(ORDER_PATH).mapTo(CompositePurchaseOrder.class).getCompositePoLines().get(0);
+    PoLine lineFromStorage = PoLineCommonUtil.convertToPoLine(requestLine);
+    requestLine.setRush(!Boolean.TRUE.equals(lineFromStorage.getRush()));
+    requestLine.getPhysical().setCreateInventory(Physical.CreateInventory.NONE);
+    lineFromStorage.getPhysical().setCreateInventory(Physical.CreateInventory.INSTANCE);
+
+    HttpException exception = assertThrows(HttpException.class,
+      () -> PoLineCommonUtil.verifyProtectedFieldsChanged(protectedFields, lineFromStorage, requestLine));
+
+    assertEquals(400, exception.getCode());
+    assertTrue(exception.getMessage().contains("\"rush\""));
+    assertTrue(exception.getMessage().contains("\"physical.createInventory\""));
+  }
+
+  @Test
+  void shouldCompareProtectedListsOfLinesRegardlessOfOrder() {
+    List<String> protectedFields = List.of("details.productIds");
+    ProductId isbn = new ProductId().withProductId("9780547928227").withProductIdType(UUID.randomUUID().toString());
+    ProductId issn = new ProductId().withProductId("0317-8471").withProductIdType(UUID.randomUUID().toString());
+    CompositePoLine requestLine = new CompositePoLine().withDetails(new Details().withProductIds(List.of(isbn, issn)));
+    PoLine reorderedLine = new PoLine().withDetails(new Details().withProductIds(List.of(issn, isbn)));
+    PoLine changedLine = new PoLine().withDetails(new Details().withProductIds(List.of(isbn, new ProductId().withProductId("0317-8471"))));
+
+    assertDoesNotThrow(() -> PoLineCommonUtil.verifyProtectedFieldsChanged(protectedFields, reorderedLine, requestLine));
+    assertThrows(HttpException.class, () -> PoLineCommonUtil.verifyProtectedFieldsChanged(protectedFields, changedLine, requestLine));
+  }
 }
@@ -0,0 +1,83 @@
+package org.folio.rest.core;
+
+import static org.folio.rest.RestVerticle.OKAPI_HEADER_TENANT;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.folio.rest.core.models.RequestContext;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.vertx.core.http.HttpMethod;
+import io.vertx.core.json.JsonObject;
+
+public class RestClientMetricsTest {
+
+  private static final String PO_LINE_ID = "0dd8f1d2-ac2e-4155-a407-72071f6d5f4a";
+
+  private SimpleMeterRegistry registry;
+
+  @BeforeEach
+  void before() {
+    registry = new SimpleMeterRegistry();
+  }
+
+  @AfterEach
+  void after() {
+    registry.close();
+  }
+
+  @Test
+  void shouldStripIdsAndQueryFromEndpoint() {
+    assertEquals("/orders-storage/po-lines/{id}", RestClientMetrics.toEndpointTemplate("/orders-storage/po-lines/" + PO_LINE_ID));
+    assertEquals("/orders-storage/pieces", RestClientMetrics.toEndpointTemplate("/orders-storage/pieces?query=poLineId==" + PO_LINE_ID + "&limit=10"));
+    assertEquals("/orders-storage/purchase-orders/{id}", RestClientMetrics.toEndpointTemplate("/orders-storage/purchase-orders/10001"));
+  }
+
+  @Test
+  void shouldRecordCallsPerEndpointTemplateAndApiWithoutTenant() {
+    RestClientMetrics.record(registry, HttpMethod.GET, "/orders-storage/po-lines/{id}", "OrdersApi", "200",
+      TimeUnit.MILLISECONDS.toNanos(5), 0, 100);
+    RestClientMetrics.record(registry, HttpMethod.GET, "/orders-storage/po-lines/{id}", "OrdersApi", "404",
+      TimeUnit.MILLISECONDS.toNanos(5), 0, 20);
+
+    Timer timer = registry.get(RestClientMetrics.REQUESTS_METER)
+      .tags("method", "GET", "endpoint", "/orders-storage/po-lines/{id}", "api", "OrdersApi", "status", "404")
+      .timer();
+    assertEquals(1, timer.count());
+    assertNull(timer.getId().getTag("tenant"));
+    assertEquals(120d, registry.get(RestClientMetrics.RESPONSE_PAYLOAD_METER).summary().totalAmount());
+  }
+
+  @Test
+  void shouldLimitNumberOfEndpointTemplates() {
+    for (int i = 0; i < RestClientMetrics.MAX_ENDPOINT_TEMPLATES + 10; i++) {
+      RestClientMetrics.record(registry, HttpMethod.GET, "/endpoint-" + i, "OrdersApi", "200", 1, 0, 0);
+    }
+
+    assertEquals(RestClientMetrics.MAX_ENDPOINT_TEMPLATES, registry.find(RestClientMetrics.REQUESTS_METER).timers().size());
+  }
+
+  @Test
+  void shouldSummarizeCallsOfRequest() {
+    RequestContext requestContext = new RequestContext(null, Map.of(OKAPI_HEADER_TENANT, "diku"), "OrdersApi");
+
+    RestClientMetrics.record(HttpMethod.GET, "/orders-storage/po-lines/" + PO_LINE_ID, "200", true,
+      TimeUnit.MILLISECONDS.toNanos(5), 0, 100, requestContext);
+    RestClientMetrics.record(HttpMethod.GET, "/orders-storage/po-lines/" + PO_LINE_ID, "404", false,
+      TimeUnit.MILLISECONDS.toNanos(5), 0, 20, requestContext);
+
+    JsonObject summary = requestContext.getCallStats().toJson("diku");
+    assertEquals("OrdersApi", summary.getString("api"));
+    assertEquals(2, summary.getLong("calls"));
+    assertEquals(1, summary.getLong("errors"));
+    assertEquals(2, summary.getJsonObject("endpoints").getLong("GET /orders-storage/po-lines/{id}"));
+  }
+
+}
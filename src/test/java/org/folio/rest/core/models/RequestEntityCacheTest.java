@@ -0,0 +1,219 @@
+package org.folio.rest.core.models;
+
+import static org.folio.rest.RestVerticle.OKAPI_HEADER_TENANT;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.folio.rest.jaxrs.model.PoLine;
+import org.folio.rest.jaxrs.model.PurchaseOrder;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import io.vertx.core.Future;
+import io.vertx.core.json.JsonObject;
+
+public class RequestEntityCacheTest {
+
+  private RequestEntityCache entityCache;
+  private RequestContext requestContext;
+
+  @BeforeEach
+  void before() {
+    entityCache = new RequestEntityCache();
+    requestContext = new RequestContext(null, Map.of(OKAPI_HEADER_TENANT, "diku"), entityCache);
+  }
+
+  @Test
+  void shouldLoadEntityOnlyOnceWithinRequest() {
+    AtomicInteger loads = new AtomicInteger();
+    PoLine poLine = new PoLine().withId("1");
+
+    Future<PoLine> first = entityCache.getOrLoad(PoLine.class, "1", requestContext, () -> {
+      loads.incrementAndGet();
+      return Future.succeededFuture(poLine);
+    });
+    Future<PoLine> second = entityCache.getOrLoad(PoLine.class, "1", requestContext, () -> {
+      loads.incrementAndGet();
+      return Future.succeededFuture(new PoLine().withId("1"));
+    });
+
+    assertEquals(1, loads.get());
+    assertEquals(poLine, first.result());
+    assertEquals(poLine, second.result());
+    assertNotSame(first.result(), second.result());
+  }
+
+  @Test
+  void shouldNotShareChangesOfReturnedEntity() {
+    entityCache.getOrLoad(PoLine.class, "1", requestContext, () -> Future.succeededFuture(new PoLine().withId("1")))
+      .result()
+      .setTitleOrPackage("changed");
+    PoLine saved = new PoLine().withId("2").withTitleOrPackage("saved");
+    entityCache.put(PoLine.class, "2", saved, requestContext);
+    saved.setTitleOrPackage("changed");
+
+    assertNull(entityCache.getOrLoad(PoLine.class, "1", requestContext, () -> Future.failedFuture("not cached")).result().getTitleOrPackage());
+    assertEquals("saved", entityCache.getOrLoad(PoLine.class, "2", requestContext, () -> Future.failedFuture("not cached")).result().getTitleOrPackage());
+  }
+
+  @Test
+  void shouldNotKeepPendingEntryWhenLoaderThrows() {
+    Future<PoLine> failed = entityCache.getOrLoad(PoLine.class, "1", requestContext, () -> {
+      throw new IllegalStateException();
+    });
+    Future<List<PoLine>> failedAll = entityCache.getOrLoadAll(PoLine.class, List.of("2"), requestContext, PoLine::getId, ids -> {
+      throw new IllegalStateException();
+    });
+    Future<List<PoLine>> loaded = entityCache.getOrLoadAll(PoLine.class, List.of("1", "2"), requestContext, PoLine::getId,
+      ids -> Future.succeededFuture(List.of(new PoLine().withId("1"), new PoLine().withId("2"))));
+
+    assertTrue(failed.failed());
+    assertTrue(failedAll.failed());
+    assertEquals(List.of("1", "2"), loaded.result().stream().map(PoLine::getId).toList());
+  }
+
+  @Test
+  void shouldNotCacheFailedLoad() {
+    AtomicInteger loads = new AtomicInteger();
+
+    Future<PoLine> failed = entityCache.getOrLoad(PoLine.class, "1", requestContext, () -> {
+      loads.incrementAndGet();
+      return Future.failedFuture(new IllegalStateException());
+    });
+    Future<PoLine> loaded = entityCache.getOrLoad(PoLine.class, "1", requestContext, () -> {
+      loads.incrementAndGet();
+      return Future.succeededFuture(new PoLine().withId("1"));
+    });
+
+    assertTrue(failed.failed());
+    assertTrue(loaded.succeeded());
+    assertEquals(2, loads.get());
+  }
+
+  @Test
+  void shouldSeparateEntitiesByTenant() {
+    RequestContext otherTenantContext = new RequestContext(null, Map.of(OKAPI_HEADER_TENANT, "college"), entityCache);
+    entityCache.put(PoLine.class, "1", new PoLine().withId("1").withTitleOrPackage("diku"), requestContext);
+
+    PoLine poLine = entityCache.getOrLoad(PoLine.class, "1", otherTenantContext,
+      () -> Future.succeededFuture(new PoLine().withId("1").withTitleOrPackage("college"))).result();
+
+    assertEquals("college", poLine.getTitleOrPackage());
+  }
+
+  @Test
+  void shouldLoadOnlyMissingEntities() {
+    entityCache.put(PoLine.class, "1", new PoLine().withId("1"), requestContext);
+    AtomicInteger loads = new AtomicInteger();
+
+    List<PoLine> poLines = entityCache.getOrLoadAll(PoLine.class, List.of("1", "2", "3", "2"), requestContext, PoLine::getId, ids -> {
+      loads.incrementAndGet();
+      assertEquals(List.of("2", "3"), ids);
+      // Entity "3" is not found in the storage
+      return Future.succeededFuture(List.of(new PoLine().withId("2")));
+    }).result();
+
+    assertEquals(1, loads.get());
+    assertEquals(List.of("1", "2"), poLines.stream().map(PoLine::getId).toList());
+
+    List<PoLine> cachedPoLines = entityCache.getOrLoadAll(PoLine.class, List.of("1", "2"), requestContext, PoLine::getId, ids -> {
+      loads.incrementAndGet();
+      return Future.succeededFuture(List.of());
+    }).result();
+
+    assertEquals(1, loads.get());
+    assertEquals(2, cachedPoLines.size());
+  }
+
+  @Test
+  void shouldReturnSavedEntityAfterPut() {
+    entityCache.getOrLoad(PoLine.class, "1", requestContext, () -> Future.succeededFuture(new PoLine().withId("1")));
+    PoLine saved = new PoLine().withId("1").withTitleOrPackage("saved");
+    entityCache.put(PoLine.class, "1", saved, requestContext);
+
+    assertEquals(saved, entityCache.getOrLoad(PoLine.class, "1", requestContext, Future::succeededFuture).result());
+  }
+
+  @Test
+  void shouldAlwaysLoadWhenCacheIsDisabled() {
+    RequestContext noCacheContext = new RequestContext(null, Map.of(OKAPI_HEADER_TENANT, "diku"));
+    RequestEntityCache disabledCache = RequestEntityCache.of(noCacheContext);
+    AtomicInteger loads = new AtomicInteger();
+
+    disabledCache.put(PoLine.class, "1", new PoLine().withId("1"), noCacheContext);
+    disabledCache.getOrLoad(PoLine.class, "1", noCacheContext, () -> Future.succeededFuture(new PoLine().withId(String.valueOf(loads.incrementAndGet()))));
+    disabledCache.getOrLoad(PoLine.class, "1", noCacheContext, () -> Future.succeededFuture(new PoLine().withId(String.valueOf(loads.incrementAndGet()))));
+
+    assertFalse(disabledCache.isEnabled());
+    assertEquals(2, loads.get());
+  }
+
+  @Test
+  void shouldCacheOnlyGivenTypes() {
+    RequestEntityCache typedCache = RequestEntityCache.forTypes(PurchaseOrder.class);
+    RequestContext typedContext = new RequestContext(null, Map.of(OKAPI_HEADER_TENANT, "diku"), typedCache);
+    AtomicInteger loads = new AtomicInteger();
+
+    for (int i = 0; i < 2; i++) {
+      typedCache.getOrLoad(PoLine.class, "1", typedContext, () -> {
+        loads.incrementAndGet();
+        return Future.succeededFuture(new PoLine().withId("1"));
+      });
+      typedCache.getOrLoad(PurchaseOrder.class, "1", typedContext, () -> {
+        loads.incrementAndGet();
+        return Future.succeededFuture(new PurchaseOrder().withId("1"));
+      });
+    }
+
+    assertEquals(3, loads.get());
+    assertTrue(typedCache.isEnabled(PurchaseOrder.class));
+    assertFalse(typedCache.isEnabled(PoLine.class));
+  }
+
+  @Test
+  void shouldEvictAllEntitiesOfType() {
+    entityCache.put(PoLine.class, "1", new PoLine().withId("1"), requestContext);
+    entityCache.put(PoLine.class, "2", new PoLine().withId("2"), requestContext);
+    entityCache.put(PurchaseOrder.class, "1", new PurchaseOrder().withId("1"), requestContext);
+    AtomicInteger loads = new AtomicInteger();
+
+    entityCache.evictAll(PoLine.class);
+    entityCache.getOrLoad(PoLine.class, "2", requestContext, () -> {
+      loads.incrementAndGet();
+      return Future.succeededFuture(new PoLine().withId("2"));
+    });
+    entityCache.getOrLoad(PurchaseOrder.class, "1", requestContext, () -> {
+      loads.incrementAndGet();
+      return Future.succeededFuture(new PurchaseOrder().withId("1"));
+    });
+
+    assertEquals(1, loads.get());
+  }
+
+  @Test
+  void shouldCacheJsonEntitiesByKeyType() {
+    final class Holding {
+    }
+    final class Item {
+    }
+    JsonObject holding = new JsonObject().put("id", "1").put("permanentLocationId", "location");
+    entityCache.putJson(Holding.class, "1", holding, requestContext);
+
+    Future<JsonObject> cachedHolding = entityCache.getOrLoadJson(Holding.class, "1", requestContext,
+      () -> Future.failedFuture("must not be loaded"));
+    Future<JsonObject> item = entityCache.getOrLoadJson(Item.class, "1", requestContext,
+      () -> Future.succeededFuture(new JsonObject().put("id", "1")));
+
+    assertEquals(holding, cachedHolding.result());
+    assertNotSame(holding, cachedHolding.result());
+    assertEquals(new JsonObject().put("id", "1"), item.result());
+  }
+
+}
@@ -215,7 +215,7 @@ public class CheckinReceivingApiTest {
     // The piece searches should be made 2 times: 1st time to get all required piece records, 2nd time to calculate expected PO Line status
     assertThat(pieceSearches, hasSize(expectedSearchRqQty + pieceIdsByPol.size()));
     assertThat(pieceUpdates, hasSize(checkInRq.getTotalRecords()));
-    assertThat(polSearches, hasSize(pieceIdsByPol.size() + 1));
+    assertThat(polSearches, hasSize(pieceIdsByPol.size()));
     assertThat(polUpdates, hasSize(pieceIdsByPol.size()));
 
     JsonArray poLinesJson = polUpdates.get(0).getJsonArray("poLines");
@@ -270,7 +270,7 @@ public class CheckinReceivingApiTest {
     assertThat(pieceUpdates, hasSize(2));
     assertThat(itemsSearches, hasSize(1));
     assertThat(itemUpdates, hasSize(1));
-    assertThat(polSearches, hasSize(2));
+    assertThat(polSearches, hasSize(1));
     assertThat(polUpdates, hasSize(1));
 
     itemUpdates.forEach(item -> {
@@ -334,13 +334,13 @@ public class CheckinReceivingApiTest {
     assertThat(polSearches, not(nullValue()));
     assertThat(polBatchUpdates, not(nullValue()));
 
-    // The piece searches should be made 2 times: 1st time to get piece record,
-    // 2nd time to calculate expected PO Line status
-    assertThat(pieceSearches, hasSize(2));
+    // The piece searches should be made 3 times: 1st time to get piece record,
+    // 2nd and 3rd time to count expected and received pieces for PO Line status
+    assertThat(pieceSearches, hasSize(3));
     assertThat(pieceUpdates, hasSize(1));
     assertThat(itemsSearches, hasSize(1));
     assertThat(itemUpdates, hasSize(1));
-    assertThat(polSearches, hasSize(2));
+    assertThat(polSearches, hasSize(1));
     assertThat(polBatchUpdates, hasSize(1));
 
     itemUpdates.forEach(item -> {
@@ -387,10 +387,10 @@ public class CheckinReceivingApiTest {
 
     assertThat(polSearches, not(nullValue()));
 
-    // The piece searches should be made 2 times: 1st time to get all required piece records and second - get pieces by po line
-    assertThat(pieceSearches, hasSize(2));
+    // The piece searches should be made once to get all required piece records, status is not calculated for ongoing and cancelled po lines
+    assertThat(pieceSearches, hasSize(1));
     assertThat(pieceUpdates, hasSize(receivingRq.getTotalRecords()));
-    assertThat(polSearches, hasSize(pieceIdsByPol.size() + 1));
+    assertThat(polSearches, hasSize(pieceIdsByPol.size()));
 
     // check no status updates were performed, but location was updated
     assertThat(polBatchUpdates, hasSize(1));
@@ -436,10 +436,10 @@ public class CheckinReceivingApiTest {
 
     assertThat(polSearches, not(nullValue()));
 
-    // The piece searches should be made 2 times: 1st time to get all required piece records and second - get pieces by po line
-    assertThat(pieceSearches, hasSize(2));
+    // The piece searches should be made once to get all required piece records, status is not calculated for ongoing and cancelled po lines
+    assertThat(pieceSearches, hasSize(1));
     assertThat(pieceUpdates, hasSize(receivingRq.getTotalRecords()));
-    assertThat(polSearches, hasSize(pieceIdsByPol.size() + 1));
+    assertThat(polSearches, hasSize(pieceIdsByPol.size()));
 
     // check no status updates were performed and POL remained canceled
     assertThat(polBatchUpdates, hasSize(1));
@@ -493,7 +493,7 @@ public class CheckinReceivingApiTest {
     checkResultWithErrors(request, 0);
     assertThat(getPieceSearches(), hasSize(2));
     assertThat(getPieceUpdates(), hasSize(2));
-    assertThat(getPoLineSearches(), hasSize(2));
+    assertThat(getPoLineSearches(), hasSize(1));
     assertThat(getPoLineBatchUpdates(), hasSize(1));
     verifyCheckinOrderStatusUpdateEvent(1);
 
@@ -509,7 +509,7 @@ public class CheckinReceivingApiTest {
     checkResultWithErrors(request, 1);
     assertThat(getPieceSearches(), hasSize(2));
     assertThat(getPieceUpdates(), hasSize(1));
-    assertThat(getPoLineSearches(), hasSize(2));
+    assertThat(getPoLineSearches(), hasSize(1));
     assertThat(getPoLineBatchUpdates(), hasSize(1));
     verifyCheckinOrderStatusUpdateEvent(1);
 
@@ -523,7 +523,7 @@ public class CheckinReceivingApiTest {
     checkResultWithErrors(request, 2);
     assertThat(getPieceSearches(), hasSize(1));
     assertThat(getPieceUpdates(), nullValue());
-    assertThat(getPoLineSearches(), hasSize(2));
+    assertThat(getPoLineSearches(), hasSize(1));
     assertThat(getPoLineUpdates(), nullValue());
     verifyOrderStatusUpdateEvent(0);
   }
@@ -565,7 +565,7 @@ public class CheckinReceivingApiTest {
     assertThat(pieceUpdates, hasSize(receivingRq.getTotalRecords()));
     assertThat(itemsSearches, hasSize(expectedSearchRqQty));
     assertThat(itemUpdates, hasSize(receivingRq.getTotalRecords()));
-    assertThat(polSearches, hasSize(pieceIdsByPol.size() + 1));
+    assertThat(polSearches, hasSize(pieceIdsByPol.size()));
     assertThat(polBatchUpdates, hasSize(pieceIdsByPol.size()));
 
     itemUpdates.forEach(item -> {
@@ -680,7 +680,7 @@ public class CheckinReceivingApiTest {
     // The piece searches should be made 2 times: 1st time to get all required piece records, 2nd time to calculate expected PO Line status
     assertThat(pieceSearches, hasSize(expectedSearchRqQty + pieceIdsByPol.size()));
     assertThat(pieceUpdates, hasSize(checkinCollection.getTotalRecords()));
-    assertThat(polSearches, hasSize(pieceIdsByPol.size() + 1));
+    assertThat(polSearches, hasSize(pieceIdsByPol.size()));
     assertThat(polBatchUpdates, hasSize(pieceIdsByPol.size()));
 
     JsonArray poLinesJson = polBatchUpdates.get(0).getJsonArray("poLines");
@@ -735,12 +735,12 @@ public class CheckinReceivingApiTest {
 
     int expectedSearchRqQty = Math.floorDiv(receivingRq.getTotalRecords(), MAX_IDS_FOR_GET_RQ_15) + 1;
 
-    // The piece searches should be made 2 times: 1st time to get all required piece records, 2nd time to calculate expected PO Line status
-    assertThat(pieceSearches, hasSize(expectedSearchRqQty + pieceIdsByPol.size()));
+    // The piece searches should be made once to get all required piece records, status is not calculated for cancelled po lines
+    assertThat(pieceSearches, hasSize(expectedSearchRqQty));
     assertThat(pieceUpdates, hasSize(receivingRq.getTotalRecords()));
     assertThat(itemsSearches, hasSize(expectedSearchRqQty));
     assertThat(itemUpdates, hasSize(receivingRq.getTotalRecords()));
-    assertThat(polSearches, hasSize(pieceIdsByPol.size() + 1));
+    assertThat(polSearches, hasSize(pieceIdsByPol.size()));
     assertThat(polBatchUpdates, hasSize(pieceIdsByPol.size()));
 
     itemUpdates.forEach(item -> {
@@ -806,12 +806,12 @@ public class CheckinReceivingApiTest {
     int expectedSearchRqQty = Math.floorDiv(receivingRq.getTotalRecords(), MAX_IDS_FOR_GET_RQ_15) + 1;
     boolean isPoLineCancelled = compositePoLine.getReceiptStatus() == CompositePoLine.ReceiptStatus.CANCELLED;
 
-    // The piece searches should be made 2 times: 1st time to get all required piece records, 2nd time to calculate expected PO Line status
-    assertThat(pieceSearches, hasSize(expectedSearchRqQty + pieceIdsByPol.size()));
+    // The piece searches should be made 2 times: 1st time to get all required piece records, 2nd time to calculate expected PO Line status if it is not cancelled
+    assertThat(pieceSearches, hasSize(expectedSearchRqQty + (isPoLineCancelled ? 0 : pieceIdsByPol.size())));
     assertThat(pieceUpdates, hasSize(receivingRq.getTotalRecords()));
     assertThat(itemsSearches, hasSize(expectedSearchRqQty));
     assertThat(itemUpdates, hasSize(receivingRq.getTotalRecords()));
-    assertThat(polSearches, hasSize(pieceIdsByPol.size() + 1));
+    assertThat(polSearches, hasSize(pieceIdsByPol.size()));
     assertThat(polBatchUpdates, hasSize(pieceIdsByPol.size()));
 
     itemUpdates.forEach(item -> {
@@ -875,11 +875,11 @@ public class CheckinReceivingApiTest {
 
     int expectedSearchRqQty = Math.floorDiv(checkinCollection.getTotalRecords(), MAX_IDS_FOR_GET_RQ_15) + 1;
 
-    // The piece searches should be made 2 times: 1st time to get all required piece records, 2nd time to calculate expected PO Line status
+    // The piece searches should be made once to get all required piece records, status is not calculated for cancelled po lines
     assertThat(purchaseOrderRetrievals, hasSize(1));
-    assertThat(pieceSearches, hasSize(expectedSearchRqQty + pieceIdsByPol.size()));
+    assertThat(pieceSearches, hasSize(expectedSearchRqQty));
     assertThat(pieceUpdates, hasSize(checkinCollection.getTotalRecords()));
-    assertThat(polSearches, hasSize(pieceIdsByPol.size() + 1));
+    assertThat(polSearches, hasSize(pieceIdsByPol.size()));
     assertThat(polBatchUpdates, hasSize(pieceIdsByPol.size()));
 
     JsonArray poLinesJson = polBatchUpdates.get(0).getJsonArray("poLines");
@@ -956,11 +956,11 @@ public class CheckinReceivingApiTest {
     int expectedSearchRqQty = Math.floorDiv(checkinCollection.getTotalRecords(), MAX_IDS_FOR_GET_RQ_15) + 1;
     boolean isPoLineCancelled = compositePoLine.getReceiptStatus() == CompositePoLine.ReceiptStatus.CANCELLED;
 
-    // The piece searches should be made 2 times: 1st time to get all required piece records, 2nd time to calculate expected PO Line status
+    // The piece searches should be made 2 times: 1st time to get all required piece records, 2nd time to calculate expected PO Line status if it is not cancelled
     assertThat(purchaseOrderRetrievals, hasSize(1));
-    assertThat(pieceSearches, hasSize(expectedSearchRqQty + pieceIdsByPol.size()));
+    assertThat(pieceSearches, hasSize(expectedSearchRqQty + (isPoLineCancelled ? 0 : pieceIdsByPol.size())));
     assertThat(pieceUpdates, hasSize(checkinCollection.getTotalRecords()));
-    assertThat(polSearches, hasSize(pieceIdsByPol.size() + 1));
+    assertThat(polSearches, hasSize(pieceIdsByPol.size()));
     assertThat(polBatchUpdates, hasSize(pieceIdsByPol.size()));
 
     JsonArray poLinesJson = polBatchUpdates.get(0).getJsonArray("poLines");
@@ -989,8 +989,8 @@ public class CheckinReceivingApiTest {
 
   private static Stream<Arguments> testPostCheckInPhysicalFullyReceivedEcsArgs() {
     return Stream.of(
-      Arguments.of(CONSISTENT_ECS_PURCHASE_ORDER_ID_PHYSICAL_SINGLE_ITEM, "checkin-fully-receive-physical-resource-ecs-single.json", 1, 4, 2, 1),
-      Arguments.of(CONSISTENT_ECS_PURCHASE_ORDER_ID_PHYSICAL_MULTIPLE_ITEMS, "checkin-fully-receive-physical-resource-ecs-multiple.json", 2, 4, 2, 2)
+      Arguments.of(CONSISTENT_ECS_PURCHASE_ORDER_ID_PHYSICAL_SINGLE_ITEM, "checkin-fully-receive-physical-resource-ecs-single.json", 1, 2, 1, 1),
+      Arguments.of(CONSISTENT_ECS_PURCHASE_ORDER_ID_PHYSICAL_MULTIPLE_ITEMS, "checkin-fully-receive-physical-resource-ecs-multiple.json", 2, 2, 1, 2)
     );
   }
 
@@ -1045,7 +1045,8 @@ public class CheckinReceivingApiTest {
     // The piece searches should be made 2 times: 1st time to get all required piece records, 2nd time to calculate expected PO Line status
     assertThat(pieceSearches, hasSize(expectedSearchRqQty + pieceIdsByPol.size()));
     assertThat(pieceUpdates, hasSize(checkinCollection.getTotalRecords()));
-    // Should be >1 due to an extra call performed in CheckinHelper.createItemsWithPieceUpdate per CheckInPiece
+    // Should be >1 due to an extra call to get the order lines performed when items are recreated in another tenant,
+    // the po line and the order themselves are taken from the request cache
     assertThat(polSearches, hasSize(poLineCount));
     assertThat(purchaseOrderSearches, hasSize(orderCount));
     assertThat(polBatchUpdates, hasSize(pieceIdsByPol.size()));
@@ -1339,7 +1340,7 @@ public class CheckinReceivingApiTest {
     // The piece searches should be made 2 times: 1st time to get all required piece records, 2nd time to calculate expected PO Line status
     assertThat(pieceSearches, hasSize(expectedSearchRqQty + pieceIdsByPol.size()));
     assertThat(pieceUpdates, hasSize(receiving.getTotalRecords()));
-    assertThat(polSearches, hasSize(pieceIdsByPol.size() + 1));
+    assertThat(polSearches, hasSize(pieceIdsByPol.size()));
     assertThat(polBatchUpdates, hasSize(pieceIdsByPol.size()));
 
     JsonArray poLinesJson = polBatchUpdates.get(0).getJsonArray("poLines");
@@ -1390,7 +1391,7 @@ public class CheckinReceivingApiTest {
 
     List<JsonObject> itemUpdates = getItemUpdates();
     List<JsonObject> polBatchUpdates = getPoLineBatchUpdates();
-    assertThat(getPoLineSearches(), hasSize(2));
+    assertThat(getPoLineSearches(), hasSize(1));
     assertThat(polBatchUpdates, hasSize(1));
     assertThat(itemUpdates, hasSize(6));
 
@@ -1971,14 +1972,14 @@ public class CheckinReceivingApiTest {
     assertThat(polSearches, not(nullValue()));
     assertThat(polBatchUpdates, not(nullValue()));
 
-    // The piece searches should be made 2 times: 1st time to get all required piece records, 2nd times to calculate expected PO Line status
-    assertThat(pieceSearches, hasSize(2));
+    // The piece searches should be made 3 times: 1st time to get all required piece records, 2nd and 3rd time to count expected and received pieces for PO Line status
+    assertThat(pieceSearches, hasSize(3));
     // In total 4 pieces required update
     assertThat(pieceUpdates, hasSize(4));
     assertThat(itemsSearches, hasSize(1));
     // There are 3 piece records with item id's
     assertThat(itemUpdates, hasSize(3));
-    assertThat(polSearches, hasSize(pieceIdsByPol.size() + 1));
+    assertThat(polSearches, hasSize(pieceIdsByPol.size()));
     assertThat(polBatchUpdates, hasSize(pieceIdsByPol.size()));
 
     itemUpdates.forEach(item -> {
@@ -2027,12 +2028,12 @@ public class CheckinReceivingApiTest {
     assertThat(polSearches, not(nullValue()));
     assertThat(polBatchUpdates, not(nullValue()));
 
-    // The piece searches should be made 2 times: 1st time to get piece record, 2nd times to calculate expected PO Line status
-    assertThat(pieceSearches, hasSize(2));
+    // The piece searches should be made 3 times: 1st time to get piece record, 2nd and 3rd time to count expected and received pieces for PO Line status
+    assertThat(pieceSearches, hasSize(3));
     assertThat(pieceUpdates, hasSize(1));
     assertThat(itemsSearches, hasSize(1));
     assertThat(itemUpdates, hasSize(1));
-    assertThat(polSearches, hasSize(2));
+    assertThat(polSearches, hasSize(1));
     assertThat(polBatchUpdates, hasSize(1));
 
     itemUpdates.forEach(item -> {
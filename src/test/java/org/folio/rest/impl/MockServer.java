@@ -132,12 +132,18 @@ import java.util.Date;
 import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ThreadLocalRandom;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.function.Supplier;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
@@ -153,7 +159,6 @@ import org.folio.HttpStatus;
 import org.folio.Organization;
 import org.folio.OrganizationCollection;
 import org.folio.helper.BaseHelper;
-import org.folio.isbn.IsbnUtil;
 import org.folio.rest.RestVerticle;
 import org.folio.rest.acq.model.Alert;
 import org.folio.rest.acq.model.OrderInvoiceRelationshipCollection;
@@ -176,6 +181,7 @@ import org.folio.rest.acq.model.finance.Fund;
 import org.folio.rest.acq.model.finance.FundCollection;
 import org.folio.rest.acq.model.finance.Ledger;
 import org.folio.rest.acq.model.finance.LedgerCollection;
+import org.folio.rest.acq.model.finance.LedgerFiscalYearRolloverProgress;
 import org.folio.rest.acq.model.finance.Metadata;
 import org.folio.rest.acq.model.finance.Transaction;
 import org.folio.rest.acq.model.finance.TransactionCollection;
@@ -206,6 +212,7 @@ import org.folio.rest.jaxrs.model.PurchaseOrder;
 import org.folio.rest.jaxrs.model.PurchaseOrderCollection;
 import org.folio.rest.jaxrs.model.ReasonForClosure;
 import org.folio.rest.jaxrs.model.ReasonForClosureCollection;
+import org.folio.rest.jaxrs.model.RolloverStatus;
 import org.folio.rest.jaxrs.model.RoutingList;
 import org.folio.rest.jaxrs.model.RoutingListCollection;
 import org.folio.rest.jaxrs.model.Suffix;
@@ -310,7 +317,6 @@ public class MockServer {
   private static final String INSTANCE_STATUSES = "instanceStatuses";
   private static final String IDENTIFIER_TYPES = "identifierTypes";
   private static final String HOLDINGS_SOURCES = "holdingsRecordsSources";
-  private static final String ISBN_CONVERT13 = "ISBN13";
   private static final String HOLDING_PERMANENT_LOCATION_ID = "permanentLocationId";
   private static final String ORGANIZATIONS = "organizations";
   static final String LOAN_TYPES = "loantypes";
@@ -333,6 +339,13 @@ public class MockServer {
   public static Table<String, HttpMethod, List<JsonObject>> serverRqRs = HashBasedTable.create();
   public static HashMap<String, List<String>> serverRqQueries = new HashMap<>();
 
+  private static final Pattern UUID_PATH_SEGMENT = Pattern.compile("/[0-9a-fA-F]{8}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{12}");
+  // Downstream calls per "METHOD path" with ids replaced by {id}, used by the load tests
+  private static final Map<String, LongAdder> downstreamCalls = new ConcurrentHashMap<>();
+  private static volatile long responseDelayMs;
+  private static volatile double errorRate;
+  private static final Set<String> finishedRollovers = ConcurrentHashMap.newKeySet();
+
   private final int port;
   private final Vertx vertx;
 
@@ -541,6 +554,38 @@ public class MockServer {
   public static void release() {
     serverRqRs.clear();
     serverRqQueries.clear();
+    downstreamCalls.clear();
+    finishedRollovers.clear();
+  }
+
+  /**
+   * Makes every mock response delayed by the given time and fails the given share of the requests with 500 status.
+   * Used by the load tests to emulate slow and unstable storage, inventory and finance modules.
+   */
+  public static void setFaultInjection(long delayMs, double failureRate) {
+    responseDelayMs = delayMs;
+    errorRate = failureRate;
+  }
+
+  public static void resetFaultInjection() {
+    setFaultInjection(0, 0);
+  }
+
+  public static void resetDownstreamCallCounts() {
+    downstreamCalls.clear();
+  }
+
+  public static Map<String, Long> getDownstreamCallCounts() {
+    Map<String, Long> counts = new TreeMap<>();
+    downstreamCalls.forEach((endpoint, count) -> counts.put(endpoint, count.sum()));
+    return counts;
+  }
+
+  /**
+   * Returns true when the final orders rollover progress (success or error) was saved for the rollover.
+   */
+  public static boolean isRolloverFinished(String rolloverId) {
+    return finishedRollovers.contains(rolloverId);
   }
 
   public static List<String> getQueryParams(String resourceType) {
@@ -577,6 +622,7 @@ public class MockServer {
     Router router = Router.router(vertx);
 
     router.route().handler(BodyHandler.create());
+    router.route().handler(this::countAndInjectFaults);
     router.post(resourcesPath(PURCHASE_ORDER_STORAGE)).handler(this::handlePostPurchaseOrder);
     router.post("/inventory/instances").handler(this::handlePostInstanceRecord);
     router.post("/item-storage/items").handler(this::handlePostItemStorRecord);
@@ -629,7 +675,6 @@ public class MockServer {
     router.get(resourcePath(ACQUISITIONS_UNITS)).handler(this::handleGetAcquisitionsUnit);
     router.get(resourcesPath(ACQUISITIONS_MEMBERSHIPS)).handler(this::handleGetAcquisitionsMemberships);
     router.get(resourcePath(ACQUISITIONS_MEMBERSHIPS)).handler(this::handleGetAcquisitionsMembership);
-    router.get("/isbn/convertTo13").handler(this::handleGetIsbnConverter);
     router.get(resourcePath(ORDER_TEMPLATES)).handler(ctx -> handleGetGenericSubObj(ctx, ORDER_TEMPLATES));
     router.get(resourcesPath(ORDER_TEMPLATES)).handler(this::handleGetOrderTemplates);
     router.get("/finance/ledgers/:id/current-fiscal-year").handler(this::handleGetCurrentFiscalYearByLedgerId);
@@ -656,6 +701,7 @@ public class MockServer {
     router.get(resourcesPath(FINANCE_EXCHANGE_RATE)).handler(this::handleGetRateOfExchange);
     router.get(resourcesPath(LEDGER_FY_ROLLOVERS)).handler(this::handleGetFyRollovers);
     router.get("/finance/ledger-rollovers-progress").handler(this::handleGetFyRolloverProgress);
+    router.put("/finance/ledger-rollovers-progress/:id").handler(this::handlePutFyRolloverProgress);
     router.get(resourcesPath(LEDGER_FY_ROLLOVER_ERRORS)).handler(this::handleGetFyRolloverErrors);
     router.get(resourcesPath(ORDER_INVOICE_RELATIONSHIP)).handler(this::handleGetOrderInvoiceRelationship);
     router.get(resourcesPath(TAGS)).handler(ctx -> handleGetGenericSubObj(ctx, TAGS));
@@ -729,6 +775,12 @@ public class MockServer {
     logger.info("handleGetFyRolloverProgress got: " + ctx.request().path());
     try {
       JsonObject entries = new JsonObject(getMockData(LEDGER_FY_ROLLOVERS_PROGRESS_PATH + "ledger_fiscal_year_rollover_progress_collection.json"));
+      String query = StringUtils.trimToEmpty(ctx.request().getParam(QUERY));
+      if (query.startsWith("ledgerRolloverId==")) {
+        String rolloverId = query.substring("ledgerRolloverId==".length());
+        entries.getJsonArray("ledgerFiscalYearRolloverProgresses")
+          .forEach(progress -> ((JsonObject) progress).put("ledgerRolloverId", rolloverId));
+      }
 
       serverResponse(ctx, 200, APPLICATION_JSON, entries.encodePrettily());
       addServerRqRsData(HttpMethod.GET, "ledgerFiscalYearRolloverProgress", entries);
@@ -1965,7 +2017,11 @@ public class MockServer {
       if (getMockEntries(PIECES_STORAGE, Piece.class).isPresent()) {
         logger.info("handleGetPieces (all records)");
         try {
-          List<Piece> piecesList = getMockEntries(PIECES_STORAGE, Piece.class).get();
+          List<Piece> piecesList = new ArrayList<>(getMockEntries(PIECES_STORAGE, Piece.class).get());
+          List<Piece.ReceivingStatus> receivingStatuses = extractReceivingStatusesFromQuery(requestQuery);
+          if (!receivingStatuses.isEmpty()) {
+            piecesList.removeIf(piece -> !receivingStatuses.contains(piece.getReceivingStatus()));
+          }
           pieces = new PieceCollection().withPieces(piecesList);
           pieces.setTotalRecords(pieces.getPieces().size());
         } catch (Exception e) {
@@ -1981,24 +2037,21 @@ public class MockServer {
               .toList();
 
             String polId = EMPTY;
-            String status = EMPTY;
             for (String condition : conditions) {
               if (condition.startsWith("poLineId")) {
                 polId = condition.split("poLineId==")[1];
-              } else if (condition.startsWith("receivingStatus")) {
-                status = condition.split("receivingStatus==")[1];
               }
             }
+            List<Piece.ReceivingStatus> receivingStatuses = extractReceivingStatusesFromQuery(requestQuery);
             logger.info("poLineId: " + polId);
-            logger.info("receivingStatus: " + status);
+            logger.info("receivingStatus: " + receivingStatuses);
 
             String path = PIECE_RECORDS_MOCK_DATA_PATH + String.format("pieceRecords-%s.json", polId);
             pieces = new JsonObject(getMockData(path)).mapTo(PieceCollection.class);
             // Filter piece records by receiving status
-            if (StringUtils.isNotEmpty(status)) {
-              Piece.ReceivingStatus receivingStatus = Piece.ReceivingStatus.fromValue(status);
+            if (!receivingStatuses.isEmpty()) {
               pieces.getPieces()
-                .removeIf(piece -> receivingStatus != piece.getReceivingStatus());
+                .removeIf(piece -> !receivingStatuses.contains(piece.getReceivingStatus()));
             }
           } else if (requestQuery.contains("id==")) {
             logger.info("handleGetPieces (by id)");
@@ -2028,6 +2081,11 @@ public class MockServer {
         }
       }
 
+      // Only total records are returned for the count requests
+      if ("0".equals(ctx.request().getParam("limit"))) {
+        pieces.setPieces(new ArrayList<>());
+      }
+
       JsonObject data = JsonObject.mapFrom(pieces);
       addServerRqRsData(HttpMethod.GET, PIECES_STORAGE, data);
 
@@ -2137,6 +2195,21 @@ public class MockServer {
     }
   }
 
+  private List<Piece.ReceivingStatus> extractReceivingStatusesFromQuery(String query) {
+    return StreamEx.of(extractValuesFromQuery("receivingStatus", query))
+      .map(status -> StringUtils.strip(status, "\""))
+      .map(Piece.ReceivingStatus::fromValue)
+      .toList();
+  }
+
+  private void handlePutFyRolloverProgress(RoutingContext ctx) {
+    LedgerFiscalYearRolloverProgress progress = ctx.body().asJsonObject().mapTo(LedgerFiscalYearRolloverProgress.class);
+    if (progress.getOrdersRolloverStatus() == RolloverStatus.SUCCESS || progress.getOrdersRolloverStatus() == RolloverStatus.ERROR) {
+      finishedRollovers.add(progress.getLedgerRolloverId());
+    }
+    handlePutGenericSubObj(ctx, "ledgerFiscalYearRolloverProgress");
+  }
+
   private void handlePutGenericSubObj(RoutingContext ctx, String subObj) {
     logger.info("handlePutGenericSubObj got: PUT " + ctx.request().path());
     String id = ctx.request().getParam(ID);
@@ -2157,6 +2230,24 @@ public class MockServer {
     }
   }
 
+  private void countAndInjectFaults(RoutingContext ctx) {
+    String endpoint = ctx.request().method() + " " + UUID_PATH_SEGMENT.matcher(ctx.request().path()).replaceAll("/{id}");
+    downstreamCalls.computeIfAbsent(endpoint, key -> new LongAdder()).increment();
+
+    Runnable proceed = () -> {
+      if (errorRate > 0 && ThreadLocalRandom.current().nextDouble() < errorRate) {
+        serverResponse(ctx, 500, APPLICATION_JSON, INTERNAL_SERVER_ERROR.getReasonPhrase());
+      } else {
+        ctx.next();
+      }
+    };
+    if (responseDelayMs > 0) {
+      vertx.setTimer(responseDelayMs, timerId -> proceed.run());
+    } else {
+      proceed.run();
+    }
+  }
+
   private static void addServerRqRsData(HttpMethod method, String objName, JsonObject data) {
     List<JsonObject> entries = serverRqRs.get(objName, method);
     if (entries == null) {
@@ -2756,25 +2847,6 @@ public class MockServer {
     }
   }
 
-  private void handleGetIsbnConverter(RoutingContext ctx) {
-    logger.info("handleGetIsbnConverter got: " + ctx.request()
-      .path());
-    String isbn = ctx.request()
-      .getParam("isbn");
-    JsonObject data = new JsonObject();
-    if (IsbnUtil.isValid13DigitNumber(isbn)) {
-      data.put("isbn", isbn);
-      addServerRqRsData(HttpMethod.GET, ISBN_CONVERT13, data);
-      serverResponse(ctx, 200, APPLICATION_JSON, data.encodePrettily());
-    } else if (IsbnUtil.isValid10DigitNumber(isbn)) {
-      data.put("isbn", IsbnUtil.convertTo13DigitNumber(isbn));
-      addServerRqRsData(HttpMethod.GET, ISBN_CONVERT13, data);
-      serverResponse(ctx, 200, APPLICATION_JSON, data.encodePrettily());
-    } else {
-      serverResponse(ctx, 400, TEXT_PLAIN, String.format("ISBN value %s is invalid", isbn));
-    }
-  }
-
   private void handleGetOrderTemplates(RoutingContext ctx) {
     logger.info("handleGetOrderTemplates got: " + ctx.request().path());
 
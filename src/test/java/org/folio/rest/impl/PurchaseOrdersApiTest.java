@@ -115,6 +115,7 @@ import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeoutException;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
+import java.util.stream.Stream;
 
 import org.apache.commons.lang3.ObjectUtils;
 import org.apache.commons.lang3.StringUtils;
@@ -128,6 +129,7 @@ import org.folio.orders.utils.AcqDesiredPermissions;
 import org.folio.orders.utils.HelperUtils;
 import org.folio.orders.utils.POLineFieldNames;
 import org.folio.orders.utils.POProtectedFields;
+import org.folio.rest.acq.model.finance.Batch;
 import org.folio.rest.acq.model.finance.Encumbrance;
 import org.folio.rest.acq.model.finance.ExchangeRate;
 import org.folio.rest.acq.model.finance.Metadata;
@@ -771,8 +773,9 @@ public class PurchaseOrdersApiTest {
     verifyPut(String.format(COMPOSITE_ORDERS_BY_ID_PATH, id), reqData, "", 204);
 
     assertNotNull(MockServer.serverRqRs.get(PURCHASE_ORDER_STORAGE, HttpMethod.PUT));
-    assertEquals(MockServer.getPoLineUpdates().size(), storData.getJsonArray(COMPOSITE_PO_LINES).size());
-    MockServer.getPoLineUpdates().forEach(poLine -> {
+    List<JsonObject> poLineUpdates = getPoLinesFromBatchUpdates();
+    assertEquals(poLineUpdates.size(), storData.getJsonArray(COMPOSITE_PO_LINES).size());
+    poLineUpdates.forEach(poLine -> {
       Matcher matcher = poLinePattern.matcher(poLine.getString(PO_LINE_NUMBER));
       assertTrue(matcher.find());
     });
@@ -791,9 +794,7 @@ public class PurchaseOrdersApiTest {
     verifyPut(String.format(COMPOSITE_ORDERS_BY_ID_PATH, id), reqData, "", 204);
 
     assertNotNull(MockServer.serverRqRs.get(PURCHASE_ORDER_STORAGE, HttpMethod.PUT));
-    assertEquals(MockServer.getPoLineUpdates().size(), storeData.getJsonArray(COMPOSITE_PO_LINES).size());
-    MockServer.getPoLineUpdates().forEach(poLine -> {
-    });
+    assertEquals(getPoLinesFromBatchUpdates().size(), storeData.getJsonArray(COMPOSITE_PO_LINES).size());
     assertNull(MockServer.serverRqRs.get(PO_LINES_STORAGE, HttpMethod.DELETE));
   }
 
@@ -812,8 +813,9 @@ public class PurchaseOrdersApiTest {
     verifyPut(String.format(COMPOSITE_ORDERS_BY_ID_PATH, id), reqData, "", 204);
 
     assertNotNull(MockServer.serverRqRs.get(PURCHASE_ORDER_STORAGE, HttpMethod.PUT));
-    assertEquals(MockServer.getPoLineUpdates().size(), storData.getJsonArray(COMPOSITE_PO_LINES).size());
-    MockServer.getPoLineUpdates().forEach(poLine -> {
+    List<JsonObject> poLineUpdates = getPoLinesFromBatchUpdates();
+    assertEquals(poLineUpdates.size(), storData.getJsonArray(COMPOSITE_PO_LINES).size());
+    poLineUpdates.forEach(poLine -> {
       Matcher matcher = poLinePattern.matcher(poLine.getString(PO_LINE_NUMBER));
       assertTrue(matcher.find());
     });
@@ -835,9 +837,7 @@ public class PurchaseOrdersApiTest {
     verifyPut(String.format(COMPOSITE_ORDERS_BY_ID_PATH, id), reqData, "", 204);
 
     assertNotNull(MockServer.serverRqRs.get(PURCHASE_ORDER_STORAGE, HttpMethod.PUT));
-    assertEquals(MockServer.getPoLineUpdates().size(), storeData.getJsonArray(COMPOSITE_PO_LINES).size());
-    MockServer.getPoLineUpdates().forEach(poLine -> {
-    });
+    assertEquals(getPoLinesFromBatchUpdates().size(), storeData.getJsonArray(COMPOSITE_PO_LINES).size());
     assertNull(MockServer.serverRqRs.get(PO_LINES_STORAGE, HttpMethod.DELETE));
   }
 
@@ -946,6 +946,32 @@ public class PurchaseOrdersApiTest {
     verifyPut(String.format(COMPOSITE_ORDERS_BY_ID_PATH, reqData.getId()), JsonObject.mapFrom(reqData), "", 204);
   }
 
+  @Test
+  void testPutOrderToOpenWithRemovedLineSendsEncumbranceChangesInOneBatch() throws Exception {
+    logger.info("=== Test Put Order By Id to open the order and remove a line - one transaction batch expected ===");
+
+    CompositePurchaseOrder reqData = getMockDraftOrder().mapTo(CompositePurchaseOrder.class);
+    reqData.setId(ID_FOR_PRINT_MONOGRAPH_ORDER);
+    // the encumbrances of the removed line are released and deleted, the ones of the remaining line are opened
+    reqData.getCompositePoLines().remove(1);
+    preparePiecesForCompositePo(reqData);
+    reqData.setWorkflowStatus(CompositePurchaseOrder.WorkflowStatus.OPEN);
+    reqData.getCompositePoLines().forEach(this::createMockTitle);
+
+    verifyPut(String.format(COMPOSITE_ORDERS_BY_ID_PATH, reqData.getId()), JsonObject.mapFrom(reqData), "", 204);
+
+    List<Batch> batches = MockServer.getBatchCalls().stream()
+      .map(json -> json.mapTo(Batch.class))
+      .toList();
+    assertThat(batches, hasSize(1));
+    Batch batch = batches.get(0);
+    assertThat(batch.getIdsOfTransactionsToDelete(), not(empty()));
+    assertTrue(batch.getTransactionsToUpdate().stream()
+      .anyMatch(transaction -> transaction.getEncumbrance().getStatus() == Encumbrance.Status.RELEASED));
+    assertTrue(Stream.concat(batch.getTransactionsToCreate().stream(), batch.getTransactionsToUpdate().stream())
+      .anyMatch(transaction -> transaction.getEncumbrance().getStatus() == Encumbrance.Status.UNRELEASED));
+  }
+
   @Test
   void testOpenOrderForInactiveExpenseClass() throws Exception {
     logger.info("=== Test to try open order with inactive expense class ===");
@@ -3244,4 +3270,11 @@ public class PurchaseOrdersApiTest {
       }
     }));
   }
+
+  private List<JsonObject> getPoLinesFromBatchUpdates() {
+    return MockServer.getPoLineBatchUpdates().stream()
+      .flatMap(collection -> collection.getJsonArray("poLines").stream())
+      .map(JsonObject.class::cast)
+      .toList();
+  }
 }
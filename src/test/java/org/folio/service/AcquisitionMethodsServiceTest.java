@@ -0,0 +1,109 @@
+package org.folio.service;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.UUID;
+
+import org.folio.rest.jaxrs.model.PoLine;
+import org.folio.rest.core.RestClient;
+import org.folio.rest.core.models.RequestContext;
+import org.folio.rest.core.models.RequestEntry;
+import org.folio.rest.jaxrs.model.AcquisitionMethod;
+import org.folio.service.caches.CacheInvalidationPublisher;
+import org.folio.service.caches.CacheInvalidationPublisher.CachedData;
+import org.folio.service.orders.PurchaseOrderLineService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import io.vertx.core.Future;
+
+public class AcquisitionMethodsServiceTest {
+
+  @InjectMocks
+  private AcquisitionMethodsService acquisitionMethodsService;
+  @Mock
+  private RestClient restClient;
+  @Mock
+  private PurchaseOrderLineService purchaseOrderLineService;
+  @Mock
+  private CacheInvalidationPublisher cacheInvalidationPublisher;
+  @Mock
+  private RequestContext requestContext;
+
+  private AutoCloseable mockitoMocks;
+
+  @BeforeEach
+  void initMocks() {
+    mockitoMocks = MockitoAnnotations.openMocks(this);
+  }
+
+  @AfterEach
+  void resetMocks() throws Exception {
+    mockitoMocks.close();
+  }
+
+  @Test
+  void shouldPublishInvalidationAfterCreate() {
+    AcquisitionMethod acquisitionMethod = new AcquisitionMethod().withValue("test");
+    when(restClient.post(any(RequestEntry.class), eq(acquisitionMethod), eq(AcquisitionMethod.class), eq(requestContext)))
+      .thenReturn(Future.succeededFuture(acquisitionMethod));
+
+    assertTrue(acquisitionMethodsService.createAcquisitionMethod(acquisitionMethod, requestContext).succeeded());
+
+    verify(cacheInvalidationPublisher).publish(CachedData.ACQUISITION_METHODS, requestContext);
+  }
+
+  @Test
+  void shouldPublishInvalidationAfterUpdate() {
+    AcquisitionMethod acquisitionMethod = new AcquisitionMethod().withId(UUID.randomUUID().toString()).withValue("test");
+    when(restClient.put(any(RequestEntry.class), eq(acquisitionMethod), eq(requestContext)))
+      .thenReturn(Future.succeededFuture());
+
+    assertTrue(acquisitionMethodsService.saveAcquisitionMethod(acquisitionMethod, requestContext).succeeded());
+
+    verify(cacheInvalidationPublisher).publish(CachedData.ACQUISITION_METHODS, requestContext);
+  }
+
+  @Test
+  void shouldPublishInvalidationAfterDelete() {
+    AcquisitionMethod acquisitionMethod = new AcquisitionMethod().withId(UUID.randomUUID().toString())
+      .withSource(AcquisitionMethod.Source.USER);
+    when(restClient.get(any(RequestEntry.class), eq(AcquisitionMethod.class), eq(requestContext)))
+      .thenReturn(Future.succeededFuture(acquisitionMethod));
+    when(purchaseOrderLineService.getOrderLines(anyString(), anyInt(), anyInt(), eq(requestContext)))
+      .thenReturn(Future.succeededFuture(List.of()));
+    when(restClient.delete(any(RequestEntry.class), eq(requestContext)))
+      .thenReturn(Future.succeededFuture());
+
+    assertTrue(acquisitionMethodsService.deleteAcquisitionMethod(acquisitionMethod.getId(), requestContext).succeeded());
+
+    verify(cacheInvalidationPublisher).publish(CachedData.ACQUISITION_METHODS, requestContext);
+  }
+
+  @Test
+  void shouldNotPublishInvalidationWhenDeleteIsForbidden() {
+    AcquisitionMethod acquisitionMethod = new AcquisitionMethod().withId(UUID.randomUUID().toString())
+      .withSource(AcquisitionMethod.Source.USER);
+    when(restClient.get(any(RequestEntry.class), eq(AcquisitionMethod.class), eq(requestContext)))
+      .thenReturn(Future.succeededFuture(acquisitionMethod));
+    when(purchaseOrderLineService.getOrderLines(anyString(), anyInt(), anyInt(), eq(requestContext)))
+      .thenReturn(Future.succeededFuture(List.of(new PoLine())));
+
+    assertTrue(acquisitionMethodsService.deleteAcquisitionMethod(acquisitionMethod.getId(), requestContext).failed());
+
+    verify(cacheInvalidationPublisher, never()).publish(any(), any());
+  }
+
+}
@@ -0,0 +1,78 @@
+package org.folio.service.caches;
+
+import static org.folio.rest.RestVerticle.OKAPI_HEADER_TENANT;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import org.folio.rest.acq.model.finance.BudgetExpenseClass;
+import org.folio.rest.acq.model.finance.BudgetExpenseClassCollection;
+import org.folio.rest.core.models.RequestContext;
+import org.folio.service.finance.expenceclass.BudgetExpenseClassService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import io.vertx.core.Future;
+import io.vertx.junit5.VertxExtension;
+import io.vertx.junit5.VertxTestContext;
+
+@ExtendWith(VertxExtension.class)
+public class BudgetExpenseClassCacheTest {
+
+  private BudgetExpenseClassService budgetExpenseClassService;
+  private RequestContext requestContext;
+
+  @BeforeEach
+  void before() {
+    budgetExpenseClassService = mock(BudgetExpenseClassService.class);
+    requestContext = new RequestContext(null, Map.of(OKAPI_HEADER_TENANT, "diku"));
+    when(budgetExpenseClassService.getBudgetExpenseClasses(anyString(), anyInt(), anyInt(), any()))
+      .thenAnswer(invocation -> Future.succeededFuture(new BudgetExpenseClassCollection()
+        .withBudgetExpenseClasses(List.of(new BudgetExpenseClass().withExpenseClassId(UUID.randomUUID().toString())))));
+  }
+
+  @Test
+  void shouldRetrieveOnlyFundsWhichAreNotCached(VertxTestContext vertxTestContext) {
+    var cache = new BudgetExpenseClassCache(budgetExpenseClassService, 30, 100);
+    String fundId1 = UUID.randomUUID().toString();
+    String fundId2 = UUID.randomUUID().toString();
+
+    cache.getActiveBudgetExpenseClasses(List.of(fundId1), requestContext)
+      .compose(budgetExpenseClasses -> cache.getActiveBudgetExpenseClasses(List.of(fundId2, fundId1, fundId2), requestContext))
+      .onComplete(vertxTestContext.succeeding(budgetExpenseClasses -> {
+        assertEquals(2, budgetExpenseClasses.size());
+        verify(budgetExpenseClassService).getBudgetExpenseClasses(eq(activeBudgetsQuery(fundId1)), anyInt(), anyInt(), any());
+        verify(budgetExpenseClassService).getBudgetExpenseClasses(eq(activeBudgetsQuery(fundId2)), anyInt(), anyInt(), any());
+        vertxTestContext.completeNow();
+      }));
+  }
+
+  @Test
+  void shouldDelegateEveryCallWhenCacheIsDisabled(VertxTestContext vertxTestContext) {
+    var cache = new BudgetExpenseClassCache(budgetExpenseClassService, 0, 0);
+    List<String> fundIds = List.of(UUID.randomUUID().toString());
+
+    cache.getActiveBudgetExpenseClasses(fundIds, requestContext)
+      .compose(budgetExpenseClasses -> cache.getActiveBudgetExpenseClasses(fundIds, requestContext))
+      .onComplete(vertxTestContext.succeeding(budgetExpenseClasses -> {
+        verify(budgetExpenseClassService, times(2)).getBudgetExpenseClasses(anyString(), anyInt(), anyInt(), any());
+        vertxTestContext.completeNow();
+      }));
+  }
+
+  private static String activeBudgetsQuery(String fundId) {
+    return "budget.fundId==" + fundId + " and budget.budgetStatus==Active";
+  }
+
+}
@@ -0,0 +1,77 @@
+package org.folio.service.caches;
+
+import static org.folio.orders.events.handlers.MessageAddress.CACHE_INVALIDATION;
+import static org.folio.rest.RestVerticle.OKAPI_HEADER_TENANT;
+import static org.folio.service.caches.CacheInvalidationPublisher.CACHED_DATA;
+import static org.folio.service.caches.CacheInvalidationPublisher.TENANT_ID;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Map;
+
+import org.folio.rest.core.models.RequestContext;
+import org.folio.service.caches.CacheInvalidationPublisher.CachedData;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import io.vertx.core.Vertx;
+import io.vertx.core.json.JsonObject;
+import io.vertx.junit5.VertxExtension;
+import io.vertx.junit5.VertxTestContext;
+
+@ExtendWith(VertxExtension.class)
+public class CacheInvalidationPublisherTest {
+
+  private static final String TENANT = "diku";
+
+  private final CacheInvalidationPublisher cacheInvalidationPublisher = new CacheInvalidationPublisher();
+
+  @ParameterizedTest
+  @EnumSource(CachedData.class)
+  void shouldPublishTenantAndCachedData(CachedData cachedData, Vertx vertx, VertxTestContext vertxTestContext) {
+    var consumer = vertx.eventBus().<JsonObject>consumer(CACHE_INVALIDATION.address, message -> vertxTestContext.verify(() -> {
+      assertEquals(TENANT, message.body().getString(TENANT_ID));
+      assertEquals(cachedData.name(), message.body().getString(CACHED_DATA));
+      assertFalse(CacheInvalidationPublisher.isSkippedByThisInstance(message.body()));
+      vertxTestContext.completeNow();
+    }));
+    var requestContext = new RequestContext(vertx.getOrCreateContext(), Map.of(OKAPI_HEADER_TENANT, TENANT));
+
+    consumer.completionHandler(vertxTestContext.succeeding(v -> cacheInvalidationPublisher.publish(cachedData, requestContext)));
+  }
+
+  @Test
+  void shouldPublishToOtherInstancesOnly(Vertx vertx, VertxTestContext vertxTestContext) {
+    var consumer = vertx.eventBus().<JsonObject>consumer(CACHE_INVALIDATION.address, message -> vertxTestContext.verify(() -> {
+      assertEquals(CachedData.ORDER_SETTINGS.name(), message.body().getString(CACHED_DATA));
+      assertTrue(CacheInvalidationPublisher.isSkippedByThisInstance(message.body()));
+      vertxTestContext.completeNow();
+    }));
+    var requestContext = new RequestContext(vertx.getOrCreateContext(), Map.of(OKAPI_HEADER_TENANT, TENANT));
+
+    consumer.completionHandler(vertxTestContext.succeeding(v ->
+      cacheInvalidationPublisher.publishToOtherInstances(CachedData.ORDER_SETTINGS, requestContext)));
+  }
+
+  @Test
+  void shouldSkipPublishingWithoutContext() {
+    var requestContext = new RequestContext(null, Map.of(OKAPI_HEADER_TENANT, TENANT));
+
+    assertDoesNotThrow(() -> cacheInvalidationPublisher.publish(CachedData.TENANT_CONFIGURATION, requestContext));
+  }
+
+  @Test
+  void shouldRejectExpirationAboveDefaultForNotPublishedData() {
+    assertEquals(30, CacheInvalidationPublisher.checkExpirationOfNotPublishedData(CachedData.TENANT_CONFIGURATION, 30, 30));
+    assertThrows(IllegalArgumentException.class,
+      () -> CacheInvalidationPublisher.checkExpirationOfNotPublishedData(CachedData.TENANT_CONFIGURATION, 31, 30));
+    assertThrows(IllegalArgumentException.class,
+      () -> new ConfigurationEntriesCache(null, 3600, 1000));
+  }
+
+}
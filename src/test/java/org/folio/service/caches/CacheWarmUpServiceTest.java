@@ -0,0 +1,119 @@
+package org.folio.service.caches;
+
+import static org.folio.rest.RestVerticle.OKAPI_HEADER_TENANT;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import org.folio.rest.core.models.RequestContext;
+import org.folio.service.caches.CacheWarmUpService.WarmUpStatus;
+import org.folio.service.consortium.ConsortiumConfigurationService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import io.vertx.core.json.JsonObject;
+import io.vertx.junit5.VertxExtension;
+import io.vertx.junit5.VertxTestContext;
+
+@ExtendWith(VertxExtension.class)
+public class CacheWarmUpServiceTest {
+
+  private static final String TENANT_ID = "warmup";
+
+  private ConfigurationEntriesCache configurationEntriesCache;
+  private InventoryCache inventoryCache;
+  private ConsortiumConfigurationService consortiumConfigurationService;
+  private RequestContext requestContext;
+
+  @BeforeEach
+  void before() {
+    configurationEntriesCache = mock(ConfigurationEntriesCache.class);
+    inventoryCache = mock(InventoryCache.class);
+    consortiumConfigurationService = mock(ConsortiumConfigurationService.class);
+    requestContext = new RequestContext(null, Map.of(OKAPI_HEADER_TENANT, TENANT_ID));
+
+    when(configurationEntriesCache.loadConfiguration(anyString(), any())).thenReturn(Future.succeededFuture(new JsonObject()));
+    when(configurationEntriesCache.getSystemCurrency(any())).thenReturn(Future.succeededFuture("USD"));
+    when(inventoryCache.getISBNProductTypeId(any())).thenReturn(Future.succeededFuture("isbn"));
+    when(inventoryCache.getInvalidISBNProductTypeId(any())).thenReturn(Future.succeededFuture("invalidIsbn"));
+    when(inventoryCache.getEntryId(anyString(), anyString(), any())).thenReturn(Future.succeededFuture(new JsonObject()));
+    when(consortiumConfigurationService.getConsortiumConfiguration(any())).thenReturn(Future.succeededFuture(Optional.empty()));
+  }
+
+  @Test
+  void shouldLoadTenantReferenceData(VertxTestContext vtc) {
+    var cacheWarmUpService = new CacheWarmUpService(configurationEntriesCache, inventoryCache, consortiumConfigurationService, true);
+
+    cacheWarmUpService.warmUp(requestContext)
+      .onComplete(vtc.succeeding(status -> vtc.verify(() -> {
+        assertThat(status, is(WarmUpStatus.READY));
+        verify(configurationEntriesCache).getSystemCurrency(requestContext);
+        verify(inventoryCache).getEntryId(eq("instanceTypes"), anyString(), eq(requestContext));
+        verify(inventoryCache).getEntryId(eq("instanceStatuses"), anyString(), eq(requestContext));
+        verify(inventoryCache).getEntryId(eq("loantypes"), anyString(), eq(requestContext));
+        verify(consortiumConfigurationService).getConsortiumConfiguration(requestContext);
+        vtc.completeNow();
+      })));
+  }
+
+  @Test
+  void shouldNotFailWhenPartOfDataFailedToLoad(VertxTestContext vtc) {
+    when(configurationEntriesCache.getSystemCurrency(any())).thenReturn(Future.failedFuture("configuration is unavailable"));
+    when(consortiumConfigurationService.getConsortiumConfiguration(any())).thenThrow(new IllegalStateException("unexpected"));
+    var cacheWarmUpService = new CacheWarmUpService(configurationEntriesCache, inventoryCache, consortiumConfigurationService, true);
+
+    cacheWarmUpService.warmUp(requestContext)
+      .onComplete(vtc.succeeding(status -> vtc.verify(() -> {
+        assertThat(status, is(WarmUpStatus.PARTIALLY_READY));
+        vtc.completeNow();
+      })));
+  }
+
+  @Test
+  void shouldWarmUpTenantsOneByOneAndReportTheirStatuses() {
+    Promise<String> systemCurrency = Promise.promise();
+    when(configurationEntriesCache.getSystemCurrency(any())).thenReturn(systemCurrency.future());
+    var otherTenantRequestContext = new RequestContext(null, Map.of(OKAPI_HEADER_TENANT, "other"));
+    var cacheWarmUpService = new CacheWarmUpService(configurationEntriesCache, inventoryCache, consortiumConfigurationService, true);
+
+    Future<Void> future = cacheWarmUpService.warmUp(List.of(requestContext, otherTenantRequestContext));
+
+    assertThat(cacheWarmUpService.getStatuses(),
+      is(Map.of(TENANT_ID, WarmUpStatus.IN_PROGRESS, "other", WarmUpStatus.IN_PROGRESS)));
+    verify(configurationEntriesCache, never()).getSystemCurrency(otherTenantRequestContext);
+
+    systemCurrency.complete("USD");
+
+    assertTrue(future.succeeded());
+    assertThat(cacheWarmUpService.getStatus(TENANT_ID), is(WarmUpStatus.READY));
+    assertThat(cacheWarmUpService.getStatus("other"), is(WarmUpStatus.READY));
+  }
+
+  @Test
+  void shouldSkipWarmUpWhenDisabled(VertxTestContext vtc) {
+    var cacheWarmUpService = new CacheWarmUpService(configurationEntriesCache, inventoryCache, consortiumConfigurationService, false);
+
+    cacheWarmUpService.warmUp(requestContext)
+      .onComplete(vtc.succeeding(status -> vtc.verify(() -> {
+        assertThat(status, is(WarmUpStatus.READY));
+        verifyNoInteractions(configurationEntriesCache, inventoryCache, consortiumConfigurationService);
+        vtc.completeNow();
+      })));
+  }
+
+}
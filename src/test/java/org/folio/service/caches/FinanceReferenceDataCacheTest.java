@@ -0,0 +1,122 @@
+package org.folio.service.caches;
+
+import static org.folio.rest.RestVerticle.OKAPI_HEADER_TENANT;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Collection;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import org.folio.rest.acq.model.finance.FiscalYear;
+import org.folio.rest.acq.model.finance.Fund;
+import org.folio.rest.core.models.RequestContext;
+import org.folio.service.finance.FiscalYearService;
+import org.folio.service.finance.FundService;
+import org.folio.service.finance.LedgerService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import io.vertx.core.Future;
+import io.vertx.junit5.VertxExtension;
+import io.vertx.junit5.VertxTestContext;
+
+@ExtendWith(VertxExtension.class)
+public class FinanceReferenceDataCacheTest {
+
+  private static final String LEDGER_ID = "133a7916-f05e-4df4-8f7f-09eb2a7076d1";
+
+  private FundService fundService;
+  private LedgerService ledgerService;
+  private FiscalYearService fiscalYearService;
+  private RequestContext requestContext;
+
+  @BeforeEach
+  void before() {
+    fundService = mock(FundService.class);
+    ledgerService = mock(LedgerService.class);
+    fiscalYearService = mock(FiscalYearService.class);
+    requestContext = new RequestContext(null, Map.of(OKAPI_HEADER_TENANT, "diku"));
+    when(fundService.getAllFunds(anyCollection(), any())).thenAnswer(invocation -> {
+      Collection<String> ids = invocation.getArgument(0);
+      return Future.succeededFuture(ids.stream()
+        .map(id -> new Fund().withId(id).withLedgerId(LEDGER_ID))
+        .toList());
+    });
+  }
+
+  @Test
+  void shouldRetrieveOnlyFundsWhichAreNotCached(VertxTestContext vertxTestContext) {
+    var cache = new FinanceReferenceDataCache(fundService, ledgerService, fiscalYearService, 300, 100);
+    String fundId1 = UUID.randomUUID().toString();
+    String fundId2 = UUID.randomUUID().toString();
+
+    cache.getFunds(List.of(fundId1), requestContext)
+      .compose(funds -> cache.getFunds(List.of(fundId2, fundId1), requestContext))
+      .onComplete(vertxTestContext.succeeding(funds -> {
+        assertEquals(List.of(fundId2, fundId1), funds.stream().map(Fund::getId).toList());
+        verify(fundService).getAllFunds(eq(List.of(fundId1)), any());
+        verify(fundService).getAllFunds(eq(List.of(fundId2)), any());
+        vertxTestContext.completeNow();
+      }));
+  }
+
+  @Test
+  void shouldReloadFundsAfterInvalidationOfTenant(VertxTestContext vertxTestContext) {
+    var cache = new FinanceReferenceDataCache(fundService, ledgerService, fiscalYearService, 300, 100);
+    List<String> fundIds = List.of(UUID.randomUUID().toString());
+
+    cache.getFunds(fundIds, requestContext)
+      .compose(funds -> cache.getFunds(fundIds, requestContext))
+      .compose(funds -> {
+        cache.invalidate("diku");
+        return cache.getFunds(fundIds, requestContext);
+      })
+      .onComplete(vertxTestContext.succeeding(funds -> {
+        verify(fundService, times(2)).getAllFunds(anyCollection(), any());
+        vertxTestContext.completeNow();
+      }));
+  }
+
+  @Test
+  void shouldNotKeepCurrentFiscalYearAfterEndOfPeriod(VertxTestContext vertxTestContext) {
+    var cache = new FinanceReferenceDataCache(fundService, ledgerService, fiscalYearService, 300, 100);
+    FiscalYear fiscalYear = new FiscalYear().withId(UUID.randomUUID().toString())
+      .withPeriodEnd(Date.from(Instant.now().minus(1, ChronoUnit.DAYS)));
+    when(fiscalYearService.getCurrentFiscalYear(anyString(), any())).thenReturn(Future.succeededFuture(fiscalYear));
+
+    cache.getCurrentFiscalYear(LEDGER_ID, requestContext)
+      .compose(fy -> cache.getCurrentFiscalYear(LEDGER_ID, requestContext))
+      .onComplete(vertxTestContext.succeeding(fy -> {
+        assertEquals(fiscalYear.getId(), fy.getId());
+        verify(fiscalYearService, times(2)).getCurrentFiscalYear(eq(LEDGER_ID), any());
+        vertxTestContext.completeNow();
+      }));
+  }
+
+  @Test
+  void shouldDelegateEveryCallWhenCacheIsDisabled(VertxTestContext vertxTestContext) {
+    var cache = new FinanceReferenceDataCache(fundService, ledgerService, fiscalYearService, 0, 0);
+    List<String> fundIds = List.of(UUID.randomUUID().toString());
+
+    cache.getFunds(fundIds, requestContext)
+      .compose(funds -> cache.getFunds(fundIds, requestContext))
+      .onComplete(vertxTestContext.succeeding(funds -> {
+        verify(fundService, times(2)).getAllFunds(eq(fundIds), any());
+        vertxTestContext.completeNow();
+      }));
+  }
+
+}
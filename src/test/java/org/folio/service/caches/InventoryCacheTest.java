@@ -1,9 +1,14 @@
 package org.folio.service.caches;
 
+import static org.folio.rest.RestVerticle.OKAPI_HEADER_TENANT;
+import static org.folio.rest.RestVerticle.OKAPI_USERID_HEADER;
+import static org.folio.rest.core.exceptions.ErrorCodes.ISBN_NOT_VALID;
 import static org.mockito.Mockito.any;
 import static org.mockito.Mockito.anyBoolean;
 import static org.mockito.Mockito.anyString;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.is;
@@ -11,6 +16,7 @@ import static org.hamcrest.Matchers.is;
 import java.util.Map;
 
 import org.folio.rest.core.RestClient;
+import org.folio.rest.core.exceptions.HttpException;
 import org.folio.rest.core.models.RequestContext;
 import org.folio.service.inventory.InventoryService;
 import org.junit.jupiter.api.Test;
@@ -27,6 +33,10 @@ import io.vertx.junit5.VertxTestContext;
 @ExtendWith(VertxExtension.class)
 public class InventoryCacheTest {
 
+  private static final String ISBN_TYPE_ID = "88888888-8888-8888-8888-888888888888";
+  private static final String USER_ID = "58a0ee5e-3a5c-4bd5-a8f3-2c9bc6e14b1f";
+  private static final String ANOTHER_USER_ID = "0a7b3c3e-2a54-4a2b-9c68-a7a0f6b3c8e1";
+
   Map<String,String> headers = Map.of();
   RequestContext requestContext = when(mock(RequestContext.class).getHeaders()).thenReturn(headers).getMock();
 
@@ -62,13 +72,55 @@ public class InventoryCacheTest {
   void getProductTypeUuidShouldForwardDbException(VertxTestContext vtc) {
     var inventoryService = mock(InventoryService.class);
     when(inventoryService.getProductTypeUuid(any(), any())).thenReturn(Future.failedFuture("db fail"));
-    new InventoryCache(inventoryService).getProductTypeUuid(null, null, requestContext)
+    new InventoryCache(inventoryService, 30, 1000).getProductTypeUuid(null, null, requestContext)
     .onComplete(vtc.failing(e -> {
       assertThat(e.getMessage(), is("db fail"));
       vtc.completeNow();
     }));
   }
 
+  @Test
+  void productTypeIdShouldBeSharedByUsersOfTenant(VertxTestContext vtc) {
+    var restClient = mock(RestClient.class);
+    var json = new JsonObject().put("identifierTypes", new JsonArray().add(new JsonObject().put("id", ISBN_TYPE_ID)));
+    when(restClient.getAsJsonObject(anyString(), anyBoolean(), any())).thenReturn(Future.succeededFuture(json));
+    var inventoryCache = new InventoryCache(new InventoryService(restClient), 30, 1000);
+
+    inventoryCache.getISBNProductTypeId(requestContext(USER_ID))
+      .compose(id -> inventoryCache.getISBNProductTypeId(requestContext(ANOTHER_USER_ID)))
+      .onComplete(vtc.succeeding(id -> {
+        assertThat(id, is(ISBN_TYPE_ID));
+        verify(restClient, times(1)).getAsJsonObject(anyString(), anyBoolean(), any());
+        vtc.completeNow();
+      }));
+  }
+
+  @ParameterizedTest
+  @CsvSource(textBlock = """
+      0198526636,9780198526636
+      9780198526636,9780198526636
+      """)
+  void convertToISBN13(String isbn, String expected, VertxTestContext vtc) {
+    new InventoryCache(mock(InventoryService.class), 30, 1000).convertToISBN13(isbn)
+    .onComplete(vtc.succeeding(isbn13 -> {
+      assertThat(isbn13, is(expected));
+      vtc.completeNow();
+    }));
+  }
+
+  @Test
+  void convertToISBN13ShouldFailForInvalidIsbn(VertxTestContext vtc) {
+    new InventoryCache(mock(InventoryService.class), 30, 1000).convertToISBN13("1234")
+    .onComplete(vtc.failing(e -> {
+      assertThat(((HttpException) e).getError().getCode(), is(ISBN_NOT_VALID.getCode()));
+      vtc.completeNow();
+    }));
+  }
+
+  RequestContext requestContext(String userId) {
+    return new RequestContext(null, Map.of(OKAPI_HEADER_TENANT, "diku", OKAPI_USERID_HEADER, userId));
+  }
+
   InventoryCache inventoryCache(String uuid) {
     var array = new JsonArray();
     if (uuid != null) {
@@ -78,6 +130,6 @@ public class InventoryCacheTest {
     var restClient = mock(RestClient.class);
     when(restClient.getAsJsonObject(anyString(), anyBoolean(), any())).thenReturn(Future.succeededFuture(json));
     var inventoryService = new InventoryService(restClient);
-    return new InventoryCache(inventoryService);
+    return new InventoryCache(inventoryService, 30, 1000);
   }
 }
@@ -10,9 +10,10 @@ import org.folio.rest.core.RestClient;
 import org.folio.rest.core.models.RequestContext;
 import org.folio.rest.core.models.RequestEntry;
 import org.folio.rest.jaxrs.model.Location;
+import org.folio.rest.tools.utils.TenantTool;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
@@ -23,20 +24,25 @@ import java.util.Map;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
 @ExtendWith({VertxExtension.class, MockitoExtension.class})
 public class ConsortiumConfigurationServiceTest {
 
-  @InjectMocks
-  private ConsortiumConfigurationService consortiumConfigurationService;
-
   @Mock
   private RestClient restClient;
 
   @Mock
   private RequestContext requestContext;
 
+  private ConsortiumConfigurationService consortiumConfigurationService;
+
+  @BeforeEach
+  void initService() {
+    consortiumConfigurationService = new ConsortiumConfigurationService(restClient, 300);
+  }
+
   @Test
   void testCloneRequestContextIfNeeded(VertxTestContext vertxTestContext) {
     // given
@@ -61,4 +67,28 @@ public class ConsortiumConfigurationServiceTest {
       });
   }
 
+  @Test
+  void shouldReloadConsortiumConfigurationOnlyAfterInvalidationOfTenant(VertxTestContext vertxTestContext) {
+    // given
+    Mockito.when(restClient.getAsJsonObject(any(RequestEntry.class), any()))
+      .thenReturn(Future.succeededFuture(new JsonObject().put("userTenants", new JsonArray())));
+
+    // when
+    var future = consortiumConfigurationService.getConsortiumConfiguration(requestContext)
+      .compose(configuration -> consortiumConfigurationService.getConsortiumConfiguration(requestContext))
+      .compose(configuration -> {
+        // the mocked request context has no headers, so the default tenant is used
+        consortiumConfigurationService.invalidate(TenantTool.tenantId(requestContext.getHeaders()));
+        return consortiumConfigurationService.getConsortiumConfiguration(requestContext);
+      });
+
+    // then
+    vertxTestContext.assertComplete(future)
+      .onComplete(ar -> {
+        assertTrue(ar.result().isEmpty());
+        verify(restClient, times(2)).getAsJsonObject(any(RequestEntry.class), any());
+        vertxTestContext.completeNow();
+      });
+  }
+
 }
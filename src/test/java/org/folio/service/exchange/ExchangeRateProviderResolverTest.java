@@ -5,8 +5,15 @@ import static org.folio.TestConfig.getFirstContextFromVertx;
 import static org.folio.TestConfig.getVertx;
 import static org.folio.TestConfig.initSpringContext;
 import static org.folio.TestConfig.isVerticleNotDeployed;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
 import io.vertx.core.Context;
+import io.vertx.core.Future;
 import io.vertx.junit5.VertxExtension;
 import java.util.Map;
 import java.util.concurrent.ExecutionException;
@@ -16,6 +23,7 @@ import javax.money.convert.ExchangeRate;
 import javax.money.convert.ExchangeRateProvider;
 import org.folio.ApiTestSuite;
 import org.folio.rest.core.models.RequestContext;
+import org.javamoney.moneta.Money;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.BeforeEach;
@@ -114,6 +122,33 @@ public class ExchangeRateProviderResolverTest {
     Assertions.assertNotNull(exchangeRateProvider);
   }
 
+  @Test
+  void testResolveAsyncWithPrefetchedExchangeRate() {
+    var financeExchangeRateService = mock(FinanceExchangeRateService.class);
+    when(financeExchangeRateService.getExchangeRate(eq("USD"), eq("AUD"), any()))
+      .thenReturn(Future.succeededFuture(new org.folio.rest.acq.model.finance.ExchangeRate()
+        .withFrom("USD").withTo("AUD").withExchangeRate(2d)));
+    var resolver = new ExchangeRateProviderResolver(new CacheableExchangeRateService(financeExchangeRateService, 60, 1000));
+    var conversionQuery = ConversionQueryBuilder.of()
+      .setBaseCurrency("USD")
+      .setTermCurrency("AUD")
+      .build();
+    var reverseConversionQuery = ConversionQueryBuilder.of()
+      .setBaseCurrency("AUD")
+      .setTermCurrency("USD")
+      .build();
+
+    resolver.resolveAsync(conversionQuery, requestContext).result();
+    ExchangeRateProvider exchangeRateProvider = resolver.resolveAsync(conversionQuery, requestContext).result();
+
+    Assertions.assertEquals(2d, exchangeRateProvider.getExchangeRate(conversionQuery).getFactor().doubleValue());
+    Assertions.assertEquals(0.5d, exchangeRateProvider.getExchangeRate(reverseConversionQuery).getFactor().doubleValue());
+    var convertedAmount = Money.of(10, "USD").with(exchangeRateProvider.getCurrencyConversion(conversionQuery));
+    Assertions.assertEquals("AUD", convertedAmount.getCurrency().getCurrencyCode());
+    Assertions.assertEquals(20d, convertedAmount.getNumber().doubleValue());
+    verify(financeExchangeRateService, times(1)).getExchangeRate(eq("USD"), eq("AUD"), any());
+  }
+
   private static class ContextConfiguration {
     @Bean
     ExchangeRateProviderResolver exchangeRateProviderResolver() {
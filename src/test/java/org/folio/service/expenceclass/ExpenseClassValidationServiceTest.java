@@ -2,22 +2,36 @@ package org.folio.service.expenceclass;
 
 import static io.vertx.core.Future.succeededFuture;
 import static org.folio.TestUtils.getMockAsJson;
+import static org.folio.rest.core.exceptions.ErrorCodes.BUDGET_EXPENSE_CLASS_NOT_FOUND;
+import static org.folio.rest.core.exceptions.ErrorCodes.INACTIVE_EXPENSE_CLASS;
 import static org.folio.rest.impl.PurchaseOrderLinesApiTest.COMP_PO_LINES_MOCK_DATA_PATH;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.ArgumentMatchers.anyBoolean;
-import static org.mockito.Mockito.CALLS_REAL_METHODS;
-import static org.mockito.Mockito.doReturn;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
+import org.folio.rest.acq.model.finance.BudgetExpenseClass;
+import org.folio.rest.acq.model.finance.ExpenseClass;
+import org.folio.rest.acq.model.finance.ExpenseClassCollection;
 import org.folio.rest.core.models.RequestContext;
 import org.folio.rest.jaxrs.model.CompositePoLine;
+import org.folio.rest.jaxrs.model.Error;
 import org.folio.rest.jaxrs.model.FundDistribution;
+import org.folio.service.caches.BudgetExpenseClassCache;
+import org.folio.service.finance.expenceclass.ExpenseClassService;
 import org.folio.service.finance.expenceclass.ExpenseClassValidationService;
-import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
@@ -27,6 +41,19 @@ import io.vertx.core.Future;
 public class ExpenseClassValidationServiceTest {
   static final String ANOTHER_PO_LINE_ID_FOR_SUCCESS_CASE = "c0d08448-347b-418a-8c2f-5fb50248d67e";
 
+  private BudgetExpenseClassCache budgetExpenseClassCache;
+  private ExpenseClassService expenseClassService;
+  private ExpenseClassValidationService expenseClassValidationService;
+  private RequestContext requestContext;
+
+  @BeforeEach
+  void before() {
+    budgetExpenseClassCache = mock(BudgetExpenseClassCache.class);
+    expenseClassService = mock(ExpenseClassService.class);
+    expenseClassValidationService = new ExpenseClassValidationService(budgetExpenseClassCache, expenseClassService);
+    requestContext = new RequestContext(null, null);
+  }
+
   @Test
   @DisplayName("Should not throw DuplicateKeyException")
   void testShouldNotThrowDuplicateKeyException() {
@@ -49,15 +76,69 @@ public class ExpenseClassValidationServiceTest {
     compositePoLineList.add(compositePoLine);
     compositePoLineList.add(compositePoLine);
 
-    ExpenseClassValidationService expenseClassValidationService = mock(ExpenseClassValidationService.class,CALLS_REAL_METHODS);
-    RequestContext requestContext = new RequestContext(null,null);
-
-    doReturn(succeededFuture(null)).when(expenseClassValidationService).checkExpenseClassIsActiveByFundDistribution(any(), anyBoolean(), any());
+    when(budgetExpenseClassCache.getActiveBudgetExpenseClasses(any(), any()))
+      .thenReturn(succeededFuture(Map.of(fd.getFundId(), List.of(budgetExpenseClass(fd.getExpenseClassId(), BudgetExpenseClass.Status.ACTIVE)))));
 
     Future<Void> response = expenseClassValidationService.validateExpenseClasses(compositePoLineList, true, requestContext);
     response.result();
 
-    Assertions.assertTrue(response.succeeded());
+    assertTrue(response.succeeded());
+
+  }
+
+  @Test
+  @DisplayName("Should resolve expense classes of all lines at once and return errors per line")
+  void shouldResolveExpenseClassesOfAllLinesAtOnceAndReturnErrorsPerLine() {
+    String fundId1 = UUID.randomUUID().toString();
+    String fundId2 = UUID.randomUUID().toString();
+    String activeExpenseClassId = UUID.randomUUID().toString();
+    String inactiveExpenseClassId = UUID.randomUUID().toString();
+    String unknownExpenseClassId = UUID.randomUUID().toString();
+    CompositePoLine validLine = poLine(fundDistribution(fundId1, "FUND1", activeExpenseClassId));
+    CompositePoLine invalidLine = poLine(fundDistribution(fundId1, "FUND1", inactiveExpenseClassId),
+      fundDistribution(fundId2, "FUND2", unknownExpenseClassId));
+    CompositePoLine lineWithoutExpenseClass = poLine(new FundDistribution().withFundId(fundId2).withCode("FUND2"));
+
+    when(budgetExpenseClassCache.getActiveBudgetExpenseClasses(any(), any()))
+      .thenReturn(succeededFuture(Map.of(
+        fundId1, List.of(budgetExpenseClass(activeExpenseClassId, BudgetExpenseClass.Status.ACTIVE),
+          budgetExpenseClass(inactiveExpenseClassId, BudgetExpenseClass.Status.INACTIVE)),
+        fundId2, List.of())));
+    when(expenseClassService.getExpenseClasses(anyString(), anyInt(), anyInt(), any()))
+      .thenReturn(succeededFuture(new ExpenseClassCollection().withExpenseClasses(List.of(
+        new ExpenseClass().withId(inactiveExpenseClassId).withName("Inactive"),
+        new ExpenseClass().withId(unknownExpenseClassId).withName("Unknown")))));
+
+    List<List<Error>> errors = expenseClassValidationService
+      .getExpenseClassErrors(List.of(validLine, invalidLine, lineWithoutExpenseClass), true, requestContext)
+      .result();
+
+    assertEquals(3, errors.size());
+    assertTrue(errors.get(0).isEmpty());
+    assertEquals(List.of(INACTIVE_EXPENSE_CLASS.getCode(), BUDGET_EXPENSE_CLASS_NOT_FOUND.getCode()),
+      errors.get(1).stream().map(Error::getCode).toList());
+    assertEquals("Unknown", errors.get(1).get(1).getParameters().get(1).getValue());
+    assertTrue(errors.get(2).isEmpty());
+    verify(budgetExpenseClassCache, times(1)).getActiveBudgetExpenseClasses(eq(List.of(fundId1, fundId2)), any());
+    verify(expenseClassService, times(1)).getExpenseClasses(anyString(), anyInt(), anyInt(), any());
+  }
+
+  private static CompositePoLine poLine(FundDistribution... fundDistributions) {
+    return new CompositePoLine().withId(UUID.randomUUID().toString())
+      .withFundDistribution(new ArrayList<>(List.of(fundDistributions)));
+  }
+
+  private static FundDistribution fundDistribution(String fundId, String code, String expenseClassId) {
+    return new FundDistribution().withFundId(fundId)
+      .withCode(code)
+      .withExpenseClassId(expenseClassId)
+      .withDistributionType(FundDistribution.DistributionType.PERCENTAGE)
+      .withValue(50D);
+  }
 
+  private static BudgetExpenseClass budgetExpenseClass(String expenseClassId, BudgetExpenseClass.Status status) {
+    return new BudgetExpenseClass().withId(UUID.randomUUID().toString())
+      .withExpenseClassId(expenseClassId)
+      .withStatus(status);
   }
 }
@@ -17,16 +17,17 @@ import org.folio.rest.jaxrs.model.CompositePoLine;
 import org.folio.rest.jaxrs.model.Cost;
 import org.folio.rest.jaxrs.model.Error;
 import org.folio.rest.jaxrs.model.FundDistribution;
+import org.folio.service.caches.FinanceReferenceDataCache;
 import org.folio.service.exchange.ExchangeRateProviderResolver;
 import org.folio.service.exchange.ManualCurrencyConversion;
 import org.folio.service.exchange.ManualExchangeRateProvider;
 import org.folio.service.finance.budget.BudgetService;
+import org.folio.service.finance.budget.BudgetSnapshot;
 import org.hamcrest.Matchers;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 
@@ -56,7 +57,6 @@ import static org.mockito.Mockito.when;
 
 @ExtendWith(VertxExtension.class)
 public class FinanceHoldersBuilderTest {
-  @InjectMocks
   private FinanceHoldersBuilder financeHoldersBuilder;
   @Mock
   private BudgetService budgetService;
@@ -79,6 +79,9 @@ public class FinanceHoldersBuilderTest {
   @BeforeEach
   public void initMocks(){
     mockitoMocks = MockitoAnnotations.openMocks(this);
+    // the cache is disabled, so every call goes to the mocked services
+    financeHoldersBuilder = new FinanceHoldersBuilder(new FinanceReferenceDataCache(fundService, ledgerService, fiscalYearService, 0, 0),
+      exchangeRateProviderResolver, budgetService);
 
     FundDistribution distribution1 = new FundDistribution().withFundId(UUID.randomUUID().toString()).withCode("FUND1");
 
@@ -149,11 +152,11 @@ public class FinanceHoldersBuilderTest {
       .thenReturn(Future.succeededFuture(List.of(ledger2, ledger1, ledger3)));
     when(fiscalYearService.getCurrentFiscalYear(anyString(), any()))
       .thenReturn(Future.succeededFuture(fiscalYear));
-    when(budgetService.getBudgetsByQuery(anyString(), any()))
-      .thenReturn(Future.succeededFuture(List.of(budget1, budget2, budget3)));
+    when(budgetService.getBudgetSnapshot(anyCollection(), anyString(), any()))
+      .thenReturn(Future.succeededFuture(BudgetSnapshot.ofFiscalYear(fiscalYearId, List.of(budget1, budget2, budget3))));
     ExchangeRateProvider exchangeRateProvider = mock(ManualExchangeRateProvider.class);
-    when(exchangeRateProviderResolver.resolve(any(), any()))
-      .thenReturn(exchangeRateProvider);
+    when(exchangeRateProviderResolver.resolveAsync(any(), any()))
+      .thenReturn(Future.succeededFuture(exchangeRateProvider));
     when(exchangeRateProvider.getCurrencyConversion(any(ConversionQuery.class)))
       .thenAnswer(invocation -> {
         ConversionQuery conversionQuery = invocation.getArgument(0);
@@ -204,8 +207,8 @@ public class FinanceHoldersBuilderTest {
     verify(fundService, never()).getAllFunds(anyCollection(), any());
     verify(ledgerService, never()).getLedgersByIds(anyCollection(), any());
     verify(fiscalYearService, never()).getCurrentFiscalYear(anyString(), any());
-    verify(budgetService, never()).getBudgetsByQuery(anyString(), any());
-    verify(exchangeRateProviderResolver, never()).resolve(any(), any());
+    verify(budgetService, never()).getBudgetSnapshot(anyCollection(), anyString(), any());
+    verify(exchangeRateProviderResolver, never()).resolveAsync(any(), any());
   }
 
   @Test
@@ -245,8 +248,8 @@ public class FinanceHoldersBuilderTest {
       .thenReturn(Future.succeededFuture(List.of(ledger1, ledger2)));
     when(fiscalYearService.getCurrentFiscalYear(anyString(), any()))
       .thenReturn(Future.succeededFuture(fiscalYear1));
-    when(budgetService.getBudgetsByQuery(anyString(), any()))
-      .thenReturn(Future.succeededFuture(List.of(budget1)));
+    when(budgetService.getBudgetSnapshot(anyCollection(), anyString(), any()))
+      .thenReturn(Future.succeededFuture(BudgetSnapshot.ofFiscalYear(fiscalYear1.getId(), List.of(budget1))));
 
     // When
     Future<Void> f = financeHoldersBuilder.withFinances(holders, requestContext);
@@ -23,6 +23,8 @@ import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.MockitoAnnotations;
 
+import io.vertx.core.json.JsonObject;
+
 public class BudgetRestrictionServiceTest {
 
   @InjectMocks
@@ -288,6 +290,50 @@ public class BudgetRestrictionServiceTest {
     assertEquals(Collections.singletonList(fundCode).toString(), error.getParameters().get(0).getValue());
   }
 
+  @Test
+  void checkEnoughMoneyInBudgetShouldSumUpAmountsOfAllHoldersOfBudget() {
+
+    String fiscalYearId = UUID.randomUUID().toString();
+    String fundId = UUID.randomUUID().toString();
+    String fundCode = "TEST-FUND";
 
+    Budget budget = new Budget()
+        .withId(UUID.randomUUID().toString())
+        .withFiscalYearId(fiscalYearId)
+        .withFundId(fundId)
+        .withAllocated(100d)
+        .withTotalFunding(100d)
+        .withAvailable(40d)
+        .withUnavailable(60d)
+        .withAllowableEncumbrance(100d);
+
+    FundDistribution fundDistribution = new FundDistribution()
+        .withFundId(fundId)
+        .withCode(fundCode);
+    List<EncumbranceRelationsHolder> holders = new ArrayList<>();
+    for (int i = 0; i < 3; i++) {
+      Transaction newTransaction = new Transaction()
+          .withTransactionType(Transaction.TransactionType.ENCUMBRANCE)
+          .withAmount(15d)
+          .withFiscalYearId(fiscalYearId)
+          .withFromFundId(fundId)
+          .withCurrency("USD");
+      // each holder has its own copy of the budget, as after the retrieval of the budgets of several lines
+      holders.add(new EncumbranceRelationsHolder()
+          .withNewEncumbrance(newTransaction)
+          .withBudget(JsonObject.mapFrom(budget).mapTo(Budget.class))
+          .withRestrictEncumbrances(true)
+          .withCurrentFiscalYearId(fiscalYearId)
+          .withCurrency("USD")
+          .withFundDistribution(fundDistribution));
+    }
+
+    assertDoesNotThrow(() -> restrictionService.checkEncumbranceRestrictions(holders.subList(0, 2)));
+    HttpException httpException = assertThrows(HttpException.class, () -> restrictionService.checkEncumbranceRestrictions(holders));
+
+    assertEquals(422, httpException.getCode());
+    assertEquals(FUND_CANNOT_BE_PAID.getCode(), httpException.getError().getCode());
+    assertEquals(Collections.singletonList(fundCode).toString(), httpException.getError().getParameters().get(0).getValue());
+  }
 
 }
@@ -10,10 +10,13 @@ import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 
 import java.util.List;
+import java.util.UUID;
+import java.util.stream.IntStream;
 
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.hasSize;
@@ -21,7 +24,10 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 
 public class BudgetServiceTest {
   private AutoCloseable mockitoMocks;
@@ -60,4 +66,37 @@ public class BudgetServiceTest {
     assertEquals(budget, future.result().get(0));
   }
 
+  @Test
+  @DisplayName("Test getBudgetSnapshot splits fund ids into balanced chunks")
+  void testGetBudgetSnapshotWithBalancedChunks() {
+    // Given
+    String fiscalYearId = UUID.randomUUID().toString();
+    List<String> fundIds = IntStream.range(0, 31)
+      .mapToObj(i -> UUID.randomUUID().toString())
+      .toList();
+    doAnswer(invocation -> {
+      RequestEntry requestEntry = invocation.getArgument(0);
+      List<Budget> budgets = fundIds.stream()
+        .filter(fundId -> requestEntry.getQueryParams().get("query").toString().contains(fundId))
+        .map(fundId -> new Budget().withFundId(fundId).withFiscalYearId(fiscalYearId))
+        .toList();
+      return Future.succeededFuture(new BudgetCollection().withBudgets(budgets));
+    }).when(restClient).get(any(RequestEntry.class), eq(BudgetCollection.class), eq(requestContext));
+
+    // When
+    Future<BudgetSnapshot> future = budgetService.getBudgetSnapshot(fundIds, fiscalYearId, requestContext);
+
+    // Then
+    assertTrue(future.succeeded());
+    assertEquals(31, future.result().size());
+    fundIds.forEach(fundId -> assertTrue(future.result().containsBudget(fundId, fiscalYearId)));
+    ArgumentCaptor<RequestEntry> requestEntryCaptor = ArgumentCaptor.forClass(RequestEntry.class);
+    verify(restClient, times(3)).get(requestEntryCaptor.capture(), eq(BudgetCollection.class), eq(requestContext));
+    requestEntryCaptor.getAllValues().forEach(requestEntry -> {
+      String query = requestEntry.getQueryParams().get("query").toString();
+      long idsInQuery = fundIds.stream().filter(query::contains).count();
+      assertTrue(idsInQuery == 10 || idsInQuery == 11);
+    });
+  }
+
 }
@@ -6,6 +6,7 @@ import static org.folio.TestConstants.X_OKAPI_TOKEN;
 import static org.folio.TestConstants.X_OKAPI_USER_ID;
 import static org.folio.orders.utils.ResourcePathResolver.LEDGER_FY_ROLLOVER_ERRORS;
 import static org.folio.orders.utils.ResourcePathResolver.resourcesPath;
+import static org.folio.rest.RestConstants.MAX_ACTIVE_DELETE_REQUESTS;
 import static org.folio.rest.RestConstants.OKAPI_URL;
 import static org.folio.rest.core.RestClientTest.X_OKAPI_TENANT;
 import static org.hamcrest.MatcherAssert.assertThat;
@@ -13,18 +14,22 @@ import static org.hamcrest.Matchers.containsString;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
 import java.net.URLDecoder;
 import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
+import java.util.stream.IntStream;
 
 import org.folio.rest.acq.model.finance.LedgerFiscalYearRolloverError;
 import org.folio.rest.acq.model.finance.LedgerFiscalYearRolloverErrorCollection;
@@ -40,7 +45,9 @@ import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.MockitoAnnotations;
 
+import io.vertx.core.Promise;
 import io.vertx.core.Vertx;
+import io.vertx.core.json.JsonObject;
 import io.vertx.junit5.VertxExtension;
 import io.vertx.junit5.VertxTestContext;
 
@@ -166,4 +173,99 @@ public class LedgerRolloverErrorServiceTest {
       });
   }
 
+  @Test
+  void testShouldDeleteRolloverErrorsWithBoundedConcurrency() {
+    List<LedgerFiscalYearRolloverError> errors = IntStream.range(0, MAX_ACTIVE_DELETE_REQUESTS + 1)
+      .mapToObj(i -> new LedgerFiscalYearRolloverError().withId(UUID.randomUUID().toString()))
+      .toList();
+    List<Promise<Void>> deletes = new ArrayList<>();
+    when(restClient.delete(any(RequestEntry.class), eq(requestContext))).thenAnswer(invocation -> {
+      Promise<Void> promise = Promise.promise();
+      deletes.add(promise);
+      return promise.future();
+    });
+
+    var future = ledgerRolloverErrorService.deleteRolloverErrors(errors, requestContext);
+
+    assertEquals(MAX_ACTIVE_DELETE_REQUESTS, deletes.size());
+    List.copyOf(deletes).forEach(Promise::complete);
+    assertEquals(errors.size(), deletes.size());
+    deletes.forEach(Promise::tryComplete);
+    assertTrue(future.succeeded());
+  }
+
+  @Test
+  void testShouldCountRolloverErrorsWithoutRetrievingThem() {
+    String rolloverId = UUID.randomUUID().toString();
+    doReturn(succeededFuture(new LedgerFiscalYearRolloverErrorCollection().withTotalRecords(3))).when(restClient)
+      .get(any(RequestEntry.class), eq(LedgerFiscalYearRolloverErrorCollection.class), eq(requestContext));
+
+    var future = ledgerRolloverErrorService.getRolloverErrorsCount(rolloverId, requestContext);
+
+    assertEquals(3, future.result());
+    ArgumentCaptor<RequestEntry> argumentCaptor = ArgumentCaptor.forClass(RequestEntry.class);
+    verify(restClient).get(argumentCaptor.capture(), eq(LedgerFiscalYearRolloverErrorCollection.class), eq(requestContext));
+    String endpoint = URLDecoder.decode(argumentCaptor.getValue().buildEndpoint(), StandardCharsets.UTF_8);
+    assertThat(endpoint, containsString("limit=0"));
+    assertThat(endpoint, containsString("ledgerRolloverId==" + rolloverId));
+  }
+
+  @Test
+  void testShouldRetrieveRolloverErrorsByPages() {
+    String orderId = UUID.randomUUID().toString();
+    List<LedgerFiscalYearRolloverError> firstPage = IntStream.range(0, 1000)
+      .mapToObj(i -> rolloverError(orderId, UUID.randomUUID().toString()))
+      .toList();
+    var lastError = rolloverError(orderId, UUID.randomUUID().toString());
+    when(restClient.get(any(RequestEntry.class), eq(LedgerFiscalYearRolloverErrorCollection.class), eq(requestContext)))
+      .thenReturn(succeededFuture(new LedgerFiscalYearRolloverErrorCollection()
+        .withLedgerFiscalYearRolloverErrors(firstPage).withTotalRecords(1001)))
+      .thenReturn(succeededFuture(new LedgerFiscalYearRolloverErrorCollection()
+        .withLedgerFiscalYearRolloverErrors(List.of(lastError)).withTotalRecords(1001)));
+
+    var result = ledgerRolloverErrorService.getLedgerFyRolloverErrors(orderId, requestContext).result();
+
+    assertEquals(1001, result.getTotalRecords());
+    assertEquals(lastError, result.getLedgerFiscalYearRolloverErrors().get(1000));
+    ArgumentCaptor<RequestEntry> argumentCaptor = ArgumentCaptor.forClass(RequestEntry.class);
+    verify(restClient, times(2)).get(argumentCaptor.capture(), eq(LedgerFiscalYearRolloverErrorCollection.class), eq(requestContext));
+    String lastEndpoint = URLDecoder.decode(argumentCaptor.getAllValues().get(1).buildEndpoint(), StandardCharsets.UTF_8);
+    assertThat(lastEndpoint, containsString("offset=1000"));
+    assertThat(lastEndpoint, containsString("limit=1000"));
+  }
+
+  @Test
+  void testShouldIndexRolloverErrorsByOrderAndPoLine() {
+    String orderId = UUID.randomUUID().toString();
+    String poLineId1 = UUID.randomUUID().toString();
+    String poLineId2 = UUID.randomUUID().toString();
+    var poLine1Error = rolloverError(orderId, poLineId1);
+    var poLine2Error = rolloverError(orderId, poLineId2);
+    var otherOrderError = rolloverError(UUID.randomUUID().toString(), UUID.randomUUID().toString());
+    var overallError = new LedgerFiscalYearRolloverError().withId(UUID.randomUUID().toString());
+
+    var index = new LedgerRolloverErrorIndex(List.of(poLine1Error, poLine2Error, otherOrderError, overallError));
+
+    assertEquals(List.of(poLine1Error, poLine2Error), index.getOrderErrors(orderId));
+    assertEquals(List.of(poLine2Error), index.getPoLineErrors(poLineId2));
+
+    index.remove(List.of(poLine1Error));
+
+    assertEquals(List.of(poLine2Error), index.getOrderErrors(orderId));
+    assertTrue(index.getPoLineErrors(poLineId1).isEmpty());
+
+    var savedError = rolloverError(orderId, poLineId1);
+    index.add(savedError);
+
+    assertEquals(List.of(poLine2Error, savedError), index.getOrderErrors(orderId));
+    assertEquals(List.of(savedError), index.getPoLineErrors(poLineId1));
+  }
+
+  private static LedgerFiscalYearRolloverError rolloverError(String orderId, String poLineId) {
+    return new JsonObject()
+      .put("id", UUID.randomUUID().toString())
+      .put("details", new JsonObject().put("purchaseOrderId", orderId).put("poLineId", poLineId))
+      .mapTo(LedgerFiscalYearRolloverError.class);
+  }
+
 }
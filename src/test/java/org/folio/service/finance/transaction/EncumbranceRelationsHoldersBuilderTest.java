@@ -24,6 +24,9 @@ import static org.mockito.Mockito.when;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Random;
 import java.util.UUID;
 
 import org.folio.models.EncumbranceRelationsHolder;
@@ -335,4 +338,149 @@ public class EncumbranceRelationsHoldersBuilderTest {
     assertThat(resultHolders, hasItem( hasProperty("oldEncumbrance", is(encumbranceFromStorage2))));
   }
 
+  @Test
+  void testIndexedMatchingShouldGiveSameResultAsLinearSearchForRandomOrders() {
+    for (long seed = 0; seed < 300; seed++) {
+      Random random = new Random(seed);
+      List<Transaction> transactions = new ArrayList<>();
+      CompositePurchaseOrder randomOrder = buildRandomOrder(random, transactions);
+      List<EncumbranceRelationsHolder> holders = encumbranceRelationsHoldersBuilder.buildBaseHolders(randomOrder);
+      encumbranceRelationsHoldersBuilder.withKnownTransactions(holders, transactions);
+
+      random = new Random(seed);
+      List<Transaction> expectedTransactions = new ArrayList<>();
+      CompositePurchaseOrder expectedOrder = buildRandomOrder(random, expectedTransactions);
+      List<EncumbranceRelationsHolder> expectedHolders = encumbranceRelationsHoldersBuilder.buildBaseHolders(expectedOrder);
+      linearSearchMapHoldersToTransactions(expectedHolders, expectedTransactions);
+      linearSearchWithToBeReleasedHolders(expectedHolders, expectedTransactions);
+
+      assertEquals(describe(expectedHolders), describe(holders), "seed " + seed);
+    }
+  }
+
+  private CompositePurchaseOrder buildRandomOrder(Random random, List<Transaction> transactions) {
+    List<String> fundIds = List.of(randomId(random), randomId(random), randomId(random));
+    List<String> expenseClassIds = new ArrayList<>();
+    expenseClassIds.add(null);
+    expenseClassIds.add(randomId(random));
+    expenseClassIds.add(randomId(random));
+    CompositePurchaseOrder randomOrder = new CompositePurchaseOrder().withId(randomId(random))
+      .withReEncumber(true)
+      .withOrderType(CompositePurchaseOrder.OrderType.ONE_TIME);
+    List<CompositePoLine> lines = new ArrayList<>();
+    int linesCount = 1 + random.nextInt(15);
+    for (int i = 0; i < linesCount; i++) {
+      CompositePoLine line = new CompositePoLine().withId(randomId(random))
+        .withPurchaseOrderId(randomOrder.getId())
+        .withCost(new Cost().withCurrency("USD").withListUnitPrice(10d).withQuantityPhysical(1));
+      List<FundDistribution> distributions = new ArrayList<>();
+      int distributionsCount = 1 + random.nextInt(3);
+      for (int j = 0; j < distributionsCount; j++) {
+        String fundId = fundIds.get(random.nextInt(fundIds.size()));
+        String expenseClassId = expenseClassIds.get(random.nextInt(expenseClassIds.size()));
+        FundDistribution distribution = new FundDistribution().withFundId(fundId)
+          .withExpenseClassId(expenseClassId)
+          .withDistributionType(FundDistribution.DistributionType.PERCENTAGE)
+          .withValue(100d / distributionsCount);
+        int existing = random.nextInt(4);
+        if (existing > 0) {
+          // the encumbrance in storage may be for another fund or expense class, or duplicated
+          Transaction transaction = buildRandomEncumbrance(random, line.getId(),
+            existing == 1 ? fundIds.get(random.nextInt(fundIds.size())) : fundId,
+            existing == 2 ? expenseClassIds.get(random.nextInt(expenseClassIds.size())) : expenseClassId);
+          transactions.add(transaction);
+          distribution.setEncumbrance(random.nextInt(5) == 0 ? randomId(random) : transaction.getId());
+        }
+        distributions.add(distribution);
+      }
+      line.setFundDistribution(distributions);
+      lines.add(line);
+    }
+    for (int i = random.nextInt(3); i > 0; i--) {
+      // encumbrances of the removed fund distributions
+      String lineId = lines.get(random.nextInt(lines.size())).getId();
+      transactions.add(buildRandomEncumbrance(random, lineId, randomId(random), null));
+    }
+    randomOrder.setCompositePoLines(lines);
+    Collections.shuffle(transactions, random);
+    return randomOrder;
+  }
+
+  private Transaction buildRandomEncumbrance(Random random, String poLineId, String fundId, String expenseClassId) {
+    return new Transaction().withId(randomId(random))
+      .withFromFundId(fundId)
+      .withExpenseClassId(expenseClassId)
+      .withSource(PO_LINE)
+      .withMetadata(new Metadata())
+      .withEncumbrance(new Encumbrance()
+        .withSourcePoLineId(poLineId)
+        .withStatus(random.nextBoolean() ? UNRELEASED : Encumbrance.Status.RELEASED)
+        .withAmountExpended((double) random.nextInt(100))
+        .withAmountCredited((double) random.nextInt(100))
+        .withAmountAwaitingPayment((double) random.nextInt(100)));
+  }
+
+  private String randomId(Random random) {
+    return new UUID(random.nextLong(), random.nextLong()).toString();
+  }
+
+  private List<String> describe(List<EncumbranceRelationsHolder> holders) {
+    return holders.stream()
+      .map(holder -> String.join("|",
+        String.valueOf(Optional.ofNullable(holder.getOldEncumbrance()).map(Transaction::getId).orElse(null)),
+        String.valueOf(Optional.ofNullable(holder.getNewEncumbrance()).map(Transaction::getId).orElse(null)),
+        String.valueOf(Optional.ofNullable(holder.getNewEncumbrance()).map(tr -> tr.getEncumbrance().getStatus()).orElse(null)),
+        String.valueOf(Optional.ofNullable(holder.getFundDistribution()).map(FundDistribution::getFundId).orElse(null)),
+        String.valueOf(Optional.ofNullable(holder.getFundDistribution()).map(FundDistribution::getEncumbrance).orElse(null))))
+      .toList();
+  }
+
+  // The linear search matching which is replaced by the indexed one, kept to verify the same result
+
+  private void linearSearchMapHoldersToTransactions(List<EncumbranceRelationsHolder> encumbranceHolders,
+      List<Transaction> existingTransactions) {
+    encumbranceHolders.forEach(holder -> linearSearchFindBestMatch(holder, existingTransactions)
+      .ifPresent(existingTransaction -> {
+        holder.withOldEncumbrance(existingTransaction);
+        Transaction newTransaction = holder.getNewEncumbrance();
+        newTransaction.setId(existingTransaction.getId());
+        newTransaction.setVersion(existingTransaction.getVersion());
+        if (existingTransaction.getEncumbrance().getStatus() == Encumbrance.Status.RELEASED)
+          newTransaction.getEncumbrance().setStatus(Encumbrance.Status.RELEASED);
+      }));
+  }
+
+  private Optional<Transaction> linearSearchFindBestMatch(EncumbranceRelationsHolder holder, List<Transaction> transactions) {
+    Optional<Transaction> fundEcMatch = transactions.stream()
+      .filter(tr -> tr.getEncumbrance().getSourcePoLineId().equals(holder.getPoLineId())
+        && tr.getFromFundId().equals(holder.getFundId())
+        && Objects.equals(tr.getExpenseClassId(), holder.getFundDistribution().getExpenseClassId()))
+      .findFirst();
+    if (fundEcMatch.isPresent()) {
+      if (holder.getFundDistribution().getEncumbrance() != null) {
+        holder.getFundDistribution().setEncumbrance(fundEcMatch.get().getId());
+      }
+      return fundEcMatch;
+    }
+    String id = holder.getFundDistribution().getEncumbrance();
+    return transactions.stream().filter(tr -> tr.getId().equals(id)).findAny();
+  }
+
+  private void linearSearchWithToBeReleasedHolders(List<EncumbranceRelationsHolder> encumbranceHolders,
+      List<Transaction> transactionsFromStorage) {
+    List<EncumbranceRelationsHolder> toBeReleasedHolders = transactionsFromStorage.stream()
+      .filter(transaction -> encumbranceHolders.stream()
+        .noneMatch(holder -> holder.getOldEncumbrance() != null && transaction.getId().equals(holder.getOldEncumbrance().getId())))
+      .map(transaction -> new EncumbranceRelationsHolder()
+        .withOldEncumbrance(transaction)
+        .withFundDistribution(encumbranceHolders.stream()
+          .filter(erh -> erh.getFundDistribution() != null &&
+            transaction.getId().equals(erh.getFundDistribution().getEncumbrance()))
+          .findFirst()
+          .map(EncumbranceRelationsHolder::getFundDistribution)
+          .orElse(null)))
+      .toList();
+    encumbranceHolders.addAll(toBeReleasedHolders);
+  }
+
 }
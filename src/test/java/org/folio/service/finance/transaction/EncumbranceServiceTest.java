@@ -8,6 +8,8 @@ import static org.folio.TestUtils.getMockAsJson;
 import static org.folio.rest.RestConstants.OKAPI_URL;
 import static org.folio.rest.RestVerticle.OKAPI_HEADER_TENANT;
 import static org.folio.rest.impl.MockServer.ENCUMBRANCE_PATH;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyList;
@@ -28,13 +30,21 @@ import java.util.List;
 import java.util.Map;
 import java.util.UUID;
 
+import org.folio.models.EncumbranceRelationsHolder;
+import org.folio.models.EncumbrancesProcessingHolder;
+import org.folio.rest.acq.model.finance.Batch;
 import org.folio.rest.acq.model.finance.Encumbrance;
 import org.folio.rest.acq.model.finance.FiscalYear;
 import org.folio.rest.acq.model.finance.Transaction;
+import org.folio.rest.acq.model.finance.TransactionCollection;
 import org.folio.rest.acq.model.invoice.Adjustment;
 import org.folio.rest.acq.model.invoice.InvoiceLine;
+import org.folio.rest.core.RestClient;
 import org.folio.rest.core.models.RequestContext;
+import org.folio.rest.core.models.RequestEntityCache;
+import org.folio.rest.core.models.RequestEntry;
 import org.folio.rest.jaxrs.model.CompositePoLine;
+import org.folio.rest.jaxrs.model.CompositePurchaseOrder;
 import org.folio.rest.jaxrs.model.FundDistribution;
 import org.folio.rest.jaxrs.model.PoLine;
 import org.folio.service.finance.FiscalYearService;
@@ -43,6 +53,7 @@ import org.folio.service.orders.OrderInvoiceRelationService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
@@ -72,6 +83,8 @@ public class EncumbranceServiceTest {
   private InvoiceLineService invoiceLineService;
   @Mock
   private FiscalYearService fiscalYearService;
+  @Mock
+  private RestClient restClient;
 
   @BeforeEach
   public void initMocks(){
@@ -192,6 +205,28 @@ public class EncumbranceServiceTest {
     inOrder.verify(transactionService).batchReleaseAndDelete(anyList(), eq(requestContextMock));
   }
 
+  @Test
+  void shouldDeleteEncumbrancesOfAllPoLinesInOneBatch() {
+    //Given
+    String lineId1 = UUID.randomUUID().toString();
+    String lineId2 = UUID.randomUUID().toString();
+    List<Transaction> transactions = List.of(
+      new Transaction().withId(UUID.randomUUID().toString()).withEncumbrance(new Encumbrance().withSourcePoLineId(lineId1)),
+      new Transaction().withId(UUID.randomUUID().toString()).withEncumbrance(new Encumbrance().withSourcePoLineId(lineId2)));
+    doReturn(Future.succeededFuture(transactions))
+      .when(transactionService).getTransactionsByPoLinesIds(anyList(), anyString(), eq(requestContextMock));
+    doReturn(Future.succeededFuture(null))
+      .when(transactionService).batchReleaseAndDelete(anyList(), eq(requestContextMock));
+
+    //When
+    encumbranceService.deletePoLinesEncumbrances(List.of(new PoLine().withId(lineId1), new PoLine().withId(lineId2)),
+      requestContextMock).result();
+
+    //Then
+    verify(transactionService).getTransactionsByPoLinesIds(eq(List.of(lineId1, lineId2)), anyString(), eq(requestContextMock));
+    verify(transactionService, times(1)).batchReleaseAndDelete(eq(transactions), eq(requestContextMock));
+  }
+
   @Test
   void shouldCallRemoveEncumbranceLinks() {
     //Given
@@ -286,4 +321,156 @@ public class EncumbranceServiceTest {
     verify(invoiceLineService, never()).removeEncumbranceLinks(any(), any(), any());
   }
 
+  @Test
+  void shouldRemoveEncumbranceLinksOnlyOfOrdersLinkedToInvoices() {
+    //Given
+    String linkedOrderId = UUID.randomUUID().toString();
+    String notLinkedOrderId = UUID.randomUUID().toString();
+    String linkedPoLineId = UUID.randomUUID().toString();
+    Transaction linkedEncumbrance = new Transaction()
+      .withId(UUID.randomUUID().toString())
+      .withEncumbrance(new Encumbrance()
+        .withSourcePurchaseOrderId(linkedOrderId)
+        .withSourcePoLineId(linkedPoLineId));
+    Transaction notLinkedEncumbrance = new Transaction()
+      .withId(UUID.randomUUID().toString())
+      .withEncumbrance(new Encumbrance()
+        .withSourcePurchaseOrderId(notLinkedOrderId)
+        .withSourcePoLineId(UUID.randomUUID().toString()));
+
+    when(orderInvoiceRelationService.isOrderLinkedToAnInvoice(eq(linkedOrderId), eq(requestContextMock)))
+      .thenReturn(Future.succeededFuture(true));
+    when(orderInvoiceRelationService.isOrderLinkedToAnInvoice(eq(notLinkedOrderId), eq(requestContextMock)))
+      .thenReturn(Future.succeededFuture(false));
+    when(invoiceLineService.getInvoiceLinesByOrderLineIds(anyList(), eq(requestContextMock)))
+      .thenReturn(Future.succeededFuture(List.of()));
+    when(invoiceLineService.removeEncumbranceLinks(anyList(), anyList(), eq(requestContextMock)))
+      .thenReturn(Future.succeededFuture(null));
+
+    //When
+    Future<Void> result = encumbranceService.deleteEncumbranceLinksInInvoiceLines(
+      List.of(linkedEncumbrance, notLinkedEncumbrance), requestContextMock);
+    assertTrue(result.succeeded());
+
+    //Then
+    verify(invoiceLineService, times(1)).getInvoiceLinesByOrderLineIds(eq(List.of(linkedPoLineId)), eq(requestContextMock));
+    verify(invoiceLineService, times(1)).removeEncumbranceLinks(anyList(),
+      eq(List.of(linkedEncumbrance.getId())), eq(requestContextMock));
+  }
+
+  @Test
+  void shouldServeOrderAndPoLineEncumbrancesFromOneSnapshotWithinRequest() {
+    //Given
+    String orderId = UUID.randomUUID().toString();
+    String poLineId = UUID.randomUUID().toString();
+    FiscalYear fiscalYear = new FiscalYear().withId(UUID.randomUUID().toString());
+    CompositePoLine poLine = new CompositePoLine().withId(poLineId).withPurchaseOrderId(orderId)
+      .withFundDistribution(List.of(new FundDistribution().withFundId(UUID.randomUUID().toString())));
+    CompositePurchaseOrder order = new CompositePurchaseOrder().withId(orderId).withCompositePoLines(List.of(poLine));
+    Transaction released = new Transaction().withId(UUID.randomUUID().toString())
+      .withEncumbrance(new Encumbrance().withSourcePurchaseOrderId(orderId).withSourcePoLineId(poLineId)
+        .withStatus(Encumbrance.Status.RELEASED));
+    Transaction unreleased = new Transaction().withId(UUID.randomUUID().toString())
+      .withEncumbrance(new Encumbrance().withSourcePurchaseOrderId(orderId).withSourcePoLineId(poLineId)
+        .withStatus(Encumbrance.Status.UNRELEASED));
+    RequestContext requestContext = new RequestContext(requestContextMock.getContext(), requestContextMock.getHeaders(),
+      RequestEntityCache.forTypes(OrderEncumbrancesSnapshot.class));
+
+    doReturn(succeededFuture(fiscalYear)).when(fiscalYearService).getCurrentFiscalYearByFundId(anyString(), eq(requestContext));
+    doReturn(succeededFuture(List.of(released, unreleased))).when(transactionService).getTransactions(anyString(), eq(requestContext));
+
+    //When
+    List<Transaction> orderEncumbrances = encumbranceService.getOrderEncumbrancesForCurrentFiscalYear(order, requestContext).result();
+    List<Transaction> releasedEncumbrances = encumbranceService.getPoLineReleasedEncumbrances(poLine, requestContext).result();
+    List<Transaction> unreleasedEncumbrances = encumbranceService.getPoLineUnreleasedEncumbrances(poLine, requestContext).result();
+    List<Transaction> currentEncumbrances = encumbranceService.getCurrentPoLinesEncumbrances(List.of(poLine), fiscalYear.getId(), requestContext).result();
+
+    //Then
+    assertEquals(List.of(released, unreleased), orderEncumbrances);
+    assertEquals(List.of(released), releasedEncumbrances);
+    assertEquals(List.of(unreleased), unreleasedEncumbrances);
+    assertEquals(List.of(released, unreleased), currentEncumbrances);
+    verify(transactionService, times(1)).getTransactions(anyString(), eq(requestContext));
+    verify(transactionService, never()).getTransactionsByPoLinesIds(anyList(), anyString(), any());
+  }
+
+  @Test
+  void shouldNotShareSnapshotEncumbrancesChangedBeforeSaving() {
+    //Given
+    String orderId = UUID.randomUUID().toString();
+    String poLineId = UUID.randomUUID().toString();
+    FiscalYear fiscalYear = new FiscalYear().withId(UUID.randomUUID().toString());
+    CompositePoLine poLine = new CompositePoLine().withId(poLineId).withPurchaseOrderId(orderId)
+      .withFundDistribution(List.of(new FundDistribution().withFundId(UUID.randomUUID().toString())));
+    Transaction unreleased = new Transaction().withId(UUID.randomUUID().toString())
+      .withEncumbrance(new Encumbrance().withSourcePurchaseOrderId(orderId).withSourcePoLineId(poLineId)
+        .withStatus(Encumbrance.Status.UNRELEASED));
+    RequestContext requestContext = new RequestContext(requestContextMock.getContext(), requestContextMock.getHeaders(),
+      RequestEntityCache.forTypes(OrderEncumbrancesSnapshot.class));
+
+    doReturn(succeededFuture(fiscalYear)).when(fiscalYearService).getCurrentFiscalYearByFundId(anyString(), eq(requestContext));
+    doReturn(succeededFuture(List.of(unreleased))).when(transactionService).getTransactions(anyString(), eq(requestContext));
+
+    //When
+    List<Transaction> toRelease = encumbranceService.getPoLineUnreleasedEncumbrances(poLine, requestContext).result();
+    toRelease.forEach(encumbrance -> encumbrance.getEncumbrance().setStatus(Encumbrance.Status.RELEASED));
+    List<Transaction> unreleasedEncumbrances = encumbranceService.getPoLineUnreleasedEncumbrances(poLine, requestContext).result();
+
+    //Then
+    assertEquals(List.of(unreleased), unreleasedEncumbrances);
+    assertEquals(Encumbrance.Status.UNRELEASED, unreleased.getEncumbrance().getStatus());
+    verify(transactionService, times(1)).getTransactions(anyString(), eq(requestContext));
+  }
+
+  @Test
+  void shouldSendEncumbranceChangesOfRequestInOneBatch() {
+    //Given
+    EncumbranceService service = new EncumbranceService(new TransactionService(restClient), invoiceLineService,
+      orderInvoiceRelationService, fiscalYearService);
+    String orderId = UUID.randomUUID().toString();
+    String poLineId = UUID.randomUUID().toString();
+    FiscalYear fiscalYear = new FiscalYear().withId(UUID.randomUUID().toString());
+    CompositePoLine poLine = new CompositePoLine().withId(poLineId).withPurchaseOrderId(orderId)
+      .withFundDistribution(List.of(new FundDistribution().withFundId(UUID.randomUUID().toString())));
+    Transaction unreleased = new Transaction().withId(UUID.randomUUID().toString())
+      .withTransactionType(Transaction.TransactionType.ENCUMBRANCE)
+      .withFiscalYearId(fiscalYear.getId())
+      .withEncumbrance(new Encumbrance().withSourcePurchaseOrderId(orderId).withSourcePoLineId(poLineId)
+        .withStatus(Encumbrance.Status.UNRELEASED));
+    Transaction created = new Transaction()
+      .withTransactionType(Transaction.TransactionType.ENCUMBRANCE)
+      .withFiscalYearId(fiscalYear.getId())
+      .withEncumbrance(new Encumbrance().withSourcePurchaseOrderId(orderId).withSourcePoLineId(poLineId)
+        .withStatus(Encumbrance.Status.UNRELEASED));
+    EncumbrancesProcessingHolder holder = new EncumbrancesProcessingHolder()
+      .addEncumbrancesForCreate(new EncumbranceRelationsHolder().withNewEncumbrance(created).withFundDistribution(new FundDistribution()));
+    RequestContext requestContext = new RequestContext(requestContextMock.getContext(), requestContextMock.getHeaders(),
+      RequestEntityCache.forTypes(OrderEncumbrancesSnapshot.class));
+    List<Transaction> unreleasedBeforeSending = new ArrayList<>();
+
+    doReturn(succeededFuture(fiscalYear)).when(fiscalYearService).getCurrentFiscalYearByFundId(anyString(), eq(requestContext));
+    doReturn(succeededFuture(new TransactionCollection().withTransactions(List.of(unreleased)).withTotalRecords(1)))
+      .when(restClient).get(any(RequestEntry.class), eq(TransactionCollection.class), eq(requestContext));
+    doReturn(succeededFuture()).when(restClient).postEmptyResponse(anyString(), any(Batch.class), eq(requestContext));
+
+    //When
+    Future<Void> result = service.processInOneBatch(() -> service.getPoLineUnreleasedEncumbrances(poLine, requestContext)
+      .compose(encumbrances -> service.releaseEncumbrances(encumbrances, requestContext))
+      .compose(v -> service.createOrUpdateEncumbrances(holder, requestContext))
+      .compose(v -> service.getPoLineUnreleasedEncumbrances(poLine, requestContext))
+      .map(unreleasedBeforeSending::addAll)
+      .mapEmpty(), requestContext);
+
+    //Then
+    assertTrue(result.succeeded());
+    assertEquals(List.of(created.getId()), unreleasedBeforeSending.stream().map(Transaction::getId).toList());
+    ArgumentCaptor<Batch> batchCaptor = ArgumentCaptor.forClass(Batch.class);
+    verify(restClient, times(1)).postEmptyResponse(anyString(), batchCaptor.capture(), eq(requestContext));
+    Batch batch = batchCaptor.getValue();
+    assertEquals(List.of(created.getId()), batch.getTransactionsToCreate().stream().map(Transaction::getId).toList());
+    assertEquals(List.of(unreleased.getId()), batch.getTransactionsToUpdate().stream().map(Transaction::getId).toList());
+    assertEquals(Encumbrance.Status.RELEASED, batch.getTransactionsToUpdate().get(0).getEncumbrance().getStatus());
+    assertNull(requestContext.getTransactionBatch());
+  }
+
 }
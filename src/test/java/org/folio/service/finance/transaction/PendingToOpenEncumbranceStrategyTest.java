@@ -47,6 +47,7 @@ package org.folio.service.finance.transaction;
   import org.folio.rest.jaxrs.model.FundDistribution;
   import org.folio.rest.jaxrs.model.Parameter;
   import org.folio.service.FundsDistributionService;
+  import org.folio.service.caches.FinanceReferenceDataCache;
   import org.folio.service.exchange.ExchangeRateProviderResolver;
   import org.folio.service.exchange.ManualCurrencyConversion;
   import org.folio.service.finance.FiscalYearService;
@@ -54,6 +55,7 @@ package org.folio.service.finance.transaction;
   import org.folio.service.finance.LedgerService;
   import org.folio.service.finance.budget.BudgetRestrictionService;
   import org.folio.service.finance.budget.BudgetService;
+  import org.folio.service.finance.budget.BudgetSnapshot;
   import org.folio.service.invoice.InvoiceLineService;
   import org.folio.service.invoice.POLInvoiceLineRelationService;
   import org.folio.service.orders.OrderInvoiceRelationService;
@@ -112,7 +114,8 @@ public class PendingToOpenEncumbranceStrategyTest {
     FundsDistributionService fundsDistributionService = new FundsDistributionService();
     BudgetRestrictionService budgetRestrictionService = new BudgetRestrictionService();
     EncumbranceRelationsHoldersBuilder encumbranceRelationsHoldersBuilder = new EncumbranceRelationsHoldersBuilder(
-      encumbranceService, fundService, fiscalYearService, exchangeRateProviderResolver, budgetService, ledgerService);
+      encumbranceService, new FinanceReferenceDataCache(fundService, ledgerService, fiscalYearService, 0, 0),
+      exchangeRateProviderResolver, budgetService);
     EncumbrancesProcessingHolderBuilder encumbrancesProcessingHolderBuilder = new EncumbrancesProcessingHolderBuilder();
     PendingPaymentService pendingPaymentService = new PendingPaymentService(transactionService);
     POLInvoiceLineRelationService polInvoiceLineRelationService = new POLInvoiceLineRelationService(invoiceLineService,
@@ -177,8 +180,8 @@ public class PendingToOpenEncumbranceStrategyTest {
       .when(ledgerService).getLedgersByIds(anyCollection(), any());
     doReturn(Future.succeededFuture(fiscalYear))
       .when(fiscalYearService).getCurrentFiscalYear(anyString(), any());
-    doReturn(Future.succeededFuture(List.of(budget1, budget2)))
-      .when(budgetService).getBudgetsByQuery(anyString(), any());
+    doReturn(Future.succeededFuture(BudgetSnapshot.ofFiscalYear(fiscalYearId, List.of(budget1, budget2))))
+      .when(budgetService).getBudgetSnapshot(anyCollection(), anyString(), any());
 
     InvoiceLine invoiceLine = new InvoiceLine()
       .withId(invoiceLineId)
@@ -186,8 +189,8 @@ public class PendingToOpenEncumbranceStrategyTest {
 
     doReturn(Vertx.vertx().getOrCreateContext())
       .when(requestContext).getContext();
-    doReturn(exchangeRateProvider)
-      .when(exchangeRateProviderResolver).resolve(any(), eq(requestContext));
+    doReturn(Future.succeededFuture(exchangeRateProvider))
+      .when(exchangeRateProviderResolver).resolveAsync(any(), eq(requestContext));
     doReturn(currencyConversion)
       .when(exchangeRateProvider).getCurrencyConversion(any(ConversionQuery.class));
     doAnswer(invocation -> invocation.getArgument(0))
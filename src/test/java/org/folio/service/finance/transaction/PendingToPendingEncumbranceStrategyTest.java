@@ -32,6 +32,7 @@ import org.folio.rest.jaxrs.model.CompositePoLine;
 import org.folio.rest.jaxrs.model.CompositePurchaseOrder;
 import org.folio.rest.jaxrs.model.FundDistribution;
 import org.folio.rest.jaxrs.model.Parameter;
+import org.folio.service.caches.FinanceReferenceDataCache;
 import org.folio.service.exchange.ExchangeRateProviderResolver;
 import org.folio.service.finance.FiscalYearService;
 import org.folio.service.finance.FundService;
@@ -80,7 +81,8 @@ public class PendingToPendingEncumbranceStrategyTest {
   @BeforeEach
   void init() {
     EncumbranceRelationsHoldersBuilder encumbranceRelationsHoldersBuilder = new EncumbranceRelationsHoldersBuilder(
-      encumbranceService, fundService, fiscalYearService, exchangeRateProviderResolver, budgetService, ledgerService);
+      encumbranceService, new FinanceReferenceDataCache(fundService, ledgerService, fiscalYearService, 0, 0),
+      exchangeRateProviderResolver, budgetService);
     PendingPaymentService pendingPaymentService = new PendingPaymentService(transactionService);
     pendingToPendingEncumbranceStrategy = new PendingToPendingEncumbranceStrategy(encumbranceService,
       encumbranceRelationsHoldersBuilder, pendingPaymentService);
@@ -4,12 +4,15 @@ import static io.vertx.core.Future.succeededFuture;
 import static org.folio.TestUtils.getMockAsJson;
 import static org.folio.rest.impl.MockServer.ENCUMBRANCE_PATH;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.verify;
 
 import org.folio.rest.acq.model.finance.Batch;
+import org.folio.rest.acq.model.finance.Encumbrance;
 import org.folio.rest.acq.model.finance.Transaction;
 import org.folio.rest.core.RestClient;
 import org.folio.rest.core.models.RequestContext;
@@ -23,7 +26,10 @@ import org.mockito.MockitoAnnotations;
 
 import io.vertx.junit5.VertxExtension;
 
+import java.util.AbstractList;
 import java.util.List;
+import java.util.UUID;
+import java.util.stream.IntStream;
 
 
 @ExtendWith(VertxExtension.class)
@@ -60,4 +66,90 @@ public class TransactionServiceTest {
     assertEquals("/finance/transactions/batch-all-or-nothing", endPoint);
   }
 
+  @Test
+  void testShouldSendBigBatchInOneRequest() {
+    //Given
+    List<Transaction> encumbrances = IntStream.range(0, 1000)
+      .mapToObj(i -> new Transaction().withId(UUID.randomUUID().toString())
+        .withEncumbrance(new Encumbrance().withStatus(Encumbrance.Status.UNRELEASED)))
+      .toList();
+    doReturn(succeededFuture())
+      .when(restClient).postEmptyResponse(anyString(), any(Batch.class), eq(requestContext));
+
+    //When
+    transactionService.batchReleaseAndDelete(encumbrances, requestContext).result();
+
+    //Then
+    ArgumentCaptor<Batch> batchCaptor = ArgumentCaptor.forClass(Batch.class);
+    verify(restClient).postEmptyResponse(anyString(), batchCaptor.capture(), eq(requestContext));
+    Batch batch = batchCaptor.getValue();
+    assertEquals(1000, batch.getTransactionsToUpdate().size());
+    assertEquals(batch.getTransactionsToUpdate().stream().map(Transaction::getId).toList(), batch.getIdsOfTransactionsToDelete());
+  }
+
+  @Test
+  void testShouldMergeOperationsOfSameTransaction() {
+    //Given
+    Transaction created = new Transaction().withAmount(10d);
+    Transaction createdAndDeleted = new Transaction().withId(UUID.randomUUID().toString());
+    Transaction updatedCreated = new Transaction().withAmount(20d);
+    TransactionBatch transactionBatch = new TransactionBatch()
+      .create(List.of(created, createdAndDeleted))
+      .delete(List.of(createdAndDeleted.getId()));
+    updatedCreated.setId(created.getId());
+    transactionBatch.update(List.of(updatedCreated));
+    doReturn(succeededFuture())
+      .when(restClient).postEmptyResponse(anyString(), any(Batch.class), eq(requestContext));
+
+    //When
+    transactionService.batchAllOrNothing(transactionBatch, requestContext).result();
+
+    //Then
+    ArgumentCaptor<Batch> batchCaptor = ArgumentCaptor.forClass(Batch.class);
+    verify(restClient).postEmptyResponse(anyString(), batchCaptor.capture(), eq(requestContext));
+    Batch batch = batchCaptor.getValue();
+    assertEquals(List.of(updatedCreated), batch.getTransactionsToCreate());
+    assertTrue(batch.getTransactionsToUpdate().isEmpty());
+    assertTrue(batch.getIdsOfTransactionsToDelete().isEmpty());
+  }
+
+  @Test
+  void testFailedBatchDescriptionShouldNotDependOnBatchSize() {
+    for (int size : List.of(TransactionService.LOGGED_TRANSACTION_IDS_LIMIT, 100_000)) {
+      //Given
+      AccessCountingList<String> ids = new AccessCountingList<>(IntStream.range(0, size)
+        .mapToObj(i -> UUID.randomUUID().toString())
+        .toList());
+      Batch batch = new Batch().withIdsOfTransactionsToDelete(ids);
+
+      //When
+      String description = TransactionService.describeBatch(batch);
+
+      //Then
+      assertTrue(ids.accessed <= TransactionService.LOGGED_TRANSACTION_IDS_LIMIT);
+      assertTrue(description.contains("idsOfTransactionsToDelete=" + size));
+      assertTrue(description.contains(ids.get(TransactionService.LOGGED_TRANSACTION_IDS_LIMIT - 1)));
+    }
+  }
+
+  private static class AccessCountingList<T> extends AbstractList<T> {
+    private final List<T> delegate;
+    private int accessed;
+
+    AccessCountingList(List<T> delegate) {
+      this.delegate = delegate;
+    }
+
+    @Override
+    public T get(int index) {
+      accessed++;
+      return delegate.get(index);
+    }
+
+    @Override
+    public int size() {
+      return delegate.size();
+    }
+  }
+
 }
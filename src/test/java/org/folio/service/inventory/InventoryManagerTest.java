@@ -38,6 +38,7 @@ import static org.folio.service.inventory.InventoryItemManager.ID;
 import static org.folio.service.inventory.InventoryUtils.ITEMS;
 import static org.folio.service.inventory.InventoryUtils.LOAN_TYPES;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsString;
 import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.is;
 import static org.junit.jupiter.api.Assertions.assertEquals;
@@ -55,6 +56,8 @@ import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 import java.io.IOException;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
@@ -96,6 +99,7 @@ import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mockito;
 import org.mockito.MockitoAnnotations;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -481,6 +485,25 @@ public class InventoryManagerTest {
     verify(restClient, times(1)).getAsJsonObject(any(RequestEntry.class), eq(requestContext));
   }
 
+  @Test
+  void shouldGetNumbersOfItemsOfHoldingsWithoutRetrievingItems() {
+    List<String> holdingIds = Stream.generate(() -> UUID.randomUUID().toString()).limit(20).toList();
+    doReturn(succeededFuture(new JsonObject().put("totalRecords", 2)),
+      succeededFuture(new JsonObject().put("totalRecords", 0)))
+      .when(restClient).getAsJsonObject(any(RequestEntry.class), eq(requestContext));
+
+    Map<String, Integer> numbersOfItems = inventoryItemManager.getNumbersOfItemsByHoldingIds(holdingIds, requestContext).result();
+
+    assertThat(numbersOfItems.size(), equalTo(20));
+    assertThat(numbersOfItems.get(holdingIds.get(0)), equalTo(2));
+    assertThat(numbersOfItems.get(holdingIds.get(19)), equalTo(0));
+    ArgumentCaptor<RequestEntry> requestEntryCaptor = ArgumentCaptor.forClass(RequestEntry.class);
+    verify(restClient, times(20)).getAsJsonObject(requestEntryCaptor.capture(), eq(requestContext));
+    String endpoint = requestEntryCaptor.getAllValues().get(0).buildEndpoint();
+    assertThat(endpoint, containsString("limit=0"));
+    assertThat(URLDecoder.decode(endpoint, StandardCharsets.UTF_8), containsString("holdingsRecordId==" + holdingIds.get(0)));
+  }
+
   @Test
   void shouldRetrieveItemIfHoldingIdProvidedAndHoldingFoundAndNotSkipNotFound() {
     String holdingId = UUID.randomUUID().toString();
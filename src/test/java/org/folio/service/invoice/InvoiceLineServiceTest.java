@@ -1,5 +1,6 @@
 package org.folio.service.invoice;
 
+import static org.folio.rest.RestConstants.SEMAPHORE_MAX_ACTIVE_THREADS;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
@@ -32,6 +33,7 @@ import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 
 import io.vertx.core.Future;
+import io.vertx.core.Promise;
 import io.vertx.core.Vertx;
 import io.vertx.core.json.JsonObject;
 import io.vertx.junit5.VertxExtension;
@@ -198,4 +200,32 @@ public class InvoiceLineServiceTest {
     assertTrue(result.succeeded());
     assertEquals("enc1", invoiceLine.getFundDistributions().get(0).getEncumbrance());
   }
+
+  @Test
+  void removeEncumbranceLinks_shouldSaveEveryInvoiceLineOnceWithBoundedConcurrency() {
+    String encumbranceId = UUID.randomUUID().toString();
+    List<InvoiceLine> invoiceLines = new ArrayList<>();
+    for (int i = 0; i < 7; i++) {
+      invoiceLines.add(new InvoiceLine().withId(UUID.randomUUID().toString())
+        .withInvoiceLineStatus(InvoiceLineStatus.OPEN)
+        .withFundDistributions(List.of(new FundDistribution().withEncumbrance(encumbranceId)))
+        .withAdjustments(List.of(new Adjustment().withFundDistributions(List.of(
+          new FundDistribution().withEncumbrance(encumbranceId))))));
+    }
+    RequestContext requestContext = mock(RequestContext.class);
+    List<Promise<Void>> puts = new ArrayList<>();
+    when(restClient.put(any(RequestEntry.class), any(InvoiceLine.class), eq(requestContext))).thenAnswer(invocation -> {
+      Promise<Void> promise = Promise.promise();
+      puts.add(promise);
+      return promise.future();
+    });
+
+    Future<Void> result = invoiceLineService.removeEncumbranceLinks(invoiceLines, List.of(encumbranceId), requestContext);
+
+    assertEquals(SEMAPHORE_MAX_ACTIVE_THREADS, puts.size());
+    List.copyOf(puts).forEach(Promise::complete);
+    assertEquals(invoiceLines.size(), puts.size());
+    puts.forEach(Promise::tryComplete);
+    assertTrue(result.succeeded());
+  }
 }
@@ -1,12 +1,15 @@
 package org.folio.service.orders;
 
 import static io.vertx.core.Future.succeededFuture;
+import static org.folio.rest.RestVerticle.OKAPI_HEADER_TENANT;
 import static org.folio.rest.impl.MockServer.BASE_MOCK_DATA_PATH;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.util.Arrays;
@@ -23,6 +26,7 @@ import org.folio.rest.core.RestClient;
 import org.folio.rest.core.exceptions.ErrorCodes;
 import org.folio.rest.core.exceptions.HttpException;
 import org.folio.rest.core.models.RequestContext;
+import org.folio.rest.core.models.RequestEntityCache;
 import org.folio.rest.core.models.RequestEntry;
 import org.folio.rest.jaxrs.model.PoLine;
 import org.folio.service.invoice.InvoiceLineService;
@@ -111,4 +115,22 @@ public class OrderInvoiceRelationServiceTest {
         vertxTestContext.completeNow();
       });
   }
+
+  @Test
+  void shouldRetrieveOrderInvoiceRelationsOncePerRequest(VertxTestContext vertxTestContext) {
+    OrderInvoiceRelationshipCollection oirCollection = new OrderInvoiceRelationshipCollection()
+      .withOrderInvoiceRelationships(Collections.singletonList(new OrderInvoiceRelationship()))
+      .withTotalRecords(1);
+    doReturn(succeededFuture(oirCollection)).when(restClient).get(any(RequestEntry.class), any(), any());
+    RequestContext cachingRequestContext = new RequestContext(Vertx.vertx().getOrCreateContext(), Map.of(OKAPI_HEADER_TENANT, "diku"),
+      RequestEntityCache.forTypes(OrderInvoiceRelationshipCollection.class));
+
+    orderInvoiceRelationService.isOrderLinkedToAnInvoice(ORDER_ID, cachingRequestContext)
+      .compose(linked -> orderInvoiceRelationService.isOrderLinkedToAnInvoice(ORDER_ID, cachingRequestContext))
+      .onComplete(vertxTestContext.succeeding(linked -> {
+        assertTrue(linked);
+        verify(restClient, times(1)).get(any(RequestEntry.class), eq(OrderInvoiceRelationshipCollection.class), any());
+        vertxTestContext.completeNow();
+      }));
+  }
 }
@@ -23,12 +23,19 @@ import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 import javax.money.convert.ConversionQuery;
 import javax.money.convert.ConversionQueryBuilder;
@@ -68,8 +75,11 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 import org.mockito.Spy;
+import org.springframework.test.util.ReflectionTestUtils;
 
 import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import io.vertx.core.json.JsonObject;
 import io.vertx.junit5.VertxExtension;
 import io.vertx.junit5.VertxTestContext;
 
@@ -603,4 +613,132 @@ public class OrderReEncumberServiceTest {
       })
       .onFailure(vertxTestContext::failNow);
   }
+
+  @Test
+  void shouldReEncumberOrdersInBulkAndLookUpRolloverOnce(VertxTestContext vertxTestContext) {
+    //Given
+    String ledgerId = UUID.randomUUID().toString();
+    String rolloverId = UUID.randomUUID().toString();
+    String orderId1 = UUID.randomUUID().toString();
+    String orderId2 = UUID.randomUUID().toString();
+    String notFoundOrderId = UUID.randomUUID().toString();
+
+    LedgerFiscalYearRollover rollover = new LedgerFiscalYearRollover()
+        .withId(rolloverId)
+        .withLedgerId(ledgerId);
+    EncumbranceRollover encumbranceRollover = new EncumbranceRollover()
+        .withBasedOn(EncumbranceRollover.BasedOn.REMAINING)
+        .withOrderType(EncumbranceRollover.OrderType.ONE_TIME)
+        .withIncreaseBy(0d);
+    ConversionQuery conversionQuery = ConversionQueryBuilder.of()
+        .setBaseCurrency("USD").setTermCurrency("USD").set(ExchangeRateProviderResolver.RATE_KEY, 1d).build();
+
+    LedgerFiscalYearRolloverError order1Error = rolloverError(orderId1);
+    LedgerFiscalYearRolloverError order2Error = rolloverError(orderId2);
+    LedgerFiscalYearRolloverErrorCollection rolloverErrors = new LedgerFiscalYearRolloverErrorCollection()
+        .withLedgerFiscalYearRolloverErrors(List.of(order1Error, order2Error, rolloverError(UUID.randomUUID().toString())));
+
+    when(purchaseOrderStorageService.getCompositeOrderById(anyString(), eq(requestContext)))
+        .thenAnswer(invocation -> succeededFuture(new CompositePurchaseOrder().withId(invocation.getArgument(0))));
+    when(purchaseOrderStorageService.getCompositeOrderById(eq(notFoundOrderId), eq(requestContext)))
+        .thenReturn(Future.failedFuture(new HttpException(404, "Order not found")));
+    when(spyReEncumbranceHoldersBuilder.buildReEncumbranceHoldersWithOrdersData(any())).thenAnswer(invocation -> {
+      CompositePurchaseOrder order = invocation.getArgument(0);
+      FundDistribution fundDistribution = new FundDistribution()
+          .withDistributionType(FundDistribution.DistributionType.PERCENTAGE)
+          .withValue(100d)
+          .withFundId(UUID.randomUUID().toString());
+      CompositePoLine line = new CompositePoLine().withId(UUID.randomUUID().toString())
+          .withCost(new Cost().withListUnitPrice(10d).withQuantityPhysical(1).withCurrency("USD"))
+          .withFundDistribution(List.of(fundDistribution));
+      Transaction fromEncumbrance = new Transaction().withId(UUID.randomUUID().toString())
+          .withAmount(10d)
+          .withCurrency("USD");
+      return List.of(new ReEncumbranceHolder()
+          .withPurchaseOrder(order)
+          .withRollover(rollover)
+          .withPoLine(line)
+          .withFundDistribution(fundDistribution)
+          .withLedgerId(ledgerId)
+          .withEncumbranceRollover(encumbranceRollover)
+          .withPreviousFyEncumbrance(fromEncumbrance)
+          .withNewEncumbrance(new Transaction().withId(UUID.randomUUID().toString()))
+          .withPoLineToFyConversion(exchangeRateProvider.getCurrencyConversion(conversionQuery))
+          .withFyToPoLineConversion(exchangeRateProvider.getCurrencyConversion(conversionQuery)));
+    });
+    doReturn(succeededFuture(null)).when(spyReEncumbranceHoldersBuilder).withFinances(any(), any());
+    when(spyReEncumbranceHoldersBuilder.withRollovers(any(), any()))
+        .thenAnswer(invocation -> succeededFuture(invocation.getArgument(0)));
+    when(spyReEncumbranceHoldersBuilder.withEncumbranceRollover(any())).thenAnswer(invocation -> invocation.getArgument(0));
+    when(spyReEncumbranceHoldersBuilder.withPreviousFyEncumbrances(any(), any()))
+        .thenAnswer(invocation -> succeededFuture(invocation.getArgument(0)));
+    when(spyReEncumbranceHoldersBuilder.withToEncumbrances(any(), any()))
+        .thenAnswer(invocation -> succeededFuture(invocation.getArgument(0)));
+    doNothing().when(budgetRestrictionService).checkEncumbranceRestrictions(anyList());
+    when(ledgerRolloverProgressService.getRolloversProgress(eq(rolloverId), any()))
+        .thenReturn(succeededFuture(Collections.singletonList(success)));
+    when(ledgerRolloverErrorService.getRolloverErrorsByRolloverId(eq(rolloverId), any()))
+        .thenReturn(succeededFuture(rolloverErrors));
+    when(ledgerRolloverErrorService.deleteRolloverErrors(anyList(), any())).thenReturn(succeededFuture(null));
+    when(purchaseOrderLineService.saveOrderLinesWithoutSearchLocationsUpdate(anyList(), any())).thenReturn(succeededFuture(null));
+
+    //When
+    Future<Map<String, Throwable>> future = orderReEncumberService.reEncumber(List.of(orderId1, notFoundOrderId, orderId2, orderId1), requestContext);
+    vertxTestContext.assertComplete(future)
+      .onSuccess(failures -> {
+        assertEquals(Set.of(notFoundOrderId), failures.keySet());
+        verify(purchaseOrderStorageService, times(1)).getCompositeOrderById(eq(orderId1), any());
+        verify(ledgerRolloverProgressService, times(1)).getRolloversProgress(eq(rolloverId), any());
+        verify(ledgerRolloverErrorService, times(1)).getRolloverErrorsByRolloverId(eq(rolloverId), any());
+        verify(ledgerRolloverErrorService, never()).getLedgerFyRolloverErrors(anyString(), any());
+        verify(ledgerRolloverErrorService).deleteRolloverErrors(eq(List.of(order1Error)), any());
+        verify(ledgerRolloverErrorService).deleteRolloverErrors(eq(List.of(order2Error)), any());
+        verify(purchaseOrderLineService, times(2)).saveOrderLinesWithoutSearchLocationsUpdate(anyList(), any());
+        vertxTestContext.completeNow();
+      })
+      .onFailure(vertxTestContext::failNow);
+  }
+
+  @Test
+  void shouldReEncumberOrdersOfRolloverWithBoundedConcurrency() {
+    //Given
+    String rolloverId = UUID.randomUUID().toString();
+    List<String> orderIds = Stream.generate(() -> UUID.randomUUID().toString()).limit(5).toList();
+    LedgerFiscalYearRolloverErrorCollection rolloverErrors = new LedgerFiscalYearRolloverErrorCollection()
+        .withLedgerFiscalYearRolloverErrors(orderIds.stream().map(this::rolloverError).toList());
+    ReflectionTestUtils.setField(orderReEncumberService, "bulkReEncumberConcurrency", 2);
+
+    List<Promise<CompositePurchaseOrder>> pendingLoads = new ArrayList<>();
+    when(ledgerRolloverErrorService.getRolloverErrorsByRolloverId(eq(rolloverId), any()))
+        .thenReturn(succeededFuture(rolloverErrors));
+    when(purchaseOrderStorageService.getCompositeOrderById(anyString(), eq(requestContext))).thenAnswer(invocation -> {
+      Promise<CompositePurchaseOrder> promise = Promise.promise();
+      pendingLoads.add(promise);
+      return promise.future();
+    });
+
+    //When
+    Future<Map<String, Throwable>> future = orderReEncumberService.reEncumberRolloverOrders(rolloverId, requestContext);
+
+    //Then
+    int maxPendingLoads = 0;
+    while (!future.isComplete()) {
+      assertFalse(pendingLoads.isEmpty());
+      maxPendingLoads = Math.max(maxPendingLoads, pendingLoads.size());
+      List<Promise<CompositePurchaseOrder>> started = new ArrayList<>(pendingLoads);
+      pendingLoads.clear();
+      started.forEach(promise -> promise.fail(new HttpException(404, "Order not found")));
+    }
+    assertEquals(2, maxPendingLoads);
+    assertEquals(Set.copyOf(orderIds), future.result().keySet());
+    verify(ledgerRolloverErrorService, times(1)).getRolloverErrorsByRolloverId(eq(rolloverId), any());
+    verify(purchaseOrderStorageService, times(5)).getCompositeOrderById(anyString(), any());
+  }
+
+  private LedgerFiscalYearRolloverError rolloverError(String orderId) {
+    return new JsonObject()
+      .put("id", UUID.randomUUID().toString())
+      .put("details", new JsonObject().put("purchaseOrderId", orderId))
+      .mapTo(LedgerFiscalYearRolloverError.class);
+  }
 }
@@ -34,7 +34,6 @@ import org.folio.models.PoLineEncumbrancesHolder;
 import org.folio.rest.acq.model.finance.Encumbrance;
 import org.folio.rest.acq.model.finance.Fund;
 import org.folio.rest.acq.model.finance.LedgerFiscalYearRolloverError;
-import org.folio.rest.acq.model.finance.LedgerFiscalYearRolloverErrorCollection;
 import org.folio.rest.acq.model.finance.LedgerFiscalYearRolloverProgress;
 import org.folio.rest.acq.model.finance.Transaction;
 import org.folio.rest.core.models.RequestContext;
@@ -138,12 +137,11 @@ public class OrderRolloverServiceTest {
       .withLedgerRolloverId(ledgerFiscalYearRollover.getId()).withOverallRolloverStatus(RolloverStatus.IN_PROGRESS)
       .withBudgetsClosingRolloverStatus(RolloverStatus.SUCCESS).withFinancialRolloverStatus(RolloverStatus.SUCCESS)
       .withOrdersRolloverStatus(RolloverStatus.IN_PROGRESS);
-    LedgerFiscalYearRolloverErrorCollection errorCollection = new LedgerFiscalYearRolloverErrorCollection().withTotalRecords(0);
 
     doReturn(succeededFuture(progress)).when(ledgerRolloverProgressService)
       .getRolloversProgressByRolloverId(ledgerFiscalYearRollover.getId(), requestContext);
-    doReturn(succeededFuture(errorCollection)).when(ledgerRolloverErrorService)
-      .getRolloverErrorsByRolloverId(ledgerFiscalYearRollover.getId(), requestContext);
+    doReturn(succeededFuture(0)).when(ledgerRolloverErrorService)
+      .getRolloverErrorsCount(ledgerFiscalYearRollover.getId(), requestContext);
     doReturn(succeededFuture()).when(ledgerRolloverProgressService)
       .updateRolloverProgress(progress.withOrdersRolloverStatus(RolloverStatus.SUCCESS), requestContext);
 
@@ -242,10 +240,9 @@ public class OrderRolloverServiceTest {
       .withLedgerRolloverId(ledgerFiscalYearRollover.getId()).withOverallRolloverStatus(RolloverStatus.IN_PROGRESS)
       .withBudgetsClosingRolloverStatus(RolloverStatus.SUCCESS).withFinancialRolloverStatus(RolloverStatus.SUCCESS)
       .withOrdersRolloverStatus(RolloverStatus.IN_PROGRESS);
-    LedgerFiscalYearRolloverErrorCollection errorCollection = new LedgerFiscalYearRolloverErrorCollection().withTotalRecords(0);
 
     doReturn(succeededFuture(progress)).when(ledgerRolloverProgressService).getRolloversProgressByRolloverId(ledgerFiscalYearRollover.getId(), requestContext);
-    doReturn(succeededFuture(errorCollection)).when(ledgerRolloverErrorService).getRolloverErrorsByRolloverId(ledgerFiscalYearRollover.getId(), requestContext);
+    doReturn(succeededFuture(0)).when(ledgerRolloverErrorService).getRolloverErrorsCount(ledgerFiscalYearRollover.getId(), requestContext);
     doReturn(succeededFuture()).when(ledgerRolloverProgressService).updateRolloverProgress(progress.withOrdersRolloverStatus(RolloverStatus.SUCCESS), requestContext);
 
     Encumbrance encumbranceOneTime = new Encumbrance().withSourcePurchaseOrderId(orderId1).withSourcePoLineId(poLineId1)
@@ -353,10 +350,9 @@ public class OrderRolloverServiceTest {
       .withLedgerRolloverId(ledgerFiscalYearRollover.getId()).withOverallRolloverStatus(RolloverStatus.IN_PROGRESS)
       .withBudgetsClosingRolloverStatus(RolloverStatus.SUCCESS).withFinancialRolloverStatus(RolloverStatus.SUCCESS)
       .withOrdersRolloverStatus(RolloverStatus.IN_PROGRESS);
-    LedgerFiscalYearRolloverErrorCollection errorCollection = new LedgerFiscalYearRolloverErrorCollection().withTotalRecords(0);
 
     doReturn(succeededFuture(progress)).when(ledgerRolloverProgressService).getRolloversProgressByRolloverId(ledgerFiscalYearRollover.getId(), requestContext);
-    doReturn(succeededFuture(errorCollection)).when(ledgerRolloverErrorService).getRolloverErrorsByRolloverId(ledgerFiscalYearRollover.getId(), requestContext);
+    doReturn(succeededFuture(0)).when(ledgerRolloverErrorService).getRolloverErrorsCount(ledgerFiscalYearRollover.getId(), requestContext);
     doReturn(succeededFuture()).when(ledgerRolloverProgressService).updateRolloverProgress(progress.withOrdersRolloverStatus(RolloverStatus.SUCCESS), requestContext);
 
     Encumbrance encumbranceOneTime = new Encumbrance().withSourcePurchaseOrderId(orderId1).withSourcePoLineId(poLineId1)
@@ -464,10 +460,9 @@ public class OrderRolloverServiceTest {
       .withLedgerRolloverId(ledgerFiscalYearRollover.getId()).withOverallRolloverStatus(RolloverStatus.IN_PROGRESS)
       .withBudgetsClosingRolloverStatus(RolloverStatus.SUCCESS).withFinancialRolloverStatus(RolloverStatus.SUCCESS)
       .withOrdersRolloverStatus(RolloverStatus.IN_PROGRESS);
-    LedgerFiscalYearRolloverErrorCollection errorCollection = new LedgerFiscalYearRolloverErrorCollection().withTotalRecords(0);
 
     doReturn(succeededFuture(progress)).when(ledgerRolloverProgressService).getRolloversProgressByRolloverId(ledgerFiscalYearRollover.getId(), requestContext);
-    doReturn(succeededFuture(errorCollection)).when(ledgerRolloverErrorService).getRolloverErrorsByRolloverId(ledgerFiscalYearRollover.getId(), requestContext);
+    doReturn(succeededFuture(0)).when(ledgerRolloverErrorService).getRolloverErrorsCount(ledgerFiscalYearRollover.getId(), requestContext);
     doReturn(succeededFuture()).when(ledgerRolloverProgressService).updateRolloverProgress(progress.withOrdersRolloverStatus(RolloverStatus.SUCCESS), requestContext);
 
     Encumbrance encumbranceOneTime = new Encumbrance().withSourcePurchaseOrderId(orderId1).withSourcePoLineId(poLineId1)
@@ -563,10 +558,9 @@ public class OrderRolloverServiceTest {
       .withLedgerRolloverId(ledgerFiscalYearRollover.getId()).withOverallRolloverStatus(RolloverStatus.IN_PROGRESS)
       .withBudgetsClosingRolloverStatus(RolloverStatus.SUCCESS).withFinancialRolloverStatus(RolloverStatus.SUCCESS)
       .withOrdersRolloverStatus(RolloverStatus.IN_PROGRESS);
-    LedgerFiscalYearRolloverErrorCollection errorCollection = new LedgerFiscalYearRolloverErrorCollection().withTotalRecords(0);
 
     doReturn(succeededFuture(progress)).when(ledgerRolloverProgressService).getRolloversProgressByRolloverId(ledgerFiscalYearRollover.getId(), requestContext);
-    doReturn(succeededFuture(errorCollection)).when(ledgerRolloverErrorService).getRolloverErrorsByRolloverId(ledgerFiscalYearRollover.getId(), requestContext);
+    doReturn(succeededFuture(0)).when(ledgerRolloverErrorService).getRolloverErrorsCount(ledgerFiscalYearRollover.getId(), requestContext);
     doReturn(succeededFuture()).when(ledgerRolloverProgressService).updateRolloverProgress(progress.withOrdersRolloverStatus(RolloverStatus.SUCCESS), requestContext);
     doReturn(succeededFuture(funds)).when(fundService).getFundsByLedgerId(ledgerId, requestContext);
 
@@ -639,11 +633,10 @@ public class OrderRolloverServiceTest {
       .withLedgerRolloverId(ledgerFiscalYearRollover.getId()).withOverallRolloverStatus(RolloverStatus.IN_PROGRESS)
       .withBudgetsClosingRolloverStatus(RolloverStatus.SUCCESS).withFinancialRolloverStatus(RolloverStatus.SUCCESS)
       .withOrdersRolloverStatus(RolloverStatus.IN_PROGRESS);
-    LedgerFiscalYearRolloverErrorCollection errorCollection = new LedgerFiscalYearRolloverErrorCollection().withTotalRecords(0);
 
     doReturn(succeededFuture(funds)).when(fundService).getFundsByLedgerId(ledgerId, requestContext);
     doReturn(succeededFuture(progress)).when(ledgerRolloverProgressService).getRolloversProgressByRolloverId(ledgerFiscalYearRollover.getId(), requestContext);
-    doReturn(succeededFuture(errorCollection)).when(ledgerRolloverErrorService).getRolloverErrorsByRolloverId(ledgerFiscalYearRollover.getId(), requestContext);
+    doReturn(succeededFuture(0)).when(ledgerRolloverErrorService).getRolloverErrorsCount(ledgerFiscalYearRollover.getId(), requestContext);
     doReturn(succeededFuture()).when(ledgerRolloverProgressService).updateRolloverProgress(progress.withOrdersRolloverStatus(RolloverStatus.SUCCESS), requestContext);
     doReturn(succeededFuture(new LedgerFiscalYearRolloverError())).when(ledgerRolloverErrorService)
       .saveRolloverError(anyString(), any(Throwable.class), any(LedgerFiscalYearRolloverError.ErrorType.class), anyString(), eq(requestContext));
@@ -5,12 +5,14 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
 import org.folio.models.PoLineLocationsPair;
@@ -29,6 +31,7 @@ import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 
 import io.vertx.core.Future;
+import io.vertx.core.Promise;
 
 public class PurchaseOrderLineServiceTest {
   @InjectMocks
@@ -85,17 +88,18 @@ public class PurchaseOrderLineServiceTest {
   void successUpdateOrderLinesWithUpdatingSpecificLocations() {
     String locationId = UUID.randomUUID().toString();
     String locationIdResolvedFromHolding = UUID.randomUUID().toString();
+    String holdingId = UUID.randomUUID().toString();
     PoLineLocationsPair pair = PoLineLocationsPair.of(new PoLine().withId(UUID.randomUUID().toString()), List.of(
       new Location().withLocationId(locationId),
-      new Location().withHoldingId(UUID.randomUUID().toString())));
-    when(inventoryHoldingManager.getLocationIdsFromHoldings(anyList(), eq(requestContext)))
-      .thenReturn(Future.succeededFuture(List.of(locationIdResolvedFromHolding)));
+      new Location().withHoldingId(holdingId)));
+    when(inventoryHoldingManager.getPermanentLocationIdsByHoldingIds(anyList(), eq(requestContext)))
+      .thenReturn(Future.succeededFuture(Map.of(holdingId, locationIdResolvedFromHolding)));
     when(restClientMock.put(any(RequestEntry.class), any(PoLineCollection.class), eq(requestContext))).thenReturn(Future.succeededFuture(null));
 
     purchaseOrderLineService.saveOrderLinesWithLocations(List.of(pair), requestContext);
 
     verify(restClientMock).put(any(RequestEntry.class), any(PoLineCollection.class), eq(requestContext));
-    verify(inventoryHoldingManager).getLocationIdsFromHoldings(anyList(), eq(requestContext));
+    verify(inventoryHoldingManager).getPermanentLocationIdsByHoldingIds(anyList(), eq(requestContext));
     List<String> searchLocationIds = pair.getPoLine().getSearchLocationIds();
     assertEquals(2, searchLocationIds.size());
     assertTrue(searchLocationIds.contains(locationId));
@@ -120,19 +124,20 @@ public class PurchaseOrderLineServiceTest {
   @Test
   void successUpdatePurchaseOrderLinesWhenLocationHasHoldingIdPopulated() {
     String locationId = UUID.randomUUID().toString();
+    String holdingId = UUID.randomUUID().toString();
     List<PoLine> purchaseOrderLines = List.of(
       new PoLine().withId(UUID.randomUUID().toString()),
       new PoLine().withId(UUID.randomUUID().toString())
-        .withLocations(List.of(new Location().withHoldingId(UUID.randomUUID().toString()))));
+        .withLocations(List.of(new Location().withHoldingId(holdingId))));
     PoLineCollection poLineCollection = new PoLineCollection().withPoLines(purchaseOrderLines).withTotalRecords(purchaseOrderLines.size());
     when(restClientMock.put(any(RequestEntry.class), any(PoLineCollection.class), eq(requestContext))).thenReturn(Future.succeededFuture(null));
-    when(inventoryHoldingManager.getLocationIdsFromHoldings(anyList(), eq(requestContext)))
-      .thenReturn(Future.succeededFuture(List.of(locationId)));
+    when(inventoryHoldingManager.getPermanentLocationIdsByHoldingIds(anyList(), eq(requestContext)))
+      .thenReturn(Future.succeededFuture(Map.of(holdingId, locationId)));
 
     purchaseOrderLineService.saveOrderLines(purchaseOrderLines, requestContext);
 
     verify(restClientMock).put(any(RequestEntry.class), eq(poLineCollection), eq(requestContext));
-    verify(inventoryHoldingManager).getLocationIdsFromHoldings(anyList(), eq(requestContext));
+    verify(inventoryHoldingManager).getPermanentLocationIdsByHoldingIds(anyList(), eq(requestContext));
     assertEquals(locationId, purchaseOrderLines.get(1).getSearchLocationIds().get(0));
   }
 
@@ -145,13 +150,43 @@ public class PurchaseOrderLineServiceTest {
         .withLocations(List.of(new Location().withLocationId(locationId))));
     PoLineCollection poLineCollection = new PoLineCollection().withPoLines(purchaseOrderLines).withTotalRecords(purchaseOrderLines.size());
     when(restClientMock.put(any(RequestEntry.class), any(PoLineCollection.class), eq(requestContext))).thenReturn(Future.succeededFuture(null));
-    when(inventoryHoldingManager.getLocationIdsFromHoldings(anyList(), eq(requestContext)))
-      .thenReturn(Future.succeededFuture(List.of(locationId)));
 
     purchaseOrderLineService.saveOrderLines(purchaseOrderLines, requestContext);
 
     verify(restClientMock).put(any(RequestEntry.class), eq(poLineCollection), eq(requestContext));
-    verify(inventoryHoldingManager).getLocationIdsFromHoldings(anyList(), eq(requestContext));
+    verifyNoInteractions(inventoryHoldingManager);
     assertEquals(locationId, purchaseOrderLines.get(1).getSearchLocationIds().get(0));
   }
+
+  @Test
+  void shouldResolveHoldingsOfAllLinesOnceBeforeBatchSave() {
+    String holdingId = UUID.randomUUID().toString();
+    String missingHoldingId = UUID.randomUUID().toString();
+    String holdingLocationId = UUID.randomUUID().toString();
+    String locationId = UUID.randomUUID().toString();
+    List<PoLine> purchaseOrderLines = List.of(
+      new PoLine().withId(UUID.randomUUID().toString())
+        .withLocations(List.of(new Location().withHoldingId(holdingId), new Location().withLocationId(locationId))),
+      new PoLine().withId(UUID.randomUUID().toString())
+        .withLocations(List.of(new Location().withHoldingId(holdingId).withTenantId("college"))),
+      new PoLine().withId(UUID.randomUUID().toString())
+        .withLocations(List.of(new Location().withHoldingId(missingHoldingId))));
+    Promise<Map<String, String>> holdingsPromise = Promise.promise();
+    when(inventoryHoldingManager.getPermanentLocationIdsByHoldingIds(anyList(), eq(requestContext)))
+      .thenReturn(holdingsPromise.future());
+    when(restClientMock.put(any(RequestEntry.class), any(PoLineCollection.class), eq(requestContext))).thenReturn(Future.succeededFuture(null));
+
+    Future<Void> result = purchaseOrderLineService.saveOrderLines(purchaseOrderLines, requestContext);
+
+    // the batch is not saved until search locations are resolved
+    verifyNoInteractions(restClientMock);
+    holdingsPromise.complete(Map.of(holdingId, holdingLocationId));
+
+    assertTrue(result.succeeded());
+    verify(inventoryHoldingManager, times(1)).getPermanentLocationIdsByHoldingIds(anyList(), eq(requestContext));
+    verify(restClientMock).put(any(RequestEntry.class), any(PoLineCollection.class), eq(requestContext));
+    assertEquals(List.of(locationId, holdingLocationId), purchaseOrderLines.get(0).getSearchLocationIds());
+    assertEquals(List.of(holdingLocationId), purchaseOrderLines.get(1).getSearchLocationIds());
+    assertEquals(List.of(), purchaseOrderLines.get(2).getSearchLocationIds());
+  }
 }
@@ -213,7 +213,7 @@ public class ReEncumbranceHoldersBuilderTest {
     ExchangeRate exchangeRate = mock(ExchangeRate.class);
 
     List<ReEncumbranceHolder> holders = Arrays.asList(holder1, holder2);
-    when(exchangeRateProviderResolver.resolve(any(), any())).thenReturn(exchangeRateProvider);
+    when(exchangeRateProviderResolver.resolveAsync(any(), any())).thenReturn(Future.succeededFuture(exchangeRateProvider));
     when(exchangeRateProvider.getCurrencyConversion(any(ConversionQuery.class))).thenReturn(poLineToFyConversion, poFyToPoLineConversion);
 
     when(exchangeRate.getFactor()).thenReturn(new DefaultNumberValue(exchangeEurToUsdRate));
@@ -241,7 +241,7 @@ public class ReEncumbranceHoldersBuilderTest {
 
     reEncumbranceHoldersBuilder.withConversion(holders, requestContext).result();
 
-    verify(exchangeRateProviderResolver, never()).resolve(any(), any());
+    verify(exchangeRateProviderResolver, never()).resolveAsync(any(), any());
 
   }
 
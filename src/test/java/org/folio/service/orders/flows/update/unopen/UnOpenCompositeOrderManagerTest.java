@@ -22,9 +22,9 @@ import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
 
-import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeoutException;
 
@@ -177,7 +177,7 @@ public class UnOpenCompositeOrderManagerTest {
     CompositePurchaseOrder orderFromStorage = getMockAsJson(ORDER_PATH).mapTo(CompositePurchaseOrder.class);
     CompositePoLine poLine = getPoLine(order);
     prepareInitialSetup(order, orderFromStorage, poLine);
-    doReturn(succeededFuture(List.of(getItem()))).when(inventoryItemManager).getItemsByHoldingId(HOLDING_ID, requestContext);
+    doReturn(succeededFuture(Map.of(HOLDING_ID, 1))).when(inventoryItemManager).getNumbersOfItemsByHoldingIds(Set.of(HOLDING_ID), requestContext);
     //When
     unOpenCompositeOrderManager.process(order, orderFromStorage, true, requestContext).result();
     //Then
@@ -292,7 +292,7 @@ public class UnOpenCompositeOrderManagerTest {
     poLine.getPhysical().setCreateInventory(Physical.CreateInventory.INSTANCE_HOLDING);
     poLine.getLocations().forEach(location -> location.setHoldingId(HOLDING_ID));
     prepareInitialSetup(order, orderFromStorage, poLine);
-    doReturn(succeededFuture(List.of(getItem()))).when(inventoryItemManager).getItemsByHoldingId(HOLDING_ID, requestContext);
+    doReturn(succeededFuture(Map.of(HOLDING_ID, 1))).when(inventoryItemManager).getNumbersOfItemsByHoldingIds(Set.of(HOLDING_ID), requestContext);
     //When
     unOpenCompositeOrderManager.process(order, orderFromStorage, true, requestContext).result();
     //Then
@@ -384,7 +384,7 @@ public class UnOpenCompositeOrderManagerTest {
     doReturn(succeededFuture(0)).when(circulationRequestsRetriever).getNumberOfRequestsByItemId(ITEM_ID, requestContext);
     doReturn(succeededFuture()).when(pieceStorageService).deletePiece(PIECE_ID, requestContext);
     doReturn(succeededFuture()).when(inventoryItemManager).deleteItem(piece.getItemId(), true, requestContext);
-    doReturn(succeededFuture(Collections.emptyList())).when(inventoryItemManager).getItemsByHoldingId(eq(HOLDING_ID), RequestContextMatcher.matchCentralTenant());
+    doReturn(succeededFuture(Map.of(HOLDING_ID, 0))).when(inventoryItemManager).getNumbersOfItemsByHoldingIds(eq(Set.of(HOLDING_ID)), RequestContextMatcher.matchCentralTenant());
     doReturn(succeededFuture()).when(inventoryHoldingManager).deleteHoldingById(eq(HOLDING_ID), eq(true), RequestContextMatcher.matchCentralTenant());
     JsonObject holding = new JsonObject().put("id", HOLDING_ID).put("permanentLocationId", poLine.getLocations().get(0).getLocationId());
     doReturn(Map.of("folio_shared", succeededFuture(List.of(holding)))).when(inventoryHoldingManager).getHoldingsByLocationTenants(poLine, requestContext);
@@ -288,12 +288,12 @@ public class OrderLineUpdateInstanceHandlerTest {
 
     @Bean
     InventoryCache inventoryCache(InventoryService inventoryService) {
-      return new InventoryCache(inventoryService);
+      return new InventoryCache(inventoryService, 30, 1000);
     }
 
     @Bean
     ConfigurationEntriesCache configurationEntriesCache(ConfigurationEntriesService configurationEntriesService) {
-      return new ConfigurationEntriesCache(configurationEntriesService);
+      return new ConfigurationEntriesCache(configurationEntriesService, 30, 1000);
     }
 
     @Bean OrderLinePatchOperationService orderLinePatchOperationService(
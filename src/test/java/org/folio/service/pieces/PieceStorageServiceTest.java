@@ -38,6 +38,7 @@ import java.util.stream.Stream;
 
 import org.folio.ApiTestSuite;
 import org.folio.models.consortium.ConsortiumConfiguration;
+import org.folio.orders.utils.QueryUtils;
 import org.folio.rest.acq.model.Setting;
 import org.folio.rest.core.RestClient;
 import org.folio.rest.core.models.RequestContext;
@@ -58,6 +59,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
+import org.mockito.ArgumentCaptor;
 import org.mockito.MockitoAnnotations;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.Bean;
@@ -153,6 +155,28 @@ public class PieceStorageServiceTest {
       });
   }
 
+  @Test
+  void testPiecesCountShouldBeReturnedByPoLineIdAndStatuses(VertxTestContext vertxTestContext) {
+    String poLineId = UUID.randomUUID().toString();
+    PieceCollection pieceCollection = new PieceCollection().withTotalRecords(3);
+    ArgumentCaptor<RequestEntry> requestEntryCaptor = ArgumentCaptor.forClass(RequestEntry.class);
+
+    when(restClientMock.get(requestEntryCaptor.capture(), eq(PieceCollection.class), any())).thenReturn(Future.succeededFuture(pieceCollection));
+
+    var future = pieceStorageService.getPiecesCountByPoLineIdAndStatuses(poLineId,
+      List.of(Piece.ReceivingStatus.EXPECTED, Piece.ReceivingStatus.CLAIM_DELAYED), requestContext);
+
+    vertxTestContext.assertComplete(future)
+      .onComplete(result -> {
+        assertEquals(3, result.result());
+        RequestEntry requestEntry = requestEntryCaptor.getValue();
+        assertEquals(0, requestEntry.getQueryParams().get("limit"));
+        String expectedQuery = String.format("poLineId==%s and receivingStatus==(\"Expected\" or \"Claim delayed\")", poLineId);
+        assertEquals(QueryUtils.encodeQuery(expectedQuery), requestEntry.getQueryParams().get("query"));
+        vertxTestContext.completeNow();
+      });
+  }
+
   @Test
   void testShouldDeleteItems() {
     //given
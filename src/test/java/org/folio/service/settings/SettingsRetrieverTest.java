@@ -8,8 +8,10 @@ import org.folio.rest.acq.model.Setting;
 import org.folio.rest.acq.model.SettingCollection;
 import org.folio.rest.core.RestClient;
 import org.folio.rest.core.models.RequestContext;
+import org.folio.rest.tools.utils.TenantTool;
 import org.folio.service.settings.util.SettingKey;
 import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
@@ -25,6 +27,8 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 
 @ExtendWith(VertxExtension.class)
 public class SettingsRetrieverTest {
@@ -61,6 +65,30 @@ public class SettingsRetrieverTest {
       });
   }
 
+  @Test
+  void shouldReloadSettingsOnlyAfterInvalidationOfTenant(VertxTestContext vertxTestContext) {
+    var settingCollection = createSettingCollection(SettingKey.CENTRAL_ORDERING_ENABLED, "true");
+    doReturn(Future.succeededFuture(JsonObject.mapFrom(settingCollection)))
+      .when(restClientMock).getAsJsonObject(any(), eq(requestContext));
+
+    var future = settingsRetriever.getSettingByKey(SettingKey.CENTRAL_ORDERING_ENABLED, requestContext)
+      .compose(setting -> {
+        settingsRetriever.invalidate("anotherTenant");
+        return settingsRetriever.getSettingByKey(SettingKey.CENTRAL_ORDERING_ENABLED, requestContext);
+      })
+      .compose(setting -> {
+        // the mocked request context has no headers, so the default tenant is used
+        settingsRetriever.invalidate(TenantTool.tenantId(requestContext.getHeaders()));
+        return settingsRetriever.getSettingByKey(SettingKey.CENTRAL_ORDERING_ENABLED, requestContext);
+      });
+
+    vertxTestContext.assertComplete(future)
+      .onComplete(result -> {
+        verify(restClientMock, times(2)).getAsJsonObject(any(), eq(requestContext));
+        vertxTestContext.completeNow();
+      });
+  }
+
   private static Stream<Arguments> testGetSettingByKeyParamProvider() {
     return Stream.of(
       Arguments.of(createSettingCollection(SettingKey.CENTRAL_ORDERING_ENABLED, "true")),